@@ -37,7 +37,12 @@ public final class PacketAdaptationModule implements PacketAdaptationContract {
 
   @Override
   public void createTeam(final @NotNull String team, final @NotNull TagPropertiesValueObject properties) {
-    final PlayerTeam playerTeam = this.scoreboard.addPlayerTeam(PLUGIN_SCOREBOARD_TEAM_IDENTIFIER + team);
+    final String name = PLUGIN_SCOREBOARD_TEAM_IDENTIFIER + team;
+    // The main-scoreboard's teams are persisted by the server, so the team could exist already after a restart.
+    PlayerTeam playerTeam = this.scoreboard.getPlayerTeam(name);
+    if (playerTeam == null) {
+      playerTeam = this.scoreboard.addPlayerTeam(name);
+    }
     // Update attributes for scoreboard-team.
     playerTeam.setCollisionRule(Team.CollisionRule.NEVER);
     // Shouldn't be null.
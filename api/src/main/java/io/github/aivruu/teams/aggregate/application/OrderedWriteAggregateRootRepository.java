@@ -0,0 +1,241 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.aggregate.application;
+
+import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
+import io.github.aivruu.teams.aggregate.domain.repository.AsyncAggregateRootRepository;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AsyncAggregateRootRepository} decorator that orders the writes (saves and deletions) of every
+ * aggregate-root, so an older snapshot can't be persisted after a newer one.
+ * <p>
+ * Every aggregate-root's id is hashed to a lane, a lane performs every write waiting at it together, the
+ * saves through a single {@link AsyncAggregateRootRepository#saveManyAsync(Collection)}, and only once the
+ * previous ones have completed, so each aggregate-root has a single writer while aggregate-roots at
+ * different lanes are written in parallel. Writes for an aggregate-root that is already waiting at its
+ * lane are coalesced, only the latest write is performed, and every coalesced write's future completes
+ * with its result. The waiting and running writes are returned by the lookups until they complete.
+ *
+ * @param <A> an aggregate-root type.
+ * @since 4.1.0
+ */
+public final class OrderedWriteAggregateRootRepository<A extends AggregateRoot>
+   implements AsyncAggregateRootRepository<A> {
+  private final AsyncAggregateRootRepository<A> delegate;
+  private final Lane[] lanes;
+
+  /**
+   * Creates a new {@link OrderedWriteAggregateRootRepository} with the given parameters.
+   *
+   * @param delegate the {@link AsyncAggregateRootRepository} that performs the operations.
+   * @param lanes    the amount of lanes, which is the maximum amount of write-batches running at the same time.
+   * @since 4.1.0
+   */
+  @SuppressWarnings("unchecked")
+  public OrderedWriteAggregateRootRepository(
+     final @NotNull AsyncAggregateRootRepository<A> delegate,
+     final int lanes) {
+    if (lanes <= 0) {
+      throw new IllegalArgumentException("The lanes amount must be greater than zero.");
+    }
+    this.delegate = delegate;
+    this.lanes = new OrderedWriteAggregateRootRepository.Lane[lanes];
+    for (int i = 0; i < lanes; i++) {
+      this.lanes[i] = new Lane();
+    }
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@Nullable A> findAsync(final @NotNull String id) {
+    // A pending write is the most recent aggregate-root's state, so it's returned instead of the stored one.
+    final PendingWrite pendingWrite = this.laneOf(id).pendingWrite(id);
+    return (pendingWrite == null)
+       ? this.delegate.findAsync(id)
+       : CompletableFuture.completedFuture(pendingWrite.aggregateRoot);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, A>> findManyAsync(final @NotNull Collection<String> ids) {
+    return this.delegate.findManyAsync(ids).thenApply(aggregateRoots -> {
+      for (final String id : ids) {
+        final PendingWrite pendingWrite = this.laneOf(id).pendingWrite(id);
+        if (pendingWrite == null) {
+          continue;
+        }
+        if (pendingWrite.aggregateRoot == null) {
+          aggregateRoots.remove(id);
+        } else {
+          aggregateRoots.put(id, pendingWrite.aggregateRoot);
+        }
+      }
+      return aggregateRoots;
+    });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<A>> findAllAsync() {
+    return this.delegate.findAllAsync();
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
+    final PendingWrite pendingWrite = this.laneOf(id).pendingWrite(id);
+    return (pendingWrite == null)
+       ? this.delegate.existsAsync(id)
+       : CompletableFuture.completedFuture(pendingWrite.aggregateRoot != null);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull A aggregateRoot) {
+    return this.laneOf(aggregateRoot.id()).submit(aggregateRoot.id(), aggregateRoot);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
+    return this.laneOf(id).submit(id, null);
+  }
+
+  private @NotNull Lane laneOf(final @NotNull String id) {
+    // Spreads the hash's high-bits, as the ids of the same kind usually share their prefix.
+    final int hash = id.hashCode();
+    return this.lanes[Math.floorMod(hash ^ (hash >>> 16), this.lanes.length)];
+  }
+
+  private final class Lane {
+    private Map<String, PendingWrite> queuedWrites = new LinkedHashMap<>();
+    /** The writes being performed, kept visible to the lookups until they complete. */
+    private Map<String, PendingWrite> runningWrites = Map.of();
+    private boolean writing;
+
+    synchronized @Nullable PendingWrite pendingWrite(final @NotNull String id) {
+      final PendingWrite queuedWrite = this.queuedWrites.get(id);
+      return (queuedWrite != null) ? queuedWrite : this.runningWrites.get(id);
+    }
+
+    @NotNull CompletableFuture<Boolean> submit(final @NotNull String id, final @Nullable A aggregateRoot) {
+      final PendingWrite pendingWrite;
+      synchronized (this) {
+        final PendingWrite coalescedWrite = this.queuedWrites.get(id);
+        if (coalescedWrite != null) {
+          coalescedWrite.aggregateRoot = aggregateRoot;
+          return coalescedWrite.result;
+        }
+        pendingWrite = new PendingWrite(id, aggregateRoot);
+        this.queuedWrites.put(id, pendingWrite);
+      }
+      this.drain();
+      return pendingWrite.result;
+    }
+
+    private void drain() {
+      while (true) {
+        final Map<String, PendingWrite> batch;
+        synchronized (this) {
+          if (this.writing || this.queuedWrites.isEmpty()) {
+            return;
+          }
+          // Every queued write is performed together, they're not coalesced anymore once they're taken.
+          batch = this.queuedWrites;
+          this.queuedWrites = new LinkedHashMap<>();
+          this.runningWrites = batch;
+          this.writing = true;
+        }
+        final CompletableFuture<Void> writes = this.write(batch);
+        if (!writes.isDone()) {
+          writes.whenComplete((ignored, exception) -> {
+            this.finish();
+            this.drain();
+          });
+          return;
+        }
+        // Completed writes are handled at this loop, instead of recursively by their callbacks.
+        this.finish();
+      }
+    }
+
+    private @NotNull CompletableFuture<Void> write(final @NotNull Map<String, PendingWrite> batch) {
+      final List<CompletableFuture<?>> writes = new ArrayList<>(batch.size());
+      final List<A> saves = new ArrayList<>(batch.size());
+      for (final PendingWrite pendingWrite : batch.values()) {
+        if (pendingWrite.aggregateRoot == null) {
+          writes.add(invoke(() -> OrderedWriteAggregateRootRepository.this.delegate.deleteAsync(pendingWrite.id))
+             .whenComplete(pendingWrite::complete));
+        } else {
+          saves.add(pendingWrite.aggregateRoot);
+        }
+      }
+      if (saves.size() == 1) {
+        final PendingWrite pendingWrite = batch.get(saves.get(0).id());
+        writes.add(invoke(() -> OrderedWriteAggregateRootRepository.this.delegate.saveAsync(saves.get(0)))
+           .whenComplete(pendingWrite::complete));
+      } else if (!saves.isEmpty()) {
+        // The delegate can save them with a single-operation, instead of one at a time.
+        writes.add(invoke(() -> OrderedWriteAggregateRootRepository.this.delegate.saveManyAsync(saves))
+           .whenComplete((results, exception) -> {
+             for (final A aggregateRoot : saves) {
+               batch.get(aggregateRoot.id()).complete(
+                  (exception == null) ? Boolean.TRUE.equals(results.get(aggregateRoot.id())) : null, exception);
+             }
+           }));
+      }
+      return CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new));
+    }
+
+    private synchronized void finish() {
+      this.writing = false;
+      this.runningWrites = Map.of();
+    }
+  }
+
+  private static <T> @NotNull CompletableFuture<T> invoke(final @NotNull Supplier<CompletableFuture<T>> write) {
+    try {
+      return write.get();
+    } catch (final RuntimeException exception) {
+      return CompletableFuture.failedFuture(exception);
+    }
+  }
+
+  private final class PendingWrite {
+    private final String id;
+    private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+    // Null for deletions.
+    private @Nullable A aggregateRoot;
+
+    PendingWrite(final @NotNull String id, final @Nullable A aggregateRoot) {
+      this.id = id;
+      this.aggregateRoot = aggregateRoot;
+    }
+
+    void complete(final @Nullable Boolean result, final @Nullable Throwable exception) {
+      if (exception == null) {
+        this.result.complete(result);
+      } else {
+        this.result.completeExceptionally(exception);
+      }
+    }
+  }
+}
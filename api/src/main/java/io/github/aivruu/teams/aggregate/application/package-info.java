@@ -0,0 +1,6 @@
+/**
+ * Provides aggregate-roots repositories decorators shared by the players and tags handling.
+ *
+ * @since 4.1.0
+ */
+package io.github.aivruu.teams.aggregate.application;
\ No newline at end of file
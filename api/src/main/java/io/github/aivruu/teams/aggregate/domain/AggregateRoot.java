@@ -18,6 +18,8 @@ package io.github.aivruu.teams.aggregate.domain;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * An aggregate-root model.
  *
@@ -25,6 +27,8 @@ import org.jetbrains.annotations.NotNull;
  */
 public abstract class AggregateRoot {
   private final String id;
+  private final AtomicLong version = new AtomicLong();
+  private final AtomicLong persistedVersion = new AtomicLong();
 
   /**
    * Creates a new {@link AggregateRoot} with the given id.
@@ -45,4 +49,45 @@ public abstract class AggregateRoot {
   public final @NotNull String id() {
     return this.id;
   }
+
+  /**
+   * Returns this {@link AggregateRoot}'s modification-version, which is increased every time its
+   * information is modified.
+   *
+   * @return The {@link AggregateRoot}'s modification-version.
+   * @since 4.1.0
+   */
+  public final long version() {
+    return this.version.get();
+  }
+
+  /**
+   * Checks whether this {@link AggregateRoot} has been modified since its last persisted version.
+   *
+   * @return Whether the {@link AggregateRoot} has modifications that aren't persisted yet.
+   * @since 4.1.0
+   */
+  public final boolean dirty() {
+    return this.version.get() > this.persistedVersion.get();
+  }
+
+  /**
+   * Marks the given modification-version as persisted, an older version than the current persisted
+   * one is ignored, as the save-operations could complete out of order.
+   *
+   * @param version the modification-version that was persisted.
+   * @since 4.1.0
+   */
+  public final void markPersisted(final long version) {
+    this.persistedVersion.accumulateAndGet(version, Math::max);
+  }
+
+  /**
+   * Marks this {@link AggregateRoot} as modified, increasing its modification-version.
+   *
+   * @since 4.1.0
+   */
+  protected final void markModified() {
+    this.version.incrementAndGet();
+  }
 }
@@ -0,0 +1,42 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.aggregate.domain;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the result of flushing the modified {@link AggregateRoot}s into the infrastructure.
+ *
+ * @param flushed the amount of aggregate-roots that were persisted.
+ * @param lost    the amount of aggregate-roots that couldn't be persisted.
+ * @since 4.1.0
+ */
+public record FlushResultValueObject(int flushed, int lost) {
+  /** A result for a flush without modified aggregate-roots. */
+  public static final FlushResultValueObject EMPTY = new FlushResultValueObject(0, 0);
+
+  /**
+   * Returns a new {@link FlushResultValueObject} with the sum of this and the given result.
+   *
+   * @param other the other {@link FlushResultValueObject}.
+   * @return The combined {@link FlushResultValueObject}.
+   * @since 4.1.0
+   */
+  public @NotNull FlushResultValueObject plus(final @NotNull FlushResultValueObject other) {
+    return new FlushResultValueObject(this.flushed + other.flushed, this.lost + other.lost);
+  }
+}
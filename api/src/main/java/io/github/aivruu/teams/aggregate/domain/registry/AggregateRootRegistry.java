@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -55,6 +56,26 @@ public interface AggregateRootRegistry<A extends AggregateRoot> {
    */
   @NotNull CompletableFuture<@Nullable A> findInInfrastructure(final @NotNull String id);
 
+  /**
+   * Returns the {@link AggregateRoot}s specified from the infrastructure-repository if found.
+   *
+   * @param ids the aggregate-roots' identifiers.
+   * @return A {@link CompletableFuture} with a {@link Map} with the found {@link AggregateRoot}s mapped by
+   * their ids.
+   * @see AsyncAggregateRootRepository#findManyAsync(Collection)
+   * @since 4.1.0
+   */
+  @NotNull CompletableFuture<@NotNull Map<String, A>> findManyInInfrastructure(final @NotNull Collection<String> ids);
+
+  /**
+   * Returns all the {@link AggregateRoot}s stored in the infrastructure-repository.
+   *
+   * @return A {@link CompletableFuture} with a {@link Collection} with all the {@link AggregateRoot}s.
+   * @see AsyncAggregateRootRepository#findAllAsync()
+   * @since 4.1.0
+   */
+  @NotNull CompletableFuture<@NotNull Collection<A>> findAllInInfrastructure();
+
   /**
    * Returns a {@link Collection} with the registry's currently cached {@link AggregateRoot}s.
    *
@@ -108,6 +129,17 @@ public interface AggregateRootRegistry<A extends AggregateRoot> {
    */
   void register(final @NotNull A aggregateRoot);
 
+  /**
+   * Saves the given {@link AggregateRoot}s into the infrastructure.
+   *
+   * @param aggregateRoots the aggregate-roots to save.
+   * @return A {@link CompletableFuture} with a {@link Map} with the saving's result for every
+   * aggregate-root mapped by their ids.
+   * @see AsyncAggregateRootRepository#saveManyAsync(Collection)
+   * @since 4.1.0
+   */
+  @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveMany(final @NotNull Collection<A> aggregateRoots);
+
   /**
    * Removes the {@link AggregateRoot} mapping from cache-repository and return its reference.
    *
@@ -20,6 +20,9 @@ import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -39,6 +42,46 @@ public interface AsyncAggregateRootRepository<A extends AggregateRoot> {
    */
   @NotNull CompletableFuture<@Nullable A> findAsync(final @NotNull String id);
 
+  /**
+   * Returns the {@link AggregateRoot}s for the ids specified.
+   * <p>
+   * By default, every aggregate-root is searched in parallel, but implementations should override this
+   * method if they can resolve all of them with a single-operation.
+   *
+   * @param ids the aggregate-roots' ids.
+   * @return A {@link CompletableFuture} with a {@link Map} with the found {@link AggregateRoot}s mapped
+   * by their ids, ids that weren't found aren't present in the map.
+   * @since 4.1.0
+   */
+  default @NotNull CompletableFuture<@NotNull Map<String, A>> findManyAsync(final @NotNull Collection<String> ids) {
+    final Map<String, CompletableFuture<@Nullable A>> searches = new HashMap<>(ids.size());
+    for (final String id : ids) {
+      searches.put(id, this.findAsync(id));
+    }
+    return CompletableFuture.allOf(searches.values().toArray(CompletableFuture[]::new))
+       .thenApply(ignored -> {
+         final Map<String, A> aggregateRoots = new HashMap<>(searches.size());
+         searches.forEach((id, search) -> {
+           final A aggregateRoot = search.join();
+           if (aggregateRoot != null) {
+             aggregateRoots.put(id, aggregateRoot);
+           }
+         });
+         return aggregateRoots;
+       });
+  }
+
+  /**
+   * Returns all the {@link AggregateRoot}s stored in the repository.
+   * <p>
+   * Implementations should search the aggregate-roots in parallel or with a single-operation, as this
+   * method is used to load all the information at once.
+   *
+   * @return A {@link CompletableFuture} with a {@link Collection} with all the {@link AggregateRoot}s.
+   * @since 4.1.0
+   */
+  @NotNull CompletableFuture<@NotNull Collection<A>> findAllAsync();
+
   /**
    * Checks if the {@link AggregateRoot} specified exists in repository.
    *
@@ -57,6 +100,31 @@ public interface AsyncAggregateRootRepository<A extends AggregateRoot> {
    */
   @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull A aggregateRoot);
 
+  /**
+   * Saves the given {@link AggregateRoot}s into the repository.
+   * <p>
+   * By default, every aggregate-root is saved in parallel, but implementations should override this
+   * method if they can save all of them with a single-operation.
+   *
+   * @param aggregateRoots the aggregate-roots to save.
+   * @return A {@link CompletableFuture} with a {@link Map} with the saving's result for every
+   * aggregate-root mapped by their ids.
+   * @since 4.1.0
+   */
+  default @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<A> aggregateRoots) {
+    final Map<String, CompletableFuture<Boolean>> saves = new HashMap<>(aggregateRoots.size());
+    for (final A aggregateRoot : aggregateRoots) {
+      saves.put(aggregateRoot.id(), this.saveAsync(aggregateRoot).exceptionally(exception -> false));
+    }
+    return CompletableFuture.allOf(saves.values().toArray(CompletableFuture[]::new))
+       .thenApply(ignored -> {
+         final Map<String, Boolean> results = new HashMap<>(saves.size());
+         saves.forEach((id, save) -> results.put(id, save.join()));
+         return results;
+       });
+  }
+
   /**
    * Deletes the {@link AggregateRoot} specified from repository.
    *
@@ -31,7 +31,8 @@ import org.jetbrains.annotations.Nullable;
  */
 public interface PacketAdaptationContract {
   /**
-   * Creates a new player-team with the given id and properties.
+   * Creates a new player-team with the given id and properties, if the team already exists, its
+   * properties are updated instead.
    *
    * @param team       the team's id.
    * @param properties the team's properties.
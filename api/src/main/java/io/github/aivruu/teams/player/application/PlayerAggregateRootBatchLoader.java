@@ -0,0 +1,133 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.player.application;
+
+import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
+import io.github.aivruu.teams.player.domain.registry.PlayerAggregateRootRegistry;
+import io.github.aivruu.teams.util.application.PluginExecutor;
+import io.github.aivruu.teams.util.application.PluginExecutor.Workload;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class is used to coalesce the players' information loads requested during a short time-window, and
+ * resolve all of them with a single search in the infrastructure.
+ *
+ * @since 4.1.0
+ */
+public final class PlayerAggregateRootBatchLoader {
+  private final Object lock = new Object();
+  private final PlayerAggregateRootRegistry playerAggregateRootRegistry;
+  private final Executor delayedExecutor;
+  private final long windowMillis;
+  private final int maximumBatchSize;
+  private Map<String, CompletableFuture<@Nullable PlayerAggregateRoot>> pendingLoads = new HashMap<>();
+  private boolean dispatchScheduled;
+
+  /**
+   * Creates a new {@link PlayerAggregateRootBatchLoader} with the provided parameters.
+   *
+   * @param playerAggregateRootRegistry the {@link PlayerAggregateRootRegistry}.
+   * @param windowMillis the time-window in milliseconds during which the loads are collected, if it's
+   *                     non-positive, every load is resolved by its own.
+   * @param maximumBatchSize the maximum amount of loads to resolve together.
+   * @since 4.1.0
+   */
+  public PlayerAggregateRootBatchLoader(
+     final @NotNull PlayerAggregateRootRegistry playerAggregateRootRegistry,
+     final long windowMillis,
+     final int maximumBatchSize) {
+    this.playerAggregateRootRegistry = playerAggregateRootRegistry;
+    this.delayedExecutor = CompletableFuture.delayedExecutor(windowMillis, TimeUnit.MILLISECONDS,
+       PluginExecutor.get(Workload.INFRASTRUCTURE_READ));
+    this.windowMillis = windowMillis;
+    this.maximumBatchSize = maximumBatchSize;
+  }
+
+  /**
+   * Requests the player's information load from the infrastructure, the load is resolved together with
+   * the other loads requested during the same time-window.
+   *
+   * @param id the player's id.
+   * @return A {@link CompletableFuture} with the {@link PlayerAggregateRoot}, or {@code null} if the player's
+   * information wasn't found in the infrastructure.
+   * @since 4.1.0
+   */
+  public @NotNull CompletableFuture<@Nullable PlayerAggregateRoot> load(final @NotNull String id) {
+    if (this.windowMillis <= 0L) {
+      return this.playerAggregateRootRegistry.findInInfrastructure(id);
+    }
+    final CompletableFuture<@Nullable PlayerAggregateRoot> load;
+    final Map<String, CompletableFuture<@Nullable PlayerAggregateRoot>> fullBatch;
+    synchronized (this.lock) {
+      final CompletableFuture<@Nullable PlayerAggregateRoot> pendingLoad = this.pendingLoads.get(id);
+      if (pendingLoad != null) {
+        return pendingLoad;
+      }
+      load = new CompletableFuture<>();
+      this.pendingLoads.put(id, load);
+      if (this.pendingLoads.size() >= this.maximumBatchSize) {
+        fullBatch = this.drain();
+      } else {
+        fullBatch = null;
+        if (!this.dispatchScheduled) {
+          this.dispatchScheduled = true;
+          this.delayedExecutor.execute(this::dispatch);
+        }
+      }
+    }
+    if (fullBatch != null) {
+      this.dispatch(fullBatch);
+    }
+    return load;
+  }
+
+  private @NotNull Map<String, CompletableFuture<@Nullable PlayerAggregateRoot>> drain() {
+    final Map<String, CompletableFuture<@Nullable PlayerAggregateRoot>> batch = this.pendingLoads;
+    this.pendingLoads = new HashMap<>();
+    return batch;
+  }
+
+  private void dispatch() {
+    final Map<String, CompletableFuture<@Nullable PlayerAggregateRoot>> batch;
+    synchronized (this.lock) {
+      this.dispatchScheduled = false;
+      if (this.pendingLoads.isEmpty()) {
+        return;
+      }
+      batch = this.drain();
+    }
+    this.dispatch(batch);
+  }
+
+  private void dispatch(final @NotNull Map<String, CompletableFuture<@Nullable PlayerAggregateRoot>> batch) {
+    this.playerAggregateRootRegistry.findManyInInfrastructure(batch.keySet())
+       .whenComplete((playerAggregateRoots, exception) -> batch.forEach((id, load) -> {
+         if (exception != null) {
+           load.completeExceptionally(exception);
+         } else {
+           load.complete(playerAggregateRoots.get(id));
+         }
+       }));
+  }
+}
@@ -16,29 +16,59 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.teams.player.application;
 
+import io.github.aivruu.teams.aggregate.domain.FlushResultValueObject;
 import io.github.aivruu.teams.util.application.Debugger;
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
 import io.github.aivruu.teams.player.domain.PlayerModelEntity;
 import io.github.aivruu.teams.player.domain.registry.PlayerAggregateRootRegistry;
+import io.github.aivruu.teams.util.application.PluginExecutor;
+import io.github.aivruu.teams.util.application.PluginExecutor.Workload;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
  * This class is used as global registry and information-handler for the player.
  *
  * @since 0.0.1
  */
 public final class PlayerManager {
+  private static final int MAXIMUM_LOAD_ATTEMPTS = 3;
+  private static final long LOAD_RETRY_DELAY_MILLIS = 500L;
   private final PlayerAggregateRootRegistry playerAggregateRootRegistry;
+  private final PlayerAggregateRootBatchLoader playerAggregateRootBatchLoader;
+  private final boolean sparsePersistence;
+  /** The ids of the players whose information is being loaded, removed if they quit meanwhile. */
+  private final Set<String> loadingIds = ConcurrentHashMap.newKeySet();
 
   /**
    * Creates a new {@link PlayerManager} with the provided parameters.
+   * <p>
+   * When the sparse-persistence is enabled, only the players with a selected tag are stored in the
+   * infrastructure, the information of the players without tag is deleted instead, as a missing
+   * information means that the player has no tag selected.
    *
    * @param playerAggregateRootRegistry the {@link PlayerAggregateRootRegistry}.
-   * @since 0.0.1
+   * @param playerAggregateRootBatchLoader the {@link PlayerAggregateRootBatchLoader} used for players' loads.
+   * @param sparsePersistence whether the players without a selected tag shouldn't be stored.
+   * @since 4.1.0
    */
-  public PlayerManager(final @NotNull PlayerAggregateRootRegistry playerAggregateRootRegistry) {
+  public PlayerManager(
+     final @NotNull PlayerAggregateRootRegistry playerAggregateRootRegistry,
+     final @NotNull PlayerAggregateRootBatchLoader playerAggregateRootBatchLoader,
+     final boolean sparsePersistence) {
     this.playerAggregateRootRegistry = playerAggregateRootRegistry;
+    this.playerAggregateRootBatchLoader = playerAggregateRootBatchLoader;
+    this.sparsePersistence = sparsePersistence;
   }
 
   /**
@@ -53,45 +83,111 @@ public final class PlayerManager {
     return this.playerAggregateRootRegistry.findInCache(id);
   }
 
+  /**
+   * Returns a {@link PlayerAggregateRoot} for the specified player's {@link UUID}.
+   *
+   * @param id the player's {@link UUID}.
+   * @return The {@link PlayerAggregateRoot} or {@code null} if player is offline.
+   * @see PlayerAggregateRootRegistry#findInCache(UUID)
+   * @since 4.1.0
+   */
+  public @Nullable PlayerAggregateRoot playerAggregateRootOf(final @NotNull UUID id) {
+    return this.playerAggregateRootRegistry.findInCache(id);
+  }
+
   /**
    * Loads (or creates if necessary) the player's information into the cache.
+   * <p>
+   * A failed load is retried a few times, if it keeps failing, an empty information is cached for the
+   * player, which isn't persisted unless the player modifies it, so the stored information isn't replaced.
    *
    * @param id the player's id.
    * @see PlayerAggregateRootRegistry#existsInCache(String)
+   * @see PlayerAggregateRootBatchLoader#load(String)
    * @since 0.0.1
    */
   public void loadOne(final @NotNull String id) {
-    if (this.playerAggregateRootRegistry.existsInCache(id)) {
+    if (this.playerAggregateRootRegistry.existsInCache(id) || !this.loadingIds.add(id)) {
       return;
     }
-    this.playerAggregateRootRegistry.findInInfrastructure(id)
-       .thenAccept(playerAggregateRoot -> {
-         if (playerAggregateRoot == null) {
-           playerAggregateRoot = new PlayerAggregateRoot(id, new PlayerModelEntity(id, null));
-         }
-         // In-cache storing and in-infrastructure save handling.
-         this.playerAggregateRootRegistry.register(playerAggregateRoot);
-         this.handlePlayerAggregateRootSave(playerAggregateRoot);
-       })
-       .whenComplete((result, exception) -> {
-         if (exception != null) {
-           Debugger.write(
-              "Unexpected exception during player's information search in infrastructure.",
-              exception);
-         }
-       });
+    this.loadOne(id, 1);
+  }
+
+  private void loadOne(final @NotNull String id, final int attempt) {
+    this.playerAggregateRootBatchLoader.load(id).whenComplete((playerAggregateRoot, exception) -> {
+      if (exception == null) {
+        this.registerLoaded(id, playerAggregateRoot);
+        return;
+      }
+      // The player could have quit while the load was running.
+      if (!this.loadingIds.contains(id)) {
+        return;
+      }
+      if (attempt < MAXIMUM_LOAD_ATTEMPTS) {
+        Debugger.write("Unexpected exception during player's information search, retrying ({}/{}).",
+           attempt, MAXIMUM_LOAD_ATTEMPTS, exception);
+        CompletableFuture.delayedExecutor(LOAD_RETRY_DELAY_MILLIS * attempt, TimeUnit.MILLISECONDS,
+           PluginExecutor.get(Workload.INFRASTRUCTURE_READ)).execute(() -> this.loadOne(id, attempt + 1));
+        return;
+      }
+      Debugger.write("The player's information couldn't be loaded, using an empty information until it quits.",
+         exception);
+      if (this.loadingIds.remove(id)) {
+        // It's not dirty, so it's only saved if the player selects or clears a tag during this session.
+        this.playerAggregateRootRegistry.register(new PlayerAggregateRoot(id, new PlayerModelEntity(id, null)));
+      }
+    });
+  }
+
+  private void registerLoaded(final @NotNull String id, final @Nullable PlayerAggregateRoot playerAggregateRoot) {
+    if (!this.loadingIds.remove(id)) {
+      return;
+    }
+    if (playerAggregateRoot != null) {
+      this.playerAggregateRootRegistry.register(playerAggregateRoot);
+      // Loaded information is already persisted, except for the stored players without tag that
+      // should be deleted when the sparse-persistence is enabled.
+      if (this.sparsePersistence && playerAggregateRoot.playerModel().tag() == null) {
+        this.handlePlayerAggregateRootSave(playerAggregateRoot);
+      }
+      return;
+    }
+    final PlayerAggregateRoot newPlayerAggregateRoot = new PlayerAggregateRoot(id, new PlayerModelEntity(id, null));
+    // In-cache storing and in-infrastructure save handling.
+    this.playerAggregateRootRegistry.register(newPlayerAggregateRoot);
+    if (!this.sparsePersistence) {
+      this.handlePlayerAggregateRootSave(newPlayerAggregateRoot);
+    }
   }
 
   /**
    * Handles the player's information saving process.
+   * <p>
+   * If the sparse-persistence is enabled and the player has no tag selected, its information is
+   * deleted from the infrastructure instead.
    *
    * @param playerAggregateRoot the {@link PlayerAggregateRoot} to save.
    * @since 0.0.1
    */
   public void handlePlayerAggregateRootSave(final @NotNull PlayerAggregateRoot playerAggregateRoot) {
+    final long version = playerAggregateRoot.version();
+    if (this.sparsePersistence && playerAggregateRoot.playerModel().tag() == null) {
+      this.playerAggregateRootRegistry.delete(playerAggregateRoot.id())
+         .whenComplete((deleted, exception) -> {
+           if (exception != null) {
+             Debugger.write("Unexpected exception during player's data deletion.", exception);
+             return;
+           }
+           // A missing information is the same as no tag selected, so it's persisted either way.
+           playerAggregateRoot.markPersisted(version);
+         });
+      return;
+    }
     this.playerAggregateRootRegistry.save(playerAggregateRoot)
        .thenAccept(saved -> {
-         if (!saved) {
+         if (saved) {
+           playerAggregateRoot.markPersisted(version);
+         } else {
            Debugger.write("The player's information couldn't be saved.");
          }
        })
@@ -103,17 +199,71 @@ public final class PlayerManager {
   }
 
   /**
-   * Unloads the player's information from cache and saves it.
+   * Unloads the player's information from cache and saves it if it was modified since its last save.
    *
    * @param id the player's id.
    * @see PlayerAggregateRootRegistry#unregister(String)
+   * @see PlayerAggregateRoot#dirty()
    * @since 0.0.1
    */
   public void unloadOne(final @NotNull String id) {
+    this.loadingIds.remove(id);
     final PlayerAggregateRoot playerAggregateRoot = this.playerAggregateRootRegistry.unregister(id);
-    if (playerAggregateRoot == null) {
+    if (playerAggregateRoot == null || !playerAggregateRoot.dirty()) {
       return;
     }
     this.handlePlayerAggregateRootSave(playerAggregateRoot);
   }
+
+  /**
+   * Persists every cached player's information that was modified since its last save, the players
+   * without tag are deleted instead if the sparse-persistence is enabled.
+   * <p>
+   * Modified players are saved together through the infrastructure's batch-saving.
+   *
+   * @return A {@link CompletableFuture} with the {@link FlushResultValueObject} once every write completed.
+   * @see PlayerAggregateRootRegistry#saveMany(java.util.Collection)
+   * @since 4.1.0
+   */
+  public @NotNull CompletableFuture<@NotNull FlushResultValueObject> flushAll() {
+    final Map<PlayerAggregateRoot, Long> versions = new HashMap<>();
+    final List<PlayerAggregateRoot> saves = new ArrayList<>();
+    final List<CompletableFuture<FlushResultValueObject>> deletions = new ArrayList<>();
+    for (final PlayerAggregateRoot playerAggregateRoot : this.playerAggregateRootRegistry.findAllInCache()) {
+      if (!playerAggregateRoot.dirty()) {
+        continue;
+      }
+      final long version = playerAggregateRoot.version();
+      if (!this.sparsePersistence || playerAggregateRoot.playerModel().tag() != null) {
+        versions.put(playerAggregateRoot, version);
+        saves.add(playerAggregateRoot);
+        continue;
+      }
+      deletions.add(this.playerAggregateRootRegistry.delete(playerAggregateRoot.id())
+         .handle((deleted, exception) -> {
+           if (exception != null) {
+             Debugger.write("Unexpected exception during player's data deletion.", exception);
+             return new FlushResultValueObject(0, 1);
+           }
+           playerAggregateRoot.markPersisted(version);
+           return new FlushResultValueObject(1, 0);
+         }));
+    }
+    CompletableFuture<FlushResultValueObject> flush = saves.isEmpty()
+       ? CompletableFuture.completedFuture(FlushResultValueObject.EMPTY)
+       : this.playerAggregateRootRegistry.saveMany(saves).thenApply(results -> {
+         int flushed = 0;
+         for (final PlayerAggregateRoot playerAggregateRoot : saves) {
+           if (Boolean.TRUE.equals(results.get(playerAggregateRoot.id()))) {
+             playerAggregateRoot.markPersisted(versions.get(playerAggregateRoot));
+             flushed++;
+           }
+         }
+         return new FlushResultValueObject(flushed, saves.size() - flushed);
+       });
+    for (final CompletableFuture<FlushResultValueObject> deletion : deletions) {
+      flush = flush.thenCombine(deletion, FlushResultValueObject::plus);
+    }
+    return flush;
+  }
 }
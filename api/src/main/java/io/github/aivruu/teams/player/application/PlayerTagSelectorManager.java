@@ -25,6 +25,12 @@ import io.github.aivruu.teams.tag.domain.registry.TagAggregateRootRegistry;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * This class is used as tag-selector manager for players.
@@ -42,21 +48,26 @@ public final class PlayerTagSelectorManager {
   private final PlayerAggregateRootRegistry playerAggregateRootRegistry;
   private final TagAggregateRootRegistry tagAggregateRootRegistry;
   private final PacketAdaptationContract packetAdaptation;
+  private final Executor mainThreadExecutor;
 
   /**
    * Creates a new {@link PlayerTagSelectorManager} with the provided parameters.
    *
    * @param playerAggregateRootRegistry the {@link PlayerAggregateRootRegistry}.
+   * @param tagAggregateRootRegistry    the {@link TagAggregateRootRegistry}.
    * @param packetAdaptation            the {@link PacketAdaptationContract} for teams update.
-   * @since 0.0.1
+   * @param mainThreadExecutor          the {@link Executor} used to deliver async-results on the server's thread.
+   * @since 4.1.0
    */
   public PlayerTagSelectorManager(
      final @NotNull PlayerAggregateRootRegistry playerAggregateRootRegistry,
      final @NotNull TagAggregateRootRegistry tagAggregateRootRegistry,
-     final @NotNull PacketAdaptationContract packetAdaptation) {
+     final @NotNull PacketAdaptationContract packetAdaptation,
+     final @NotNull Executor mainThreadExecutor) {
     this.playerAggregateRootRegistry = playerAggregateRootRegistry;
     this.tagAggregateRootRegistry = tagAggregateRootRegistry;
     this.packetAdaptation = packetAdaptation;
+    this.mainThreadExecutor = mainThreadExecutor;
   }
 
   /**
@@ -71,18 +82,47 @@ public final class PlayerTagSelectorManager {
    * <li>{@link #TAG_SPECIFIED_NOT_EXIST} if the tag specified doesn't exist.</li>
    * </ul>
    * @see io.github.aivruu.teams.aggregate.domain.registry.AggregateRootRegistry#existsInInfrastructure(String)
-   * @see PlayerAggregateRootRegistry#findInCache(String)
+   * @see PlayerAggregateRootRegistry#findInCache(java.util.UUID)
    * @see PlayerAggregateRoot#tagWithStatus(String)
    * @since 0.0.1
    */
   public byte select(final @NotNull Player player, final @NotNull String tag) {
-    if (!this.tagAggregateRootRegistry.existsInInfrastructure(tag)) {
+    if (!this.tagAggregateRootRegistry.existsInCache(tag) && !this.tagAggregateRootRegistry.existsInInfrastructure(tag)) {
       return TAG_SPECIFIED_NOT_EXIST;
     }
-    // We can assume that the aggregate-root won't be null, as this method is called when the
-    // command is run, which indicates player is connected.
-    final byte status = this.playerAggregateRootRegistry.findInCache(player.getUniqueId().toString())
-       .tagWithStatus(tag);
+    return this.applySelection(player, tag);
+  }
+
+  /**
+   * Defines the given tag as the new selection for the player without blocking the caller-thread, the
+   * status-code for the selection is delivered on the server's thread.
+   *
+   * @param player the player who selected the tag.
+   * @param tag    the tag's id.
+   * @return A {@link CompletableFuture} with a status-code which can be:
+   * <ul>
+   * <li>Check {@link PlayerAggregateRoot#tagWithStatus(String)} for possible-states.</li>
+   * <li>{@link #TAG_SPECIFIED_NOT_EXIST} if the tag specified doesn't exist.</li>
+   * <li>{@link #PLAYER_IS_NOT_ONLINE} if the player disconnected before the selection was applied.</li>
+   * </ul>
+   * @see TagAggregateRootRegistry#findInBothAsync(String)
+   * @since 4.1.0
+   */
+  public @NotNull CompletableFuture<Byte> selectAsync(final @NotNull Player player, final @NotNull String tag) {
+    return this.tagAggregateRootRegistry.findInBothAsync(tag)
+       .thenApplyAsync(tagAggregateRoot -> (tagAggregateRoot == null)
+          ? TAG_SPECIFIED_NOT_EXIST
+          : this.applySelection(player, tag), this.mainThreadExecutor);
+  }
+
+  private byte applySelection(final @NotNull Player player, final @NotNull String tag) {
+    final PlayerAggregateRoot playerAggregateRoot = this.playerAggregateRootRegistry.findInCache(
+       player.getUniqueId());
+    // The player could have disconnected while the tag was being searched.
+    if (playerAggregateRoot == null) {
+      return PLAYER_IS_NOT_ONLINE;
+    }
+    final byte status = playerAggregateRoot.tagWithStatus(tag);
     // Tag-id provided isn't null, so we shouldn't expect a [TAG_HAS_BEEN_CLEARED] status.
     if (status == PlayerAggregateRoot.TAG_HAS_BEEN_CHANGED) {
       this.packetAdaptation.addPlayerToTeam(player, tag);
@@ -102,7 +142,7 @@ public final class PlayerTagSelectorManager {
    * <li>{@link #THERE_IS_NO_TAG_SELECTED} if the player has no tag selected.</li>
    * <li>{@link #PLAYER_IS_NOT_ONLINE} if the player is not connected to the server.</li>
    * </ul>
-   * @see PlayerAggregateRootRegistry#findInCache(String)
+   * @see PlayerAggregateRootRegistry#findInCache(java.util.UUID)
    * @see io.github.aivruu.teams.player.domain.PlayerModelEntity#tag()
    * @since 0.0.1
    */
@@ -110,7 +150,7 @@ public final class PlayerTagSelectorManager {
     // We can assume that the aggregate-root won't be null, as this method is called when the
     // command is run, which indicates player is connected.
     final PlayerAggregateRoot playerAggregateRoot = this.playerAggregateRootRegistry.findInCache(
-       player.getUniqueId().toString());
+       player.getUniqueId());
     final String tag = playerAggregateRoot.playerModel().tag();
     if (tag == null) {
       return THERE_IS_NO_TAG_SELECTED;
@@ -120,4 +160,38 @@ public final class PlayerTagSelectorManager {
     // We should expect a [TAG_HAS_BEEN_CLEARED] status.
     return playerAggregateRoot.tagWithStatus(null);
   }
+
+  /**
+   * Applies the tag-selection stored by other server for the given player, if the player is connected to
+   * this server and has no unsaved selection.
+   * <p>
+   * This method can be called from any thread, the selection is applied on the server's thread.
+   *
+   * @param id  the player's id.
+   * @param tag the stored tag's id, or {@code null} if the player has no tag selected.
+   * @since 4.1.0
+   */
+  public void refreshFromRemote(final @NotNull String id, final @Nullable String tag) {
+    this.mainThreadExecutor.execute(() -> {
+      final PlayerAggregateRoot playerAggregateRoot = this.playerAggregateRootRegistry.findInCache(id);
+      if (playerAggregateRoot == null || playerAggregateRoot.dirty()) {
+        return;
+      }
+      final String currentTag = playerAggregateRoot.playerModel().tag();
+      final Player player = Bukkit.getPlayer(UUID.fromString(id));
+      if (player == null || Objects.equals(currentTag, tag)) {
+        return;
+      }
+      playerAggregateRoot.tagWithStatus(tag);
+      // The remote selection is already stored, so it doesn't need to be saved again.
+      playerAggregateRoot.markPersisted(playerAggregateRoot.version());
+      if (tag == null) {
+        this.packetAdaptation.removePlayerFromTeam(player);
+        Bukkit.getPluginManager().callEvent(new TagUnselectEvent(player, currentTag));
+      } else {
+        this.packetAdaptation.addPlayerToTeam(player, tag);
+        Bukkit.getPluginManager().callEvent(new TagSelectEvent(player, tag));
+      }
+    });
+  }
 }
@@ -24,6 +24,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 public final class PlayerAggregateRootRegistryImpl implements PlayerAggregateRootRegistry {
@@ -42,11 +44,27 @@ public final class PlayerAggregateRootRegistryImpl implements PlayerAggregateRoo
     return this.playerAggregateRootRepository.findSync(id);
   }
 
+  @Override
+  public @Nullable PlayerAggregateRoot findInCache(final @NotNull UUID id) {
+    return this.playerAggregateRootRepository.findSync(id);
+  }
+
   @Override
   public @NotNull CompletableFuture<PlayerAggregateRoot> findInInfrastructure(final @NotNull String id) {
     return this.playerAsyncAggregateRootRepository.findAsync(id);
   }
 
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, PlayerAggregateRoot>> findManyInInfrastructure(
+     final @NotNull Collection<String> ids) {
+    return this.playerAsyncAggregateRootRepository.findManyAsync(ids);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<PlayerAggregateRoot>> findAllInInfrastructure() {
+    return this.playerAsyncAggregateRootRepository.findAllAsync();
+  }
+
   @Override
   public @NotNull Collection<PlayerAggregateRoot> findAllInCache() {
     return this.playerAggregateRootRepository.findAllSync();
@@ -63,6 +81,11 @@ public final class PlayerAggregateRootRegistryImpl implements PlayerAggregateRoo
     return this.playerAggregateRootRepository.existsSync(id);
   }
 
+  @Override
+  public boolean existsInCache(final @NotNull UUID id) {
+    return this.playerAggregateRootRepository.existsSync(id);
+  }
+
   @Override
   public boolean existsInInfrastructure(final @NotNull String id) {
     return this.playerAsyncAggregateRootRepository.existsAsync(id).join();
@@ -78,6 +101,11 @@ public final class PlayerAggregateRootRegistryImpl implements PlayerAggregateRoo
     return this.playerAggregateRootRepository.deleteSync(id);
   }
 
+  @Override
+  public @Nullable PlayerAggregateRoot unregister(final @NotNull UUID id) {
+    return this.playerAggregateRootRepository.deleteSync(id);
+  }
+
   @Override
   public @NotNull CompletableFuture<Boolean> delete(final @NotNull String id) {
     return this.playerAsyncAggregateRootRepository.deleteAsync(id);
@@ -87,4 +115,10 @@ public final class PlayerAggregateRootRegistryImpl implements PlayerAggregateRoo
   public @NotNull CompletableFuture<Boolean> save(final @NotNull PlayerAggregateRoot aggregateRoot) {
     return this.playerAsyncAggregateRootRepository.saveAsync(aggregateRoot);
   }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveMany(
+     final @NotNull Collection<PlayerAggregateRoot> aggregateRoots) {
+    return this.playerAsyncAggregateRootRepository.saveManyAsync(aggregateRoots);
+  }
 }
@@ -66,6 +66,7 @@ public final class PlayerAggregateRoot extends AggregateRoot {
    * <li>{@link #TAG_HAS_BEEN_CLEARED} if the current-tag has been cleared.</li>
    * <li>{@link #TAG_IS_ALREADY_SELECTED} if the specified-tag is already selected.</li>
    * </ul>
+   * @see #dirty()
    * @since 2.2.1
    */
   public byte tagWithStatus(final @Nullable String tag) {
@@ -74,6 +75,7 @@ public final class PlayerAggregateRoot extends AggregateRoot {
       return TAG_IS_ALREADY_SELECTED;
     }
     this.playerModel.tag(tag);
+    super.markModified();
     return (tag == null) ? TAG_HAS_BEEN_CLEARED : TAG_HAS_BEEN_CHANGED;
   }
 }
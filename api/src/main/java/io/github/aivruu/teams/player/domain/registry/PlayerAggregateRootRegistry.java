@@ -18,10 +18,44 @@ package io.github.aivruu.teams.player.domain.registry;
 
 import io.github.aivruu.teams.aggregate.domain.registry.AggregateRootRegistry;
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
 
 /**
  * A {@link AggregateRootRegistry} interface-implementation for {@link PlayerAggregateRoot}s.
  *
  * @since 0.0.1
  */
-public interface PlayerAggregateRootRegistry extends AggregateRootRegistry<PlayerAggregateRoot> {}
+public interface PlayerAggregateRootRegistry extends AggregateRootRegistry<PlayerAggregateRoot> {
+  /**
+   * Returns the {@link PlayerAggregateRoot} for the given player's {@link UUID} from the cache if found.
+   *
+   * @param id the player's {@link UUID}.
+   * @return The {@link PlayerAggregateRoot} or {@code null} if not found in cache.
+   * @see io.github.aivruu.teams.player.domain.repository.PlayerAggregateRootRepository#findSync(UUID)
+   * @since 4.1.0
+   */
+  @Nullable PlayerAggregateRoot findInCache(final @NotNull UUID id);
+
+  /**
+   * Checks if the {@link PlayerAggregateRoot} for the given player's {@link UUID} is cached.
+   *
+   * @param id the player's {@link UUID}.
+   * @return Whether the {@link PlayerAggregateRoot} is cached.
+   * @see io.github.aivruu.teams.player.domain.repository.PlayerAggregateRootRepository#existsSync(UUID)
+   * @since 4.1.0
+   */
+  boolean existsInCache(final @NotNull UUID id);
+
+  /**
+   * Removes the {@link PlayerAggregateRoot} for the given player's {@link UUID} from the cache.
+   *
+   * @param id the player's {@link UUID}.
+   * @return The removed {@link PlayerAggregateRoot} or {@code null} if wasn't cached.
+   * @see io.github.aivruu.teams.player.domain.repository.PlayerAggregateRootRepository#deleteSync(UUID)
+   * @since 4.1.0
+   */
+  @Nullable PlayerAggregateRoot unregister(final @NotNull UUID id);
+}
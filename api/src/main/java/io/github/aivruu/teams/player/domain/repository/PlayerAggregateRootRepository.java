@@ -20,6 +20,9 @@ import com.google.errorprone.annotations.DoNotCall;
 import io.github.aivruu.teams.aggregate.domain.repository.AggregateRootRepository;
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
 
 /**
  * A {@link AggregateRootRepository} interface-implementation for {@link PlayerAggregateRoot}s.
@@ -27,6 +30,42 @@ import org.jetbrains.annotations.NotNull;
  * @since 0.0.1
  */
 public interface PlayerAggregateRootRepository extends AggregateRootRepository<PlayerAggregateRoot> {
+  /**
+   * Returns the {@link PlayerAggregateRoot} for the given player's {@link UUID} if found.
+   *
+   * @param id the player's {@link UUID}.
+   * @return The {@link PlayerAggregateRoot} or {@code null} if isn't in the repository.
+   * @see #findSync(String)
+   * @since 4.1.0
+   */
+  default @Nullable PlayerAggregateRoot findSync(final @NotNull UUID id) {
+    return this.findSync(id.toString());
+  }
+
+  /**
+   * Checks if the {@link PlayerAggregateRoot} for the given player's {@link UUID} is stored by the repository.
+   *
+   * @param id the player's {@link UUID}.
+   * @return Whether the {@link PlayerAggregateRoot} is stored.
+   * @see #existsSync(String)
+   * @since 4.1.0
+   */
+  default boolean existsSync(final @NotNull UUID id) {
+    return this.existsSync(id.toString());
+  }
+
+  /**
+   * Removes the {@link PlayerAggregateRoot} for the given player's {@link UUID} from the repository.
+   *
+   * @param id the player's {@link UUID}.
+   * @return The removed {@link PlayerAggregateRoot} or {@code null} if isn't in the repository.
+   * @see #deleteSync(String)
+   * @since 4.1.0
+   */
+  default @Nullable PlayerAggregateRoot deleteSync(final @NotNull UUID id) {
+    return this.deleteSync(id.toString());
+  }
+
   /**
    * {@inheritDoc}
    * <p>
@@ -25,11 +25,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class TagAggregateRootRegistryImpl implements TagAggregateRootRegistry {
   private final TagAggregateRootRepository tagAggregateRootRepository;
   private final AsyncAggregateRootRepository<TagAggregateRoot> tagAsyncAggregateRootRepository;
+  private final Map<String, CompletableFuture<@Nullable TagAggregateRoot>> inProgressSearches =
+     new ConcurrentHashMap<>();
 
   public TagAggregateRootRegistryImpl(
     final @NotNull TagAggregateRootRepository tagAggregateRootRepository,
@@ -62,12 +66,47 @@ public final class TagAggregateRootRegistryImpl implements TagAggregateRootRegis
     return tagAggregateRoot;
   }
 
+  @Override
+  public @NotNull CompletableFuture<@Nullable TagAggregateRoot> findInBothAsync(final @NotNull String id) {
+    final TagAggregateRoot tagAggregateRoot = this.tagAggregateRootRepository.findSync(id);
+    if (tagAggregateRoot != null) {
+      return CompletableFuture.completedFuture(tagAggregateRoot);
+    }
+    final CompletableFuture<@Nullable TagAggregateRoot> search = new CompletableFuture<>();
+    final CompletableFuture<@Nullable TagAggregateRoot> inProgressSearch = this.inProgressSearches.putIfAbsent(id, search);
+    if (inProgressSearch != null) {
+      return inProgressSearch;
+    }
+    this.tagAsyncAggregateRootRepository.findAsync(id).whenComplete((foundTagAggregateRoot, exception) -> {
+      if (exception != null) {
+        Debugger.write("Unexpected exception during in-infrastructure tag fetching with id '{}'.", id, exception);
+      } else if (foundTagAggregateRoot != null) {
+        this.tagAggregateRootRepository.saveSync(foundTagAggregateRoot.id(), foundTagAggregateRoot);
+      }
+      // Removed before completion, so the next searches will find it in cache.
+      this.inProgressSearches.remove(id, search);
+      search.complete(foundTagAggregateRoot);
+    });
+    return search;
+  }
+
   @Override
   public @NotNull CompletableFuture<@Nullable TagAggregateRoot> findInInfrastructure(
      final @NotNull String id) {
     return this.tagAsyncAggregateRootRepository.findAsync(id);
   }
 
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, TagAggregateRoot>> findManyInInfrastructure(
+     final @NotNull Collection<String> ids) {
+    return this.tagAsyncAggregateRootRepository.findManyAsync(ids);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<TagAggregateRoot>> findAllInInfrastructure() {
+    return this.tagAsyncAggregateRootRepository.findAllAsync();
+  }
+
   @Override
   public @NotNull Collection<TagAggregateRoot> findAllInCache() {
     return this.tagAggregateRootRepository.findAllSync();
@@ -90,6 +129,11 @@ public final class TagAggregateRootRegistryImpl implements TagAggregateRootRegis
     return this.tagAsyncAggregateRootRepository.existsAsync(id).join();
   }
 
+  @Override
+  public @NotNull CompletableFuture<Boolean> existsInInfrastructureAsync(final @NotNull String id) {
+    return this.tagAsyncAggregateRootRepository.existsAsync(id);
+  }
+
   @Override
   public void register(final @NotNull TagAggregateRoot aggregateRoot) {
     this.tagAggregateRootRepository.saveSync(aggregateRoot.id(), aggregateRoot);
@@ -109,4 +153,10 @@ public final class TagAggregateRootRegistryImpl implements TagAggregateRootRegis
   public @NotNull CompletableFuture<Boolean> save(final @NotNull TagAggregateRoot aggregateRoot) {
     return this.tagAsyncAggregateRootRepository.saveAsync(aggregateRoot);
   }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveMany(
+     final @NotNull Collection<TagAggregateRoot> aggregateRoots) {
+    return this.tagAsyncAggregateRootRepository.saveManyAsync(aggregateRoots);
+  }
 }
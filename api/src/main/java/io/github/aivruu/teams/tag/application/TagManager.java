@@ -17,6 +17,7 @@
 package io.github.aivruu.teams.tag.application;
 
 import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
+import io.github.aivruu.teams.aggregate.domain.FlushResultValueObject;
 import io.github.aivruu.teams.repository.domain.DomainRepository;
 import io.github.aivruu.teams.util.application.Debugger;
 import io.github.aivruu.teams.packet.application.PacketAdaptationContract;
@@ -36,7 +37,14 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * This class is used as global registry and information-handler for the tag.
@@ -44,22 +52,53 @@ import java.util.List;
  * @since 0.0.1
  */
 public final class TagManager {
-  private final List<String> existingTagsIds = new ArrayList<>();
+  private final Set<String> existingTagsIds = ConcurrentHashMap.newKeySet();
   private final TagAggregateRootRegistry tagAggregateRootRegistry;
   private final PacketAdaptationContract packetAdaptation;
+  private final Executor mainThreadExecutor;
 
   /**
    * Creates a new {@link TagManager} with the provided parameters.
    *
    * @param tagAggregateRootRegistry the {@link TagAggregateRootRegistry}.
    * @param packetAdaptation         the {@link PacketAdaptationContract}.
-   * @since 0.0.1
+   * @param mainThreadExecutor       the {@link Executor} used to deliver async-results on the server's thread.
+   * @since 4.1.0
    */
   public TagManager(
      final @NotNull TagAggregateRootRegistry tagAggregateRootRegistry,
-     final @NotNull PacketAdaptationContract packetAdaptation) {
+     final @NotNull PacketAdaptationContract packetAdaptation,
+     final @NotNull Executor mainThreadExecutor) {
     this.tagAggregateRootRegistry = tagAggregateRootRegistry;
     this.packetAdaptation = packetAdaptation;
+    this.mainThreadExecutor = mainThreadExecutor;
+  }
+
+  /**
+   * Loads all the tags' information from the infrastructure into the cache, registers their ids into the
+   * {@link #existingTagsIds} set, and creates their scoreboard-teams.
+   * <p>
+   * The tags are searched in parallel by the infrastructure, but this method blocks the caller until all
+   * of them have been loaded, so it should be called from the main-thread only during the plugin's start-up.
+   *
+   * @return The amount of loaded tags.
+   * @see TagAggregateRootRegistry#findAllInInfrastructure()
+   * @since 4.1.0
+   */
+  public int warmUp() {
+    final Collection<TagAggregateRoot> tagAggregateRoots = this.tagAggregateRootRegistry.findAllInInfrastructure()
+       .exceptionally(exception -> {
+         Debugger.write("Unexpected exception during in-infrastructure tags loading.", exception);
+         return List.of();
+       })
+       .join();
+    for (final TagAggregateRoot tagAggregateRoot : tagAggregateRoots) {
+      final String id = tagAggregateRoot.id();
+      this.tagAggregateRootRegistry.register(tagAggregateRoot);
+      this.existingTagsIds.add(id);
+      this.packetAdaptation.createTeam(id, tagAggregateRoot.tagModel().tagComponentProperties());
+    }
+    return tagAggregateRoots.size();
   }
 
   /**
@@ -74,6 +113,20 @@ public final class TagManager {
     return this.tagAggregateRootRegistry.findInBoth(id);
   }
 
+  /**
+   * Returns a {@link TagAggregateRoot} for the specified id without blocking the caller-thread, the
+   * result is delivered on the server's thread.
+   *
+   * @param id the tag's id.
+   * @return A {@link CompletableFuture} with the {@link TagAggregateRoot} or {@code null} if tag doesn't exist.
+   * @see TagAggregateRootRegistry#findInBothAsync(String)
+   * @since 4.1.0
+   */
+  public @NotNull CompletableFuture<@Nullable TagAggregateRoot> tagAggregateRootOfAsync(final @NotNull String id) {
+    return this.tagAggregateRootRegistry.findInBothAsync(id)
+       .thenApplyAsync(Function.identity(), this.mainThreadExecutor);
+  }
+
   /**
    * Returns a viewer-collection with all the {@link TagAggregateRoot}s loaded in-cache until now.
    * <p>
@@ -125,11 +178,11 @@ public final class TagManager {
   }
 
   /**
-   * Returns whether the tag with the specified id is contained by the {@link #existingTagsIds} list.
+   * Returns whether the tag with the specified id is contained by the {@link #existingTagsIds} set.
    *
    * @param id the tag's id to check.
-   * @return {@code true} if the tag exists in the list, {@code false} otherwise.
-   * @see List#contains(Object)
+   * @return {@code true} if the tag exists in the set, {@code false} otherwise.
+   * @see Set#contains(Object)
    * @since 1.0.0
    */
   public boolean existsAtList(final @NotNull String id) {
@@ -149,7 +202,7 @@ public final class TagManager {
    * be saved.
    * <p>
    * This method will stop execution and return false if the tag-id already exists in the
-   * {@link #existingTagsIds} list.
+   * {@link #existingTagsIds} set.
    *
    * @param player the player who creates the tag.
    * @param id     the tag's id.
@@ -231,6 +284,7 @@ public final class TagManager {
    * @since 0.0.1
    */
   public void handleTagAggregateRootSave(final @NotNull TagAggregateRoot tagAggregateRoot) {
+    final long version = tagAggregateRoot.version();
     this.tagAggregateRootRegistry.save(tagAggregateRoot)
        .exceptionally(exception -> {
          Debugger.write("Unexpected exception during tag-aggregate-root saving with id '{}'.",
@@ -238,7 +292,9 @@ public final class TagManager {
          return false;
        })
        .thenAccept(saved -> {
-         if (!saved) {
+         if (saved) {
+           tagAggregateRoot.markPersisted(version);
+         } else {
            Debugger.write("The tag's aggregate-root information couldn't be saved.");
            // Avoid have unnecessary information in-cache.
            this.tagAggregateRootRegistry.unregister(tagAggregateRoot.id());
@@ -254,11 +310,39 @@ public final class TagManager {
    * @since 0.0.1
    */
   public boolean deleteTag(final @NotNull String id) {
+    this.existingTagsIds.remove(id);
     this.tagAggregateRootRegistry.unregister(id); // Delete from cache if necessary.
     this.packetAdaptation.deleteTeam(id); // Delete internal scoreboard-item.
     if (!this.tagAggregateRootRegistry.existsInInfrastructure(id)) {
       return false;
     }
+    this.processTagDeletion(id);
+    return true;
+  }
+
+  /**
+   * Deletes the tag's information (and scoreboard-team) for the specified id without blocking the
+   * caller-thread, the result is delivered on the server's thread.
+   *
+   * @param id the tag's id.
+   * @return A {@link CompletableFuture} with a {@code boolean} value for whether the tag existed.
+   * @see TagAggregateRootRegistry#existsInInfrastructureAsync(String)
+   * @since 4.1.0
+   */
+  public @NotNull CompletableFuture<Boolean> deleteTagAsync(final @NotNull String id) {
+    this.existingTagsIds.remove(id);
+    this.tagAggregateRootRegistry.unregister(id); // Delete from cache if necessary.
+    this.packetAdaptation.deleteTeam(id); // Delete internal scoreboard-item.
+    return this.tagAggregateRootRegistry.existsInInfrastructureAsync(id)
+       .thenApplyAsync(exists -> {
+         if (exists) {
+           this.processTagDeletion(id);
+         }
+         return exists;
+       }, this.mainThreadExecutor);
+  }
+
+  private void processTagDeletion(final @NotNull String id) {
     Bukkit.getPluginManager().callEvent(new TagDeleteEvent(id));
     // Process from-infrastructure tag deletion.
     this.tagAggregateRootRegistry.delete(id)
@@ -269,6 +353,91 @@ public final class TagManager {
        .thenAccept(deleted -> Debugger.write(deleted
           ? "Tag '{}' information has been deleted." : "The tag's information couldn't be deleted.",
           id));
-    return true;
+  }
+
+  /**
+   * Applies the given tag's information, modified by other server, to the cache and its scoreboard-team.
+   * <p>
+   * This method can be called from any thread, the information is applied on the server's thread. Tags
+   * with local modifications that haven't been saved yet keep their information, as their save will
+   * override the remote one.
+   *
+   * @param remoteTagAggregateRoot the {@link TagAggregateRoot} with the stored information.
+   * @since 4.1.0
+   */
+  public void refreshFromRemote(final @NotNull TagAggregateRoot remoteTagAggregateRoot) {
+    this.mainThreadExecutor.execute(() -> {
+      final String id = remoteTagAggregateRoot.id();
+      final TagPropertiesValueObject properties = remoteTagAggregateRoot.tagModel().tagComponentProperties();
+      final TagAggregateRoot tagAggregateRoot = this.tagAggregateRootRegistry.findInCache(id);
+      if (tagAggregateRoot == null) {
+        this.tagAggregateRootRegistry.register(remoteTagAggregateRoot);
+        if (this.existingTagsIds.add(id)) {
+          this.packetAdaptation.createTeam(id, properties);
+        } else {
+          this.packetAdaptation.updateTeamAttributes(id, properties);
+        }
+        return;
+      }
+      // The changes of this server are notified too, those are already applied.
+      if (tagAggregateRoot.dirty() || tagAggregateRoot.tagModel().tagComponentProperties().equals(properties)) {
+        return;
+      }
+      tagAggregateRoot.tagComponentProperties(properties);
+      // The remote information is already stored, so it doesn't need to be saved again.
+      tagAggregateRoot.markPersisted(tagAggregateRoot.version());
+      this.packetAdaptation.updateTeamAttributes(id, properties);
+    });
+  }
+
+  /**
+   * Removes the tag with the given id, deleted by other server, from the cache and deletes its scoreboard-team.
+   * <p>
+   * This method can be called from any thread, the tag is removed on the server's thread.
+   *
+   * @param id the deleted tag's id.
+   * @since 4.1.0
+   */
+  public void removeFromRemote(final @NotNull String id) {
+    this.mainThreadExecutor.execute(() -> {
+      if (!this.existingTagsIds.remove(id)) {
+        return;
+      }
+      this.tagAggregateRootRegistry.unregister(id);
+      this.packetAdaptation.deleteTeam(id);
+      Bukkit.getPluginManager().callEvent(new TagDeleteEvent(id));
+    });
+  }
+
+  /**
+   * Persists every cached tag's information that was modified since its last save.
+   * <p>
+   * Modified tags are saved together through the infrastructure's batch-saving.
+   *
+   * @return A {@link CompletableFuture} with the {@link FlushResultValueObject} once every write completed.
+   * @see TagAggregateRootRegistry#saveMany(Collection)
+   * @since 4.1.0
+   */
+  public @NotNull CompletableFuture<@NotNull FlushResultValueObject> flushAll() {
+    final Map<TagAggregateRoot, Long> versions = new HashMap<>();
+    for (final TagAggregateRoot tagAggregateRoot : this.tagAggregateRootRegistry.findAllInCache()) {
+      if (tagAggregateRoot.dirty()) {
+        versions.put(tagAggregateRoot, tagAggregateRoot.version());
+      }
+    }
+    if (versions.isEmpty()) {
+      return CompletableFuture.completedFuture(FlushResultValueObject.EMPTY);
+    }
+    return this.tagAggregateRootRegistry.saveMany(versions.keySet())
+       .thenApply(results -> {
+         int flushed = 0;
+         for (final Map.Entry<TagAggregateRoot, Long> entry : versions.entrySet()) {
+           if (Boolean.TRUE.equals(results.get(entry.getKey().id()))) {
+             entry.getKey().markPersisted(entry.getValue());
+             flushed++;
+           }
+         }
+         return new FlushResultValueObject(flushed, versions.size() - flushed);
+       });
   }
 }
@@ -24,6 +24,10 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * This class is used as base-class to proportionate basic and main logic for the modification-input
@@ -32,7 +36,7 @@ import org.jetbrains.annotations.NotNull;
  * @since 2.3.1
  */
 public abstract class TagModificationProcessor {
-  private final JavaPlugin plugin; // Used for sync event-firing.
+  private final Executor mainThreadExecutor; // Used for sync event-firing.
   private final TagAggregateRootRegistry tagAggregateRootRegistry;
 
   /**
@@ -45,7 +49,7 @@ public abstract class TagModificationProcessor {
   protected TagModificationProcessor(
      final @NotNull JavaPlugin plugin,
      final @NotNull TagAggregateRootRegistry tagAggregateRootRegistry) {
-    this.plugin = plugin;
+    this.mainThreadExecutor = plugin.getServer().getScheduler().getMainThreadExecutor(plugin);
     this.tagAggregateRootRegistry = tagAggregateRootRegistry;
   }
 
@@ -66,28 +70,89 @@ public abstract class TagModificationProcessor {
    * <li>{@link ProcessedContextResultValueObject#asInvalid()} if the tag does not exist.</li>
    * <li>{@link ProcessedContextResultValueObject#asCancelled()} if the process was cancelled (not event).</li>
    * </ul>
-   * @see TagAggregateRootRegistry#findInBoth(String)
+   * @see #processAsync(Player, ModificationInProgressValueObject, String)
    * @since 4.0.0
+   * @deprecated blocks the caller-thread until the tag is found in the infrastructure when it isn't cached,
+   *     use {@link #processAsync(Player, ModificationInProgressValueObject, String)} instead.
    */
+  @Deprecated(since = "4.1.0")
   public @NotNull ProcessedContextResultValueObject process(
      final @NotNull Player player,
      final @NotNull ModificationInProgressValueObject modification,
      final @NotNull String input) {
+    // The asynchronous processing completes on the server's thread, so it can't be waited from there.
+    if (!Bukkit.isPrimaryThread()) {
+      return this.processAsync(player, modification, input).join();
+    }
+    if (input.equals("cancel")) {
+      return this.handleResult(player, modification, input, ProcessedContextResultValueObject.asCancelled());
+    }
+    return this.processFound(player, modification, input, this.tagAggregateRootRegistry.findInBoth(modification.tag()));
+  }
+
+  /**
+   * Processes the given input (as string) by multiple-checks before delegate it as "pending", without
+   * blocking the caller-thread.
+   * <p>
+   * The tag is searched asynchronously, and the {@link TagPropertyChangeEvent} is fired on the server's
+   * thread, where the result is delivered to {@link #handleResult(Player, ModificationInProgressValueObject,
+   * String, ProcessedContextResultValueObject)} as well.
+   *
+   * @param player       who's modifying the tag.
+   * @param modification the {@link ModificationInProgressValueObject} for the tag's modification.
+   * @param input        the edit-mode's input for modification.
+   * @return A {@link CompletableFuture} with the {@link ProcessedContextResultValueObject}, check
+   *     {@link #process(Player, ModificationInProgressValueObject, String)} for possible-states.
+   * @see TagAggregateRootRegistry#findInBothAsync(String)
+   * @since 4.1.0
+   */
+  public @NotNull CompletableFuture<ProcessedContextResultValueObject> processAsync(
+     final @NotNull Player player,
+     final @NotNull ModificationInProgressValueObject modification,
+     final @NotNull String input) {
     if (input.equals("cancel")) {
-      return ProcessedContextResultValueObject.asCancelled();
+      return CompletableFuture.supplyAsync(() -> this.handleResult(player, modification, input,
+         ProcessedContextResultValueObject.asCancelled()), this.mainThreadExecutor);
     }
-    final TagAggregateRoot tagAggregateRoot = this.tagAggregateRootRegistry.findInBoth(
-       modification.tag());
+    return this.tagAggregateRootRegistry.findInBothAsync(modification.tag())
+       .thenApplyAsync(tagAggregateRoot -> this.processFound(player, modification, input, tagAggregateRoot),
+          this.mainThreadExecutor);
+  }
+
+  private @NotNull ProcessedContextResultValueObject processFound(
+     final @NotNull Player player,
+     final @NotNull ModificationInProgressValueObject modification,
+     final @NotNull String input,
+     final @Nullable TagAggregateRoot tagAggregateRoot) {
     if (tagAggregateRoot == null) {
-      return ProcessedContextResultValueObject.asInvalid();
+      return this.handleResult(player, modification, input, ProcessedContextResultValueObject.asInvalid());
     }
     final TagPropertyChangeEvent tagPropertyChangeEvent = new TagPropertyChangeEvent(
        modification.tag(), modification.context());
-    // Avoid IllegalStateException due to asynchronous event-firing.
-    Bukkit.getScheduler().runTask(this.plugin, () ->
-       Bukkit.getPluginManager().callEvent(tagPropertyChangeEvent));
-    return tagPropertyChangeEvent.isCancelled()
+    // We're on the server's thread, so the event is fired synchronously and its state can be checked.
+    Bukkit.getPluginManager().callEvent(tagPropertyChangeEvent);
+    return this.handleResult(player, modification, input, tagPropertyChangeEvent.isCancelled()
        ? ProcessedContextResultValueObject.asFailed()
-       : ProcessedContextResultValueObject.asPending(tagAggregateRoot);
+       : ProcessedContextResultValueObject.asPending(tagAggregateRoot));
+  }
+
+  /**
+   * Handles the result of the input's processing, this method is always called on the server's thread.
+   * <p>
+   * By default, it returns the given result without changes.
+   *
+   * @param player       who's modifying the tag.
+   * @param modification the {@link ModificationInProgressValueObject} for the tag's modification.
+   * @param input        the edit-mode's input for modification.
+   * @param result       the {@link ProcessedContextResultValueObject} of the processing.
+   * @return The {@link ProcessedContextResultValueObject} to deliver.
+   * @since 4.1.0
+   */
+  protected @NotNull ProcessedContextResultValueObject handleResult(
+     final @NotNull Player player,
+     final @NotNull ModificationInProgressValueObject modification,
+     final @NotNull String input,
+     final @NotNull ProcessedContextResultValueObject result) {
+    return result;
   }
 }
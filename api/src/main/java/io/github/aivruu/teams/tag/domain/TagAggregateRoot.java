@@ -55,7 +55,8 @@ public final class TagAggregateRoot extends AggregateRoot {
    * @param tagComponentProperties the tag's new {@link TagPropertiesValueObject}.
    * @since 0.0.1
    */
-  public void tagComponentProperties(final @NotNull TagPropertiesValueObject tagComponentProperties) {
+  public synchronized void tagComponentProperties(final @NotNull TagPropertiesValueObject tagComponentProperties) {
     this.tagModel.tagComponentProperties(tagComponentProperties);
+    super.markModified();
   }
 }
@@ -25,7 +25,7 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class TagModelEntity {
   private final String id;
-  private TagPropertiesValueObject tagComponentProperties;
+  private volatile TagPropertiesValueObject tagComponentProperties;
 
   /**
    * Creates a new {@link TagModelEntity} with the provided parameters.
@@ -21,6 +21,8 @@ import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A {@link AggregateRootRegistry} interface-implementation for {@link TagAggregateRoot}s.
  *
@@ -31,10 +33,35 @@ public interface TagAggregateRootRegistry extends AggregateRootRegistry<TagAggre
    * Returns the {@link TagAggregateRoot} specified from the cache-repository if found,
    * otherwise it will search at infrastructure-repository by aggregate-root's information
    * and will return it if found.
+   * <p>
+   * This method blocks the caller-thread when the aggregate-root isn't cached, consider use
+   * {@link #findInBothAsync(String)} instead.
    *
    * @param id the aggregate-root's identifier.
    * @return The {@link TagAggregateRoot} or {@code null} if not exists.
    * @since 2.3.1
    */
   @Nullable TagAggregateRoot findInBoth(final @NotNull String id);
+
+  /**
+   * Returns the {@link TagAggregateRoot} specified from the cache-repository if found, otherwise it will
+   * search at infrastructure-repository by aggregate-root's information and will cache it if found.
+   * <p>
+   * Concurrent searches for the same aggregate-root are resolved by a single infrastructure-search.
+   *
+   * @param id the aggregate-root's identifier.
+   * @return A {@link CompletableFuture} with the {@link TagAggregateRoot} or {@code null} if not exists.
+   * @since 4.1.0
+   */
+  @NotNull CompletableFuture<@Nullable TagAggregateRoot> findInBothAsync(final @NotNull String id);
+
+  /**
+   * Checks if the aggregate-root specified exists in the infrastructure without blocking the caller-thread.
+   *
+   * @param id the aggregate-root's identifier.
+   * @return A {@link CompletableFuture} with a {@code boolean} value for aggregate-root existing.
+   * @see io.github.aivruu.teams.aggregate.domain.repository.AsyncAggregateRootRepository#existsAsync(String)
+   * @since 4.1.0
+   */
+  @NotNull CompletableFuture<Boolean> existsInInfrastructureAsync(final @NotNull String id);
 }
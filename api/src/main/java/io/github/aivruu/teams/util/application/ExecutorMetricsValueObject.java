@@ -0,0 +1,41 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.util.application;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A snapshot of a {@link MonitoredExecutorService}'s metrics.
+ *
+ * @param name              the executor's name.
+ * @param queued            the amount of submitted tasks that haven't started yet.
+ * @param active            the amount of tasks running.
+ * @param completed         the amount of tasks completed.
+ * @param rejected          the amount of tasks rejected because the executor was full.
+ * @param averageWaitMillis the average time in milliseconds that the tasks waited before starting.
+ * @param maximumWaitMillis the maximum time in milliseconds that a task waited before starting.
+ * @since 4.1.0
+ */
+public record ExecutorMetricsValueObject(
+   @NotNull String name,
+   int queued,
+   int active,
+   long completed,
+   long rejected,
+   double averageWaitMillis,
+   double maximumWaitMillis
+) {}
@@ -0,0 +1,215 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.util.application;
+
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link ExecutorService} that bounds the amount of outstanding (queued and running) tasks of its
+ * delegated {@link ExecutorService}, and records its queue-depth, active-tasks and tasks' wait-time.
+ *
+ * @since 4.1.0
+ */
+public final class MonitoredExecutorService extends AbstractExecutorService {
+  private static final double NANOS_PER_MILLI = 1_000_000D;
+  private final String name;
+  private final ExecutorService delegate;
+  private final int capacity;
+  private final RejectionPolicy rejectionPolicy;
+  private final AtomicInteger outstanding = new AtomicInteger();
+  private final AtomicInteger active = new AtomicInteger();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final AtomicLong maximumWaitNanos = new AtomicLong();
+
+  /**
+   * Creates a new {@link MonitoredExecutorService} with the given parameters.
+   *
+   * @param name            the executor's name, used for metrics and rejection-messages.
+   * @param delegate        the {@link ExecutorService} that runs the tasks.
+   * @param capacity        the maximum amount of outstanding tasks.
+   * @param rejectionPolicy the {@link RejectionPolicy} for the tasks submitted when the executor is full.
+   * @since 4.1.0
+   */
+  public MonitoredExecutorService(
+     final @NotNull String name,
+     final @NotNull ExecutorService delegate,
+     final int capacity,
+     final @NotNull RejectionPolicy rejectionPolicy) {
+    this.name = name;
+    this.delegate = delegate;
+    this.capacity = capacity;
+    this.rejectionPolicy = rejectionPolicy;
+  }
+
+  @Override
+  public void execute(final @NotNull Runnable task) {
+    if (this.outstanding.incrementAndGet() > this.capacity && !this.overflowAllowed()) {
+      this.outstanding.decrementAndGet();
+      this.rejected.increment();
+      if (this.rejectionPolicy == RejectionPolicy.ABORT || this.delegate.isShutdown()) {
+        throw new RejectedExecutionException("The " + this.name + " executor is full (" + this.capacity
+           + " outstanding tasks).");
+      }
+      // Backpressure, the submitter is slowed down by running the task by itself.
+      task.run();
+      return;
+    }
+    try {
+      this.delegate.execute(new MonitoredTask(task));
+    } catch (final RejectedExecutionException exception) {
+      this.outstanding.decrementAndGet();
+      this.rejected.increment();
+      throw exception;
+    }
+  }
+
+  /**
+   * Checks whether a task submitted to the full executor must be queued anyway, this is the case for the
+   * tasks submitted by the server's thread under the {@link RejectionPolicy#CALLER_RUNS} policy, as running
+   * them there would block the server's tick with the infrastructure's I/O.
+   *
+   * @return Whether the task must be queued over the executor's capacity.
+   */
+  private boolean overflowAllowed() {
+    return (this.rejectionPolicy == RejectionPolicy.CALLER_RUNS) && (Bukkit.getServer() != null)
+       && Bukkit.isPrimaryThread();
+  }
+
+  /**
+   * Returns a snapshot of this executor's metrics.
+   *
+   * @return The {@link ExecutorMetricsValueObject}.
+   * @since 4.1.0
+   */
+  public @NotNull ExecutorMetricsValueObject metrics() {
+    final int active = this.active.get();
+    final long completed = this.completed.sum();
+    final long started = completed + active;
+    return new ExecutorMetricsValueObject(this.name, Math.max(this.outstanding.get() - active, 0), active,
+       completed, this.rejected.sum(),
+       (started == 0) ? 0D : (this.totalWaitNanos.sum() / (double) started) / NANOS_PER_MILLI,
+       this.maximumWaitNanos.get() / NANOS_PER_MILLI);
+  }
+
+  /**
+   * Returns this executor's name.
+   *
+   * @return The executor's name.
+   * @since 4.1.0
+   */
+  public @NotNull String name() {
+    return this.name;
+  }
+
+  @Override
+  public void shutdown() {
+    this.delegate.shutdown();
+  }
+
+  @Override
+  public @NotNull List<Runnable> shutdownNow() {
+    final List<Runnable> discarded = this.delegate.shutdownNow();
+    // The discarded tasks won't run, so they're not outstanding anymore.
+    for (final Runnable task : discarded) {
+      if (task instanceof MonitoredTask monitoredTask) {
+        monitoredTask.finish();
+      }
+    }
+    return discarded;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return this.delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return this.delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(final long timeout, final @NotNull TimeUnit unit) throws InterruptedException {
+    return this.delegate.awaitTermination(timeout, unit);
+  }
+
+  /**
+   * A task submitted to the delegated executor, which records its wait-time, and is counted as outstanding
+   * until it finishes or is discarded.
+   */
+  private final class MonitoredTask implements Runnable {
+    private final Runnable task;
+    private final long submittedAt = System.nanoTime();
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    private MonitoredTask(final @NotNull Runnable task) {
+      this.task = task;
+    }
+
+    @Override
+    public void run() {
+      final long waitNanos = System.nanoTime() - this.submittedAt;
+      MonitoredExecutorService.this.totalWaitNanos.add(waitNanos);
+      MonitoredExecutorService.this.maximumWaitNanos.accumulateAndGet(waitNanos, Math::max);
+      MonitoredExecutorService.this.active.incrementAndGet();
+      try {
+        this.task.run();
+      } finally {
+        MonitoredExecutorService.this.active.decrementAndGet();
+        if (this.finish()) {
+          MonitoredExecutorService.this.completed.increment();
+        }
+      }
+    }
+
+    private boolean finish() {
+      if (!this.finished.compareAndSet(false, true)) {
+        return false;
+      }
+      MonitoredExecutorService.this.outstanding.decrementAndGet();
+      return true;
+    }
+  }
+
+  /**
+   * The policy applied to the tasks submitted when the executor is full.
+   *
+   * @since 4.1.0
+   */
+  public enum RejectionPolicy {
+    /** The task is rejected with a {@link RejectedExecutionException}. */
+    ABORT,
+    /**
+     * The task is run by the submitter's thread, except for the server's thread, whose tasks are queued
+     * over the executor's capacity instead.
+     */
+    CALLER_RUNS
+  }
+}
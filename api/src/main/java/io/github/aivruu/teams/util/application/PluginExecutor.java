@@ -18,49 +18,209 @@ package io.github.aivruu.teams.util.application;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.aivruu.teams.util.application.MonitoredExecutorService.RejectionPolicy;
 
 /**
- * This class is used to proportionate a custom-size {@link Thread}-pool for the application.
+ * This class is used to proportionate the application's custom-size {@link Thread}-pools, one per
+ * {@link Workload}, so a backlog of one kind of tasks doesn't delay the others.
  *
  * @since 4.0.0
  */
 public final class PluginExecutor {
-  private static ExecutorService threadPool;
+  private static final Map<Workload, MonitoredExecutorService> EXECUTORS = new EnumMap<>(Workload.class);
 
   private PluginExecutor() {
     throw new UnsupportedOperationException("This class is for utility and cannot be instantiated.");
   }
 
   /**
-   * Returns this helper's {@link ExecutorService}.
+   * Returns this helper's {@link Workload#MAINTENANCE} {@link ExecutorService}.
    * <p>
-   * Don't try to call this method if the thread-pool is not initialized yet.
+   * Don't try to call this method if the thread-pools are not initialized yet.
    *
    * @return The {@link ExecutorService}.
-   * @throws IllegalStateException if the thread-pool has not been initialized yet.
+   * @throws IllegalStateException if the thread-pools have not been initialized yet.
    * @since 4.0.0
+   * @deprecated use {@link #get(Workload)} with the tasks' {@link Workload} instead.
    */
+  @Deprecated(since = "4.1.0")
   public static @NotNull ExecutorService get() {
-    if (threadPool == null) {
-      throw new IllegalStateException("The plugin's thread-pool has not been initialized yet.");
+    return get(Workload.MAINTENANCE);
+  }
+
+  /**
+   * Returns the {@link ExecutorService} for the given {@link Workload}.
+   * <p>
+   * Don't try to call this method if the thread-pools are not initialized yet.
+   *
+   * @param workload the tasks' {@link Workload}.
+   * @return The {@link ExecutorService}.
+   * @throws IllegalStateException if the thread-pools have not been initialized yet.
+   * @since 4.1.0
+   */
+  public static synchronized @NotNull ExecutorService get(final @NotNull Workload workload) {
+    final MonitoredExecutorService executor = EXECUTORS.get(workload);
+    if (executor == null) {
+      throw new IllegalStateException("The plugin's thread-pools have not been initialized yet.");
     }
-    return threadPool;
+    return executor;
   }
 
   /**
-   * Creates a new thread-pool for the {@link ExecutorService} using the given threads number.
+   * Creates a new thread-pool for every {@link Workload} using the given threads number.
    *
    * @param threads the number of threads to assign.
    * @since 4.0.0
    */
   public static void build(final int threads) {
-    if (threadPool != null) {
-      Debugger.write("[WARNING] Requesting thread-pool initialization when already is initialized.");
+    build(Mode.FIXED, threads);
+  }
+
+  /**
+   * Creates a new {@link ExecutorService} for every {@link Workload} using the given {@link Mode}.
+   *
+   * @param mode    the {@link Mode} for the executors' threads.
+   * @param threads the number of threads to assign, ignored for {@link Mode#VIRTUAL} executors.
+   * @since 4.1.0
+   */
+  public static void build(final @NotNull Mode mode, final int threads) {
+    build(mode, threads, threads, threads, Integer.MAX_VALUE, RejectionPolicy.CALLER_RUNS);
+  }
+
+  /**
+   * Creates the {@link ExecutorService}s for the {@link Workload}s using the given parameters.
+   *
+   * @param mode               the {@link Mode} for the executors' threads.
+   * @param readThreads        the number of threads for the {@link Workload#INFRASTRUCTURE_READ} executor.
+   * @param writeThreads       the number of threads for the {@link Workload#INFRASTRUCTURE_WRITE} executor.
+   * @param maintenanceThreads the number of threads for the {@link Workload#MAINTENANCE} executor.
+   * @param queueCapacity      the maximum amount of outstanding tasks per executor.
+   * @param rejectionPolicy    the {@link RejectionPolicy} for the tasks submitted to a full executor.
+   * @since 4.1.0
+   */
+  public static synchronized void build(
+     final @NotNull Mode mode,
+     final int readThreads,
+     final int writeThreads,
+     final int maintenanceThreads,
+     final int queueCapacity,
+     final @NotNull RejectionPolicy rejectionPolicy) {
+    if (!EXECUTORS.isEmpty()) {
+      Debugger.write("[WARNING] Requesting thread-pools initialization when already are initialized.");
       return;
     }
-    threadPool = Executors.newFixedThreadPool(threads, r -> new Thread(r, "Teams-Thread-Pool"));
+    for (final Workload workload : Workload.values()) {
+      final int threads = switch (workload) {
+        case INFRASTRUCTURE_READ -> readThreads;
+        case INFRASTRUCTURE_WRITE -> writeThreads;
+        case MAINTENANCE -> maintenanceThreads;
+      };
+      final ExecutorService delegate = switch (mode) {
+        case FIXED -> Executors.newFixedThreadPool(Math.max(threads, 1), Thread.ofPlatform()
+           .name(workload.threadsName + "-", 0)
+           .factory());
+        // Every task runs on its own virtual-thread, which is unmounted from its carrier-thread while blocked.
+        case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+           .name(workload.threadsName + "-Virtual-", 0)
+           .factory());
+      };
+      EXECUTORS.put(workload, new MonitoredExecutorService(workload.threadsName, delegate,
+         (queueCapacity > 0) ? queueCapacity : Integer.MAX_VALUE, rejectionPolicy));
+    }
+  }
+
+  /**
+   * Returns a snapshot of every {@link Workload} executor's metrics.
+   *
+   * @return A {@link List} with the {@link ExecutorMetricsValueObject}s, empty if the thread-pools have
+   *     not been initialized yet.
+   * @since 4.1.0
+   */
+  public static synchronized @NotNull List<ExecutorMetricsValueObject> metrics() {
+    if (EXECUTORS.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<ExecutorMetricsValueObject> metrics = new ArrayList<>(EXECUTORS.size());
+    for (final MonitoredExecutorService executor : EXECUTORS.values()) {
+      metrics.add(executor.metrics());
+    }
+    return metrics;
+  }
+
+  /**
+   * Shuts down the thread-pools, waiting for the running and queued tasks to complete during the given
+   * timeout, once it's elapsed, the remaining tasks are interrupted and discarded.
+   *
+   * @param timeoutMillis the maximum time in milliseconds to wait for the tasks' completion.
+   * @return The amount of queued tasks that were discarded, or {@code -1} if the running tasks didn't
+   *     stop after being interrupted.
+   * @since 4.1.0
+   */
+  public static synchronized int shutdown(final long timeoutMillis) {
+    if (EXECUTORS.isEmpty()) {
+      return 0;
+    }
+    for (final ExecutorService executor : EXECUTORS.values()) {
+      executor.shutdown();
+    }
+    // The timeout is shared by every executor, it's not a per-executor timeout.
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(timeoutMillis, 0L));
+    int discarded = 0;
+    boolean stopped = true;
+    for (final ExecutorService executor : EXECUTORS.values()) {
+      try {
+        if (executor.awaitTermination(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS)) {
+          continue;
+        }
+        discarded += executor.shutdownNow().size();
+        stopped &= executor.awaitTermination(1L, TimeUnit.SECONDS);
+      } catch (final InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        discarded += executor.shutdownNow().size();
+      }
+    }
+    EXECUTORS.clear();
+    return stopped ? discarded : -1;
+  }
+
+  /**
+   * The kind of threads used by the plugin's executors.
+   *
+   * @since 4.1.0
+   */
+  public enum Mode {
+    /** A fixed amount of platform-threads, the tasks wait at a queue until a thread is free. */
+    FIXED,
+    /** A new virtual-thread for every task, blocking I/O doesn't hold any platform-thread. */
+    VIRTUAL
+  }
+
+  /**
+   * The kinds of tasks run by the plugin, each one has its own executor.
+   *
+   * @since 4.1.0
+   */
+  public enum Workload {
+    /** Infrastructure-repositories' reads, such as the players' loading at join. */
+    INFRASTRUCTURE_READ("Teams-Read"),
+    /** Infrastructure-repositories' writes and deletions. */
+    INFRASTRUCTURE_WRITE("Teams-Write"),
+    /** Background tasks, such as configuration reloads, update-checks and cache-refreshes. */
+    MAINTENANCE("Teams-Maintenance");
+
+    private final String threadsName;
+
+    Workload(final @NotNull String threadsName) {
+      this.threadsName = threadsName;
+    }
   }
 }
@@ -3,4 +3,5 @@ dependencies {
 
   compileOnlyApi(libs.annotations)
   compileOnlyApi(libs.gson)
+  compileOnlyApi(libs.reactive.streams)
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.player.infrastructure.journal;
+
+import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
+import io.github.aivruu.teams.player.domain.PlayerModelEntity;
+import io.github.aivruu.teams.shared.infrastructure.journal.JournalInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.shared.infrastructure.journal.JournalStore;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+
+public final class PlayerJournalInfrastructureAggregateRootRepository extends JournalInfrastructureAggregateRootRepository<PlayerAggregateRoot> {
+  private static final byte[] NO_TAG = new byte[0];
+
+  public PlayerJournalInfrastructureAggregateRootRepository(final @NotNull JournalStore store) {
+    super(store);
+  }
+
+  @Override
+  protected byte @NotNull [] encode(final @NotNull PlayerAggregateRoot aggregateRoot) {
+    // The player's record only contains its selected tag's id, as the record's key is the player's id.
+    final String tag = aggregateRoot.playerModel().tag();
+    return (tag == null) ? NO_TAG : tag.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  protected @NotNull PlayerAggregateRoot decode(final @NotNull String id, final byte @NotNull [] value) {
+    final String tag = (value.length == 0) ? null : new String(value, StandardCharsets.UTF_8);
+    return new PlayerAggregateRoot(id, new PlayerModelEntity(id, tag));
+  }
+}
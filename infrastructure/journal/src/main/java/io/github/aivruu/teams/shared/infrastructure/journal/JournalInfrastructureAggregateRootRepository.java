@@ -0,0 +1,186 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.journal;
+
+import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
+import io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * An infrastructure-repository based on a {@link JournalStore}, the aggregate-roots' saves are appended to
+ * the journal as compact records, and they're read with a single positional read.
+ *
+ * @param <A> an aggregate-root type.
+ * @since 4.1.0
+ */
+public abstract class JournalInfrastructureAggregateRootRepository<A extends AggregateRoot>
+   extends InfrastructureAggregateRootRepository<A> {
+  protected final JournalStore store;
+
+  protected JournalInfrastructureAggregateRootRepository(final @NotNull JournalStore store) {
+    super(Type.JOURNAL);
+    this.store = store;
+  }
+
+  /**
+   * Encodes the given aggregate-root's information as its journal's value.
+   *
+   * @param aggregateRoot the aggregate-root to encode.
+   * @return The encoded value.
+   * @since 4.1.0
+   */
+  protected abstract byte @NotNull [] encode(final @NotNull A aggregateRoot);
+
+  /**
+   * Decodes the aggregate-root with the given id from its journal's value.
+   *
+   * @param id    the aggregate-root's id.
+   * @param value the encoded value.
+   * @return The decoded aggregate-root.
+   * @since 4.1.0
+   */
+  protected abstract @NotNull A decode(final @NotNull String id, final byte @NotNull [] value);
+
+  @Override
+  public boolean start() {
+    try {
+      this.store.open();
+      return true;
+    } catch (final IOException exception) {
+      Debugger.write("Unexpected exception when trying to open the infrastructure's journal.", exception);
+      return false;
+    }
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@Nullable A> findAsync(final @NotNull String id) {
+    if (!this.store.contains(id)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        final byte[] value = this.store.get(id);
+        return (value == null) ? null : this.decode(id, value);
+      } catch (final IOException exception) {
+        Debugger.write("Unexpected exception when trying to read aggregate-root's information from the journal.",
+           exception);
+        return null;
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, A>> findManyAsync(final @NotNull Collection<String> ids) {
+    return CompletableFuture.supplyAsync(() -> this.readAll(ids), this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<A>> findAllAsync() {
+    return CompletableFuture.supplyAsync(() -> this.readAll(this.store.keys()).values(), this.readExecutor);
+  }
+
+  private @NotNull Map<String, A> readAll(final @NotNull Collection<String> ids) {
+    final Map<String, A> aggregateRoots = new HashMap<>(ids.size());
+    for (final String id : ids) {
+      try {
+        final byte[] value = this.store.get(id);
+        if (value != null) {
+          aggregateRoots.put(id, this.decode(id, value));
+        }
+      } catch (final IOException exception) {
+        // Propagated so callers don't take the aggregate-roots as missing ones.
+        throw new CompletionException("Unexpected exception when trying to read aggregate-roots' information from the journal.",
+           exception);
+      }
+    }
+    return aggregateRoots;
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
+    // The index is kept in memory, so it doesn't require any infrastructure's operation.
+    return CompletableFuture.completedFuture(this.store.contains(id));
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull A aggregateRoot) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        this.store.put(aggregateRoot.id(), this.encode(aggregateRoot));
+        return true;
+      } catch (final IOException exception) {
+        Debugger.write("Unexpected exception when trying to write aggregate-root's information to the journal.",
+           exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<A> aggregateRoots) {
+    return CompletableFuture.supplyAsync(() -> {
+      final Map<String, byte[]> entries = new LinkedHashMap<>(aggregateRoots.size());
+      for (final A aggregateRoot : aggregateRoots) {
+        entries.put(aggregateRoot.id(), this.encode(aggregateRoot));
+      }
+      boolean saved;
+      try {
+        // Every record is appended with a single write.
+        this.store.write(entries);
+        saved = true;
+      } catch (final IOException exception) {
+        Debugger.write("Unexpected exception when trying to write {} aggregate-roots' information to the journal.",
+           aggregateRoots.size(), exception);
+        saved = false;
+      }
+      final Map<String, Boolean> results = new HashMap<>(entries.size());
+      for (final String id : entries.keySet()) {
+        results.put(id, saved);
+      }
+      return results;
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.store.delete(id);
+      } catch (final IOException exception) {
+        Debugger.write("Unexpected exception when trying to delete aggregate-root's information from the journal.",
+           exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public void close() {
+    this.store.close();
+  }
+}
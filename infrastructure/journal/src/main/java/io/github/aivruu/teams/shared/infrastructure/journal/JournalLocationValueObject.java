@@ -0,0 +1,30 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.journal;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The location of a key's latest value at the journal.
+ *
+ * @param segment    the {@link JournalSegment} where the value's record was written.
+ * @param position   the value's position at the segment.
+ * @param length     the value's length.
+ * @param recordSize the size of the value's whole record, used to track the segment's live bytes.
+ * @since 4.1.0
+ */
+record JournalLocationValueObject(@NotNull JournalSegment segment, long position, int length, int recordSize) {}
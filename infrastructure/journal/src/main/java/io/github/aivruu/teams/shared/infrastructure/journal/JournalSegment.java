@@ -0,0 +1,181 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.journal;
+
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One of the journal's files, the records are only appended at its end, and they're never modified.
+ *
+ * @since 4.1.0
+ */
+final class JournalSegment {
+  private final long id;
+  private final Path file;
+  private final AtomicLong liveBytes = new AtomicLong();
+  private volatile FileChannel channel;
+  private volatile boolean retired;
+  /** The segment's size, only modified while the journal's write-lock is held. */
+  private volatile long size;
+
+  private JournalSegment(
+     final long id,
+     final @NotNull Path file,
+     final @NotNull FileChannel channel) throws IOException {
+    this.id = id;
+    this.file = file;
+    this.channel = channel;
+    this.size = channel.size();
+  }
+
+  static @NotNull JournalSegment open(final long id, final @NotNull Path file) throws IOException {
+    return new JournalSegment(id, file, openChannel(file));
+  }
+
+  private static @NotNull FileChannel openChannel(final @NotNull Path file) throws IOException {
+    return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  long id() {
+    return this.id;
+  }
+
+  @NotNull Path file() {
+    return this.file;
+  }
+
+  long size() {
+    return this.size;
+  }
+
+  long liveBytes() {
+    return this.liveBytes.get();
+  }
+
+  void retain(final long bytes) {
+    this.liveBytes.addAndGet(bytes);
+  }
+
+  void release(final long bytes) {
+    this.liveBytes.addAndGet(-bytes);
+  }
+
+  /**
+   * Appends the buffer's remaining bytes at the segment's end, if they can't be written completely, the
+   * segment is truncated to its previous size, so the next records aren't written after a torn one.
+   *
+   * @param buffer the bytes to append.
+   * @return The position at which the bytes were written.
+   * @throws IOException if the bytes couldn't be written.
+   */
+  long append(final @NotNull ByteBuffer buffer) throws IOException {
+    final long position = this.size;
+    try {
+      long writePosition = position;
+      while (buffer.hasRemaining()) {
+        writePosition += this.channel.write(buffer, writePosition);
+      }
+      this.size = writePosition;
+      return position;
+    } catch (final IOException exception) {
+      this.reopenIfClosed();
+      this.channel.truncate(position);
+      throw exception;
+    }
+  }
+
+  /**
+   * Reads the given amount of bytes with a single positional read, which doesn't block other reads.
+   *
+   * @param position the bytes' position.
+   * @param length   the amount of bytes to read.
+   * @return The read bytes.
+   * @throws IOException if the bytes couldn't be read, or the segment was retired.
+   */
+  byte @NotNull [] read(final long position, final int length) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    try {
+      readFully(this.channel, buffer, position);
+    } catch (final ClosedChannelException exception) {
+      // Interrupting a thread blocked at the channel closes it, so it's reopened for the other readers.
+      this.reopenIfClosed();
+      if (Thread.currentThread().isInterrupted()) {
+        throw exception;
+      }
+      buffer.clear();
+      readFully(this.channel, buffer, position);
+    }
+    return buffer.array();
+  }
+
+  private static void readFully(
+     final @NotNull FileChannel channel,
+     final @NotNull ByteBuffer buffer,
+     final long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("Unexpected end of journal-segment.");
+      }
+    }
+  }
+
+  void truncate(final long size) throws IOException {
+    this.channel.truncate(size);
+    this.size = size;
+  }
+
+  void force() throws IOException {
+    this.channel.force(false);
+  }
+
+  private synchronized void reopenIfClosed() throws IOException {
+    if (this.retired) {
+      throw new ClosedChannelException();
+    }
+    if (!this.channel.isOpen()) {
+      this.channel = openChannel(this.file);
+    }
+  }
+
+  /**
+   * Closes this segment once its records were compacted, or the journal was closed.
+   *
+   * @param deleteFile whether the segment's file should be deleted.
+   */
+  synchronized void retire(final boolean deleteFile) {
+    this.retired = true;
+    try {
+      this.channel.close();
+      if (deleteFile) {
+        Files.deleteIfExists(this.file);
+      }
+    } catch (final IOException exception) {
+      Debugger.write("Unexpected exception when trying to close the journal-segment {}.", this.file, exception);
+    }
+  }
+}
@@ -0,0 +1,610 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.journal;
+
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only key-value store, whose records are written at the end of its active segment-file, and
+ * whose values are read with a single positional read through an in-memory index of their locations.
+ * <p>
+ * Every record has the layout {@code [body-length: int][crc32c: int][operation: byte][key-length: short]
+ * [key: utf-8][value]}, the index is rebuilt on start-up by reading the segments in order, and discarding
+ * the incomplete or corrupted records at their end.
+ * <p>
+ * Once the active segment reaches its maximum size, it's sealed and a new one is created. The sealed
+ * segments are compacted together in the background when the overwritten and deleted records reach the
+ * given fraction of their size, their latest values are copied to a single segment which replaces the newest
+ * of them, and which starts with a marker that supersedes the older segments, in case they couldn't be
+ * deleted before a crash.
+ *
+ * @since 4.1.0
+ */
+public final class JournalStore {
+  private static final String SEGMENT_FILE_PREFIX = "segment-";
+  private static final String SEGMENT_FILE_SUFFIX = ".log";
+  private static final String COMPACTION_FILE_SUFFIX = ".compacting";
+  private static final int HEADER_SIZE = Integer.BYTES * 2;
+  private static final int BODY_HEADER_SIZE = Byte.BYTES + Short.BYTES;
+  private static final int MAXIMUM_BODY_SIZE = 16 * 1024 * 1024;
+  private static final byte PUT_OPERATION = 1;
+  private static final byte DELETE_OPERATION = 2;
+  private static final byte COMPACTED_OPERATION = 3;
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final ReentrantLock compactionLock = new ReentrantLock();
+  private final Map<String, JournalLocationValueObject> index = new ConcurrentHashMap<>();
+  /** The sealed segments, from the oldest to the newest one, only accessed while the write-lock is held. */
+  private final List<JournalSegment> sealedSegments = new ArrayList<>();
+  private final Path directory;
+  private final String name;
+  private final long segmentSize;
+  private final long syncIntervalMillis;
+  private final long compactionIntervalMillis;
+  private final double compactionThreshold;
+  private volatile @Nullable JournalSegment activeSegment;
+  private @Nullable ScheduledExecutorService maintenanceExecutor;
+  private volatile boolean unsynced;
+
+  /**
+   * Creates a new {@link JournalStore} with the given parameters.
+   *
+   * @param directory                the directory where the segments are stored.
+   * @param segmentSize              the size in bytes after which the active segment is sealed.
+   * @param syncIntervalMillis       the interval in milliseconds at which the appended records are synced to
+   *                                 the disk, or zero to sync them before every write returns.
+   * @param compactionIntervalMillis the interval in milliseconds at which the sealed segments are checked
+   *                                 for compaction, or zero to disable the compaction.
+   * @param compactionThreshold      the fraction of the sealed segments' size that must be taken by overwritten
+   *                                 or deleted records to compact them.
+   * @since 4.1.0
+   */
+  public JournalStore(
+     final @NotNull Path directory,
+     final long segmentSize,
+     final long syncIntervalMillis,
+     final long compactionIntervalMillis,
+     final double compactionThreshold) {
+    this.directory = directory;
+    this.name = directory.getFileName().toString();
+    this.segmentSize = Math.max(segmentSize, 1024L);
+    this.syncIntervalMillis = syncIntervalMillis;
+    this.compactionIntervalMillis = compactionIntervalMillis;
+    this.compactionThreshold = compactionThreshold;
+  }
+
+  /**
+   * Opens the store's segments, and rebuilds the index from their records.
+   *
+   * @throws IOException if the segments couldn't be read.
+   * @since 4.1.0
+   */
+  public void open() throws IOException {
+    Files.createDirectories(this.directory);
+    final List<Long> segmentIds = new ArrayList<>();
+    try (final Stream<Path> files = Files.list(this.directory)) {
+      for (final Path file : (Iterable<Path>) files::iterator) {
+        final String fileName = file.getFileName().toString();
+        if (fileName.endsWith(COMPACTION_FILE_SUFFIX)) {
+          // An incomplete compaction, the compacted segments still exist.
+          Files.delete(file);
+        } else if (fileName.startsWith(SEGMENT_FILE_PREFIX) && fileName.endsWith(SEGMENT_FILE_SUFFIX)) {
+          segmentIds.add(Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(),
+             fileName.length() - SEGMENT_FILE_SUFFIX.length())));
+        }
+      }
+    }
+    segmentIds.sort(Comparator.naturalOrder());
+    final List<JournalSegment> segments = new ArrayList<>(segmentIds.size());
+    boolean lastCompacted = false;
+    for (final long segmentId : segmentIds) {
+      final JournalSegment segment = JournalSegment.open(segmentId, this.segmentFile(segmentId));
+      lastCompacted = this.load(segment);
+      if (lastCompacted) {
+        // The compaction was interrupted before the compacted segments were deleted.
+        for (final JournalSegment supersededSegment : segments) {
+          supersededSegment.retire(true);
+        }
+        segments.clear();
+      }
+      segments.add(segment);
+    }
+    // A compacted segment can be appended to as well, but it's sealed so it's not compacted again by itself.
+    if (segments.isEmpty() || lastCompacted) {
+      final long segmentId = segmentIds.isEmpty() ? 1L : segmentIds.get(segmentIds.size() - 1) + 1L;
+      segments.add(JournalSegment.open(segmentId, this.segmentFile(segmentId)));
+    }
+    this.activeSegment = segments.remove(segments.size() - 1);
+    this.sealedSegments.addAll(segments);
+    Debugger.write("Loaded {} keys from {} segments of the '{}' journal.", this.index.size(), segments.size() + 1,
+       this.name);
+    if (this.syncIntervalMillis <= 0L && this.compactionIntervalMillis <= 0L) {
+      return;
+    }
+    this.maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+       .name("Teams-Journal-" + this.name)
+       .daemon()
+       .factory());
+    if (this.syncIntervalMillis > 0L) {
+      this.maintenanceExecutor.scheduleWithFixedDelay(this::syncQuietly, this.syncIntervalMillis,
+         this.syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    if (this.compactionIntervalMillis > 0L) {
+      this.maintenanceExecutor.scheduleWithFixedDelay(this::compactQuietly, this.compactionIntervalMillis,
+         this.compactionIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private @NotNull Path segmentFile(final long segmentId) {
+    return this.directory.resolve(SEGMENT_FILE_PREFIX + segmentId + SEGMENT_FILE_SUFFIX);
+  }
+
+  /**
+   * Reads the segment's records into the index, and truncates the segment at its first invalid record.
+   *
+   * @param segment the {@link JournalSegment} to read.
+   * @return Whether the segment starts with a compaction-marker, which supersedes the previous segments.
+   * @throws IOException if the segment couldn't be read.
+   */
+  private boolean load(final @NotNull JournalSegment segment) throws IOException {
+    final long size = segment.size();
+    final CRC32C checksum = new CRC32C();
+    boolean compacted = false;
+    long position = 0L;
+    try (final DataInputStream input = new DataInputStream(new BufferedInputStream(
+       Files.newInputStream(segment.file()), 64 * 1024))
+    ) {
+      while (position + HEADER_SIZE <= size) {
+        final int bodyLength = input.readInt();
+        final int expectedChecksum = input.readInt();
+        if (bodyLength < BODY_HEADER_SIZE || bodyLength > MAXIMUM_BODY_SIZE
+           || position + HEADER_SIZE + bodyLength > size) {
+          break;
+        }
+        final byte[] body = new byte[bodyLength];
+        input.readFully(body);
+        checksum.reset();
+        checksum.update(body);
+        if ((int) checksum.getValue() != expectedChecksum) {
+          break;
+        }
+        final byte operation = body[0];
+        final int keyLength = ((body[1] & 0xFF) << 8) | (body[2] & 0xFF);
+        if (BODY_HEADER_SIZE + keyLength > bodyLength || operation < PUT_OPERATION || operation > COMPACTED_OPERATION) {
+          break;
+        }
+        final String key = new String(body, BODY_HEADER_SIZE, keyLength, StandardCharsets.UTF_8);
+        final int recordSize = HEADER_SIZE + bodyLength;
+        JournalLocationValueObject previousLocation = null;
+        if (operation == PUT_OPERATION) {
+          final int valueOffset = HEADER_SIZE + BODY_HEADER_SIZE + keyLength;
+          segment.retain(recordSize);
+          previousLocation = this.index.put(key, new JournalLocationValueObject(segment, position + valueOffset,
+             recordSize - valueOffset, recordSize));
+        } else if (operation == DELETE_OPERATION) {
+          previousLocation = this.index.remove(key);
+        } else if (position == 0L) {
+          // Only the compacted segments start with a marker, which is ignored anywhere else.
+          compacted = true;
+          this.index.clear();
+        }
+        if (previousLocation != null) {
+          previousLocation.segment().release(previousLocation.recordSize());
+        }
+        position += recordSize;
+      }
+    } catch (final EOFException exception) {
+      // The segment's size was already checked, so this only happens if it was modified meanwhile.
+    }
+    if (position < size) {
+      Debugger.write("Discarding {} bytes of incomplete or corrupted records at the end of the journal-segment {}.",
+         size - position, segment.file());
+      segment.truncate(position);
+    }
+    return compacted;
+  }
+
+  /**
+   * Returns the given key's latest value.
+   *
+   * @param key the value's key.
+   * @return The value, or {@code null} if the key has no value.
+   * @throws IOException if the value couldn't be read.
+   * @since 4.1.0
+   */
+  public byte @Nullable [] get(final @NotNull String key) throws IOException {
+    while (true) {
+      final JournalLocationValueObject location = this.index.get(key);
+      if (location == null) {
+        return null;
+      }
+      try {
+        return location.segment().read(location.position(), location.length());
+      } catch (final IOException exception) {
+        // The segment was compacted after the location was read, so the value is read again from its new location.
+        if (this.index.get(key) == location) {
+          throw exception;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns whether the given key has a value.
+   *
+   * @param key the value's key.
+   * @return Whether the key has a value.
+   * @since 4.1.0
+   */
+  public boolean contains(final @NotNull String key) {
+    return this.index.containsKey(key);
+  }
+
+  /**
+   * Returns a snapshot of the keys with a value.
+   *
+   * @return A {@link Set} with the keys.
+   * @since 4.1.0
+   */
+  public @NotNull Set<String> keys() {
+    return new HashSet<>(this.index.keySet());
+  }
+
+  /**
+   * Appends the given values with a single write, a {@code null} value deletes its key.
+   *
+   * @param entries the values to write by their keys.
+   * @throws IOException if the values couldn't be written, in which case none of them is written.
+   * @since 4.1.0
+   */
+  public void write(final @NotNull Map<String, byte @Nullable []> entries) throws IOException {
+    if (entries.isEmpty()) {
+      return;
+    }
+    final List<String> keys = new ArrayList<>(entries.size());
+    final List<byte[]> encodedKeys = new ArrayList<>(entries.size());
+    int bufferSize = 0;
+    for (final Map.Entry<String, byte[]> entry : entries.entrySet()) {
+      final byte[] encodedKey = entry.getKey().getBytes(StandardCharsets.UTF_8);
+      final byte[] value = entry.getValue();
+      keys.add(entry.getKey());
+      encodedKeys.add(encodedKey);
+      bufferSize += recordSize(encodedKey, value);
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+    for (int i = 0; i < keys.size(); i++) {
+      final byte[] value = entries.get(keys.get(i));
+      putRecord(buffer, (value == null) ? DELETE_OPERATION : PUT_OPERATION, encodedKeys.get(i), value);
+    }
+    buffer.flip();
+    this.writeLock.lock();
+    try {
+      final JournalSegment segment = this.writableSegment(bufferSize);
+      final long position = segment.append(buffer);
+      // The index is updated while the lock is held, so it always points to the latest written records.
+      long recordPosition = position;
+      for (int i = 0; i < keys.size(); i++) {
+        final byte[] value = entries.get(keys.get(i));
+        final int recordSize = recordSize(encodedKeys.get(i), value);
+        final JournalLocationValueObject previousLocation;
+        if (value == null) {
+          previousLocation = this.index.remove(keys.get(i));
+        } else {
+          segment.retain(recordSize);
+          previousLocation = this.index.put(keys.get(i), new JournalLocationValueObject(segment,
+             recordPosition + recordSize - value.length, value.length, recordSize));
+        }
+        if (previousLocation != null) {
+          previousLocation.segment().release(previousLocation.recordSize());
+        }
+        recordPosition += recordSize;
+      }
+      if (this.syncIntervalMillis <= 0L) {
+        segment.force();
+      } else {
+        this.unsynced = true;
+      }
+    } finally {
+      this.writeLock.unlock();
+    }
+  }
+
+  /**
+   * Appends the given key's value.
+   *
+   * @param key   the value's key.
+   * @param value the value.
+   * @throws IOException if the value couldn't be written.
+   * @since 4.1.0
+   */
+  public void put(final @NotNull String key, final byte @NotNull [] value) throws IOException {
+    this.write(Map.of(key, value));
+  }
+
+  /**
+   * Deletes the given key's value, if it has one.
+   *
+   * @param key the value's key.
+   * @return Whether the key had a value.
+   * @throws IOException if the deletion couldn't be written.
+   * @since 4.1.0
+   */
+  public boolean delete(final @NotNull String key) throws IOException {
+    this.writeLock.lock();
+    try {
+      if (!this.index.containsKey(key)) {
+        return false;
+      }
+      this.write(Collections.singletonMap(key, null));
+      return true;
+    } finally {
+      this.writeLock.unlock();
+    }
+  }
+
+  private static int recordSize(final byte @NotNull [] encodedKey, final byte @Nullable [] value) {
+    return HEADER_SIZE + BODY_HEADER_SIZE + encodedKey.length + ((value == null) ? 0 : value.length);
+  }
+
+  private static void putRecord(
+     final @NotNull ByteBuffer buffer,
+     final byte operation,
+     final byte @NotNull [] encodedKey,
+     final byte @Nullable [] value) {
+    final int bodyPosition = buffer.position() + HEADER_SIZE;
+    final int bodyLength = BODY_HEADER_SIZE + encodedKey.length + ((value == null) ? 0 : value.length);
+    buffer.putInt(bodyLength);
+    buffer.putInt(0);
+    buffer.put(operation);
+    buffer.putShort((short) encodedKey.length);
+    buffer.put(encodedKey);
+    if (value != null) {
+      buffer.put(value);
+    }
+    final CRC32C checksum = new CRC32C();
+    checksum.update(buffer.array(), bodyPosition, bodyLength);
+    buffer.putInt(bodyPosition - Integer.BYTES, (int) checksum.getValue());
+  }
+
+  private @NotNull JournalSegment writableSegment(final int recordsSize) throws IOException {
+    final JournalSegment segment = this.activeSegment;
+    if (segment == null) {
+      throw new IOException("The '" + this.name + "' journal is not opened.");
+    }
+    if (segment.size() == 0L || segment.size() + recordsSize <= this.segmentSize) {
+      return segment;
+    }
+    // The sealed segment is synced, so only the active segment has unsynced records.
+    segment.force();
+    this.sealedSegments.add(segment);
+    final JournalSegment newSegment = JournalSegment.open(segment.id() + 1L, this.segmentFile(segment.id() + 1L));
+    this.activeSegment = newSegment;
+    return newSegment;
+  }
+
+  private void syncQuietly() {
+    if (!this.unsynced) {
+      return;
+    }
+    this.unsynced = false;
+    final JournalSegment segment = this.activeSegment;
+    try {
+      if (segment != null) {
+        segment.force();
+      }
+    } catch (final IOException exception) {
+      this.unsynced = true;
+      Debugger.write("Unexpected exception when trying to sync the '{}' journal.", this.name, exception);
+    }
+  }
+
+  private void compactQuietly() {
+    try {
+      this.compact(false);
+    } catch (final IOException exception) {
+      Debugger.write("Unexpected exception when trying to compact the '{}' journal.", this.name, exception);
+    }
+  }
+
+  /**
+   * Compacts the sealed segments into a single one, if their overwritten and deleted records reach the
+   * compaction-threshold, or regardless of it if forced.
+   *
+   * @param force whether the segments should be compacted regardless of the compaction-threshold.
+   * @throws IOException if the segments couldn't be compacted, in which case they're kept as they're.
+   * @since 4.1.0
+   */
+  public void compact(final boolean force) throws IOException {
+    if (!this.compactionLock.tryLock()) {
+      return;
+    }
+    try {
+      final List<JournalSegment> segments;
+      this.writeLock.lock();
+      try {
+        segments = List.copyOf(this.sealedSegments);
+      } finally {
+        this.writeLock.unlock();
+      }
+      if (segments.isEmpty()) {
+        return;
+      }
+      long totalBytes = 0L;
+      long liveBytes = 0L;
+      for (final JournalSegment segment : segments) {
+        totalBytes += segment.size();
+        liveBytes += segment.liveBytes();
+      }
+      if (!force && (totalBytes - liveBytes) < totalBytes * this.compactionThreshold) {
+        return;
+      }
+      final long compactedBytes = this.compact(segments);
+      Debugger.write("Compacted {} segments of the '{}' journal, from {} to {} bytes.", segments.size(), this.name,
+         totalBytes, compactedBytes);
+    } finally {
+      this.compactionLock.unlock();
+    }
+  }
+
+  private long compact(final @NotNull List<JournalSegment> segments) throws IOException {
+    final Set<JournalSegment> compactedSegments = Collections.newSetFromMap(new IdentityHashMap<>());
+    compactedSegments.addAll(segments);
+    final JournalSegment newestSegment = segments.get(segments.size() - 1);
+    final Path compactionFile = this.directory.resolve(newestSegment.file().getFileName() + COMPACTION_FILE_SUFFIX);
+    final List<CompactedRecord> compactedRecords = new ArrayList<>();
+    try (final FileChannel channel = FileChannel.open(compactionFile, StandardOpenOption.CREATE,
+       StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)
+    ) {
+      final byte[] emptyKey = new byte[0];
+      final ByteBuffer marker = ByteBuffer.allocate(recordSize(emptyKey, null));
+      putRecord(marker, COMPACTED_OPERATION, emptyKey, null);
+      long position = writeFully(channel, marker.flip(), 0L);
+      for (final Map.Entry<String, JournalLocationValueObject> entry : this.index.entrySet()) {
+        final JournalLocationValueObject location = entry.getValue();
+        if (!compactedSegments.contains(location.segment())) {
+          continue;
+        }
+        final byte[] value;
+        try {
+          value = location.segment().read(location.position(), location.length());
+        } catch (final IOException exception) {
+          if (this.index.get(entry.getKey()) != location) {
+            // Overwritten or deleted meanwhile, its latest record is at the active segment.
+            continue;
+          }
+          throw exception;
+        }
+        final byte[] encodedKey = entry.getKey().getBytes(StandardCharsets.UTF_8);
+        final int recordSize = recordSize(encodedKey, value);
+        final ByteBuffer record = ByteBuffer.allocate(recordSize);
+        putRecord(record, PUT_OPERATION, encodedKey, value);
+        compactedRecords.add(new CompactedRecord(entry.getKey(), location, position + recordSize - value.length,
+           recordSize));
+        position = writeFully(channel, record.flip(), position);
+      }
+      channel.force(true);
+    } catch (final IOException exception) {
+      Files.deleteIfExists(compactionFile);
+      throw exception;
+    }
+    // The older segments are superseded by the compacted one's marker, even if they can't be deleted below.
+    Files.move(compactionFile, newestSegment.file(), StandardCopyOption.ATOMIC_MOVE,
+       StandardCopyOption.REPLACE_EXISTING);
+    final JournalSegment compactedSegment = JournalSegment.open(newestSegment.id(), newestSegment.file());
+    for (final CompactedRecord compactedRecord : compactedRecords) {
+      compactedSegment.retain(compactedRecord.recordSize());
+    }
+    for (final CompactedRecord compactedRecord : compactedRecords) {
+      final int valueLength = compactedRecord.previousLocation().length();
+      final JournalLocationValueObject location = new JournalLocationValueObject(compactedSegment,
+         compactedRecord.position(), valueLength, compactedRecord.recordSize());
+      // Skipped if the key was overwritten or deleted while the segments were compacted.
+      if (!this.index.replace(compactedRecord.key(), compactedRecord.previousLocation(), location)) {
+        compactedSegment.release(compactedRecord.recordSize());
+      }
+    }
+    this.writeLock.lock();
+    try {
+      this.sealedSegments.removeIf(compactedSegments::contains);
+      this.sealedSegments.add(0, compactedSegment);
+    } finally {
+      this.writeLock.unlock();
+    }
+    for (final JournalSegment segment : segments) {
+      // The newest segment's file was already replaced by the compacted one.
+      segment.retire(segment != newestSegment);
+    }
+    return compactedSegment.size();
+  }
+
+  private static long writeFully(
+     final @NotNull FileChannel channel,
+     final @NotNull ByteBuffer buffer,
+     final long position) throws IOException {
+    long writePosition = position;
+    while (buffer.hasRemaining()) {
+      writePosition += channel.write(buffer, writePosition);
+    }
+    return writePosition;
+  }
+
+  /**
+   * Syncs the appended records, and closes the store's segments.
+   *
+   * @since 4.1.0
+   */
+  public void close() {
+    if (this.maintenanceExecutor != null) {
+      this.maintenanceExecutor.shutdownNow();
+    }
+    this.compactionLock.lock();
+    this.writeLock.lock();
+    try {
+      if (this.activeSegment == null) {
+        return;
+      }
+      try {
+        this.activeSegment.force();
+      } catch (final IOException exception) {
+        Debugger.write("Unexpected exception when trying to sync the '{}' journal.", this.name, exception);
+      }
+      for (final JournalSegment segment : this.sealedSegments) {
+        segment.retire(false);
+      }
+      this.activeSegment.retire(false);
+      this.sealedSegments.clear();
+      this.activeSegment = null;
+    } finally {
+      this.writeLock.unlock();
+      this.compactionLock.unlock();
+    }
+  }
+
+  private record CompactedRecord(
+     @NotNull String key,
+     @NotNull JournalLocationValueObject previousLocation,
+     long position,
+     int recordSize) {}
+}
@@ -0,0 +1,90 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.tag.infrastructure.journal;
+
+import io.github.aivruu.teams.shared.infrastructure.journal.JournalInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.shared.infrastructure.journal.JournalStore;
+import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
+import io.github.aivruu.teams.tag.domain.TagModelEntity;
+import io.github.aivruu.teams.tag.domain.TagPropertiesValueObject;
+import io.github.aivruu.teams.util.application.component.PlainComponentParser;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class TagJournalInfrastructureAggregateRootRepository extends JournalInfrastructureAggregateRootRepository<TagAggregateRoot> {
+  /** The length written for the absent prefixes and suffixes. */
+  private static final int ABSENT_LENGTH = -1;
+
+  public TagJournalInfrastructureAggregateRootRepository(final @NotNull JournalStore store) {
+    super(store);
+  }
+
+  @Override
+  protected byte @NotNull [] encode(final @NotNull TagAggregateRoot aggregateRoot) {
+    final TagPropertiesValueObject properties = aggregateRoot.tagModel().tagComponentProperties();
+    final byte[] prefix = encodeString(PlainComponentParser.plainOrNull(properties.prefix()));
+    final byte[] suffix = encodeString(PlainComponentParser.plainOrNull(properties.suffix()));
+    final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 3 + lengthOf(prefix) + lengthOf(suffix));
+    putBytes(buffer, prefix);
+    putBytes(buffer, suffix);
+    buffer.putInt(properties.color().value());
+    return buffer.array();
+  }
+
+  @Override
+  protected @NotNull TagAggregateRoot decode(final @NotNull String id, final byte @NotNull [] value) {
+    final ByteBuffer buffer = ByteBuffer.wrap(value);
+    final String prefix = getString(buffer);
+    final String suffix = getString(buffer);
+    final NamedTextColor color = NamedTextColor.namedColor(buffer.getInt());
+    return new TagAggregateRoot(id, new TagModelEntity(id, new TagPropertiesValueObject(
+       (prefix == null) ? null : PlainComponentParser.modern(prefix),
+       (suffix == null) ? null : PlainComponentParser.modern(suffix),
+       (color == null) ? NamedTextColor.WHITE : color)));
+  }
+
+  private static byte @Nullable [] encodeString(final @Nullable String value) {
+    return (value == null) ? null : value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static int lengthOf(final byte @Nullable [] bytes) {
+    return (bytes == null) ? 0 : bytes.length;
+  }
+
+  private static void putBytes(final @NotNull ByteBuffer buffer, final byte @Nullable [] bytes) {
+    if (bytes == null) {
+      buffer.putInt(ABSENT_LENGTH);
+      return;
+    }
+    buffer.putInt(bytes.length);
+    buffer.put(bytes);
+  }
+
+  private static @Nullable String getString(final @NotNull ByteBuffer buffer) {
+    final int length = buffer.getInt();
+    if (length == ABSENT_LENGTH) {
+      return null;
+    }
+    final String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+    buffer.position(buffer.position() + length);
+    return value;
+  }
+}
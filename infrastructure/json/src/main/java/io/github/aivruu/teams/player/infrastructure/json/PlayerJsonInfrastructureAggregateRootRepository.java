@@ -19,6 +19,7 @@ package io.github.aivruu.teams.player.infrastructure.json;
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
 import io.github.aivruu.teams.shared.infrastructure.json.JsonInfrastructureAggregateRootRepository;
 import io.github.aivruu.teams.shared.infrastructure.json.JsonCoder;
+import io.github.aivruu.teams.shared.infrastructure.json.JsonFileWriter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,8 +29,11 @@ import java.util.concurrent.CompletableFuture;
 
 public final class PlayerJsonInfrastructureAggregateRootRepository
    extends JsonInfrastructureAggregateRootRepository<PlayerAggregateRoot> {
-  public PlayerJsonInfrastructureAggregateRootRepository(final @NotNull Path directory) {
-    super(directory);
+  public PlayerJsonInfrastructureAggregateRootRepository(
+     final @NotNull Path directory,
+     final @NotNull JsonFileWriter.SyncPolicy syncPolicy,
+     final long syncIntervalMillis) {
+    super(directory, syncPolicy, syncIntervalMillis);
   }
 
   @Override
@@ -37,6 +41,6 @@ public final class PlayerJsonInfrastructureAggregateRootRepository
     return CompletableFuture.supplyAsync(() -> {
       final Path file = this.directory.resolve(id + ".json");
       return Files.notExists(file) ? null : JsonCoder.read(file, PlayerAggregateRoot.class);
-    }, THREAD_POOL);
+    }, this.readExecutor);
   }
 }
@@ -16,20 +16,22 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.teams.player.infrastructure.json.codec;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
 import io.github.aivruu.teams.player.domain.PlayerModelEntity;
 import io.github.aivruu.teams.shared.infrastructure.json.JsonCodecAdapterContract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
-public enum JsonPlayerAggregateRootCodec implements JsonCodecAdapterContract<PlayerAggregateRoot> {
-  INSTANCE;
+public final class JsonPlayerAggregateRootCodec extends JsonCodecAdapterContract<PlayerAggregateRoot> {
+  public static final JsonPlayerAggregateRootCodec INSTANCE = new JsonPlayerAggregateRootCodec();
+
+  private JsonPlayerAggregateRootCodec() {}
 
   @Override
   public @NotNull Class<PlayerAggregateRoot> forClass() {
@@ -37,19 +39,44 @@ public enum JsonPlayerAggregateRootCodec implements JsonCodecAdapterContract<Pla
   }
 
   @Override
-  public @NotNull PlayerAggregateRoot deserialize(final JsonElement json, final Type type, final JsonDeserializationContext ctx) throws JsonParseException {
-    final JsonObject jsonObject = json.getAsJsonObject();
-    final String id = jsonObject.get("id").getAsString();
-    final JsonElement tag = jsonObject.get("selected-tag");
-    return new PlayerAggregateRoot(id, new PlayerModelEntity(id,
-       tag.isJsonNull() ? null : tag.getAsString()));
+  public @Nullable PlayerAggregateRoot read(final @NotNull JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    String id = null;
+    String tag = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "id" -> id = reader.nextString();
+        case "selected-tag" -> {
+          if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+          } else {
+            tag = reader.nextString();
+          }
+        }
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+    if (id == null) {
+      throw new JsonParseException("The player doesn't have an id at " + reader.getPath());
+    }
+    return new PlayerAggregateRoot(id, new PlayerModelEntity(id, tag));
   }
 
   @Override
-  public @NotNull JsonElement serialize(final PlayerAggregateRoot playerAggregateRoot, final Type type, final JsonSerializationContext ctx) {
-    final JsonObject jsonObject = new JsonObject();
-    jsonObject.addProperty("id", playerAggregateRoot.id());
-    jsonObject.addProperty("selected-tag", playerAggregateRoot.playerModel().tag());
-    return jsonObject;
+  public void write(final @NotNull JsonWriter writer, final @Nullable PlayerAggregateRoot playerAggregateRoot)
+     throws IOException {
+    if (playerAggregateRoot == null) {
+      writer.nullValue();
+      return;
+    }
+    writer.beginObject();
+    writer.name("id").value(playerAggregateRoot.id());
+    writer.name("selected-tag").value(playerAggregateRoot.playerModel().tag());
+    writer.endObject();
   }
 }
@@ -0,0 +1,264 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.json;
+
+import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Writes the aggregate-roots' json-files of a directory atomically, the content is written to a temporary
+ * file at the same directory, which then replaces the aggregate-root's file through an atomic rename, so a
+ * crash or a full disk never leaves a truncated or half-written file behind.
+ * <p>
+ * When the renamed files are synced to the disk depends on the writer's {@link SyncPolicy}.
+ *
+ * @since 4.1.0
+ */
+public final class JsonFileWriter {
+  private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+  private final Path directory;
+  private final SyncPolicy policy;
+  private final long syncIntervalMillis;
+  private final JsonWriteMetrics metrics = new JsonWriteMetrics();
+  /** The files renamed since the last background-sync, only used by the {@link SyncPolicy#BATCHED} policy. */
+  private final Set<Path> unsyncedFiles = ConcurrentHashMap.newKeySet();
+  private volatile boolean unsyncedDirectory;
+  private @Nullable ScheduledExecutorService syncExecutor;
+
+  public JsonFileWriter(
+     final @NotNull Path directory,
+     final @NotNull SyncPolicy policy,
+     final long syncIntervalMillis) {
+    this.directory = directory;
+    // Without an interval the batched syncs would never happen, so every write is synced instead.
+    this.policy = (policy == SyncPolicy.BATCHED && syncIntervalMillis <= 0L) ? SyncPolicy.ALWAYS : policy;
+    this.syncIntervalMillis = syncIntervalMillis;
+  }
+
+  /**
+   * Deletes the temporary-files left by the writes interrupted by a crash, and starts the background-syncs
+   * if they're required by the {@link SyncPolicy}.
+   *
+   * @return Whether the writer was started correctly.
+   * @since 4.1.0
+   */
+  public boolean start() {
+    try (final Stream<Path> files = Files.list(this.directory)) {
+      for (final Path file : (Iterable<Path>) files::iterator) {
+        if (file.getFileName().toString().endsWith(TEMPORARY_FILE_SUFFIX)) {
+          Files.deleteIfExists(file);
+        }
+      }
+    } catch (final IOException exception) {
+      Debugger.write("Unexpected exception when trying to delete the temporary-files at '{}'.", this.directory,
+         exception);
+      return false;
+    }
+    if (this.policy != SyncPolicy.BATCHED) {
+      return true;
+    }
+    this.syncExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+       .name("Teams-Json-Sync-" + this.directory.getFileName())
+       .daemon()
+       .factory());
+    this.syncExecutor.scheduleWithFixedDelay(this::syncQuietly, this.syncIntervalMillis, this.syncIntervalMillis,
+       TimeUnit.MILLISECONDS);
+    return true;
+  }
+
+  /**
+   * Returns this writer's {@link JsonWriteMetrics}.
+   *
+   * @return The {@link JsonWriteMetrics}.
+   * @since 4.1.0
+   */
+  public @NotNull JsonWriteMetrics metrics() {
+    return this.metrics;
+  }
+
+  /**
+   * Writes the aggregate-root's json-content to the given file through a temporary-file and an atomic rename.
+   *
+   * @param file          the aggregate-root's file.
+   * @param aggregateRoot the aggregate-root to write.
+   * @param <A>           the aggregate-root's type.
+   * @return Whether the file was written correctly, if not, the previous file's content is kept.
+   * @since 4.1.0
+   */
+  public <A extends AggregateRoot> boolean write(final @NotNull Path file, final @NotNull A aggregateRoot) {
+    final long start = System.nanoTime();
+    Path temporaryFile = null;
+    try {
+      // Every write uses its own temporary-file, so concurrent writes never mix their content.
+      temporaryFile = Files.createTempFile(this.directory, file.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+      try (final FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE);
+           final Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8))) {
+        JsonCoder.write(writer, aggregateRoot);
+        writer.flush();
+        // The content must be on the disk before the rename, or a crash could leave the renamed file empty.
+        if (this.policy == SyncPolicy.ALWAYS) {
+          channel.force(false);
+        }
+      }
+      this.move(temporaryFile, file);
+      switch (this.policy) {
+        case ALWAYS -> this.syncDirectory();
+        case BATCHED -> this.unsyncedFiles.add(file);
+        case NEVER -> {}
+      }
+      this.metrics.recordWrite(System.nanoTime() - start);
+      return true;
+    } catch (final IOException exception) {
+      this.metrics.recordFailure();
+      Debugger.write("Unexpected exception when trying to write the '{}' json-file.", file, exception);
+      if (temporaryFile != null) {
+        try {
+          Files.deleteIfExists(temporaryFile);
+        } catch (final IOException ignored) {
+          // It's deleted on the next start.
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Deletes the given file, the deletion is synced as the writes are, depending on the {@link SyncPolicy}.
+   *
+   * @param file the file to delete.
+   * @return Whether the file existed and was deleted.
+   * @since 4.1.0
+   */
+  public boolean delete(final @NotNull Path file) {
+    try {
+      if (!Files.deleteIfExists(file)) {
+        return false;
+      }
+      this.unsyncedFiles.remove(file);
+      switch (this.policy) {
+        case ALWAYS -> this.syncDirectory();
+        case BATCHED -> this.unsyncedDirectory = true;
+        case NEVER -> {}
+      }
+      return true;
+    } catch (final IOException exception) {
+      return false;
+    }
+  }
+
+  private void move(final @NotNull Path source, final @NotNull Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException exception) {
+      // The temporary-file is at the same directory, so this only happens at unusual file-systems.
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private void syncDirectory() {
+    // Syncs the directory's entries, so the renames and deletions survive a crash too.
+    try (final FileChannel channel = FileChannel.open(this.directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (final IOException ignored) {
+      // Some operating-systems, such as Windows, don't allow to open directories, their renames are synced
+      // by the file-system itself.
+    }
+  }
+
+  private void syncQuietly() {
+    if (this.unsyncedFiles.isEmpty() && !this.unsyncedDirectory) {
+      return;
+    }
+    final long start = System.nanoTime();
+    this.unsyncedDirectory = false;
+    final List<Path> files = new ArrayList<>(this.unsyncedFiles);
+    for (final Path file : files) {
+      // Removed before the sync, so a file renamed again meanwhile is synced at the next interval.
+      this.unsyncedFiles.remove(file);
+      try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        channel.force(false);
+      } catch (final NoSuchFileException ignored) {
+        // Deleted after being written.
+      } catch (final IOException exception) {
+        Debugger.write("Unexpected exception when trying to sync the '{}' json-file.", file, exception);
+      }
+    }
+    this.syncDirectory();
+    this.metrics.recordSync(files.size(), System.nanoTime() - start);
+  }
+
+  /**
+   * Stops the background-syncs, syncing the files written since the last one.
+   *
+   * @since 4.1.0
+   */
+  public void close() {
+    if (this.syncExecutor != null) {
+      this.syncExecutor.shutdownNow();
+      try {
+        this.syncExecutor.awaitTermination(1L, TimeUnit.SECONDS);
+      } catch (final InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      this.syncQuietly();
+    }
+    Debugger.write("Json-files writes statistics for '{}': {}", this.directory.getFileName(),
+       this.metrics.report(this.policy));
+  }
+
+  /**
+   * The policy used to sync the written json-files to the disk.
+   *
+   * @since 4.1.0
+   */
+  public enum SyncPolicy {
+    /** Every write is synced before it's completed, the slowest but safest option. */
+    ALWAYS,
+    /**
+     * The written files are synced together at an interval, weaker than {@link #ALWAYS} as the temporary
+     * files are renamed before their content is synced. The writes done since the last sync could be lost
+     * if the machine crashes, or left empty at file-systems that don't order the renames after the files'
+     * content, such files are read as missing ones.
+     */
+    BATCHED,
+    /** The files are synced by the operating-system whenever it decides to. */
+    NEVER
+  }
+}
@@ -23,63 +23,76 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 public abstract class JsonInfrastructureAggregateRootRepository<A extends AggregateRoot>
    extends InfrastructureAggregateRootRepository<A> {
   protected final Path directory;
+  private final JsonFileWriter fileWriter;
 
-  protected JsonInfrastructureAggregateRootRepository(final @NotNull Path directory) {
+  protected JsonInfrastructureAggregateRootRepository(
+     final @NotNull Path directory,
+     final @NotNull JsonFileWriter.SyncPolicy syncPolicy,
+     final long syncIntervalMillis) {
+    super(Type.JSON);
     this.directory = directory;
+    this.fileWriter = new JsonFileWriter(directory, syncPolicy, syncIntervalMillis);
   }
 
   @Override
   public boolean start() {
-    if (Files.exists(this.directory)) {
-      return true;
-    }
-    try {
-      Files.createDirectory(this.directory);
-      return true;
-    } catch (final IOException exception) {
-      return false;
+    if (Files.notExists(this.directory)) {
+      try {
+        Files.createDirectory(this.directory);
+      } catch (final IOException exception) {
+        return false;
+      }
     }
+    return this.fileWriter.start();
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<A>> findAllAsync() {
+    return CompletableFuture.supplyAsync(() -> {
+         try (final Stream<Path> files = Files.list(this.directory)) {
+           return files.map(file -> file.getFileName().toString())
+              .filter(fileName -> fileName.endsWith(".json"))
+              .map(fileName -> fileName.substring(0, fileName.length() - ".json".length()))
+              .toList();
+         } catch (final IOException exception) {
+           throw new CompletionException(exception);
+         }
+       }, this.readExecutor)
+       // Every file is read in parallel.
+       .thenCompose(this::findManyAsync)
+       .thenApply(Map::values);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
     return CompletableFuture.supplyAsync(() -> Files.exists(this.directory.resolve(id + ".json")),
-       THREAD_POOL);
+       this.readExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull A aggregateRoot) {
-    return CompletableFuture.supplyAsync(() -> {
-      final Path file = this.directory.resolve(aggregateRoot.id() + ".json");
-      if (Files.notExists(file)) {
-        try {
-          Files.createFile(file);
-        } catch (final IOException exception) {
-          return false;
-        }
-      }
-      return JsonCoder.write(file, aggregateRoot);
-    }, THREAD_POOL);
+    return CompletableFuture.supplyAsync(() ->
+       this.fileWriter.write(this.directory.resolve(aggregateRoot.id() + ".json"), aggregateRoot),
+       this.writeExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
-    return CompletableFuture.supplyAsync(() -> {
-      final Path file = this.directory.resolve(id + ".json");
-      if (Files.notExists(file)) {
-        return false;
-      }
-      try {
-        Files.delete(file);
-        return true;
-      } catch (final IOException exception) {
-        return false;
-      }
-    }, THREAD_POOL);
+    return CompletableFuture.supplyAsync(() -> this.fileWriter.delete(this.directory.resolve(id + ".json")),
+       this.writeExecutor);
+  }
+
+  @Override
+  public void close() {
+    this.fileWriter.close();
   }
 }
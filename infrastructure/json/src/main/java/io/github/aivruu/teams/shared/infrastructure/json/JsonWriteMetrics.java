@@ -0,0 +1,77 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.json;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of the latency of the json-files' writes, and of the background-syncs done for the
+ * {@link JsonFileWriter.SyncPolicy#BATCHED} policy.
+ *
+ * @since 4.1.0
+ */
+public final class JsonWriteMetrics {
+  private final LongAdder writes = new LongAdder();
+  private final LongAdder writeNanos = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final AtomicLong maxWriteNanos = new AtomicLong();
+  private final LongAdder syncs = new LongAdder();
+  private final LongAdder syncedFiles = new LongAdder();
+  private final LongAdder syncNanos = new LongAdder();
+  private final AtomicLong maxSyncNanos = new AtomicLong();
+
+  void recordWrite(final long elapsedNanos) {
+    this.writes.increment();
+    this.writeNanos.add(elapsedNanos);
+    this.maxWriteNanos.accumulateAndGet(elapsedNanos, Math::max);
+  }
+
+  void recordFailure() {
+    this.failures.increment();
+  }
+
+  void recordSync(final int files, final long elapsedNanos) {
+    this.syncs.increment();
+    this.syncedFiles.add(files);
+    this.syncNanos.add(elapsedNanos);
+    this.maxSyncNanos.accumulateAndGet(elapsedNanos, Math::max);
+  }
+
+  /**
+   * Returns a human-readable summary about the writes' and background-syncs' latency.
+   *
+   * @param policy the writer's {@link JsonFileWriter.SyncPolicy}.
+   * @return The writes' statistics summary.
+   * @since 4.1.0
+   */
+  public @NotNull String report(final @NotNull JsonFileWriter.SyncPolicy policy) {
+    final long writes = this.writes.sum();
+    final long syncs = this.syncs.sum();
+    return ("policy=%s, writes=%d, avg-write=%.2fms, max-write=%.2fms, failures=%d, "
+       + "syncs=%d, synced-files=%d, avg-sync=%.2fms, max-sync=%.2fms").formatted(
+       policy, writes, averageMillis(this.writeNanos.sum(), writes), this.maxWriteNanos.get() / 1_000_000D,
+       this.failures.sum(), syncs, this.syncedFiles.sum(), averageMillis(this.syncNanos.sum(), syncs),
+       this.maxSyncNanos.get() / 1_000_000D);
+  }
+
+  private static double averageMillis(final long nanos, final long count) {
+    return (count == 0L) ? 0D : (nanos / (double) count) / 1_000_000D;
+  }
+}
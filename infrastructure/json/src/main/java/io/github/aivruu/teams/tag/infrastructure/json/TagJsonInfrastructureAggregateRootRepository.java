@@ -18,6 +18,7 @@ package io.github.aivruu.teams.tag.infrastructure.json;
 
 import io.github.aivruu.teams.shared.infrastructure.json.JsonInfrastructureAggregateRootRepository;
 import io.github.aivruu.teams.shared.infrastructure.json.JsonCoder;
+import io.github.aivruu.teams.shared.infrastructure.json.JsonFileWriter;
 import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -27,8 +28,11 @@ import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 
 public final class TagJsonInfrastructureAggregateRootRepository extends JsonInfrastructureAggregateRootRepository<TagAggregateRoot> {
-  public TagJsonInfrastructureAggregateRootRepository(final @NotNull Path directory) {
-    super(directory);
+  public TagJsonInfrastructureAggregateRootRepository(
+     final @NotNull Path directory,
+     final @NotNull JsonFileWriter.SyncPolicy syncPolicy,
+     final long syncIntervalMillis) {
+    super(directory, syncPolicy, syncIntervalMillis);
   }
 
   @Override
@@ -36,6 +40,6 @@ public final class TagJsonInfrastructureAggregateRootRepository extends JsonInfr
     return CompletableFuture.supplyAsync(() -> {
       final Path file = this.directory.resolve(id + ".json");
       return Files.notExists(file) ? null : JsonCoder.read(file, TagAggregateRoot.class);
-    }, THREAD_POOL);
+    }, this.readExecutor);
   }
 }
@@ -16,21 +16,23 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.teams.tag.infrastructure.json.codec;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import io.github.aivruu.teams.shared.infrastructure.json.JsonCodecAdapterContract;
 import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
 import io.github.aivruu.teams.tag.domain.TagModelEntity;
 import io.github.aivruu.teams.tag.domain.TagPropertiesValueObject;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
-public enum JsonTagAggregateRootCodec implements JsonCodecAdapterContract<TagAggregateRoot> {
-  INSTANCE;
+public final class JsonTagAggregateRootCodec extends JsonCodecAdapterContract<TagAggregateRoot> {
+  public static final JsonTagAggregateRootCodec INSTANCE = new JsonTagAggregateRootCodec();
+
+  private JsonTagAggregateRootCodec() {}
 
   @Override
   public @NotNull Class<TagAggregateRoot> forClass() {
@@ -38,17 +40,40 @@ public enum JsonTagAggregateRootCodec implements JsonCodecAdapterContract<TagAgg
   }
 
   @Override
-  public @NotNull TagAggregateRoot deserialize(final JsonElement json, final Type type, final JsonDeserializationContext ctx) throws JsonParseException {
-    final JsonObject jsonObject = json.getAsJsonObject();
-    final String id = jsonObject.get("id").getAsString();
-    return new TagAggregateRoot(id, new TagModelEntity(id, ctx.deserialize(jsonObject.get("properties"), TagPropertiesValueObject.class)));
+  public @Nullable TagAggregateRoot read(final @NotNull JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    String id = null;
+    TagPropertiesValueObject properties = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "id" -> id = reader.nextString();
+        // The properties are read by their own adapter, so it doesn't matter if they're before the id.
+        case "properties" -> properties = JsonTagPropertiesValueObjectCodec.INSTANCE.read(reader);
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+    if (id == null || properties == null) {
+      throw new JsonParseException("The tag doesn't have an id or properties at " + reader.getPath());
+    }
+    return new TagAggregateRoot(id, new TagModelEntity(id, properties));
   }
 
   @Override
-  public @NotNull JsonElement serialize(final TagAggregateRoot tagAggregateRoot, final Type type, final JsonSerializationContext ctx) {
-    final JsonObject jsonObject = new JsonObject();
-    jsonObject.addProperty("id", tagAggregateRoot.id());
-    jsonObject.add("properties", ctx.serialize(tagAggregateRoot.tagModel().tagComponentProperties()));
-    return jsonObject;
+  public void write(final @NotNull JsonWriter writer, final @Nullable TagAggregateRoot tagAggregateRoot)
+     throws IOException {
+    if (tagAggregateRoot == null) {
+      writer.nullValue();
+      return;
+    }
+    writer.beginObject();
+    writer.name("id").value(tagAggregateRoot.id());
+    writer.name("properties");
+    JsonTagPropertiesValueObjectCodec.INSTANCE.write(writer, tagAggregateRoot.tagModel().tagComponentProperties());
+    writer.endObject();
   }
 }
@@ -16,21 +16,24 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.teams.tag.infrastructure.json.codec;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonSerializationContext;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import io.github.aivruu.teams.shared.infrastructure.json.JsonCodecAdapterContract;
 import io.github.aivruu.teams.tag.domain.TagPropertiesValueObject;
 import io.github.aivruu.teams.util.application.component.PlainComponentParser;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
-public enum JsonTagPropertiesValueObjectCodec implements JsonCodecAdapterContract<TagPropertiesValueObject> {
-  INSTANCE;
+public final class JsonTagPropertiesValueObjectCodec extends JsonCodecAdapterContract<TagPropertiesValueObject> {
+  public static final JsonTagPropertiesValueObjectCodec INSTANCE = new JsonTagPropertiesValueObjectCodec();
+
+  private JsonTagPropertiesValueObjectCodec() {}
 
   @Override
   public @NotNull Class<TagPropertiesValueObject> forClass() {
@@ -38,24 +41,49 @@ public enum JsonTagPropertiesValueObjectCodec implements JsonCodecAdapterContrac
   }
 
   @Override
-  public @NotNull TagPropertiesValueObject deserialize(final JsonElement json, final Type type, final JsonDeserializationContext ctx) throws JsonParseException {
-    final JsonObject jsonObject = json.getAsJsonObject();
-    final JsonElement prefix = jsonObject.get("prefix");
-    final JsonElement suffix = jsonObject.get("suffix");
-    return new TagPropertiesValueObject(
-      prefix.isJsonNull() ? null : PlainComponentParser.modern(prefix.getAsString()),
-      suffix.isJsonNull() ? null : PlainComponentParser.modern(suffix.getAsString()),
-      // This will never be null.
-      NamedTextColor.namedColor(jsonObject.get("color-value").getAsInt())
-    );
+  public @Nullable TagPropertiesValueObject read(final @NotNull JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    Component prefix = null;
+    Component suffix = null;
+    NamedTextColor color = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "prefix" -> prefix = readComponent(reader);
+        case "suffix" -> suffix = readComponent(reader);
+        case "color-value" -> color = NamedTextColor.namedColor(reader.nextInt());
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+    if (color == null) {
+      throw new JsonParseException("The tag's properties don't have a valid color-value at " + reader.getPath());
+    }
+    return new TagPropertiesValueObject(prefix, suffix, color);
   }
 
   @Override
-  public @NotNull JsonElement serialize(final TagPropertiesValueObject properties, final Type type, final JsonSerializationContext ctx) {
-    final JsonObject jsonObject = new JsonObject();
-    jsonObject.addProperty("prefix", PlainComponentParser.plainOrNull(properties.prefix()));
-    jsonObject.addProperty("suffix", PlainComponentParser.plainOrNull(properties.suffix()));
-    jsonObject.addProperty("color-value", properties.color().value());
-    return jsonObject;
+  public void write(final @NotNull JsonWriter writer, final @Nullable TagPropertiesValueObject properties)
+     throws IOException {
+    if (properties == null) {
+      writer.nullValue();
+      return;
+    }
+    writer.beginObject();
+    writer.name("prefix").value(PlainComponentParser.plainOrNull(properties.prefix()));
+    writer.name("suffix").value(PlainComponentParser.plainOrNull(properties.suffix()));
+    writer.name("color-value").value(properties.color().value());
+    writer.endObject();
+  }
+
+  private static @Nullable Component readComponent(final @NotNull JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
+      return null;
+    }
+    return PlainComponentParser.modern(reader.nextString());
   }
 }
@@ -0,0 +1,5 @@
+dependencies {
+  api(project(":${rootProject.name}-infrastructure"))
+
+  compileOnlyApi(libs.annotations)
+}
@@ -0,0 +1,404 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.player.infrastructure.mapped;
+
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A hash-table of fixed-size player records stored at a memory-mapped file, whose records are read and
+ * written in-place.
+ * <p>
+ * Every record takes {@value #SLOT_SIZE} bytes, the uuid's bits, the tag-id's number at the
+ * {@link MappedTagDictionary}, and the slot's state. The uuid's hash selects the record's slot, and the
+ * collisions are resolved by linear-probing, once the table's load reaches {@value #MAXIMUM_LOAD_FACTOR},
+ * the records are copied to a new file with twice the slots, which atomically replaces the current one.
+ *
+ * @since 4.1.0
+ */
+public final class MappedPlayerTable {
+  private static final int MAGIC = 0x544D5054;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 64;
+  private static final int SLOT_SIZE = 24;
+  private static final int MAXIMUM_CAPACITY = 1 << 26;
+  private static final double MAXIMUM_LOAD_FACTOR = 0.7D;
+  private static final int MAGIC_OFFSET = 0;
+  private static final int VERSION_OFFSET = 4;
+  private static final int CAPACITY_OFFSET = 8;
+  private static final int OCCUPIED_OFFSET = 12;
+  /** The occupied slots plus the slots of deleted records, which must be skipped by the probes. */
+  private static final int USED_OFFSET = 16;
+  private static final int MOST_SIGNIFICANT_BITS_OFFSET = 0;
+  private static final int LEAST_SIGNIFICANT_BITS_OFFSET = 8;
+  private static final int TAG_OFFSET = 16;
+  private static final int STATE_OFFSET = 20;
+  private static final int EMPTY_STATE = 0;
+  private static final int OCCUPIED_STATE = 1;
+  private static final int DELETED_STATE = 2;
+  private static final String RESIZE_FILE_SUFFIX = ".resizing";
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Path file;
+  private final int initialCapacity;
+  private @Nullable FileChannel channel;
+  // Volatile as the table is forced without holding the lock, by the repository's sync-thread.
+  private volatile @Nullable MappedByteBuffer buffer;
+  private int capacity;
+
+  /**
+   * Creates a new {@link MappedPlayerTable} for the given file.
+   *
+   * @param file            the table's file.
+   * @param initialCapacity the amount of slots for a new table, rounded up to a power of two.
+   * @since 4.1.0
+   */
+  public MappedPlayerTable(final @NotNull Path file, final int initialCapacity) {
+    this.file = file;
+    this.initialCapacity = Integer.highestOneBit(Math.max(Math.min(initialCapacity, MAXIMUM_CAPACITY), 16) * 2 - 1);
+  }
+
+  /**
+   * Opens the table's file, creating it if it doesn't exist.
+   *
+   * @throws IOException if the file couldn't be mapped, or it isn't a valid table's file.
+   * @since 4.1.0
+   */
+  public void open() throws IOException {
+    this.lock.writeLock().lock();
+    try {
+      Files.deleteIfExists(this.resizeFile());
+      if (Files.notExists(this.file) || Files.size(this.file) == 0L) {
+        create(this.file, this.initialCapacity).close();
+      }
+      this.map();
+      Debugger.write("Mapped players' table with {} records at {} slots.", this.buffer().getInt(OCCUPIED_OFFSET),
+         this.capacity);
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  private @NotNull Path resizeFile() {
+    return this.file.resolveSibling(this.file.getFileName() + RESIZE_FILE_SUFFIX);
+  }
+
+  private static @NotNull TableFile create(final @NotNull Path file, final int capacity) throws IOException {
+    final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+       StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    // The file's new bytes are zeroes, so every slot starts empty.
+    final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L,
+       HEADER_SIZE + (long) capacity * SLOT_SIZE);
+    buffer.putInt(MAGIC_OFFSET, MAGIC);
+    buffer.putInt(VERSION_OFFSET, VERSION);
+    buffer.putInt(CAPACITY_OFFSET, capacity);
+    return new TableFile(channel, buffer);
+  }
+
+  private void map() throws IOException {
+    final FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      final long size = channel.size();
+      final int capacity = (int) ((size - HEADER_SIZE) / SLOT_SIZE);
+      if (size < HEADER_SIZE || HEADER_SIZE + (long) capacity * SLOT_SIZE != size || Integer.bitCount(capacity) != 1) {
+        throw new IOException("The file " + this.file + " has an invalid size for a players' table.");
+      }
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, size);
+      if (buffer.getInt(MAGIC_OFFSET) != MAGIC || buffer.getInt(VERSION_OFFSET) != VERSION
+         || buffer.getInt(CAPACITY_OFFSET) != capacity) {
+        throw new IOException("The file " + this.file + " isn't a valid players' table.");
+      }
+      this.buffer = buffer;
+      this.channel = channel;
+      this.capacity = capacity;
+    } catch (final IOException exception) {
+      channel.close();
+      throw exception;
+    }
+  }
+
+  private @NotNull MappedByteBuffer buffer() throws IOException {
+    final MappedByteBuffer buffer = this.buffer;
+    if (buffer == null) {
+      throw new IOException("The players' table " + this.file + " is not opened.");
+    }
+    return buffer;
+  }
+
+  /**
+   * Returns the tag-id's number stored for the given player.
+   *
+   * @param uuid the player's uuid.
+   * @return The tag-id's number, or {@code -1} if the player has no record.
+   * @throws IOException if the table is not opened.
+   * @since 4.1.0
+   */
+  public int get(final @NotNull UUID uuid) throws IOException {
+    this.lock.readLock().lock();
+    try {
+      final MappedByteBuffer buffer = this.buffer();
+      final int slot = this.probe(buffer, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+      return (slot < 0) ? -1 : buffer.getInt(offset(slot) + TAG_OFFSET);
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Writes the given tag-id's number at the player's record, which is created if it doesn't exist.
+   *
+   * @param uuid the player's uuid.
+   * @param tag  the tag-id's number.
+   * @throws IOException if the table is not opened, or it couldn't be resized.
+   * @since 4.1.0
+   */
+  public void put(final @NotNull UUID uuid, final int tag) throws IOException {
+    this.lock.writeLock().lock();
+    try {
+      final long mostSignificantBits = uuid.getMostSignificantBits();
+      final long leastSignificantBits = uuid.getLeastSignificantBits();
+      MappedByteBuffer buffer = this.buffer();
+      int slot = this.probe(buffer, mostSignificantBits, leastSignificantBits);
+      if (slot >= 0) {
+        buffer.putInt(offset(slot) + TAG_OFFSET, tag);
+        return;
+      }
+      if (buffer.getInt(USED_OFFSET) + 1 > this.capacity * MAXIMUM_LOAD_FACTOR) {
+        this.resize(buffer);
+        buffer = this.buffer();
+        slot = this.probe(buffer, mostSignificantBits, leastSignificantBits);
+      }
+      final int offset = offset(-slot - 1);
+      final boolean reused = buffer.getInt(offset + STATE_OFFSET) == DELETED_STATE;
+      buffer.putLong(offset + MOST_SIGNIFICANT_BITS_OFFSET, mostSignificantBits);
+      buffer.putLong(offset + LEAST_SIGNIFICANT_BITS_OFFSET, leastSignificantBits);
+      buffer.putInt(offset + TAG_OFFSET, tag);
+      // The state is written last, so an interrupted write never leaves a record with a partial uuid.
+      buffer.putInt(offset + STATE_OFFSET, OCCUPIED_STATE);
+      buffer.putInt(OCCUPIED_OFFSET, buffer.getInt(OCCUPIED_OFFSET) + 1);
+      if (!reused) {
+        buffer.putInt(USED_OFFSET, buffer.getInt(USED_OFFSET) + 1);
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Deletes the given player's record.
+   *
+   * @param uuid the player's uuid.
+   * @return Whether the player had a record.
+   * @throws IOException if the table is not opened.
+   * @since 4.1.0
+   */
+  public boolean remove(final @NotNull UUID uuid) throws IOException {
+    this.lock.writeLock().lock();
+    try {
+      final MappedByteBuffer buffer = this.buffer();
+      final int slot = this.probe(buffer, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+      if (slot < 0) {
+        return false;
+      }
+      // The slot is kept as deleted instead of empty, so the probes for the records after it don't stop there.
+      buffer.putInt(offset(slot) + STATE_OFFSET, DELETED_STATE);
+      buffer.putInt(OCCUPIED_OFFSET, buffer.getInt(OCCUPIED_OFFSET) - 1);
+      return true;
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Executes the given consumer for every player's record.
+   *
+   * @param consumer the {@link ObjIntConsumer} that receives the players' uuids and tag-ids' numbers.
+   * @throws IOException if the table is not opened.
+   * @since 4.1.0
+   */
+  public void forEach(final @NotNull ObjIntConsumer<UUID> consumer) throws IOException {
+    this.lock.readLock().lock();
+    try {
+      final MappedByteBuffer buffer = this.buffer();
+      for (int slot = 0; slot < this.capacity; slot++) {
+        final int offset = offset(slot);
+        if (buffer.getInt(offset + STATE_OFFSET) == OCCUPIED_STATE) {
+          consumer.accept(new UUID(buffer.getLong(offset + MOST_SIGNIFICANT_BITS_OFFSET),
+             buffer.getLong(offset + LEAST_SIGNIFICANT_BITS_OFFSET)), buffer.getInt(offset + TAG_OFFSET));
+        }
+      }
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Searches the slot of the record with the given uuid.
+   *
+   * @return The record's slot, or {@code -(insertion-slot + 1)} if there is no record with the uuid.
+   */
+  private int probe(
+     final @NotNull MappedByteBuffer buffer,
+     final long mostSignificantBits,
+     final long leastSignificantBits) {
+    final int mask = this.capacity - 1;
+    int slot = hash(mostSignificantBits, leastSignificantBits) & mask;
+    int firstDeletedSlot = -1;
+    for (int probes = 0; probes < this.capacity; probes++) {
+      final int offset = offset(slot);
+      final int state = buffer.getInt(offset + STATE_OFFSET);
+      if (state == EMPTY_STATE) {
+        return -((firstDeletedSlot < 0) ? slot : firstDeletedSlot) - 1;
+      }
+      if (state == DELETED_STATE) {
+        if (firstDeletedSlot < 0) {
+          firstDeletedSlot = slot;
+        }
+      } else if (buffer.getLong(offset + MOST_SIGNIFICANT_BITS_OFFSET) == mostSignificantBits
+         && buffer.getLong(offset + LEAST_SIGNIFICANT_BITS_OFFSET) == leastSignificantBits) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    // Every slot was probed, the load-factor guarantees that at least one of them is deleted.
+    return -firstDeletedSlot - 1;
+  }
+
+  private static int hash(final long mostSignificantBits, final long leastSignificantBits) {
+    // The random uuids' bits are already uniform, but the offline-players' ones are name-based.
+    long hash = mostSignificantBits ^ leastSignificantBits;
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    return (int) hash;
+  }
+
+  private static int offset(final int slot) {
+    return HEADER_SIZE + slot * SLOT_SIZE;
+  }
+
+  private void resize(final @NotNull MappedByteBuffer buffer) throws IOException {
+    final int occupied = buffer.getInt(OCCUPIED_OFFSET);
+    // If most of the used slots are deleted records, the table is only rebuilt without them.
+    final int previousCapacity = this.capacity;
+    final int newCapacity = ((occupied + 1) > previousCapacity * MAXIMUM_LOAD_FACTOR / 2)
+       ? previousCapacity * 2
+       : previousCapacity;
+    if (newCapacity > MAXIMUM_CAPACITY) {
+      throw new IOException("The players' table " + this.file + " reached its maximum capacity.");
+    }
+    final Path resizeFile = this.resizeFile();
+    try (final TableFile table = create(resizeFile, newCapacity)) {
+      final MappedByteBuffer newBuffer = table.buffer();
+      final int mask = newCapacity - 1;
+      for (int slot = 0; slot < this.capacity; slot++) {
+        final int offset = offset(slot);
+        if (buffer.getInt(offset + STATE_OFFSET) != OCCUPIED_STATE) {
+          continue;
+        }
+        final long mostSignificantBits = buffer.getLong(offset + MOST_SIGNIFICANT_BITS_OFFSET);
+        final long leastSignificantBits = buffer.getLong(offset + LEAST_SIGNIFICANT_BITS_OFFSET);
+        int newSlot = hash(mostSignificantBits, leastSignificantBits) & mask;
+        while (newBuffer.getInt(offset(newSlot) + STATE_OFFSET) != EMPTY_STATE) {
+          newSlot = (newSlot + 1) & mask;
+        }
+        newBuffer.put(offset(newSlot), buffer, offset, SLOT_SIZE);
+      }
+      newBuffer.putInt(OCCUPIED_OFFSET, occupied);
+      newBuffer.putInt(USED_OFFSET, occupied);
+      newBuffer.force();
+    } catch (final IOException exception) {
+      Files.deleteIfExists(resizeFile);
+      throw exception;
+    }
+    this.force();
+    this.closeChannel();
+    try {
+      Files.move(resizeFile, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      this.map();
+    } catch (final IOException exception) {
+      // The table's file is mapped again, the previous one if it wasn't replaced, so the table isn't left closed.
+      try {
+        this.map();
+        Files.deleteIfExists(resizeFile);
+      } catch (final IOException remapException) {
+        exception.addSuppressed(remapException);
+      }
+      throw exception;
+    }
+    Debugger.write("Resized players' table {} from {} to {} slots.", this.file, previousCapacity, newCapacity);
+  }
+
+  /**
+   * Writes the table's modified records to the file.
+   *
+   * @since 4.1.0
+   */
+  public void force() {
+    final MappedByteBuffer buffer = this.buffer;
+    if (buffer != null) {
+      buffer.force();
+    }
+  }
+
+  /**
+   * Writes the table's modified records to the file, and closes it.
+   *
+   * @since 4.1.0
+   */
+  public void close() {
+    this.lock.writeLock().lock();
+    try {
+      this.force();
+      this.closeChannel();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  private void closeChannel() {
+    // The previous mapping is released once it's garbage-collected.
+    this.buffer = null;
+    if (this.channel == null) {
+      return;
+    }
+    try {
+      this.channel.close();
+    } catch (final IOException exception) {
+      Debugger.write("Unexpected exception when trying to close the players' table {}.", this.file, exception);
+    }
+    this.channel = null;
+  }
+
+  private record TableFile(@NotNull FileChannel channel, @NotNull MappedByteBuffer buffer) implements AutoCloseable {
+    @Override
+    public void close() throws IOException {
+      this.channel.close();
+    }
+  }
+}
@@ -0,0 +1,153 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.player.infrastructure.mapped;
+
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The dictionary of the tag-ids selected by the players, every tag-id is stored once at a file with one
+ * tag-id per line, and the players' records store the tag-id's line number instead of the tag-id itself.
+ * <p>
+ * Tag-ids are never removed from the dictionary, so the numbers stored by the players' records never change.
+ *
+ * @since 4.1.0
+ */
+public final class MappedTagDictionary {
+  /** The number stored by the players' records without a selected tag. */
+  public static final int NO_TAG = 0;
+  private final Path file;
+  private final List<String> tags = new CopyOnWriteArrayList<>();
+  private final Map<String, Integer> numbers = new ConcurrentHashMap<>();
+  private @Nullable FileChannel channel;
+
+  public MappedTagDictionary(final @NotNull Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Opens the dictionary's file, and reads its tag-ids.
+   *
+   * @throws IOException if the file couldn't be read.
+   * @since 4.1.0
+   */
+  public synchronized void open() throws IOException {
+    this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+       StandardOpenOption.WRITE);
+    final String content = Files.readString(this.file, StandardCharsets.UTF_8);
+    final int end = content.lastIndexOf('\n') + 1;
+    if (end < content.length()) {
+      // The last tag-id's append was interrupted, so no player's record can reference it.
+      Debugger.write("Discarding incomplete tag-id at the end of the tag-dictionary {}.", this.file);
+      this.channel.truncate(content.substring(0, end).getBytes(StandardCharsets.UTF_8).length);
+    }
+    for (final String tag : content.substring(0, end).split("\n")) {
+      if (!tag.isEmpty()) {
+        this.tags.add(tag);
+        this.numbers.put(tag, this.tags.size());
+      }
+    }
+  }
+
+  /**
+   * Returns the given tag-id's number, the tag-id is appended to the dictionary if it's not contained yet.
+   *
+   * @param tag the tag-id, or {@code null} for no tag.
+   * @return The tag-id's number, or {@link #NO_TAG} if the tag-id is {@code null}.
+   * @throws IOException if the tag-id couldn't be appended.
+   * @since 4.1.0
+   */
+  public int numberOf(final @Nullable String tag) throws IOException {
+    if (tag == null) {
+      return NO_TAG;
+    }
+    final Integer number = this.numbers.get(tag);
+    return (number == null) ? this.append(tag) : number;
+  }
+
+  private synchronized int append(final @NotNull String tag) throws IOException {
+    final Integer number = this.numbers.get(tag);
+    if (number != null) {
+      return number;
+    }
+    if (this.channel == null) {
+      throw new IOException("The tag-dictionary is not opened.");
+    }
+    final ByteBuffer line = ByteBuffer.wrap((tag + '\n').getBytes(StandardCharsets.UTF_8));
+    final long previousSize = this.channel.size();
+    try {
+      long position = previousSize;
+      while (line.hasRemaining()) {
+        position += this.channel.write(line, position);
+      }
+      // Synced before any player's record references it.
+      this.channel.force(false);
+    } catch (final IOException exception) {
+      // The partial line is removed, otherwise the next tag-id would be appended to it.
+      try {
+        this.channel.truncate(previousSize);
+      } catch (final IOException truncateException) {
+        exception.addSuppressed(truncateException);
+      }
+      throw exception;
+    }
+    this.tags.add(tag);
+    this.numbers.put(tag, this.tags.size());
+    return this.tags.size();
+  }
+
+  /**
+   * Returns the tag-id with the given number.
+   *
+   * @param number the tag-id's number.
+   * @return The tag-id, or {@code null} if the number is {@link #NO_TAG} or it's unknown.
+   * @since 4.1.0
+   */
+  public @Nullable String tag(final int number) {
+    return (number <= NO_TAG || number > this.tags.size()) ? null : this.tags.get(number - 1);
+  }
+
+  /**
+   * Closes the dictionary's file.
+   *
+   * @since 4.1.0
+   */
+  public synchronized void close() {
+    if (this.channel == null) {
+      return;
+    }
+    try {
+      this.channel.close();
+    } catch (final IOException exception) {
+      Debugger.write("Unexpected exception when trying to close the tag-dictionary {}.", this.file, exception);
+    }
+    this.channel = null;
+  }
+}
@@ -0,0 +1,208 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.player.infrastructure.mapped;
+
+import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
+import io.github.aivruu.teams.player.domain.PlayerModelEntity;
+import io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An infrastructure-repository that stores the players' information as fixed-size records at a
+ * {@link MappedPlayerTable}, whose selected tags are stored as numbers of a {@link MappedTagDictionary}.
+ *
+ * @since 4.1.0
+ */
+public final class PlayerMappedInfrastructureAggregateRootRepository extends InfrastructureAggregateRootRepository<PlayerAggregateRoot> {
+  private final MappedPlayerTable table;
+  private final MappedTagDictionary tagDictionary;
+  private final long syncIntervalMillis;
+  private @Nullable ScheduledExecutorService syncExecutor;
+
+  public PlayerMappedInfrastructureAggregateRootRepository(
+     final @NotNull MappedPlayerTable table,
+     final @NotNull MappedTagDictionary tagDictionary,
+     final long syncIntervalMillis) {
+    super(Type.MAPPED);
+    this.table = table;
+    this.tagDictionary = tagDictionary;
+    this.syncIntervalMillis = syncIntervalMillis;
+  }
+
+  @Override
+  public boolean start() {
+    try {
+      this.tagDictionary.open();
+      this.table.open();
+    } catch (final IOException exception) {
+      Debugger.write("Unexpected exception when trying to open the players' mapped-table.", exception);
+      return false;
+    }
+    // The modified records are written to the file by the OS anyway, this only limits what a machine-crash loses.
+    if (this.syncIntervalMillis > 0L) {
+      this.syncExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+         .name("Teams-Mapped-Sync")
+         .daemon()
+         .factory());
+      this.syncExecutor.scheduleWithFixedDelay(this::sync, this.syncIntervalMillis, this.syncIntervalMillis,
+         TimeUnit.MILLISECONDS);
+    }
+    return true;
+  }
+
+  private void sync() {
+    // An exception thrown by a scheduled task cancels its next executions, so it's only logged.
+    try {
+      this.table.force();
+    } catch (final RuntimeException exception) {
+      Debugger.write("Unexpected exception when trying to sync the players' mapped-table.", exception);
+    }
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@Nullable PlayerAggregateRoot> findAsync(final @NotNull String id) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.read(id);
+      } catch (final IOException | IllegalArgumentException exception) {
+        Debugger.write("Unexpected exception when trying to read player's information from the mapped-table.",
+           exception);
+        return null;
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, PlayerAggregateRoot>> findManyAsync(
+     final @NotNull Collection<String> ids) {
+    return CompletableFuture.supplyAsync(() -> {
+      final Map<String, PlayerAggregateRoot> playerAggregateRoots = new HashMap<>(ids.size());
+      try {
+        for (final String id : ids) {
+          final PlayerAggregateRoot playerAggregateRoot = this.read(id);
+          if (playerAggregateRoot != null) {
+            playerAggregateRoots.put(id, playerAggregateRoot);
+          }
+        }
+      } catch (final IOException exception) {
+        // Propagated so callers don't take the players as new ones, and override their information.
+        throw new CompletionException("Unexpected exception when trying to read players' information from the mapped-table.",
+           exception);
+      }
+      return playerAggregateRoots;
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<PlayerAggregateRoot>> findAllAsync() {
+    return CompletableFuture.supplyAsync(() -> {
+      final List<PlayerAggregateRoot> playerAggregateRoots = new ArrayList<>();
+      try {
+        this.table.forEach((uuid, tag) -> {
+          final String id = uuid.toString();
+          playerAggregateRoots.add(new PlayerAggregateRoot(id, new PlayerModelEntity(id, this.tagDictionary.tag(tag))));
+        });
+      } catch (final IOException exception) {
+        throw new CompletionException("Unexpected exception when trying to read all players' information from the mapped-table.",
+           exception);
+      }
+      return playerAggregateRoots;
+    }, this.readExecutor);
+  }
+
+  private @Nullable PlayerAggregateRoot read(final @NotNull String id) throws IOException {
+    final int tag = this.table.get(UUID.fromString(id));
+    return (tag < 0) ? null : new PlayerAggregateRoot(id, new PlayerModelEntity(id, this.tagDictionary.tag(tag)));
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
+    return this.findAsync(id).thenApply(playerAggregateRoot -> playerAggregateRoot != null);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull PlayerAggregateRoot aggregateRoot) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        this.table.put(UUID.fromString(aggregateRoot.id()),
+           this.tagDictionary.numberOf(aggregateRoot.playerModel().tag()));
+        return true;
+      } catch (final IOException | IllegalArgumentException exception) {
+        Debugger.write("Unexpected exception when trying to write player's information to the mapped-table.",
+           exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<PlayerAggregateRoot> aggregateRoots) {
+    return CompletableFuture.supplyAsync(() -> {
+      final Map<String, Boolean> results = new HashMap<>(aggregateRoots.size());
+      for (final PlayerAggregateRoot aggregateRoot : aggregateRoots) {
+        try {
+          this.table.put(UUID.fromString(aggregateRoot.id()),
+             this.tagDictionary.numberOf(aggregateRoot.playerModel().tag()));
+          results.put(aggregateRoot.id(), true);
+        } catch (final IOException | IllegalArgumentException exception) {
+          Debugger.write("Unexpected exception when trying to write player's information to the mapped-table.",
+             exception);
+          results.put(aggregateRoot.id(), false);
+        }
+      }
+      return results;
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.table.remove(UUID.fromString(id));
+      } catch (final IOException | IllegalArgumentException exception) {
+        Debugger.write("Unexpected exception when trying to delete player's information from the mapped-table.",
+           exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public void close() {
+    if (this.syncExecutor != null) {
+      this.syncExecutor.shutdownNow();
+    }
+    this.table.close();
+    this.tagDictionary.close();
+  }
+}
@@ -22,17 +22,21 @@ import io.github.aivruu.teams.util.application.Debugger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.sql.Connection;
-import java.sql.SQLException;
-
 /**
  * This utility-class is used as {@link HikariDataSource} instance builder and provider.
  *
  * @since 3.5.1
  */
 public final class HikariInstanceProvider {
-  private static final String MARIADB_SOURCE_CLASS_NAME = "org.mariadb.jdbc.Driver";
+  private static final String MARIADB_DRIVER_CLASS_NAME = "org.mariadb.jdbc.Driver";
+  private static final String MARIADB_JDBC_URL = "jdbc:mariadb://%s:%d/%s";
+  private static final String POOL_NAME = "Teams-MariaDB-Pool";
   private static @Nullable HikariDataSource hikariDataSource;
+  private static @Nullable HikariPoolMetrics poolMetrics;
+
+  private HikariInstanceProvider() {
+    throw new UnsupportedOperationException("This class is for utility and cannot be instantiated.");
+  }
 
   /**
    * Returns the {@link HikariDataSource} instance if is available.
@@ -45,22 +49,13 @@ public final class HikariInstanceProvider {
   }
 
   /**
-   * Returns the connection-pool used by HikariCP for the database.
+   * Returns the {@link HikariPoolMetrics} used to track the connection-pool's borrow times and saturation.
    *
-   * @return The {@link Connection} pool or {@code null} if data-source couldn't be initialized or
-   * a {@link SQLException} was thrown when trying to get the connection.
-   * @since 3.5.1
+   * @return The {@link HikariPoolMetrics} or {@code null} if the data-source wasn't built yet.
+   * @since 4.1.0
    */
-  public static @Nullable Connection connection() {
-    if (hikariDataSource == null) {
-      return null;
-    }
-    try {
-      return hikariDataSource.getConnection();
-    } catch (final SQLException exception) {
-      Debugger.write("Unexpected exception when trying to retrieve the database's connection.", exception);
-      return null;
-    }
+  public static @Nullable HikariPoolMetrics metrics() {
+    return poolMetrics;
   }
 
   /**
@@ -73,28 +68,64 @@ public final class HikariInstanceProvider {
    * @param database the database's name.
    * @param user the database's username.
    * @param password the database's password.
-   * @since 3.5.1
+   * @param poolSize the maximum amount of connections that the pool can keep.
+   * @param preparedStatementsCacheSize the amount of server-side prepared-statements to cache per connection,
+   *                                    or {@code 0} to disable server-side prepared-statements.
+   * @param rewriteBatchedStatements whether batched-statements should be sent in a single bulk-operation.
+   * @since 4.1.0
    */
   public static void buildDataSource(
     final @NotNull String server,
     final int port,
     final @NotNull String database,
     final @NotNull String user,
-    final @NotNull String password
+    final @NotNull String password,
+    final int poolSize,
+    final int preparedStatementsCacheSize,
+    final boolean rewriteBatchedStatements
   ) {
     if (hikariDataSource != null) return;
 
     final HikariConfig config = new HikariConfig();
+    final HikariPoolMetrics metrics = new HikariPoolMetrics();
     try {
-      config.setDataSourceClassName(MARIADB_SOURCE_CLASS_NAME);
-      config.addDataSourceProperty("serverName", server);
-      config.addDataSourceProperty("port", port);
-      config.addDataSourceProperty("databaseName", database);
-      config.addDataSourceProperty("user", user);
-      config.addDataSourceProperty("password", password);
+      config.setPoolName(POOL_NAME);
+      config.setDriverClassName(MARIADB_DRIVER_CLASS_NAME);
+      config.setJdbcUrl(MARIADB_JDBC_URL.formatted(server, port, database));
+      config.setUsername(user);
+      config.setPassword(password);
+      config.setMaximumPoolSize(poolSize);
+      config.setMetricsTrackerFactory(metrics);
+      final boolean cachePreparedStatements = preparedStatementsCacheSize > 0;
+      config.addDataSourceProperty("useServerPrepStmts", cachePreparedStatements);
+      config.addDataSourceProperty("cachePrepStmts", cachePreparedStatements);
+      if (cachePreparedStatements) {
+        config.addDataSourceProperty("prepStmtCacheSize", preparedStatementsCacheSize);
+      }
+      // MariaDB Connector/J 3.x replaced the 'rewriteBatchedStatements' option with the bulk-protocol.
+      config.addDataSourceProperty("useBulkStmts", rewriteBatchedStatements);
       hikariDataSource = new HikariDataSource(config);
-    } catch (final IllegalStateException exception) {
+      poolMetrics = metrics;
+    } catch (final RuntimeException exception) {
       Debugger.write("Unexpected exception when trying to build a new HikariDataSource object.", exception);
     }
   }
+
+  /**
+   * Logs the connection-pool's statistics and closes the {@link HikariDataSource} instance, if it was built,
+   * once every repository using it has been closed.
+   *
+   * @since 4.1.0
+   */
+  public static void close() {
+    if (hikariDataSource == null) {
+      return;
+    }
+    if (poolMetrics != null) {
+      Debugger.write("MariaDB connection-pool statistics: {}", poolMetrics.report());
+    }
+    hikariDataSource.close();
+    hikariDataSource = null;
+    poolMetrics = null;
+  }
 }
@@ -0,0 +1,110 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.persistence.infrastructure.utils;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsTrackerFactory} and {@link IMetricsTracker} implementation used to keep track of the
+ * connection-borrow times and saturation of the plugin's MariaDB connection-pool.
+ *
+ * @since 4.1.0
+ */
+public final class HikariPoolMetrics implements MetricsTrackerFactory, IMetricsTracker {
+  /** The minimum interval between saturation-reports, to avoid flooding the console during join-storms. */
+  private static final long SATURATION_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10L);
+  private final LongAdder borrows = new LongAdder();
+  private final LongAdder borrowNanos = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final AtomicLong maxBorrowNanos = new AtomicLong();
+  private final AtomicLong lastSaturationReport = new AtomicLong(System.nanoTime() - SATURATION_REPORT_INTERVAL_NANOS);
+  private @Nullable PoolStats poolStats;
+
+  @Override
+  public @NotNull IMetricsTracker create(final @NotNull String poolName, final @NotNull PoolStats poolStats) {
+    this.poolStats = poolStats;
+    return this;
+  }
+
+  @Override
+  public void recordConnectionAcquiredNanos(final long elapsedAcquiredNanos) {
+    this.borrows.increment();
+    this.borrowNanos.add(elapsedAcquiredNanos);
+    this.maxBorrowNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+    if (this.saturated()) {
+      this.reportSaturation();
+    }
+  }
+
+  @Override
+  public void recordConnectionTimeout() {
+    this.timeouts.increment();
+    this.reportSaturation();
+  }
+
+  /**
+   * Checks whether the connection-pool is saturated, this means, all the connections are in use or
+   * there are threads waiting for a connection.
+   *
+   * @return Whether the pool is saturated.
+   * @since 4.1.0
+   */
+  public boolean saturated() {
+    final PoolStats stats = this.poolStats;
+    return (stats != null)
+       && ((stats.getPendingThreads() > 0) || (stats.getActiveConnections() >= stats.getMaxConnections()));
+  }
+
+  /**
+   * Returns a human-readable summary about the connection-borrow times and the pool's usage.
+   *
+   * @return The pool's statistics summary.
+   * @since 4.1.0
+   */
+  public @NotNull String report() {
+    final long borrows = this.borrows.sum();
+    final double averageBorrowMillis = (borrows == 0L)
+       ? 0D
+       : (this.borrowNanos.sum() / (double) borrows) / 1_000_000D;
+    final double maxBorrowMillis = this.maxBorrowNanos.get() / 1_000_000D;
+    final PoolStats stats = this.poolStats;
+    return (stats == null)
+       ? "borrows=%d, avg-borrow=%.2fms, max-borrow=%.2fms, timeouts=%d".formatted(
+          borrows, averageBorrowMillis, maxBorrowMillis, this.timeouts.sum())
+       : "borrows=%d, avg-borrow=%.2fms, max-borrow=%.2fms, timeouts=%d, active=%d/%d, idle=%d, waiting=%d".formatted(
+          borrows, averageBorrowMillis, maxBorrowMillis, this.timeouts.sum(), stats.getActiveConnections(),
+          stats.getMaxConnections(), stats.getIdleConnections(), stats.getPendingThreads());
+  }
+
+  private void reportSaturation() {
+    final long now = System.nanoTime();
+    final long last = this.lastSaturationReport.get();
+    if (((now - last) < SATURATION_REPORT_INTERVAL_NANOS) || !this.lastSaturationReport.compareAndSet(last, now)) {
+      return;
+    }
+    Debugger.write("[WARNING] The MariaDB connection-pool is saturated, consider to increase its size: {}", this.report());
+  }
+}
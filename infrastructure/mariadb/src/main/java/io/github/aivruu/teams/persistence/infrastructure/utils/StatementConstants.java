@@ -19,26 +19,119 @@ package io.github.aivruu.teams.persistence.infrastructure.utils;
 public final class StatementConstants {
   public static final String CREATE_PLAYERS_DATA_TABLE_STATEMENT = """
     CREATE TABLE IF NOT EXISTS %s(
-      uuid VARCHAR(40) NOT NULL,
-      tag TEXT NULL,
-      PRIMARY KEY(uuid)
+      uuid BINARY(16) NOT NULL,
+      tag VARCHAR(20) NULL,
+      PRIMARY KEY(uuid),
+      INDEX(tag)
     )""";
   public static final String CREATE_TAGS_DATA_TABLE_STATEMENT = """
     CREATE TABLE IF NOT EXISTS %s(
       id VARCHAR(20) NOT NULL,
-      properties TEXT NOT NULL,
+      prefix TEXT NULL,
+      suffix TEXT NULL,
+      color INT UNSIGNED NOT NULL,
       PRIMARY KEY(id)
     )""";
   public static final String FIND_PLAYER_INFORMATION_STATEMENT = "SELECT tag FROM %s WHERE uuid = ?";
-  public static final String FIND_TAG_INFORMATION_STATEMENT = "SELECT properties FROM %s WHERE id = ?";
+  /** Requires the table's name and the placeholders for the uuids to search. */
+  public static final String FIND_PLAYERS_INFORMATION_STATEMENT = "SELECT uuid, tag FROM %s WHERE uuid IN (%s)";
+  public static final String FIND_TAG_INFORMATION_STATEMENT = "SELECT prefix, suffix, color FROM %s WHERE id = ?";
+  /** Requires the table's name and the placeholders for the ids to search. */
+  public static final String FIND_TAGS_INFORMATION_STATEMENT =
+     "SELECT id, prefix, suffix, color FROM %s WHERE id IN (%s)";
+  public static final String FIND_ALL_PLAYERS_INFORMATION_STATEMENT = "SELECT uuid, tag FROM %s";
+  public static final String FIND_ALL_TAGS_INFORMATION_STATEMENT = "SELECT id, prefix, suffix, color FROM %s";
   public static final String SAVE_TAG_INFORMATION_STATEMENT = """
-    INSERT INTO %s(id, properties) VALUES(?, ?)
-    ON DUPLICATE KEY UPDATE properties = VALUES(properties)""";
+    INSERT INTO %s(id, prefix, suffix, color) VALUES(?, ?, ?, ?)
+    ON DUPLICATE KEY UPDATE prefix = VALUES(prefix), suffix = VALUES(suffix), color = VALUES(color)""";
   public static final String SAVE_PLAYER_INFORMATION_STATEMENT = """
     INSERT INTO %s(uuid, tag) VALUES(?, ?)
     ON DUPLICATE KEY UPDATE tag = VALUES(tag)""";
   public static final String DELETE_TAG_INFORMATION_STATEMENT = "DELETE FROM %s WHERE id = ?";
   public static final String DELETE_PLAYER_INFORMATION_STATEMENT = "DELETE FROM %s WHERE uuid = ?";
+  /** The schema-version 1 player-data table, whose uuids and tags are stored as text. */
+  public static final String CREATE_LEGACY_PLAYERS_DATA_TABLE_STATEMENT = """
+    CREATE TABLE IF NOT EXISTS %s(
+      uuid VARCHAR(40) NOT NULL,
+      tag TEXT NULL,
+      PRIMARY KEY(uuid)
+    )""";
+  /** The schema-version 1 tag-data table, whose properties are stored as json-content. */
+  public static final String CREATE_LEGACY_TAGS_DATA_TABLE_STATEMENT = """
+    CREATE TABLE IF NOT EXISTS %s(
+      id VARCHAR(20) NOT NULL,
+      properties TEXT NOT NULL,
+      PRIMARY KEY(id)
+    )""";
+  /** Requires the new table's name, the legacy table's name, and the condition for the rows to copy. */
+  public static final String COPY_LEGACY_PLAYERS_DATA_STATEMENT = """
+    INSERT IGNORE INTO %s(uuid, tag)
+    SELECT UNHEX(REPLACE(uuid, '-', '')), tag FROM %s
+    WHERE CHAR_LENGTH(REPLACE(uuid, '-', '')) = 32 AND (%s)""";
+  /** Requires the new table's name, the legacy table's name, and the condition for the rows to copy. */
+  public static final String COPY_LEGACY_TAGS_DATA_STATEMENT = """
+    INSERT IGNORE INTO %s(id, prefix, suffix, color)
+    SELECT id,
+      IF(JSON_TYPE(JSON_EXTRACT(properties, '$.prefix')) = 'NULL', NULL,
+        JSON_UNQUOTE(JSON_EXTRACT(properties, '$.prefix'))),
+      IF(JSON_TYPE(JSON_EXTRACT(properties, '$.suffix')) = 'NULL', NULL,
+        JSON_UNQUOTE(JSON_EXTRACT(properties, '$.suffix'))),
+      COALESCE(CAST(JSON_EXTRACT(properties, '$."color-value"') AS UNSIGNED), 16777215)
+    FROM %s
+    WHERE %s""";
+  public static final String CREATE_CHANGE_LOG_TABLE_STATEMENT = """
+    CREATE TABLE IF NOT EXISTS %s(
+      sequence BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+      entity TINYINT NOT NULL,
+      id VARCHAR(40) NOT NULL,
+      origin CHAR(36) NOT NULL,
+      changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+      PRIMARY KEY(sequence),
+      INDEX(changed_at)
+    )""";
+  public static final String INSERT_CHANGE_STATEMENT = "INSERT INTO %s(entity, id, origin) VALUES(?, ?, ?)";
+  public static final String FIND_LAST_CHANGE_SEQUENCE_STATEMENT = "SELECT COALESCE(MAX(sequence), 0) FROM %s";
+  /** Requires the table's name and an optional condition for the sequences that were skipped before. */
+  public static final String FIND_CHANGES_STATEMENT = """
+    SELECT sequence, entity, id, origin FROM %s
+    WHERE sequence > ?%s
+    ORDER BY sequence LIMIT ?""";
+  public static final String DELETE_EXPIRED_CHANGES_STATEMENT = """
+    DELETE FROM %s WHERE changed_at < NOW() - INTERVAL ? SECOND LIMIT 10000""";
+  public static final String CREATE_SCHEMA_VERSION_TABLE_STATEMENT = """
+    CREATE TABLE IF NOT EXISTS %s(
+      version INT NOT NULL,
+      description VARCHAR(200) NOT NULL,
+      applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+      PRIMARY KEY(version)
+    )""";
+  public static final String CREATE_SCHEMA_BACKFILL_TABLE_STATEMENT = """
+    CREATE TABLE IF NOT EXISTS %s(
+      target_table VARCHAR(64) NOT NULL,
+      cursor_key VARCHAR(64) NULL,
+      completed BOOLEAN NOT NULL DEFAULT FALSE,
+      PRIMARY KEY(target_table)
+    )""";
+  public static final String FIND_SCHEMA_VERSIONS_STATEMENT = "SELECT version FROM %s";
+  public static final String INSERT_SCHEMA_VERSION_STATEMENT = "INSERT INTO %s(version, description) VALUES(?, ?)";
+  public static final String INSERT_SCHEMA_BACKFILL_STATEMENT = "INSERT IGNORE INTO %s(target_table) VALUES(?)";
+  public static final String FIND_SCHEMA_BACKFILL_STATEMENT =
+     "SELECT cursor_key, completed FROM %s WHERE target_table = ?";
+  public static final String FIND_PENDING_SCHEMA_BACKFILLS_STATEMENT =
+     "SELECT target_table FROM %s WHERE completed = FALSE";
+  public static final String UPDATE_SCHEMA_BACKFILL_STATEMENT =
+     "UPDATE %s SET cursor_key = ?, completed = ? WHERE target_table = ?";
+  /** Requires the table's name, and the key-column's name. */
+  public static final String FIND_BACKFILL_CHUNK_END_STATEMENT =
+     "SELECT %2$s FROM %1$s WHERE %2$s > ? ORDER BY %2$s LIMIT 1 OFFSET ?";
+  /** Requires the table's name, the key-column's name, and the placeholders for the keys. */
+  public static final String DELETE_BACKFILL_SOURCE_ROWS_STATEMENT = "DELETE FROM %s WHERE %s IN (%s)";
+  public static final String FIND_TABLE_EXISTENCE_STATEMENT = """
+    SELECT 1 FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?""";
+  public static final String RENAME_TABLE_STATEMENT = "RENAME TABLE %s TO %s";
+  /** MariaDB's named-locks are held by the connection until they're released, or the connection is closed. */
+  public static final String ACQUIRE_LOCK_STATEMENT = "SELECT GET_LOCK(?, ?)";
+  public static final String RELEASE_LOCK_STATEMENT = "SELECT RELEASE_LOCK(?)";
 
   private StatementConstants() {
     throw new UnsupportedOperationException("This class cannot be instantiated.");
@@ -19,8 +19,14 @@ package io.github.aivruu.teams.player.infrastructure.mariadb;
 import io.github.aivruu.teams.util.application.Debugger;
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
 import io.github.aivruu.teams.player.domain.PlayerModelEntity;
+import io.github.aivruu.teams.persistence.infrastructure.utils.BinaryUUIDConverter;
 import io.github.aivruu.teams.persistence.infrastructure.utils.StatementConstants;
+import io.github.aivruu.teams.shared.infrastructure.batch.PendingWriteValueObject;
+import io.github.aivruu.teams.shared.infrastructure.batch.WriteBehindQueue;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.MariaDBChangeLog;
 import io.github.aivruu.teams.shared.infrastructure.mariadb.MariaDBInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.migration.MariaDBBackfill;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.migration.MariaDBSchemaMigrator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,42 +34,76 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.sql.DataSource;
 
 public final class PlayerMariaDBInfrastructureAggregateRootRepository extends MariaDBInfrastructureAggregateRootRepository<PlayerAggregateRoot> {
-  private final Connection connectionPool;
   private final String tableName;
+  private final @Nullable WriteBehindQueue<PlayerAggregateRoot> writeBehindQueue;
+
+  public PlayerMariaDBInfrastructureAggregateRootRepository(
+    final @NotNull DataSource dataSource,
+    final @NotNull String tableName,
+    final long writeBehindFlushIntervalMillis,
+    final int writeBehindCapacity) {
+    this(dataSource, tableName, writeBehindFlushIntervalMillis, writeBehindCapacity, null, null);
+  }
 
   public PlayerMariaDBInfrastructureAggregateRootRepository(
-    final @NotNull Connection connectionPool,
-    final @NotNull String tableName) {
-    this.connectionPool = connectionPool;
+    final @NotNull DataSource dataSource,
+    final @NotNull String tableName,
+    final long writeBehindFlushIntervalMillis,
+    final int writeBehindCapacity,
+    final @Nullable MariaDBSchemaMigrator schemaMigrator,
+    final @Nullable MariaDBChangeLog changeLog) {
+    super(dataSource, schemaMigrator, changeLog, MariaDBChangeLog.Entity.PLAYER);
     this.tableName = tableName;
+    // A non-positive interval disables the write-behind stage, and every operation is written immediately.
+    this.writeBehindQueue = (writeBehindFlushIntervalMillis <= 0L) ? null : new WriteBehindQueue<>(
+       this.writeExecutor, writeBehindFlushIntervalMillis, writeBehindCapacity, this::writeBatch);
   }
 
   @Override
   public boolean start() {
     return CompletableFuture
       .supplyAsync(() -> {
-        try (final PreparedStatement statement = this.connectionPool.prepareStatement(
+        try (final Connection connection = this.dataSource.getConnection();
+             final PreparedStatement statement = connection.prepareStatement(
           StatementConstants.CREATE_PLAYERS_DATA_TABLE_STATEMENT.formatted(this.tableName))
         ) {
-          return statement.execute();
+          // execute() returns whether the result is a result-set, which never is for this statement.
+          statement.execute();
+          return true;
         } catch (final SQLException exception) {
           Debugger.write("Unexpected exception when trying to create the database's player-data table.", exception);
           return false;
         }
-      }, THREAD_POOL)
+      }, this.writeExecutor)
       .join();
   }
 
   @Override
   public @NotNull CompletableFuture<@Nullable PlayerAggregateRoot> findAsync(final @NotNull String id) {
+    final PendingWriteValueObject<PlayerAggregateRoot> pendingWrite = this.pendingWrite(id);
+    if (pendingWrite != null) {
+      // The information in database is outdated until the pending-write is flushed.
+      return CompletableFuture.completedFuture(pendingWrite.aggregateRoot());
+    }
     return CompletableFuture.supplyAsync(() -> {
-      try (final PreparedStatement statement = this.connectionPool.prepareStatement(
-        StatementConstants.FIND_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName));
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
+        StatementConstants.FIND_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
       ) {
-        statement.setString(1, id);
+        this.copyLegacyRows(connection, List.of(id));
+        statement.setBytes(1, BinaryUUIDConverter.toBytes(id));
         try (final ResultSet resultSet = statement.executeQuery()) {
           return !resultSet.next()
             ? null : new PlayerAggregateRoot(id, new PlayerModelEntity(id, /* Get the tag-id */ resultSet.getString(1)));
@@ -72,16 +112,89 @@ public final class PlayerMariaDBInfrastructureAggregateRootRepository extends Ma
         Debugger.write("Unexpected exception when trying to retrieve player's information from database.", exception);
         return null;
       }
-    }, THREAD_POOL);
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, PlayerAggregateRoot>> findManyAsync(
+     final @NotNull Collection<String> ids) {
+    final Map<String, PlayerAggregateRoot> playerAggregateRoots = new HashMap<>(ids.size());
+    final List<String> idsToSearch = new ArrayList<>(ids.size());
+    for (final String id : ids) {
+      final PendingWriteValueObject<PlayerAggregateRoot> pendingWrite = this.pendingWrite(id);
+      if (pendingWrite == null) {
+        idsToSearch.add(id);
+      } else if (!pendingWrite.deletion()) {
+        playerAggregateRoots.put(id, pendingWrite.aggregateRoot());
+      }
+    }
+    if (idsToSearch.isEmpty()) {
+      return CompletableFuture.completedFuture(playerAggregateRoots);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      final String placeholders = String.join(", ", Collections.nCopies(idsToSearch.size(), "?"));
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
+        StatementConstants.FIND_PLAYERS_INFORMATION_STATEMENT.formatted(this.tableName, placeholders))
+      ) {
+        this.copyLegacyRows(connection, idsToSearch);
+        for (int i = 0; i < idsToSearch.size(); i++) {
+          statement.setBytes(i + 1, BinaryUUIDConverter.toBytes(idsToSearch.get(i)));
+        }
+        try (final ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            final String id = BinaryUUIDConverter.fromBytes(resultSet.getBytes(1));
+            playerAggregateRoots.put(id, new PlayerAggregateRoot(id, new PlayerModelEntity(id, resultSet.getString(2))));
+          }
+        }
+        return playerAggregateRoots;
+      } catch (final SQLException exception) {
+        // Propagated so callers don't take the players as new ones, and override their information.
+        throw new CompletionException("Unexpected exception when trying to retrieve players' information from database.",
+           exception);
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<PlayerAggregateRoot>> findAllAsync() {
+    return CompletableFuture.supplyAsync(() -> {
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
+        StatementConstants.FIND_ALL_PLAYERS_INFORMATION_STATEMENT.formatted(this.tableName))
+      ) {
+        final MariaDBBackfill backfill = this.pendingBackfill(this.tableName);
+        if (backfill != null) {
+          backfill.copyAll(connection);
+        }
+        final List<PlayerAggregateRoot> playerAggregateRoots = new ArrayList<>();
+        try (final ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            final String id = BinaryUUIDConverter.fromBytes(resultSet.getBytes(1));
+            playerAggregateRoots.add(new PlayerAggregateRoot(id, new PlayerModelEntity(id, resultSet.getString(2))));
+          }
+        }
+        return playerAggregateRoots;
+      } catch (final SQLException exception) {
+        throw new CompletionException("Unexpected exception when trying to retrieve all players' information from database.",
+           exception);
+      }
+    }, this.readExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
+    final PendingWriteValueObject<PlayerAggregateRoot> pendingWrite = this.pendingWrite(id);
+    if (pendingWrite != null) {
+      return CompletableFuture.completedFuture(!pendingWrite.deletion());
+    }
     return CompletableFuture.supplyAsync(() -> {
-      try (final PreparedStatement statement = this.connectionPool.prepareStatement(
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
         StatementConstants.FIND_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
       ) {
-        statement.setString(1, id);
+        this.copyLegacyRows(connection, List.of(id));
+        statement.setBytes(1, BinaryUUIDConverter.toBytes(id));
         try (final ResultSet resultSet = statement.executeQuery()) {
           return resultSet.next();
         }
@@ -89,37 +202,140 @@ public final class PlayerMariaDBInfrastructureAggregateRootRepository extends Ma
         Debugger.write("Unexpected exception when trying to verify if player's data exists in database.", exception);
         return false;
       }
-    }, THREAD_POOL);
+    }, this.readExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull PlayerAggregateRoot aggregateRoot) {
+    if (this.writeBehindQueue != null) {
+      return this.writeBehindQueue.enqueueSave(aggregateRoot);
+    }
     return CompletableFuture.supplyAsync(() -> {
-      try (final PreparedStatement statement = this.connectionPool.prepareStatement(
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
         StatementConstants.SAVE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
       ) {
-        statement.setString(1, aggregateRoot.id());
+        statement.setBytes(1, BinaryUUIDConverter.toBytes(aggregateRoot.id()));
         statement.setString(2, aggregateRoot.playerModel().tag());
-        return statement.executeUpdate() > 0;
+        return this.executeUpdateAndRecord(connection, statement, aggregateRoot.id());
       } catch (final SQLException exception) {
         Debugger.write("Unexpected exception when trying to save player's data to the database.", exception);
         return false;
       }
-    }, THREAD_POOL);
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<PlayerAggregateRoot> aggregateRoots) {
+    if (this.writeBehindQueue != null) {
+      // Queued saves are already written together.
+      return super.saveManyAsync(aggregateRoots);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      final List<PendingWriteValueObject<PlayerAggregateRoot>> batch = new ArrayList<>(aggregateRoots.size());
+      for (final PlayerAggregateRoot aggregateRoot : aggregateRoots) {
+        batch.add(new PendingWriteValueObject<>(aggregateRoot.id(), aggregateRoot, new CompletableFuture<>()));
+      }
+      boolean saved;
+      try {
+        this.writeBatch(batch);
+        saved = true;
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to save {} players' data to the database.",
+           aggregateRoots.size(), exception);
+        saved = false;
+      }
+      final Map<String, Boolean> results = new HashMap<>(aggregateRoots.size());
+      for (final PlayerAggregateRoot aggregateRoot : aggregateRoots) {
+        results.put(aggregateRoot.id(), saved);
+      }
+      return results;
+    }, this.writeExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
+    if (this.writeBehindQueue != null) {
+      // Deletions are queued too, otherwise a pending save-operation could be flushed after the deletion.
+      return this.writeBehindQueue.enqueueDelete(id);
+    }
     return CompletableFuture.supplyAsync(() -> {
-      try (final PreparedStatement statement = this.connectionPool.prepareStatement(
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
         StatementConstants.DELETE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
       ) {
-        statement.setString(1, id);
-        return statement.executeUpdate() > 0;
+        final MariaDBBackfill backfill = this.pendingBackfill(this.tableName);
+        if (backfill != null) {
+          // Otherwise, the legacy row would be copied again after the deletion.
+          backfill.deleteSource(connection, List.of(id));
+        }
+        statement.setBytes(1, BinaryUUIDConverter.toBytes(id));
+        return this.executeUpdateAndRecord(connection, statement, id);
       } catch (final SQLException exception) {
         Debugger.write("Unexpected exception when trying to delete player's data from the database.", exception);
         return false;
       }
-    }, THREAD_POOL);
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public void close() {
+    if (this.writeBehindQueue != null) {
+      this.writeBehindQueue.flush();
+    }
+    super.close();
+  }
+
+  private void copyLegacyRows(final @NotNull Connection connection, final @NotNull Collection<String> ids)
+     throws SQLException {
+    final MariaDBBackfill backfill = this.pendingBackfill(this.tableName);
+    if (backfill != null) {
+      backfill.copy(connection, ids);
+    }
+  }
+
+  private @Nullable PendingWriteValueObject<PlayerAggregateRoot> pendingWrite(final @NotNull String id) {
+    return (this.writeBehindQueue == null) ? null : this.writeBehindQueue.pending(id);
+  }
+
+  private void writeBatch(final @NotNull Collection<PendingWriteValueObject<PlayerAggregateRoot>> batch)
+     throws SQLException {
+    try (final Connection connection = this.dataSource.getConnection();
+         final PreparedStatement saveStatement = connection.prepareStatement(
+      StatementConstants.SAVE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName));
+         final PreparedStatement deleteStatement = connection.prepareStatement(
+      StatementConstants.DELETE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
+    ) {
+      connection.setAutoCommit(false);
+      try {
+        final List<String> ids = new ArrayList<>(batch.size());
+        final List<String> deletedIds = new ArrayList<>();
+        for (final PendingWriteValueObject<PlayerAggregateRoot> write : batch) {
+          ids.add(write.id());
+          final PlayerAggregateRoot aggregateRoot = write.aggregateRoot();
+          if (aggregateRoot == null) {
+            deletedIds.add(write.id());
+            deleteStatement.setBytes(1, BinaryUUIDConverter.toBytes(write.id()));
+            deleteStatement.addBatch();
+          } else {
+            saveStatement.setBytes(1, BinaryUUIDConverter.toBytes(aggregateRoot.id()));
+            saveStatement.setString(2, aggregateRoot.playerModel().tag());
+            saveStatement.addBatch();
+          }
+        }
+        final MariaDBBackfill backfill = this.pendingBackfill(this.tableName);
+        if (backfill != null) {
+          backfill.deleteSource(connection, deletedIds);
+        }
+        saveStatement.executeBatch();
+        deleteStatement.executeBatch();
+        this.recordChanges(connection, ids);
+        connection.commit();
+      } catch (final SQLException exception) {
+        connection.rollback();
+        throw exception;
+      }
+    }
   }
 }
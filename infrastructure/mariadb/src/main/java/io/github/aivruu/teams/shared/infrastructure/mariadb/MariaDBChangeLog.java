@@ -0,0 +1,168 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.mariadb;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.StatementConstants;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+/**
+ * A table where the MariaDB repositories append the id of every player or tag written, within the same
+ * transaction of the write, so the servers sharing the database can poll only the changes done since their
+ * last poll instead of reading everything again.
+ * <p>
+ * Every change is identified by a monotonically increasing sequence, and tagged with the writer server's
+ * origin-id, so the servers can skip their own changes.
+ *
+ * @since 4.1.0
+ */
+public final class MariaDBChangeLog {
+  private final DataSource dataSource;
+  private final String tableName;
+  private final String origin = UUID.randomUUID().toString();
+
+  /**
+   * Creates a new {@link MariaDBChangeLog} with the given parameters.
+   *
+   * @param dataSource the {@link DataSource} for the change-log's table.
+   * @param tableName  the change-log's table name.
+   * @since 4.1.0
+   */
+  public MariaDBChangeLog(final @NotNull DataSource dataSource, final @NotNull String tableName) {
+    this.dataSource = dataSource;
+    this.tableName = tableName;
+  }
+
+  /**
+   * Returns the {@link DataSource} for the change-log's table.
+   *
+   * @return The {@link DataSource}.
+   * @since 4.1.0
+   */
+  public @NotNull DataSource dataSource() {
+    return this.dataSource;
+  }
+
+  /**
+   * Returns the change-log's table name.
+   *
+   * @return The table's name.
+   * @since 4.1.0
+   */
+  public @NotNull String tableName() {
+    return this.tableName;
+  }
+
+  /**
+   * Returns the id with which this server's changes are tagged.
+   *
+   * @return The server's origin-id.
+   * @since 4.1.0
+   */
+  public @NotNull String origin() {
+    return this.origin;
+  }
+
+  /**
+   * Creates the change-log's table if it doesn't exist yet.
+   *
+   * @return Whether the table exists.
+   * @since 4.1.0
+   */
+  public boolean start() {
+    try (final Connection connection = this.dataSource.getConnection();
+         final PreparedStatement statement = connection.prepareStatement(
+      StatementConstants.CREATE_CHANGE_LOG_TABLE_STATEMENT.formatted(this.tableName))
+    ) {
+      statement.execute();
+      return true;
+    } catch (final SQLException exception) {
+      Debugger.write("Unexpected exception when trying to create the database's change-log table.", exception);
+      return false;
+    }
+  }
+
+  /**
+   * Appends the given ids' changes to the change-log, using the given {@link Connection} so they're
+   * committed together with the writes.
+   *
+   * @param connection the writes' {@link Connection}.
+   * @param entity     the changes' {@link Entity}.
+   * @param ids        the written aggregate-roots' ids.
+   * @throws SQLException if the changes couldn't be appended.
+   * @since 4.1.0
+   */
+  public void record(
+     final @NotNull Connection connection,
+     final @NotNull Entity entity,
+     final @NotNull Collection<String> ids) throws SQLException {
+    if (ids.isEmpty()) {
+      return;
+    }
+    try (final PreparedStatement statement = connection.prepareStatement(
+       StatementConstants.INSERT_CHANGE_STATEMENT.formatted(this.tableName))) {
+      for (final String id : ids) {
+        statement.setByte(1, entity.code);
+        statement.setString(2, id);
+        statement.setString(3, this.origin);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+  }
+
+  /**
+   * The kinds of aggregate-roots whose changes are recorded.
+   *
+   * @since 4.1.0
+   */
+  public enum Entity {
+    PLAYER((byte) 1),
+    TAG((byte) 2);
+
+    private final byte code;
+
+    Entity(final byte code) {
+      this.code = code;
+    }
+
+    /**
+     * Returns the {@link Entity} stored with the given code.
+     *
+     * @param code the stored code.
+     * @return The {@link Entity}, or {@code null} if the code is unknown.
+     * @since 4.1.0
+     */
+    public static @Nullable Entity fromCode(final byte code) {
+      for (final Entity entity : values()) {
+        if (entity.code == code) {
+          return entity;
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,265 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.mariadb;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.StatementConstants;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the {@link MariaDBChangeLog} for the changes done by other servers since the last poll, and
+ * notifies the changed ids to a {@link Listener}, so every poll costs a single indexed range-query.
+ * <p>
+ * The sequences are assigned when the changes are inserted, but they're visible once their transactions
+ * are committed, so a change can appear after others with a higher sequence. The skipped sequences are
+ * polled again for a while, until they appear or their transactions are assumed rolled back.
+ *
+ * @since 4.1.0
+ */
+public final class MariaDBChangeLogPoller {
+  private static final int BATCH_SIZE = 500;
+  private static final int MAXIMUM_PENDING_GAPS = 512;
+  private static final long GAP_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10L);
+  private static final long PRUNE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1L);
+  private final MariaDBChangeLog changeLog;
+  private final long pollIntervalMillis;
+  private final long retentionSeconds;
+  private @Nullable Listener listener;
+  // The skipped sequences, and the time at which they're no longer expected.
+  private final TreeMap<Long, Long> gaps = new TreeMap<>();
+  // The changes whose application failed, which are applied again at the next poll.
+  private final Map<MariaDBChangeLog.Entity, Set<String>> failedChanges = new EnumMap<>(MariaDBChangeLog.Entity.class);
+  private long lastSequence = -1L;
+  private long lastPruneNanos = System.nanoTime();
+  private @Nullable ScheduledExecutorService scheduler;
+
+  /**
+   * Creates a new {@link MariaDBChangeLogPoller} with the given parameters.
+   *
+   * @param changeLog          the polled {@link MariaDBChangeLog}.
+   * @param pollIntervalMillis the time in milliseconds between every poll.
+   * @param retentionSeconds   the time in seconds after which the changes are deleted from the change-log.
+   * @since 4.1.0
+   */
+  public MariaDBChangeLogPoller(
+     final @NotNull MariaDBChangeLog changeLog,
+     final long pollIntervalMillis,
+     final long retentionSeconds) {
+    this.changeLog = changeLog;
+    this.pollIntervalMillis = Math.max(pollIntervalMillis, 100L);
+    this.retentionSeconds = retentionSeconds;
+  }
+
+  /**
+   * Marks the change-log's last sequence as the position from which the changes will be polled, this
+   * should be called before the aggregate-roots are loaded, so no change is missed between both.
+   *
+   * @return Whether the position could be read.
+   * @since 4.1.0
+   */
+  public synchronized boolean markPosition() {
+    try (final Connection connection = this.changeLog.dataSource().getConnection();
+         final PreparedStatement statement = connection.prepareStatement(
+      StatementConstants.FIND_LAST_CHANGE_SEQUENCE_STATEMENT.formatted(this.changeLog.tableName()));
+         final ResultSet resultSet = statement.executeQuery()
+    ) {
+      resultSet.next();
+      this.lastSequence = resultSet.getLong(1);
+      this.gaps.clear();
+      return true;
+    } catch (final SQLException exception) {
+      Debugger.write("Unexpected exception when trying to read the change-log's last sequence.", exception);
+      return false;
+    }
+  }
+
+  /**
+   * Starts polling the change-log at its own thread.
+   *
+   * @param listener the {@link Listener} notified about the changes.
+   * @since 4.1.0
+   */
+  public synchronized void start(final @NotNull Listener listener) {
+    if (this.scheduler != null) {
+      return;
+    }
+    this.listener = listener;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+       .name("Teams-Change-Log-Poller")
+       .daemon(true)
+       .factory());
+    this.scheduler.scheduleWithFixedDelay(this::poll, this.pollIntervalMillis, this.pollIntervalMillis,
+       TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops polling the change-log, waiting for the current poll to complete.
+   *
+   * @since 4.1.0
+   */
+  public synchronized void close() {
+    final ScheduledExecutorService scheduler = this.scheduler;
+    if (scheduler == null) {
+      return;
+    }
+    this.scheduler = null;
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(5L, TimeUnit.SECONDS)) {
+        scheduler.shutdownNow();
+      }
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      scheduler.shutdownNow();
+    }
+  }
+
+  private void poll() {
+    try {
+      if (this.lastSequence < 0L && !this.markPosition()) {
+        return;
+      }
+      // A full batch means that there could be more changes waiting.
+      while (this.pollBatch() == BATCH_SIZE && !Thread.currentThread().isInterrupted()) {
+        Debugger.write("Polling more changes from the change-log, at sequence {}.", this.lastSequence);
+      }
+      this.pruneExpiredChanges();
+    } catch (final SQLException | RuntimeException exception) {
+      Debugger.write("Unexpected exception when trying to poll the change-log.", exception);
+    }
+  }
+
+  private int pollBatch() throws SQLException {
+    final long now = System.nanoTime();
+    this.gaps.values().removeIf(deadline -> deadline - now <= 0L);
+    final String gapsCondition = this.gaps.isEmpty()
+       ? ""
+       : " OR sequence IN (" + String.join(", ", Collections.nCopies(this.gaps.size(), "?")) + ")";
+    final Map<MariaDBChangeLog.Entity, Set<String>> changes = new EnumMap<>(MariaDBChangeLog.Entity.class);
+    int rows = 0;
+    try (final Connection connection = this.changeLog.dataSource().getConnection();
+         final PreparedStatement statement = connection.prepareStatement(
+      StatementConstants.FIND_CHANGES_STATEMENT.formatted(this.changeLog.tableName(), gapsCondition))
+    ) {
+      int index = 1;
+      statement.setLong(index++, this.lastSequence);
+      for (final long gap : this.gaps.keySet()) {
+        statement.setLong(index++, gap);
+      }
+      statement.setInt(index, BATCH_SIZE);
+      try (final ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          rows++;
+          this.trackSequence(resultSet.getLong(1), now);
+          final MariaDBChangeLog.Entity entity = MariaDBChangeLog.Entity.fromCode(resultSet.getByte(2));
+          // This server's changes are already applied.
+          if (entity == null || this.changeLog.origin().equals(resultSet.getString(4))) {
+            continue;
+          }
+          changes.computeIfAbsent(entity, key -> new LinkedHashSet<>()).add(resultSet.getString(3));
+        }
+      }
+    }
+    // The sequences are already tracked, so the failed changes are kept until they're applied.
+    for (final Map.Entry<MariaDBChangeLog.Entity, Set<String>> entry : this.failedChanges.entrySet()) {
+      changes.computeIfAbsent(entry.getKey(), key -> new LinkedHashSet<>()).addAll(entry.getValue());
+    }
+    this.failedChanges.clear();
+    final Listener listener = this.listener;
+    for (final Map.Entry<MariaDBChangeLog.Entity, Set<String>> entry : changes.entrySet()) {
+      try {
+        listener.changed(entry.getKey(), entry.getValue());
+      } catch (final RuntimeException exception) {
+        Debugger.write("Unexpected exception when trying to apply {} polled changes, retrying at the next poll.",
+           entry.getValue().size(), exception);
+        this.failedChanges.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return rows;
+  }
+
+  private void trackSequence(final long sequence, final long now) {
+    if (sequence <= this.lastSequence) {
+      // A skipped sequence that was committed late.
+      this.gaps.remove(sequence);
+      return;
+    }
+    final long firstGap = Math.max(this.lastSequence + 1L, sequence - MAXIMUM_PENDING_GAPS);
+    for (long gap = firstGap; gap < sequence; gap++) {
+      this.gaps.put(gap, now + GAP_TIMEOUT_NANOS);
+    }
+    final Iterator<Long> iterator = this.gaps.keySet().iterator();
+    while (this.gaps.size() > MAXIMUM_PENDING_GAPS) {
+      iterator.next();
+      iterator.remove();
+    }
+    this.lastSequence = sequence;
+  }
+
+  private void pruneExpiredChanges() throws SQLException {
+    final long now = System.nanoTime();
+    if (this.retentionSeconds <= 0L || now - this.lastPruneNanos < PRUNE_INTERVAL_NANOS) {
+      return;
+    }
+    this.lastPruneNanos = now;
+    try (final Connection connection = this.changeLog.dataSource().getConnection();
+         final PreparedStatement statement = connection.prepareStatement(
+      StatementConstants.DELETE_EXPIRED_CHANGES_STATEMENT.formatted(this.changeLog.tableName()))
+    ) {
+      statement.setLong(1, this.retentionSeconds);
+      final int deleted = statement.executeUpdate();
+      if (deleted > 0) {
+        Debugger.write("Deleted {} expired changes from the change-log.", deleted);
+      }
+    }
+  }
+
+  /**
+   * Notified about the changes done by other servers.
+   *
+   * @since 4.1.0
+   */
+  @FunctionalInterface
+  public interface Listener {
+    /**
+     * Called from the poller's thread with the ids of the aggregate-roots written by other servers, whose
+     * current information should be read again from the database. If it throws an exception, the same ids
+     * are notified again at the next poll.
+     *
+     * @param entity the changes' {@link MariaDBChangeLog.Entity}.
+     * @param ids    the changed aggregate-roots' ids.
+     * @since 4.1.0
+     */
+    void changed(final @NotNull MariaDBChangeLog.Entity entity, final @NotNull Set<String> ids);
+  }
+}
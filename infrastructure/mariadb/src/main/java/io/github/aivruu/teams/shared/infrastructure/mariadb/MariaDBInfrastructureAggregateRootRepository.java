@@ -16,20 +16,96 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.teams.shared.infrastructure.mariadb;
 
-import com.zaxxer.hikari.HikariDataSource;
 import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
-import io.github.aivruu.teams.persistence.infrastructure.utils.HikariInstanceProvider;
 import io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.migration.MariaDBBackfill;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.migration.MariaDBSchemaMigrator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+import javax.sql.DataSource;
 
 public abstract class MariaDBInfrastructureAggregateRootRepository<A extends AggregateRoot>
    extends InfrastructureAggregateRootRepository<A> {
-  @Override
-  public void close() {
-    // Common logic for MariaDB implementations' close() method.
-    final HikariDataSource source = HikariInstanceProvider.get();
-    if (source == null) {
-      return;
+  /** The connection-pool from which every operation borrows its own connection. */
+  protected final DataSource dataSource;
+  private final @Nullable MariaDBSchemaMigrator schemaMigrator;
+  private final @Nullable MariaDBChangeLog changeLog;
+  private final MariaDBChangeLog.Entity entity;
+
+  protected MariaDBInfrastructureAggregateRootRepository(
+     final @NotNull DataSource dataSource,
+     final @Nullable MariaDBSchemaMigrator schemaMigrator,
+     final @Nullable MariaDBChangeLog changeLog,
+     final @NotNull MariaDBChangeLog.Entity entity) {
+    super(Type.MARIADB);
+    this.dataSource = dataSource;
+    this.schemaMigrator = schemaMigrator;
+    this.changeLog = changeLog;
+    this.entity = entity;
+  }
+
+  /**
+   * Returns the incomplete {@link MariaDBBackfill} of the given table, whose legacy rows must be copied
+   * before they're read, and deleted together with the table's rows.
+   *
+   * @param tableName the repository's table name.
+   * @return The {@link MariaDBBackfill}, or {@code null} if every legacy row was already copied.
+   * @since 4.1.0
+   */
+  protected @Nullable MariaDBBackfill pendingBackfill(final @NotNull String tableName) {
+    return (this.schemaMigrator == null) ? null : this.schemaMigrator.pendingBackfill(tableName);
+  }
+
+  /**
+   * Executes the given single-row update, and records the aggregate-root's change within the same
+   * transaction if the change-log is enabled.
+   *
+   * @param connection the statement's {@link Connection}.
+   * @param statement  the {@link PreparedStatement} to execute, with its parameters already set.
+   * @param id         the written aggregate-root's id.
+   * @return Whether any row was affected.
+   * @throws SQLException if the statement or the change couldn't be written.
+   * @since 4.1.0
+   */
+  protected boolean executeUpdateAndRecord(
+     final @NotNull Connection connection,
+     final @NotNull PreparedStatement statement,
+     final @NotNull String id) throws SQLException {
+    if (this.changeLog == null) {
+      return statement.executeUpdate() > 0;
+    }
+    connection.setAutoCommit(false);
+    try {
+      final boolean updated = statement.executeUpdate() > 0;
+      this.changeLog.record(connection, this.entity, List.of(id));
+      connection.commit();
+      return updated;
+    } catch (final SQLException exception) {
+      connection.rollback();
+      throw exception;
+    }
+  }
+
+  /**
+   * Records the given aggregate-roots' changes using the given {@link Connection}, so they're committed
+   * together with its current transaction, if the change-log is enabled.
+   *
+   * @param connection the writes' {@link Connection}.
+   * @param ids        the written aggregate-roots' ids.
+   * @throws SQLException if the changes couldn't be written.
+   * @since 4.1.0
+   */
+  protected void recordChanges(final @NotNull Connection connection, final @NotNull Collection<String> ids)
+     throws SQLException {
+    if (this.changeLog != null) {
+      this.changeLog.record(connection, this.entity, ids);
     }
-    source.close();
   }
 }
@@ -0,0 +1,182 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.mariadb.migration;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.StatementConstants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Copies the rows of a legacy table to the table that replaces it, in key-ordered chunks.
+ * <p>
+ * The rows are copied with single {@code INSERT IGNORE ... SELECT} statements, so the rows already written
+ * to the new table aren't overridden by their legacy version, and a legacy row deleted meanwhile can't be
+ * copied after its deletion. While the copy is in progress, the repositories copy the rows they read before
+ * reading them, and delete the legacy rows too.
+ *
+ * @since 4.1.0
+ */
+public final class MariaDBBackfill {
+  private final String targetTable;
+  private final String sourceTable;
+  private final String keyColumn;
+  private final String copyStatement;
+
+  /**
+   * Creates a new {@link MariaDBBackfill} with the given parameters.
+   *
+   * @param targetTable   the new table's name.
+   * @param sourceTable   the legacy table's name.
+   * @param keyColumn     the legacy table's primary-key column, which contains the aggregate-roots' ids.
+   * @param copyStatement the copy-statement, which requires the new table's name, the legacy table's name,
+   *                      and the condition for the rows to copy.
+   * @since 4.1.0
+   */
+  public MariaDBBackfill(
+     final @NotNull String targetTable,
+     final @NotNull String sourceTable,
+     final @NotNull String keyColumn,
+     final @NotNull String copyStatement) {
+    this.targetTable = targetTable;
+    this.sourceTable = sourceTable;
+    this.keyColumn = keyColumn;
+    this.copyStatement = copyStatement;
+  }
+
+  /**
+   * Returns the new table's name.
+   *
+   * @return The new table's name.
+   * @since 4.1.0
+   */
+  public @NotNull String targetTable() {
+    return this.targetTable;
+  }
+
+  /**
+   * Copies the rows with the given ids, if they weren't copied yet.
+   *
+   * @param connection the {@link Connection} to use.
+   * @param ids        the aggregate-roots' ids.
+   * @throws SQLException if the rows couldn't be copied.
+   * @since 4.1.0
+   */
+  public void copy(final @NotNull Connection connection, final @NotNull Collection<String> ids) throws SQLException {
+    if (ids.isEmpty()) {
+      return;
+    }
+    try (final PreparedStatement statement = connection.prepareStatement(this.copyStatement.formatted(
+       this.targetTable, this.sourceTable, this.keyColumn + " IN (" + placeholders(ids.size()) + ")"))) {
+      int index = 1;
+      for (final String id : ids) {
+        statement.setString(index++, id);
+      }
+      statement.executeUpdate();
+    }
+  }
+
+  /**
+   * Copies every row that wasn't copied yet.
+   *
+   * @param connection the {@link Connection} to use.
+   * @throws SQLException if the rows couldn't be copied.
+   * @since 4.1.0
+   */
+  public void copyAll(final @NotNull Connection connection) throws SQLException {
+    try (final PreparedStatement statement = connection.prepareStatement(this.copyStatement.formatted(
+       this.targetTable, this.sourceTable, "TRUE"))) {
+      statement.executeUpdate();
+    }
+  }
+
+  /**
+   * Copies the next chunk of rows after the given cursor.
+   *
+   * @param connection the {@link Connection} to use.
+   * @param cursor     the last copied row's key, or {@code null} to start from the first row.
+   * @param chunkSize  the maximum amount of rows to copy.
+   * @return The last copied row's key, or {@code null} if every row was copied.
+   * @throws SQLException if the rows couldn't be copied.
+   * @since 4.1.0
+   */
+  public @Nullable String copyChunk(
+     final @NotNull Connection connection,
+     final @Nullable String cursor,
+     final int chunkSize) throws SQLException {
+    final String from = (cursor == null) ? "" : cursor;
+    final String to;
+    try (final PreparedStatement statement = connection.prepareStatement(
+       StatementConstants.FIND_BACKFILL_CHUNK_END_STATEMENT.formatted(this.sourceTable, this.keyColumn))) {
+      statement.setString(1, from);
+      statement.setInt(2, Math.max(chunkSize, 1) - 1);
+      try (final ResultSet resultSet = statement.executeQuery()) {
+        to = resultSet.next() ? resultSet.getString(1) : null;
+      }
+    }
+    // Without a full chunk left, the remaining rows are copied together.
+    final String condition = (to == null)
+       ? this.keyColumn + " > ?"
+       : this.keyColumn + " > ? AND " + this.keyColumn + " <= ?";
+    try (final PreparedStatement statement = connection.prepareStatement(this.copyStatement.formatted(
+       this.targetTable, this.sourceTable, condition))) {
+      statement.setString(1, from);
+      if (to != null) {
+        statement.setString(2, to);
+      }
+      statement.executeUpdate();
+    }
+    return to;
+  }
+
+  /**
+   * Deletes the legacy rows with the given ids, so they aren't copied after their deletion from the new
+   * table.
+   *
+   * @param connection the {@link Connection} to use.
+   * @param ids        the deleted aggregate-roots' ids.
+   * @throws SQLException if the rows couldn't be deleted.
+   * @since 4.1.0
+   */
+  public void deleteSource(final @NotNull Connection connection, final @NotNull Collection<String> ids)
+     throws SQLException {
+    if (ids.isEmpty()) {
+      return;
+    }
+    try (final PreparedStatement statement = connection.prepareStatement(
+       StatementConstants.DELETE_BACKFILL_SOURCE_ROWS_STATEMENT.formatted(
+          this.sourceTable, this.keyColumn, placeholders(ids.size())))) {
+      int index = 1;
+      for (final String id : ids) {
+        statement.setString(index++, id);
+      }
+      statement.executeUpdate();
+    }
+  }
+
+  private static @NotNull String placeholders(final int amount) {
+    final List<String> placeholders = Collections.nCopies(amount, "?");
+    return String.join(", ", placeholders);
+  }
+}
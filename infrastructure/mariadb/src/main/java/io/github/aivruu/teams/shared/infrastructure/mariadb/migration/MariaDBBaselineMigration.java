@@ -0,0 +1,69 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.mariadb.migration;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.StatementConstants;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * The schema-version 1, the tables created by the plugin before the schema-versions were recorded.
+ *
+ * @since 4.1.0
+ */
+public final class MariaDBBaselineMigration implements MariaDBMigration {
+  private final String playersTableName;
+  private final String tagsTableName;
+
+  /**
+   * Creates a new {@link MariaDBBaselineMigration} with the given parameters.
+   *
+   * @param playersTableName the player-data table's name.
+   * @param tagsTableName    the tag-data table's name.
+   * @since 4.1.0
+   */
+  public MariaDBBaselineMigration(final @NotNull String playersTableName, final @NotNull String tagsTableName) {
+    this.playersTableName = playersTableName;
+    this.tagsTableName = tagsTableName;
+  }
+
+  @Override
+  public int version() {
+    return 1;
+  }
+
+  @Override
+  public @NotNull String description() {
+    return "Text player-data and json tag-data tables";
+  }
+
+  @Override
+  public void migrate(final @NotNull Connection connection) throws SQLException {
+    // Existing tables are kept, they were created by the plugin's previous versions.
+    try (final PreparedStatement playersStatement = connection.prepareStatement(
+       StatementConstants.CREATE_LEGACY_PLAYERS_DATA_TABLE_STATEMENT.formatted(this.playersTableName));
+         final PreparedStatement tagsStatement = connection.prepareStatement(
+       StatementConstants.CREATE_LEGACY_TAGS_DATA_TABLE_STATEMENT.formatted(this.tagsTableName))
+    ) {
+      playersStatement.execute();
+      tagsStatement.execute();
+    }
+  }
+}
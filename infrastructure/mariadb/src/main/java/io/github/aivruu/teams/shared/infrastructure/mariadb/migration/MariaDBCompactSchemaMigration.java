@@ -0,0 +1,113 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.mariadb.migration;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.StatementConstants;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * The schema-version 2, which stores the players' uuids as {@code BINARY(16)} with an indexed tag-id, and
+ * the tags' properties as typed columns instead of json-content.
+ * <p>
+ * The version 1 tables are renamed with a {@code _v1} suffix, and their rows are copied to the new tables
+ * by {@link MariaDBBackfill}s while the server runs.
+ *
+ * @since 4.1.0
+ */
+public final class MariaDBCompactSchemaMigration implements MariaDBMigration {
+  private static final String LEGACY_TABLE_SUFFIX = "_v1";
+  private final String playersTableName;
+  private final String tagsTableName;
+
+  /**
+   * Creates a new {@link MariaDBCompactSchemaMigration} with the given parameters.
+   *
+   * @param playersTableName the player-data table's name.
+   * @param tagsTableName    the tag-data table's name.
+   * @since 4.1.0
+   */
+  public MariaDBCompactSchemaMigration(final @NotNull String playersTableName, final @NotNull String tagsTableName) {
+    this.playersTableName = playersTableName;
+    this.tagsTableName = tagsTableName;
+  }
+
+  @Override
+  public int version() {
+    return 2;
+  }
+
+  @Override
+  public @NotNull String description() {
+    return "Binary player uuids, indexed player tags and typed tag properties";
+  }
+
+  @Override
+  public void migrate(final @NotNull Connection connection) throws SQLException {
+    this.replaceTable(connection, this.playersTableName, StatementConstants.CREATE_LEGACY_PLAYERS_DATA_TABLE_STATEMENT,
+       StatementConstants.CREATE_PLAYERS_DATA_TABLE_STATEMENT);
+    this.replaceTable(connection, this.tagsTableName, StatementConstants.CREATE_LEGACY_TAGS_DATA_TABLE_STATEMENT,
+       StatementConstants.CREATE_TAGS_DATA_TABLE_STATEMENT);
+  }
+
+  @Override
+  public @NotNull List<MariaDBBackfill> backfills() {
+    return List.of(
+       new MariaDBBackfill(this.playersTableName, this.playersTableName + LEGACY_TABLE_SUFFIX, "uuid",
+          StatementConstants.COPY_LEGACY_PLAYERS_DATA_STATEMENT),
+       new MariaDBBackfill(this.tagsTableName, this.tagsTableName + LEGACY_TABLE_SUFFIX, "id",
+          StatementConstants.COPY_LEGACY_TAGS_DATA_STATEMENT));
+  }
+
+  private void replaceTable(
+     final @NotNull Connection connection,
+     final @NotNull String tableName,
+     final @NotNull String createLegacyTableStatement,
+     final @NotNull String createTableStatement) throws SQLException {
+    final String legacyTableName = tableName + LEGACY_TABLE_SUFFIX;
+    // Once renamed, the legacy table is kept, so a retry after a partial migration doesn't rename it again.
+    if (!tableExists(connection, legacyTableName) && tableExists(connection, tableName)) {
+      try (final PreparedStatement statement = connection.prepareStatement(
+         StatementConstants.RENAME_TABLE_STATEMENT.formatted(tableName, legacyTableName))) {
+        statement.execute();
+      }
+    }
+    try (final PreparedStatement legacyStatement = connection.prepareStatement(
+       createLegacyTableStatement.formatted(legacyTableName));
+         final PreparedStatement statement = connection.prepareStatement(createTableStatement.formatted(tableName))
+    ) {
+      legacyStatement.execute();
+      statement.execute();
+    }
+  }
+
+  private static boolean tableExists(final @NotNull Connection connection, final @NotNull String tableName)
+     throws SQLException {
+    try (final PreparedStatement statement = connection.prepareStatement(
+       StatementConstants.FIND_TABLE_EXISTENCE_STATEMENT)) {
+      statement.setString(1, tableName);
+      try (final ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next();
+      }
+    }
+  }
+}
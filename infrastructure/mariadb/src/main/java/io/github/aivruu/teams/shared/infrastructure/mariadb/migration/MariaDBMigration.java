@@ -0,0 +1,71 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.mariadb.migration;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A versioned change to the MariaDB schema, applied once by the {@link MariaDBSchemaMigrator}.
+ * <p>
+ * The structural changes are applied while the migrations' lock is held, so they should be fast, the rows
+ * that must be copied to the new tables are copied later in chunks through the migration's
+ * {@link MariaDBBackfill}s, while the server runs.
+ *
+ * @since 4.1.0
+ */
+public interface MariaDBMigration {
+  /**
+   * Returns this migration's schema-version, migrations are applied in ascending version order.
+   *
+   * @return The schema-version.
+   * @since 4.1.0
+   */
+  int version();
+
+  /**
+   * Returns a short description of this migration's changes.
+   *
+   * @return The migration's description.
+   * @since 4.1.0
+   */
+  @NotNull String description();
+
+  /**
+   * Applies this migration's structural changes, this method should be safe to call again if a previous
+   * attempt failed halfway, as MariaDB commits every DDL-statement by itself.
+   *
+   * @param connection the migrations' {@link Connection}.
+   * @throws SQLException if the changes couldn't be applied.
+   * @since 4.1.0
+   */
+  void migrate(final @NotNull Connection connection) throws SQLException;
+
+  /**
+   * Returns the {@link MariaDBBackfill}s of the rows that this migration moves to new tables.
+   *
+   * @return A {@link List} with the {@link MariaDBBackfill}s, empty by default.
+   * @since 4.1.0
+   */
+  default @NotNull List<MariaDBBackfill> backfills() {
+    return Collections.emptyList();
+  }
+}
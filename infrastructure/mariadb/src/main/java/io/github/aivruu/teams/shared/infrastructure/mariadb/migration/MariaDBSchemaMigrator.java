@@ -0,0 +1,303 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.mariadb.migration;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.StatementConstants;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+/**
+ * Applies the pending {@link MariaDBMigration}s in version order, and records the applied versions in a
+ * schema-version table.
+ * <p>
+ * The migrations are applied while a MariaDB named-lock is held, so the servers sharing the database
+ * starting at the same time don't apply them twice. The migrations' {@link MariaDBBackfill}s are run in
+ * chunks later by any of the servers, their progress is stored in a table, so a backfill is resumed from
+ * its last chunk after a restart.
+ *
+ * @since 4.1.0
+ */
+public final class MariaDBSchemaMigrator {
+  private static final String VERSION_TABLE_NAME = "teams_schema_version";
+  private static final String BACKFILL_TABLE_NAME = "teams_schema_backfill";
+  private static final String MIGRATION_LOCK_NAME = "teams.schema-migration";
+  private static final String BACKFILL_LOCK_NAME = "teams.schema-backfill";
+  private static final int MIGRATION_LOCK_TIMEOUT_SECONDS = 60;
+  private final DataSource dataSource;
+  private final List<MariaDBMigration> migrations;
+  // The incomplete backfills mapped by their new tables' names.
+  private final Map<String, MariaDBBackfill> pendingBackfills = new ConcurrentHashMap<>();
+  private @Nullable ScheduledExecutorService scheduler;
+
+  /**
+   * Creates a new {@link MariaDBSchemaMigrator} with the given parameters.
+   *
+   * @param dataSource the {@link DataSource} for the schema.
+   * @param migrations every {@link MariaDBMigration} known by the plugin.
+   * @since 4.1.0
+   */
+  public MariaDBSchemaMigrator(final @NotNull DataSource dataSource, final @NotNull List<MariaDBMigration> migrations) {
+    this.dataSource = dataSource;
+    this.migrations = new ArrayList<>(migrations);
+    this.migrations.sort(Comparator.comparingInt(MariaDBMigration::version));
+  }
+
+  /**
+   * Applies the pending migrations, waiting for the migrations' lock if other server is applying them.
+   *
+   * @return Whether the schema is up-to-date.
+   * @since 4.1.0
+   */
+  public boolean migrate() {
+    try (final Connection connection = this.dataSource.getConnection()) {
+      if (!acquireLock(connection, MIGRATION_LOCK_NAME, MIGRATION_LOCK_TIMEOUT_SECONDS)) {
+        Debugger.write("The MariaDB schema-migrations' lock couldn't be acquired in {} seconds.",
+           MIGRATION_LOCK_TIMEOUT_SECONDS);
+        return false;
+      }
+      try {
+        this.applyMigrations(connection);
+        this.loadPendingBackfills(connection);
+        return true;
+      } finally {
+        releaseLock(connection, MIGRATION_LOCK_NAME);
+      }
+    } catch (final SQLException exception) {
+      Debugger.write("Unexpected exception when trying to migrate the MariaDB schema.", exception);
+      return false;
+    }
+  }
+
+  /**
+   * Returns the incomplete {@link MariaDBBackfill} whose rows are copied to the given table.
+   *
+   * @param tableName the new table's name.
+   * @return The {@link MariaDBBackfill}, or {@code null} if every row of the table was already copied.
+   * @since 4.1.0
+   */
+  public @Nullable MariaDBBackfill pendingBackfill(final @NotNull String tableName) {
+    return this.pendingBackfills.get(tableName);
+  }
+
+  /**
+   * Starts running the pending backfills in chunks at their own thread.
+   *
+   * @param intervalMillis the time in milliseconds between every chunk.
+   * @param chunkSize      the maximum amount of rows copied per chunk.
+   * @since 4.1.0
+   */
+  public synchronized void startBackfills(final long intervalMillis, final int chunkSize) {
+    if (this.scheduler != null || this.pendingBackfills.isEmpty()) {
+      return;
+    }
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+       .name("Teams-Schema-Backfill")
+       .daemon(true)
+       .factory());
+    final long interval = Math.max(intervalMillis, 10L);
+    this.scheduler.scheduleWithFixedDelay(() -> this.backfillChunk(chunkSize), interval, interval,
+       TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops running the pending backfills, waiting for the current chunk to complete, the backfills are
+   * resumed from their last chunk at the next start-up.
+   *
+   * @since 4.1.0
+   */
+  public synchronized void close() {
+    final ScheduledExecutorService scheduler = this.scheduler;
+    if (scheduler == null) {
+      return;
+    }
+    this.scheduler = null;
+    scheduler.shutdown();
+    try {
+      if (!scheduler.awaitTermination(10L, TimeUnit.SECONDS)) {
+        scheduler.shutdownNow();
+      }
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      scheduler.shutdownNow();
+    }
+  }
+
+  private void applyMigrations(final @NotNull Connection connection) throws SQLException {
+    try (final PreparedStatement versionStatement = connection.prepareStatement(
+       StatementConstants.CREATE_SCHEMA_VERSION_TABLE_STATEMENT.formatted(VERSION_TABLE_NAME));
+         final PreparedStatement backfillStatement = connection.prepareStatement(
+       StatementConstants.CREATE_SCHEMA_BACKFILL_TABLE_STATEMENT.formatted(BACKFILL_TABLE_NAME))
+    ) {
+      versionStatement.execute();
+      backfillStatement.execute();
+    }
+    final Set<Integer> appliedVersions = new HashSet<>();
+    try (final PreparedStatement statement = connection.prepareStatement(
+       StatementConstants.FIND_SCHEMA_VERSIONS_STATEMENT.formatted(VERSION_TABLE_NAME));
+         final ResultSet resultSet = statement.executeQuery()
+    ) {
+      while (resultSet.next()) {
+        appliedVersions.add(resultSet.getInt(1));
+      }
+    }
+    for (final MariaDBMigration migration : this.migrations) {
+      if (appliedVersions.contains(migration.version())) {
+        continue;
+      }
+      Debugger.write("Applying MariaDB schema-migration {}: {}.", migration.version(), migration.description());
+      migration.migrate(connection);
+      try (final PreparedStatement statement = connection.prepareStatement(
+         StatementConstants.INSERT_SCHEMA_BACKFILL_STATEMENT.formatted(BACKFILL_TABLE_NAME))) {
+        for (final MariaDBBackfill backfill : migration.backfills()) {
+          statement.setString(1, backfill.targetTable());
+          statement.addBatch();
+        }
+        statement.executeBatch();
+      }
+      try (final PreparedStatement statement = connection.prepareStatement(
+         StatementConstants.INSERT_SCHEMA_VERSION_STATEMENT.formatted(VERSION_TABLE_NAME))) {
+        statement.setInt(1, migration.version());
+        statement.setString(2, migration.description());
+        statement.executeUpdate();
+      }
+    }
+  }
+
+  private void loadPendingBackfills(final @NotNull Connection connection) throws SQLException {
+    final Map<String, MariaDBBackfill> backfills = new HashMap<>();
+    for (final MariaDBMigration migration : this.migrations) {
+      for (final MariaDBBackfill backfill : migration.backfills()) {
+        backfills.put(backfill.targetTable(), backfill);
+      }
+    }
+    try (final PreparedStatement statement = connection.prepareStatement(
+       StatementConstants.FIND_PENDING_SCHEMA_BACKFILLS_STATEMENT.formatted(BACKFILL_TABLE_NAME));
+         final ResultSet resultSet = statement.executeQuery()
+    ) {
+      while (resultSet.next()) {
+        final MariaDBBackfill backfill = backfills.get(resultSet.getString(1));
+        // Backfills of tables that aren't used anymore are ignored.
+        if (backfill != null) {
+          this.pendingBackfills.put(backfill.targetTable(), backfill);
+        }
+      }
+    }
+  }
+
+  private void backfillChunk(final int chunkSize) {
+    if (this.pendingBackfills.isEmpty()) {
+      final ScheduledExecutorService scheduler = this.scheduler;
+      if (scheduler != null) {
+        scheduler.shutdown();
+      }
+      return;
+    }
+    try (final Connection connection = this.dataSource.getConnection()) {
+      // Other server is copying a chunk, its progress is read at the next chunk.
+      if (!acquireLock(connection, BACKFILL_LOCK_NAME, 0)) {
+        return;
+      }
+      try {
+        for (final MariaDBBackfill backfill : this.pendingBackfills.values()) {
+          this.backfillChunk(connection, backfill, chunkSize);
+        }
+      } finally {
+        releaseLock(connection, BACKFILL_LOCK_NAME);
+      }
+    } catch (final SQLException | RuntimeException exception) {
+      Debugger.write("Unexpected exception when trying to backfill the MariaDB schema's new tables.", exception);
+    }
+  }
+
+  private void backfillChunk(
+     final @NotNull Connection connection,
+     final @NotNull MariaDBBackfill backfill,
+     final int chunkSize) throws SQLException {
+    final String cursor;
+    try (final PreparedStatement statement = connection.prepareStatement(
+       StatementConstants.FIND_SCHEMA_BACKFILL_STATEMENT.formatted(BACKFILL_TABLE_NAME))) {
+      statement.setString(1, backfill.targetTable());
+      try (final ResultSet resultSet = statement.executeQuery()) {
+        if (!resultSet.next() || resultSet.getBoolean(2)) {
+          this.completeBackfill(backfill);
+          return;
+        }
+        cursor = resultSet.getString(1);
+      }
+    }
+    final String nextCursor = backfill.copyChunk(connection, cursor, chunkSize);
+    try (final PreparedStatement statement = connection.prepareStatement(
+       StatementConstants.UPDATE_SCHEMA_BACKFILL_STATEMENT.formatted(BACKFILL_TABLE_NAME))) {
+      // A cursor equal to the last chunk's one is kept, so the chunk is copied again if the update fails.
+      statement.setString(1, (nextCursor == null) ? cursor : nextCursor);
+      statement.setBoolean(2, nextCursor == null);
+      statement.setString(3, backfill.targetTable());
+      statement.executeUpdate();
+    }
+    if (nextCursor == null) {
+      this.completeBackfill(backfill);
+    }
+  }
+
+  private void completeBackfill(final @NotNull MariaDBBackfill backfill) {
+    if (this.pendingBackfills.remove(backfill.targetTable()) != null) {
+      Debugger.write("Every legacy row was copied to the '{}' table, its legacy table can be dropped now.",
+         backfill.targetTable());
+    }
+  }
+
+  private static boolean acquireLock(
+     final @NotNull Connection connection,
+     final @NotNull String name,
+     final int timeoutSeconds) throws SQLException {
+    try (final PreparedStatement statement = connection.prepareStatement(StatementConstants.ACQUIRE_LOCK_STATEMENT)) {
+      statement.setString(1, name);
+      statement.setInt(2, timeoutSeconds);
+      try (final ResultSet resultSet = statement.executeQuery()) {
+        // GET_LOCK returns 1 when the lock is acquired, 0 on timeout, and NULL on errors.
+        return resultSet.next() && resultSet.getInt(1) == 1;
+      }
+    }
+  }
+
+  private static void releaseLock(final @NotNull Connection connection, final @NotNull String name)
+     throws SQLException {
+    try (final PreparedStatement statement = connection.prepareStatement(StatementConstants.RELEASE_LOCK_STATEMENT)) {
+      statement.setString(1, name);
+      statement.execute();
+    }
+  }
+}
@@ -18,11 +18,15 @@ package io.github.aivruu.teams.tag.infrastructure.mariadb;
 
 import io.github.aivruu.teams.util.application.Debugger;
 import io.github.aivruu.teams.persistence.infrastructure.utils.StatementConstants;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.MariaDBChangeLog;
 import io.github.aivruu.teams.shared.infrastructure.mariadb.MariaDBInfrastructureAggregateRootRepository;
-import io.github.aivruu.teams.shared.infrastructure.json.JsonCoder;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.migration.MariaDBBackfill;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.migration.MariaDBSchemaMigrator;
 import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
 import io.github.aivruu.teams.tag.domain.TagModelEntity;
 import io.github.aivruu.teams.tag.domain.TagPropertiesValueObject;
+import io.github.aivruu.teams.util.application.component.PlainComponentParser;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -30,16 +34,32 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.sql.DataSource;
 
 public final class TagMariaDBInfrastructureAggregateRootRepository extends MariaDBInfrastructureAggregateRootRepository<TagAggregateRoot> {
-  private final Connection connectionPool;
   private final String tableName;
 
   public TagMariaDBInfrastructureAggregateRootRepository(
-    final @NotNull Connection connectionPool,
+    final @NotNull DataSource dataSource,
     final @NotNull String tableName) {
-    this.connectionPool = connectionPool;
+    this(dataSource, tableName, null, null);
+  }
+
+  public TagMariaDBInfrastructureAggregateRootRepository(
+    final @NotNull DataSource dataSource,
+    final @NotNull String tableName,
+    final @Nullable MariaDBSchemaMigrator schemaMigrator,
+    final @Nullable MariaDBChangeLog changeLog) {
+    super(dataSource, schemaMigrator, changeLog, MariaDBChangeLog.Entity.TAG);
     this.tableName = tableName;
   }
 
@@ -47,45 +67,107 @@ public final class TagMariaDBInfrastructureAggregateRootRepository extends Maria
   public boolean start() {
     return CompletableFuture
       .supplyAsync(() -> {
-        try (final PreparedStatement statement = this.connectionPool.prepareStatement(
+        try (final Connection connection = this.dataSource.getConnection();
+             final PreparedStatement statement = connection.prepareStatement(
           StatementConstants.CREATE_TAGS_DATA_TABLE_STATEMENT.formatted(this.tableName))
         ) {
-          return statement.execute();
+          // execute() returns whether the result is a result-set, which never is for this statement.
+          statement.execute();
+          return true;
         } catch (final SQLException exception) {
           Debugger.write("Unexpected exception when trying to create the database's tag-data table.", exception);
           return false;
         }
-      }, THREAD_POOL)
+      }, this.writeExecutor)
       .join();
   }
 
   @Override
   public @NotNull CompletableFuture<@Nullable TagAggregateRoot> findAsync(final @NotNull String id) {
     return CompletableFuture.supplyAsync(() -> {
-      try (final PreparedStatement statement = this.connectionPool.prepareStatement(
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
         StatementConstants.FIND_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
       ) {
+        this.copyLegacyRows(connection, List.of(id));
         statement.setString(1, id);
         try (final ResultSet resultSet = statement.executeQuery()){
-          if (!resultSet.next()) {
-            return null;
-          }
-          final TagPropertiesValueObject properties = JsonCoder.readProperties(resultSet.getString("properties"));
-          return new TagAggregateRoot(id, new TagModelEntity(id, (properties == null) ? TagPropertiesValueObject.EMPTY : properties));
+          return !resultSet.next() ? null : new TagAggregateRoot(id, new TagModelEntity(id, readProperties(resultSet)));
         }
       } catch (final SQLException exception) {
         Debugger.write("Unexpected exception when trying to retrieve tag's information from database.", exception);
         return null;
       }
-    }, THREAD_POOL);
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, TagAggregateRoot>> findManyAsync(
+     final @NotNull Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return CompletableFuture.completedFuture(new HashMap<>());
+    }
+    final List<String> idsToSearch = new ArrayList<>(ids);
+    return CompletableFuture.supplyAsync(() -> {
+      final String placeholders = String.join(", ", Collections.nCopies(idsToSearch.size(), "?"));
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
+        StatementConstants.FIND_TAGS_INFORMATION_STATEMENT.formatted(this.tableName, placeholders))
+      ) {
+        this.copyLegacyRows(connection, idsToSearch);
+        for (int i = 0; i < idsToSearch.size(); i++) {
+          statement.setString(i + 1, idsToSearch.get(i));
+        }
+        final Map<String, TagAggregateRoot> tagAggregateRoots = new HashMap<>(idsToSearch.size());
+        try (final ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            final String id = resultSet.getString("id");
+            tagAggregateRoots.put(id, new TagAggregateRoot(id, new TagModelEntity(id, readProperties(resultSet))));
+          }
+        }
+        return tagAggregateRoots;
+      } catch (final SQLException exception) {
+        // Propagated so callers don't take the missing tags as deleted ones.
+        throw new CompletionException("Unexpected exception when trying to retrieve tags' information from database.",
+           exception);
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<TagAggregateRoot>> findAllAsync() {
+    return CompletableFuture.supplyAsync(() -> {
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
+        StatementConstants.FIND_ALL_TAGS_INFORMATION_STATEMENT.formatted(this.tableName))
+      ) {
+        final MariaDBBackfill backfill = this.pendingBackfill(this.tableName);
+        if (backfill != null) {
+          backfill.copyAll(connection);
+        }
+        final List<TagAggregateRoot> tagAggregateRoots = new ArrayList<>();
+        try (final ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next()) {
+            final String id = resultSet.getString("id");
+            tagAggregateRoots.add(new TagAggregateRoot(id, new TagModelEntity(id, readProperties(resultSet))));
+          }
+        }
+        return tagAggregateRoots;
+      } catch (final SQLException exception) {
+        throw new CompletionException("Unexpected exception when trying to retrieve all tags' information from database.",
+           exception);
+      }
+    }, this.readExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
     return CompletableFuture.supplyAsync(() -> {
-      try (final PreparedStatement statement = this.connectionPool.prepareStatement(
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
         StatementConstants.FIND_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
       ) {
+        this.copyLegacyRows(connection, List.of(id));
         statement.setString(1, id);
         try (final ResultSet resultSet = statement.executeQuery()) {
           return resultSet.next();
@@ -94,37 +176,112 @@ public final class TagMariaDBInfrastructureAggregateRootRepository extends Maria
         Debugger.write("Unexpected exception when trying to verify if tag's data exists in database.", exception);
         return false;
       }
-    }, THREAD_POOL);
+    }, this.readExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull TagAggregateRoot aggregateRoot) {
     return CompletableFuture.supplyAsync(() -> {
-      try (final PreparedStatement statement = this.connectionPool.prepareStatement(
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
         StatementConstants.SAVE_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
       ) {
         statement.setString(1, aggregateRoot.id());
-        statement.setString(2, JsonCoder.writeProperties(aggregateRoot.tagModel().tagComponentProperties()));
-        return statement.executeUpdate() > 0;
+        writeProperties(statement, aggregateRoot.tagModel().tagComponentProperties());
+        return this.executeUpdateAndRecord(connection, statement, aggregateRoot.id());
       } catch (final SQLException exception) {
         Debugger.write("Unexpected exception when trying to save tag's data to the database.", exception);
         return false;
       }
-    }, THREAD_POOL);
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<TagAggregateRoot> aggregateRoots) {
+    return CompletableFuture.supplyAsync(() -> {
+      boolean saved;
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
+        StatementConstants.SAVE_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
+      ) {
+        connection.setAutoCommit(false);
+        try {
+          for (final TagAggregateRoot aggregateRoot : aggregateRoots) {
+            statement.setString(1, aggregateRoot.id());
+            writeProperties(statement, aggregateRoot.tagModel().tagComponentProperties());
+            statement.addBatch();
+          }
+          statement.executeBatch();
+          final List<String> ids = new ArrayList<>(aggregateRoots.size());
+          for (final TagAggregateRoot aggregateRoot : aggregateRoots) {
+            ids.add(aggregateRoot.id());
+          }
+          this.recordChanges(connection, ids);
+          connection.commit();
+          saved = true;
+        } catch (final SQLException exception) {
+          connection.rollback();
+          throw exception;
+        }
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to save {} tags' data to the database.",
+           aggregateRoots.size(), exception);
+        saved = false;
+      }
+      final Map<String, Boolean> results = new HashMap<>(aggregateRoots.size());
+      for (final TagAggregateRoot aggregateRoot : aggregateRoots) {
+        results.put(aggregateRoot.id(), saved);
+      }
+      return results;
+    }, this.writeExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
     return CompletableFuture.supplyAsync(() -> {
-      try (final PreparedStatement statement = this.connectionPool.prepareStatement(
+      try (final Connection connection = this.dataSource.getConnection();
+           final PreparedStatement statement = connection.prepareStatement(
         StatementConstants.DELETE_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
       ) {
+        final MariaDBBackfill backfill = this.pendingBackfill(this.tableName);
+        if (backfill != null) {
+          // Otherwise, the legacy row would be copied again after the deletion.
+          backfill.deleteSource(connection, List.of(id));
+        }
         statement.setString(1, id);
-        return statement.executeUpdate() > 0;
+        return this.executeUpdateAndRecord(connection, statement, id);
       } catch (final SQLException exception) {
         Debugger.write("Unexpected exception when trying to delete tag's data from the database.", exception);
         return false;
       }
-    }, THREAD_POOL);
+    }, this.writeExecutor);
+  }
+
+  private void copyLegacyRows(final @NotNull Connection connection, final @NotNull Collection<String> ids)
+     throws SQLException {
+    final MariaDBBackfill backfill = this.pendingBackfill(this.tableName);
+    if (backfill != null) {
+      backfill.copy(connection, ids);
+    }
+  }
+
+  private static @NotNull TagPropertiesValueObject readProperties(final @NotNull ResultSet resultSet)
+     throws SQLException {
+    final String prefix = resultSet.getString("prefix");
+    final String suffix = resultSet.getString("suffix");
+    final NamedTextColor color = NamedTextColor.namedColor(resultSet.getInt("color"));
+    return new TagPropertiesValueObject(
+       (prefix == null) ? null : PlainComponentParser.modern(prefix),
+       (suffix == null) ? null : PlainComponentParser.modern(suffix),
+       (color == null) ? NamedTextColor.WHITE : color);
+  }
+
+  private static void writeProperties(
+     final @NotNull PreparedStatement statement,
+     final @NotNull TagPropertiesValueObject properties) throws SQLException {
+    statement.setString(2, PlainComponentParser.plainOrNull(properties.prefix()));
+    statement.setString(3, PlainComponentParser.plainOrNull(properties.suffix()));
+    statement.setInt(4, properties.color().value());
   }
 }
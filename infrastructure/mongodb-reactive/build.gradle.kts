@@ -0,0 +1,6 @@
+dependencies {
+  api(project(":${rootProject.name}-infrastructure-mongodb"))
+
+  compileOnlyApi(libs.annotations)
+  compileOnlyApi(libs.mongodb.reactive)
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.persistence.infrastructure.utils;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCredential;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * This utility-class is used to provide reactive-streams {@link MongoClient} instances-building easily.
+ *
+ * @since 4.1.0
+ */
+public final class ReactiveMongoClientHelper {
+  private static @Nullable MongoClient client;
+
+  private ReactiveMongoClientHelper() {
+    throw new UnsupportedOperationException("This class is for utility and cannot be instantiated.");
+  }
+
+  /**
+   * Creates a new reactive-streams {@link MongoClient} instance providing a {@link MongoClientSettings}
+   * with the given information parameters, and the same codecs than the {@link MongoClientHelper}'s client.
+   *
+   * @param host the mongo-db server's host.
+   * @param username the database username.
+   * @param database the database's displayName.
+   * @param password the password for authentication.
+   * @since 4.1.0
+   */
+  public static void buildClient(
+    final @NotNull String host,
+    final @NotNull String username,
+    final @NotNull String database,
+    final @NotNull String password
+  ) {
+    if (client != null) {
+      return;
+    }
+    final MongoClientSettings clientSettings = MongoClientSettings.builder()
+      .applyConnectionString(new ConnectionString("mongodb://" + host))
+      .credential(MongoCredential.createCredential(username, database, password.toCharArray()))
+      .codecRegistry(MongoClientHelper.codecRegistry())
+      .build();
+    client = MongoClients.create(clientSettings);
+  }
+
+  /**
+   * Returns the reactive-streams {@link MongoClient} instance, if {@code client} wasn't built this function
+   * will return {@code null}.
+   *
+   * @return The {@link MongoClient} or {@code null}.
+   * @since 4.1.0
+   */
+  public static @Nullable MongoClient client() {
+    return client;
+  }
+
+  /**
+   * Closes the {@link MongoClient} instance, if it was built, once every repository using it has been closed.
+   *
+   * @since 4.1.0
+   */
+  public static void close() {
+    if (client == null) {
+      return;
+    }
+    client.close();
+    client = null;
+  }
+}
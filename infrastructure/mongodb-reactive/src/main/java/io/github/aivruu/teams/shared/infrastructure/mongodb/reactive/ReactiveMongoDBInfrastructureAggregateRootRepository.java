@@ -0,0 +1,200 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.mongodb.reactive;
+
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
+import io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.shared.infrastructure.reactive.PublisherFutureAdapter;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static io.github.aivruu.teams.shared.infrastructure.mongodb.MongoDBInfrastructureAggregateRootRepository.WriteConcernLevel;
+
+/**
+ * A MongoDB infrastructure-repository based on the reactive-streams driver, its operations don't hold any
+ * thread while they're waiting for the server's response.
+ *
+ * @param <A> an aggregate-root type.
+ * @since 4.1.0
+ */
+public abstract class ReactiveMongoDBInfrastructureAggregateRootRepository<A extends AggregateRoot>
+   extends InfrastructureAggregateRootRepository<A> {
+  // Saves replace the whole document, or insert it if there's none, at a single round-trip.
+  private static final ReplaceOptions UPSERT_OPTIONS = new ReplaceOptions().upsert(true);
+  private static final BulkWriteOptions UNORDERED_OPTIONS = new BulkWriteOptions().ordered(false);
+  private static final IndexModel ID_INDEX = new IndexModel(Indexes.ascending("id"),
+     new IndexOptions().name("id").unique(true));
+  private static final Bson ID_ONLY_PROJECTION = Projections.fields(Projections.include("id"),
+     Projections.excludeId());
+  protected final MongoClient client;
+  protected final String databaseName;
+  protected final String collectionName;
+  protected final WriteConcernLevel writeConcernLevel;
+  protected MongoCollection<A> aggregateRootCollection;
+
+  protected ReactiveMongoDBInfrastructureAggregateRootRepository(
+     final @NotNull MongoClient client,
+     final @NotNull String databaseName,
+     final @NotNull String collectionName,
+     final @NotNull WriteConcernLevel writeConcernLevel) {
+    super(Type.MONGODB_REACTIVE);
+    this.client = client;
+    this.databaseName = databaseName;
+    this.collectionName = collectionName;
+    this.writeConcernLevel = writeConcernLevel;
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@Nullable A> findAsync(final @NotNull String id) {
+    return PublisherFutureAdapter.first(this.aggregateRootCollection.find(Filters.eq("id", id)).first(),
+       this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, A>> findManyAsync(final @NotNull Collection<String> ids) {
+    return PublisherFutureAdapter.all(this.aggregateRootCollection.find(Filters.in("id", ids)), this.readExecutor)
+       .thenApply(foundAggregateRoots -> {
+         final Map<String, A> aggregateRoots = new HashMap<>(foundAggregateRoots.size());
+         for (final A aggregateRoot : foundAggregateRoots) {
+           aggregateRoots.put(aggregateRoot.id(), aggregateRoot);
+         }
+         return aggregateRoots;
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<A>> findAllAsync() {
+    return PublisherFutureAdapter.all(this.aggregateRootCollection.find(), this.readExecutor)
+       .thenApply(aggregateRoots -> aggregateRoots);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
+    // Only the indexed field is projected, so the query is covered by the index, and no document is decoded.
+    return PublisherFutureAdapter.first(this.aggregateRootCollection.withDocumentClass(BsonDocument.class)
+       .find(Filters.eq("id", id))
+       .projection(ID_ONLY_PROJECTION)
+       .limit(1)
+       .first(), this.readExecutor)
+       .thenApply(document -> document != null);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull A aggregateRoot) {
+    return PublisherFutureAdapter.first(this.aggregateRootCollection.replaceOne(
+          Filters.eq("id", aggregateRoot.id()), aggregateRoot, UPSERT_OPTIONS), this.writeExecutor)
+       .handle((result, exception) -> {
+         if (exception == null) {
+           return true;
+         }
+         Debugger.write("Unexpected exception when trying to save aggregate-root {} to the database.",
+            aggregateRoot.id(), exception);
+         return false;
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<A> aggregateRoots) {
+    if (aggregateRoots.isEmpty()) {
+      return CompletableFuture.completedFuture(Map.of());
+    }
+    final List<WriteModel<A>> operations = new ArrayList<>(aggregateRoots.size());
+    for (final A aggregateRoot : aggregateRoots) {
+      operations.add(new ReplaceOneModel<>(Filters.eq("id", aggregateRoot.id()), aggregateRoot, UPSERT_OPTIONS));
+    }
+    return PublisherFutureAdapter.first(this.aggregateRootCollection.bulkWrite(operations, UNORDERED_OPTIONS),
+          this.writeExecutor)
+       .handle((result, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to save {} aggregate-roots to the database.",
+              aggregateRoots.size(), exception);
+         }
+         final Map<String, Boolean> results = new HashMap<>(aggregateRoots.size());
+         for (final A aggregateRoot : aggregateRoots) {
+           results.put(aggregateRoot.id(), exception == null);
+         }
+         return results;
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
+    return PublisherFutureAdapter.first(this.aggregateRootCollection.deleteOne(Filters.eq("id", id)),
+          this.writeExecutor)
+       .handle((result, exception) -> {
+         if (exception == null) {
+           return true;
+         }
+         Debugger.write("Unexpected exception when trying to delete aggregate-root {} from the database.", id,
+            exception);
+         return false;
+       });
+  }
+
+  /**
+   * Sets the repository's collection with the given document-class and creates the unique-index for the
+   * aggregate-roots' id and the given indexes if they don't exist yet, waiting until they're created.
+   *
+   * @param documentClass the aggregate-root's class.
+   * @param indexes       the repository's additional indexes.
+   * @return Whether the collection could be obtained, a failed index-creation doesn't stop the repository.
+   * @since 4.1.0
+   */
+  protected boolean startCollection(final @NotNull Class<A> documentClass, final @NotNull IndexModel... indexes) {
+    try {
+      this.aggregateRootCollection = this.client.getDatabase(this.databaseName)
+         .getCollection(this.collectionName, documentClass)
+         .withWriteConcern(this.writeConcernLevel.writeConcern());
+    } catch (final IllegalArgumentException exception) {
+      return false;
+    }
+    final List<IndexModel> indexModels = new ArrayList<>(indexes.length + 1);
+    indexModels.add(ID_INDEX);
+    indexModels.addAll(List.of(indexes));
+    try {
+      // The start-up is synchronous for every infrastructure-type.
+      PublisherFutureAdapter.all(this.aggregateRootCollection.createIndexes(indexModels), this.writeExecutor).join();
+    } catch (final CompletionException exception) {
+      Debugger.write("Unexpected exception when trying to create the {} collection's indexes.",
+         this.collectionName, exception.getCause());
+    }
+    return true;
+  }
+}
@@ -0,0 +1,40 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.tag.infrastructure.mongodb.reactive;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
+import io.github.aivruu.teams.shared.infrastructure.mongodb.reactive.ReactiveMongoDBInfrastructureAggregateRootRepository;
+import org.jetbrains.annotations.NotNull;
+
+import static io.github.aivruu.teams.shared.infrastructure.mongodb.MongoDBInfrastructureAggregateRootRepository.WriteConcernLevel;
+
+public final class TagReactiveMongoInfrastructureAggregateRootRepository
+   extends ReactiveMongoDBInfrastructureAggregateRootRepository<TagAggregateRoot> {
+  public TagReactiveMongoInfrastructureAggregateRootRepository(
+     final @NotNull MongoClient client,
+     final @NotNull String databaseName,
+     final @NotNull String collectionName,
+     final @NotNull WriteConcernLevel writeConcernLevel) {
+    super(client, databaseName, collectionName, writeConcernLevel);
+  }
+
+  @Override
+  public boolean start() {
+    return this.startCollection(TagAggregateRoot.class);
+  }
+}
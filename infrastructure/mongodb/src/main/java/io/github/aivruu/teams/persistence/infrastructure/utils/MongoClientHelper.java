@@ -25,6 +25,7 @@ import io.github.aivruu.teams.player.infrastructure.mongodb.codec.MongoPlayerAgg
 import io.github.aivruu.teams.tag.infrastructure.mongodb.codec.MongoTagAggregateRootCodec;
 import io.github.aivruu.teams.tag.infrastructure.mongodb.codec.MongoTagPropertiesValueObjectCodec;
 import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -62,13 +63,28 @@ public final class MongoClientHelper {
     final MongoClientSettings clientSettings = MongoClientSettings.builder()
       .applyConnectionString(new ConnectionString("mongodb://" + host))
       .credential(MongoCredential.createCredential(username, database, password.toCharArray()))
-      .codecRegistry(CodecRegistries.fromCodecs(
+      .codecRegistry(codecRegistry())
+      .build();
+    client = MongoClients.create(clientSettings);
+  }
+
+  /**
+   * Returns the {@link CodecRegistry} with the aggregate-roots' codecs, shared by the sync and reactive
+   * clients.
+   *
+   * @return The {@link CodecRegistry}.
+   * @since 4.1.0
+   */
+  public static @NotNull CodecRegistry codecRegistry() {
+    // The driver's default codecs are required to encode the queries' filters and documents.
+    return CodecRegistries.fromRegistries(
+      CodecRegistries.fromCodecs(
         MongoPlayerAggregateRootCodec.INSTANCE,
         MongoTagPropertiesValueObjectCodec.INSTANCE,
         MongoTagAggregateRootCodec.INSTANCE
-      ))
-      .build();
-    client = MongoClients.create(clientSettings);
+      ),
+      MongoClientSettings.getDefaultCodecRegistry()
+    );
   }
 
   /**
@@ -81,4 +97,17 @@ public final class MongoClientHelper {
   public static @Nullable MongoClient client() {
     return client;
   }
+
+  /**
+   * Closes the {@link MongoClient} instance, if it was built, once every repository using it has been closed.
+   *
+   * @since 4.1.0
+   */
+  public static void close() {
+    if (client == null) {
+      return;
+    }
+    client.close();
+    client = null;
+  }
 }
@@ -17,7 +17,9 @@
 package io.github.aivruu.teams.player.infrastructure.mongodb;
 
 import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
 import io.github.aivruu.teams.shared.infrastructure.mongodb.MongoDBInfrastructureAggregateRootRepository;
 import org.jetbrains.annotations.NotNull;
@@ -27,20 +29,23 @@ public final class PlayerMongoInfrastructureAggregateRootRepository
   public PlayerMongoInfrastructureAggregateRootRepository(
      final @NotNull MongoClient client,
      final @NotNull String databaseName,
-     final @NotNull String collectionName) {
-    super(client, databaseName, collectionName);
+     final @NotNull String collectionName,
+     final @NotNull WriteConcernLevel writeConcernLevel,
+     final long writeBehindFlushIntervalMillis,
+     final int writeBehindCapacity) {
+    super(client, databaseName, collectionName, writeConcernLevel, writeBehindFlushIntervalMillis,
+       writeBehindCapacity);
   }
 
   @Override
   public boolean start() {
-    final MongoDatabase database;
     try {
-      database = this.client.getDatabase(this.databaseName);
+      super.aggregateRootCollection = this.collection(PlayerAggregateRoot.class);
     } catch (final IllegalArgumentException exception) {
       return false;
     }
-    super.aggregateRootCollection = database.getCollection(this.collectionName,
-       PlayerAggregateRoot.class);
+    // Allows to search the players with a selected-tag, such as on tag-deletions, without a collection-scan.
+    this.createIndexes(new IndexModel(Indexes.ascending("selected-tag"), new IndexOptions().name("selected-tag")));
     return true;
   }
 }
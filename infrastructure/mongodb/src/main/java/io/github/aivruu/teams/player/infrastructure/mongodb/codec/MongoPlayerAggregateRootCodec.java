@@ -19,6 +19,8 @@ package io.github.aivruu.teams.player.infrastructure.mongodb.codec;
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
 import io.github.aivruu.teams.player.domain.PlayerModelEntity;
 import org.bson.BsonReader;
+import org.bson.BsonSerializationException;
+import org.bson.BsonType;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
@@ -30,9 +32,26 @@ public enum MongoPlayerAggregateRootCodec implements Codec<PlayerAggregateRoot>
   @Override
   public PlayerAggregateRoot decode(final BsonReader reader, final DecoderContext decoderContext) {
     reader.readStartDocument();
-    final String id = reader.readString("id");
-    final String tag = (reader.getCurrentBsonType() == null) ? null : reader.readString("selected-tag");
+    String id = null;
+    String tag = null;
+    // Fields are read by their name, as the stored documents start with the server's "_id" field.
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      switch (reader.readName()) {
+        case "id" -> id = reader.readString();
+        case "selected-tag" -> {
+          if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+          } else {
+            tag = reader.readString();
+          }
+        }
+        default -> reader.skipValue();
+      }
+    }
     reader.readEndDocument();
+    if (id == null) {
+      throw new BsonSerializationException("The player's document doesn't have an 'id' field.");
+    }
     return new PlayerAggregateRoot(id, new PlayerModelEntity(id, tag));
   }
 
@@ -40,7 +59,12 @@ public enum MongoPlayerAggregateRootCodec implements Codec<PlayerAggregateRoot>
   public void encode(final BsonWriter writer, final PlayerAggregateRoot playerAggregateRoot, final EncoderContext encoderContext) {
     writer.writeStartDocument();
     writer.writeString("id", playerAggregateRoot.id());
-    writer.writeString("selected-tag", playerAggregateRoot.playerModel().tag());
+    final String tag = playerAggregateRoot.playerModel().tag();
+    if (tag == null) {
+      writer.writeNull("selected-tag");
+    } else {
+      writer.writeString("selected-tag", tag);
+    }
     writer.writeEndDocument();
   }
 
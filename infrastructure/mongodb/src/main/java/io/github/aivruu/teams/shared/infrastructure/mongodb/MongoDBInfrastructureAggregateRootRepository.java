@@ -16,65 +16,276 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.teams.shared.infrastructure.mongodb;
 
+import com.mongodb.MongoException;
+import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.result.UpdateResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
 import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
 import io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository;
-import org.bson.Document;
+import io.github.aivruu.teams.shared.infrastructure.batch.PendingWriteValueObject;
+import io.github.aivruu.teams.shared.infrastructure.batch.WriteBehindQueue;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public abstract class MongoDBInfrastructureAggregateRootRepository<A extends AggregateRoot>
    extends InfrastructureAggregateRootRepository<A> {
+  // Saves replace the whole document, or insert it if there's none, at a single round-trip.
+  private static final ReplaceOptions UPSERT_OPTIONS = new ReplaceOptions().upsert(true);
+  // Batched operations are coalesced per aggregate-root, so their order doesn't matter.
+  private static final BulkWriteOptions UNORDERED_OPTIONS = new BulkWriteOptions().ordered(false);
+  private static final IndexModel ID_INDEX = new IndexModel(Indexes.ascending("id"),
+     new IndexOptions().name("id").unique(true));
+  private static final Bson ID_ONLY_PROJECTION = Projections.fields(Projections.include("id"),
+     Projections.excludeId());
   protected final MongoClient client;
   protected final String databaseName;
   protected final String collectionName;
+  protected final WriteConcern writeConcern;
+  private final @Nullable WriteBehindQueue<A> writeBehindQueue;
   protected MongoCollection<A> aggregateRootCollection;
 
   public MongoDBInfrastructureAggregateRootRepository(
      final @NotNull MongoClient client,
      final @NotNull String databaseName,
-     final @NotNull String collectionName) {
+     final @NotNull String collectionName,
+     final @NotNull WriteConcernLevel writeConcernLevel,
+     final long writeBehindFlushIntervalMillis,
+     final int writeBehindCapacity) {
+    super(Type.MONGODB);
     this.client = client;
     this.databaseName = databaseName;
     this.collectionName = collectionName;
+    this.writeConcern = writeConcernLevel.writeConcern();
+    // A non-positive interval disables the write-behind stage, and every operation is written immediately.
+    this.writeBehindQueue = (writeBehindFlushIntervalMillis <= 0L) ? null : new WriteBehindQueue<>(
+       this.writeExecutor, writeBehindFlushIntervalMillis, writeBehindCapacity, this::writeBatch);
   }
 
   @Override
   public void close() {
-    this.client.close();
+    // The client is shared by every MongoDB repository, it's closed by the MongoClientHelper.
+    if (this.writeBehindQueue != null) {
+      this.writeBehindQueue.flush();
+    }
   }
 
   @Override
   public @NotNull CompletableFuture<@Nullable A> findAsync(final @NotNull String id) {
+    final PendingWriteValueObject<A> pendingWrite = this.pendingWrite(id);
+    if (pendingWrite != null) {
+      // The document is outdated until the pending-write is flushed.
+      return CompletableFuture.completedFuture(pendingWrite.aggregateRoot());
+    }
     return CompletableFuture.supplyAsync(() ->
-       this.aggregateRootCollection.find(new Document("id", id)).first(), THREAD_POOL);
+       this.aggregateRootCollection.find(Filters.eq("id", id)).first(), this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, A>> findManyAsync(final @NotNull Collection<String> ids) {
+    final Map<String, A> aggregateRoots = new HashMap<>(ids.size());
+    final List<String> idsToSearch = new ArrayList<>(ids.size());
+    for (final String id : ids) {
+      final PendingWriteValueObject<A> pendingWrite = this.pendingWrite(id);
+      if (pendingWrite == null) {
+        idsToSearch.add(id);
+      } else if (!pendingWrite.deletion()) {
+        aggregateRoots.put(id, pendingWrite.aggregateRoot());
+      }
+    }
+    if (idsToSearch.isEmpty()) {
+      return CompletableFuture.completedFuture(aggregateRoots);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      for (final A aggregateRoot : this.aggregateRootCollection.find(Filters.in("id", idsToSearch))) {
+        aggregateRoots.put(aggregateRoot.id(), aggregateRoot);
+      }
+      return aggregateRoots;
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<A>> findAllAsync() {
+    return CompletableFuture.supplyAsync(() -> this.aggregateRootCollection.find().into(new ArrayList<>()),
+       this.readExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
-    return CompletableFuture.supplyAsync(() ->
-       this.aggregateRootCollection.find(new Document("id", id)).first() != null, THREAD_POOL);
+    final PendingWriteValueObject<A> pendingWrite = this.pendingWrite(id);
+    if (pendingWrite != null) {
+      return CompletableFuture.completedFuture(!pendingWrite.deletion());
+    }
+    // Only the indexed field is projected, so the query is covered by the index, and no document is decoded.
+    return CompletableFuture.supplyAsync(() -> this.aggregateRootCollection.withDocumentClass(BsonDocument.class)
+       .find(Filters.eq("id", id))
+       .projection(ID_ONLY_PROJECTION)
+       .limit(1)
+       .first() != null, this.readExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> saveAsync(@NotNull final A aggregateRoot) {
+    if (this.writeBehindQueue != null) {
+      return this.writeBehindQueue.enqueueSave(aggregateRoot);
+    }
     return CompletableFuture.supplyAsync(() -> {
-      final UpdateResult result = this.aggregateRootCollection.updateOne(
-         new Document("id", aggregateRoot.id()), new Document("$set", aggregateRoot));
-      // Check if the row exists (was matched).
-      return (result.getMatchedCount() == 0)
-         ? this.aggregateRootCollection.insertOne(aggregateRoot).wasAcknowledged()
-         : result.wasAcknowledged();
-    }, THREAD_POOL);
+      try {
+        this.aggregateRootCollection.replaceOne(Filters.eq("id", aggregateRoot.id()), aggregateRoot, UPSERT_OPTIONS);
+        return true;
+      } catch (final MongoException exception) {
+        Debugger.write("Unexpected exception when trying to save aggregate-root {} to the database.",
+           aggregateRoot.id(), exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<A> aggregateRoots) {
+    if (this.writeBehindQueue != null) {
+      // Queued saves are already written together.
+      return super.saveManyAsync(aggregateRoots);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      final List<PendingWriteValueObject<A>> batch = new ArrayList<>(aggregateRoots.size());
+      for (final A aggregateRoot : aggregateRoots) {
+        batch.add(new PendingWriteValueObject<>(aggregateRoot.id(), aggregateRoot, new CompletableFuture<>()));
+      }
+      boolean saved;
+      try {
+        this.writeBatch(batch);
+        saved = true;
+      } catch (final MongoException exception) {
+        Debugger.write("Unexpected exception when trying to save {} aggregate-roots to the database.",
+           aggregateRoots.size(), exception);
+        saved = false;
+      }
+      final Map<String, Boolean> results = new HashMap<>(aggregateRoots.size());
+      for (final A aggregateRoot : aggregateRoots) {
+        results.put(aggregateRoot.id(), saved);
+      }
+      return results;
+    }, this.writeExecutor);
   }
 
   @Override
   public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
-    return CompletableFuture.supplyAsync(() ->
-       this.aggregateRootCollection.deleteOne(new Document("id", id)).wasAcknowledged(), THREAD_POOL);
+    if (this.writeBehindQueue != null) {
+      // Deletions are queued too, otherwise a pending save-operation could be flushed after the deletion.
+      return this.writeBehindQueue.enqueueDelete(id);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        this.aggregateRootCollection.deleteOne(Filters.eq("id", id));
+        return true;
+      } catch (final MongoException exception) {
+        Debugger.write("Unexpected exception when trying to delete aggregate-root {} from the database.", id,
+           exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  /**
+   * Creates the unique-index for the aggregate-roots' id and the given indexes if they don't exist yet.
+   * <p>
+   * A failed index-creation, such as a unique-index over duplicated ids, doesn't stop the repository, as
+   * its operations still work without the index.
+   *
+   * @param indexes the repository's additional indexes.
+   * @since 4.1.0
+   */
+  protected void createIndexes(final @NotNull IndexModel... indexes) {
+    final List<IndexModel> indexModels = new ArrayList<>(indexes.length + 1);
+    indexModels.add(ID_INDEX);
+    indexModels.addAll(List.of(indexes));
+    try {
+      this.aggregateRootCollection.createIndexes(indexModels);
+    } catch (final MongoException exception) {
+      Debugger.write("Unexpected exception when trying to create the {} collection's indexes.",
+         this.collectionName, exception);
+    }
+  }
+
+  /**
+   * Returns the collection with the given document-class, using this repository's write-concern.
+   *
+   * @param documentClass the aggregate-root's class.
+   * @return The {@link MongoCollection}.
+   * @throws IllegalArgumentException if the database's name is invalid.
+   * @since 4.1.0
+   */
+  protected @NotNull MongoCollection<A> collection(final @NotNull Class<A> documentClass) {
+    return this.client.getDatabase(this.databaseName)
+       .getCollection(this.collectionName, documentClass)
+       .withWriteConcern(this.writeConcern);
+  }
+
+  private @Nullable PendingWriteValueObject<A> pendingWrite(final @NotNull String id) {
+    return (this.writeBehindQueue == null) ? null : this.writeBehindQueue.pending(id);
+  }
+
+  private void writeBatch(final @NotNull Collection<PendingWriteValueObject<A>> batch) {
+    final List<WriteModel<A>> operations = new ArrayList<>(batch.size());
+    for (final PendingWriteValueObject<A> write : batch) {
+      final A aggregateRoot = write.aggregateRoot();
+      operations.add((aggregateRoot == null)
+         ? new DeleteOneModel<>(Filters.eq("id", write.id()))
+         : new ReplaceOneModel<>(Filters.eq("id", write.id()), aggregateRoot, UPSERT_OPTIONS));
+    }
+    this.aggregateRootCollection.bulkWrite(operations, UNORDERED_OPTIONS);
+  }
+
+  /**
+   * The acknowledgement requested to the MongoDB server for the write-operations.
+   *
+   * @since 4.1.0
+   */
+  public enum WriteConcernLevel {
+    /** The server doesn't acknowledge the writes, failed writes aren't detected. */
+    UNACKNOWLEDGED(WriteConcern.UNACKNOWLEDGED),
+    /** The primary acknowledges the writes once they're applied in memory. */
+    ACKNOWLEDGED(WriteConcern.W1),
+    /** The primary acknowledges the writes once they're written to its journal. */
+    JOURNALED(WriteConcern.JOURNALED),
+    /** The majority of the replica-set's members acknowledge the writes. */
+    MAJORITY(WriteConcern.MAJORITY);
+
+    private final WriteConcern writeConcern;
+
+    WriteConcernLevel(final @NotNull WriteConcern writeConcern) {
+      this.writeConcern = writeConcern;
+    }
+
+    /**
+     * Returns the driver's {@link WriteConcern} for this level.
+     *
+     * @return The {@link WriteConcern}.
+     * @since 4.1.0
+     */
+    public @NotNull WriteConcern writeConcern() {
+      return this.writeConcern;
+    }
   }
 }
@@ -0,0 +1,330 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.tag.infrastructure.mongodb;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the tags' collection change-stream, and notifies the tags modified or deleted by any server to a
+ * {@link Listener}, so the servers sharing the collection don't keep outdated tags in-cache.
+ * <p>
+ * The stream is watched by its own thread, and resumed after disconnections from the last notified change,
+ * whose resume-token is stored in a file, so the changes done while the server was offline are notified
+ * at start-up too. If the resume-token is no longer available on the server, every tag is notified again.
+ * <p>
+ * Change-streams are only available on replica-sets and sharded-clusters.
+ *
+ * @since 4.1.0
+ */
+public final class TagMongoChangeStreamWatcher {
+  private static final long INITIAL_RETRY_DELAY_MILLIS = 1_000L;
+  private static final long MAXIMUM_RETRY_DELAY_MILLIS = 30_000L;
+  // Idle resume-tokens only move the stream's position forward, so they're stored less often.
+  private static final long IDLE_RESUME_TOKEN_STORE_INTERVAL_MILLIS = 60_000L;
+  // MongoDB server error-codes for the change-streams.
+  private static final int CHANGE_STREAM_FATAL_ERROR_CODE = 280;
+  private static final int CHANGE_STREAM_HISTORY_LOST_CODE = 286;
+  private static final int CHANGE_STREAM_NOT_SUPPORTED_CODE = 40573;
+  private final MongoCollection<TagAggregateRoot> collection;
+  private final Path resumeTokenFile;
+  private final Listener listener;
+  // The deletions' changes only contain the document's "_id", so the tags' ids are tracked by it.
+  private final Map<BsonValue, String> idsByDocumentKey = new HashMap<>();
+  private volatile boolean running;
+  private @Nullable Thread thread;
+
+  /**
+   * Creates a new {@link TagMongoChangeStreamWatcher} with the given parameters.
+   *
+   * @param collection      the tags' {@link MongoCollection}.
+   * @param resumeTokenFile the file where the last notified change's resume-token is stored.
+   * @param listener        the {@link Listener} notified about the changes.
+   * @since 4.1.0
+   */
+  public TagMongoChangeStreamWatcher(
+     final @NotNull MongoCollection<TagAggregateRoot> collection,
+     final @NotNull Path resumeTokenFile,
+     final @NotNull Listener listener) {
+    this.collection = collection;
+    this.resumeTokenFile = resumeTokenFile;
+    this.listener = listener;
+  }
+
+  /**
+   * Starts watching the change-stream at its own thread.
+   *
+   * @since 4.1.0
+   */
+  public synchronized void start() {
+    if (this.thread != null) {
+      return;
+    }
+    this.running = true;
+    this.thread = Thread.ofPlatform()
+       .name("Teams-Tag-Change-Stream")
+       .daemon(true)
+       .start(this::watch);
+  }
+
+  /**
+   * Stops watching the change-stream, waiting for the watcher's thread to stop.
+   *
+   * @since 4.1.0
+   */
+  public synchronized void close() {
+    final Thread thread = this.thread;
+    if (thread == null) {
+      return;
+    }
+    this.running = false;
+    this.thread = null;
+    try {
+      // The cursor is awaited for one second at most, then the thread checks whether it's still running.
+      thread.join(TimeUnit.SECONDS.toMillis(5L));
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void watch() {
+    BsonDocument resumeToken = this.readResumeToken();
+    // Without a stored resume-token, the tags were just loaded by the server, there's nothing to notify.
+    boolean resynchronize = false;
+    long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+    while (this.running) {
+      try {
+        this.trackDocumentKeys(resynchronize);
+        resynchronize = false;
+        ChangeStreamIterable<TagAggregateRoot> changeStream = this.collection.watch()
+           .fullDocument(FullDocument.UPDATE_LOOKUP)
+           .maxAwaitTime(1L, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+          changeStream = changeStream.resumeAfter(resumeToken);
+        }
+        try (final MongoChangeStreamCursor<ChangeStreamDocument<TagAggregateRoot>> cursor = changeStream.cursor()) {
+          retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+          long lastStoreMillis = System.currentTimeMillis();
+          while (this.running) {
+            final ChangeStreamDocument<TagAggregateRoot> change = cursor.tryNext();
+            if (change == null) {
+              final BsonDocument idleResumeToken = cursor.getResumeToken();
+              if (idleResumeToken != null && !idleResumeToken.equals(resumeToken)
+                 && System.currentTimeMillis() - lastStoreMillis >= IDLE_RESUME_TOKEN_STORE_INTERVAL_MILLIS) {
+                resumeToken = idleResumeToken;
+                this.storeResumeToken(resumeToken);
+                lastStoreMillis = System.currentTimeMillis();
+              }
+              continue;
+            }
+            if (!this.handle(change)) {
+              // The stream was invalidated, such as by the collection's drop, it's watched again from now.
+              resumeToken = null;
+              resynchronize = true;
+              break;
+            }
+            resumeToken = change.getResumeToken();
+            this.storeResumeToken(resumeToken);
+            lastStoreMillis = System.currentTimeMillis();
+          }
+        }
+      } catch (final MongoCommandException exception) {
+        final int code = exception.getErrorCode();
+        if (code == CHANGE_STREAM_NOT_SUPPORTED_CODE) {
+          Debugger.write("[WARNING] The tags' change-stream can't be watched, MongoDB is not a replica-set.");
+          this.running = false;
+          return;
+        }
+        if (code == CHANGE_STREAM_HISTORY_LOST_CODE || code == CHANGE_STREAM_FATAL_ERROR_CODE) {
+          Debugger.write("The tags' change-stream can't be resumed, every tag will be refreshed.");
+          resumeToken = null;
+          resynchronize = true;
+          continue;
+        }
+        retryDelayMillis = this.awaitRetry(retryDelayMillis, exception);
+      } catch (final MongoException exception) {
+        retryDelayMillis = this.awaitRetry(retryDelayMillis, exception);
+      } catch (final RuntimeException exception) {
+        // Such as a stored tag that can't be decoded, its change is skipped by watching the stream again
+        // from now, after every tag is refreshed.
+        Debugger.write("Unexpected exception when trying to watch the tags' change-stream, every tag will be "
+           + "refreshed.", exception);
+        resumeToken = null;
+        resynchronize = true;
+        retryDelayMillis = this.awaitRetry(retryDelayMillis, exception);
+      }
+    }
+  }
+
+  private boolean handle(final @NotNull ChangeStreamDocument<TagAggregateRoot> change) {
+    final BsonDocument documentKey = change.getDocumentKey();
+    final BsonValue documentId = (documentKey == null) ? null : documentKey.get("_id");
+    switch (change.getOperationType()) {
+      case INSERT, UPDATE, REPLACE -> {
+        // The document could have been deleted before the update's look-up.
+        final TagAggregateRoot tagAggregateRoot = change.getFullDocument();
+        if (tagAggregateRoot != null) {
+          if (documentId != null) {
+            this.idsByDocumentKey.put(documentId, tagAggregateRoot.id());
+          }
+          this.notifyUpdated(tagAggregateRoot);
+        }
+      }
+      case DELETE -> {
+        final String id = (documentId == null) ? null : this.idsByDocumentKey.remove(documentId);
+        if (id != null) {
+          this.notifyDeleted(id);
+        }
+      }
+      case INVALIDATE -> {
+        return false;
+      }
+      default -> {} // Drops and renames are followed by an invalidation.
+    }
+    return true;
+  }
+
+  private void trackDocumentKeys(final boolean resynchronize) {
+    final Set<String> previousIds = resynchronize ? new HashSet<>(this.idsByDocumentKey.values()) : Set.of();
+    this.idsByDocumentKey.clear();
+    for (final BsonDocument document : this.collection.withDocumentClass(BsonDocument.class)
+       .find()
+       .projection(Projections.include("id"))) {
+      final BsonValue id = document.get("id");
+      if (id instanceof BsonString) {
+        this.idsByDocumentKey.put(document.get("_id"), id.asString().getValue());
+      }
+    }
+    if (!resynchronize) {
+      return;
+    }
+    // The missed changes are unknown, so every tag is notified, and the missing ones as deleted.
+    for (final TagAggregateRoot tagAggregateRoot : this.collection.find()) {
+      previousIds.remove(tagAggregateRoot.id());
+      this.notifyUpdated(tagAggregateRoot);
+    }
+    for (final String id : previousIds) {
+      this.notifyDeleted(id);
+    }
+  }
+
+  // A listener's exception only skips its change, it would fail again if the change was notified again.
+  private void notifyUpdated(final @NotNull TagAggregateRoot tagAggregateRoot) {
+    try {
+      this.listener.updated(tagAggregateRoot);
+    } catch (final RuntimeException exception) {
+      Debugger.write("Unexpected exception when trying to notify the modification of the tag '{}'.",
+         tagAggregateRoot.id(), exception);
+    }
+  }
+
+  private void notifyDeleted(final @NotNull String id) {
+    try {
+      this.listener.deleted(id);
+    } catch (final RuntimeException exception) {
+      Debugger.write("Unexpected exception when trying to notify the deletion of the tag '{}'.", id, exception);
+    }
+  }
+
+  private long awaitRetry(final long retryDelayMillis, final @NotNull RuntimeException exception) {
+    if (!this.running) {
+      return retryDelayMillis;
+    }
+    Debugger.write("The tags' change-stream was interrupted, retrying in {} ms.", retryDelayMillis, exception);
+    try {
+      Thread.sleep(retryDelayMillis);
+    } catch (final InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+      this.running = false;
+    }
+    return Math.min(retryDelayMillis * 2L, MAXIMUM_RETRY_DELAY_MILLIS);
+  }
+
+  private @Nullable BsonDocument readResumeToken() {
+    if (Files.notExists(this.resumeTokenFile)) {
+      return null;
+    }
+    try {
+      return BsonDocument.parse(Files.readString(this.resumeTokenFile));
+    } catch (final IOException | RuntimeException exception) {
+      Debugger.write("Unexpected exception when trying to read the tags' change-stream resume-token.", exception);
+      return null;
+    }
+  }
+
+  private void storeResumeToken(final @Nullable BsonDocument resumeToken) {
+    if (resumeToken == null) {
+      return;
+    }
+    final Path temporaryFile = this.resumeTokenFile.resolveSibling(this.resumeTokenFile.getFileName() + ".tmp");
+    try {
+      Files.writeString(temporaryFile, resumeToken.toJson());
+      // The stored token is replaced at once, so it's never read partially written.
+      Files.move(temporaryFile, this.resumeTokenFile, StandardCopyOption.REPLACE_EXISTING,
+         StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException exception) {
+      Debugger.write("Unexpected exception when trying to store the tags' change-stream resume-token.", exception);
+    }
+  }
+
+  /**
+   * The listener notified about the tags' changes, its methods are called from the watcher's thread, the
+   * exceptions thrown by them are logged, and their changes aren't notified again.
+   *
+   * @since 4.1.0
+   */
+  public interface Listener {
+    /**
+     * Notifies that a tag was created or modified.
+     *
+     * @param tagAggregateRoot the {@link TagAggregateRoot} with the stored information.
+     * @since 4.1.0
+     */
+    void updated(final @NotNull TagAggregateRoot tagAggregateRoot);
+
+    /**
+     * Notifies that a tag was deleted.
+     *
+     * @param id the deleted tag's id.
+     * @since 4.1.0
+     */
+    void deleted(final @NotNull String id);
+  }
+}
@@ -17,30 +17,48 @@
 package io.github.aivruu.teams.tag.infrastructure.mongodb;
 
 import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoDatabase;
 import io.github.aivruu.teams.shared.infrastructure.mongodb.MongoDBInfrastructureAggregateRootRepository;
 import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.file.Path;
+
 public final class TagMongoInfrastructureAggregateRootRepository
    extends MongoDBInfrastructureAggregateRootRepository<TagAggregateRoot> {
   public TagMongoInfrastructureAggregateRootRepository(
      final @NotNull MongoClient client,
      final @NotNull String databaseName,
-     final @NotNull String collectionName) {
-    super(client, databaseName, collectionName);
+     final @NotNull String collectionName,
+     final @NotNull WriteConcernLevel writeConcernLevel,
+     final long writeBehindFlushIntervalMillis,
+     final int writeBehindCapacity) {
+    super(client, databaseName, collectionName, writeConcernLevel, writeBehindFlushIntervalMillis,
+       writeBehindCapacity);
   }
 
   @Override
   public boolean start() {
-    final MongoDatabase database;
     try {
-      database = this.client.getDatabase(this.databaseName);
+      super.aggregateRootCollection = this.collection(TagAggregateRoot.class);
     } catch (final IllegalArgumentException exception) {
       return false;
     }
-    super.aggregateRootCollection = database.getCollection(this.collectionName,
-       TagAggregateRoot.class);
+    this.createIndexes();
     return true;
   }
+
+  /**
+   * Creates a new {@link TagMongoChangeStreamWatcher} for this repository's collection, this must be called
+   * once the repository has been started.
+   *
+   * @param resumeTokenFile the file where the last notified change's resume-token is stored.
+   * @param listener        the {@link TagMongoChangeStreamWatcher.Listener} notified about the changes.
+   * @return The {@link TagMongoChangeStreamWatcher}, which must be started.
+   * @since 4.1.0
+   */
+  public @NotNull TagMongoChangeStreamWatcher changeStreamWatcher(
+     final @NotNull Path resumeTokenFile,
+     final @NotNull TagMongoChangeStreamWatcher.Listener listener) {
+    return new TagMongoChangeStreamWatcher(super.aggregateRootCollection, resumeTokenFile, listener);
+  }
 }
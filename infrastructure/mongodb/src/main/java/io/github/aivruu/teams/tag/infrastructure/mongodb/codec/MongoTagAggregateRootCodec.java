@@ -20,6 +20,8 @@ import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
 import io.github.aivruu.teams.tag.domain.TagModelEntity;
 import io.github.aivruu.teams.tag.domain.TagPropertiesValueObject;
 import org.bson.BsonReader;
+import org.bson.BsonSerializationException;
+import org.bson.BsonType;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
@@ -32,10 +34,21 @@ public enum MongoTagAggregateRootCodec implements Codec<TagAggregateRoot> {
   @Override
   public @NotNull TagAggregateRoot decode(final BsonReader reader, final DecoderContext decoderContext) {
     reader.readStartDocument();
-    final String id = reader.readString("id");
-    final TagPropertiesValueObject properties = decoderContext.decodeWithChildContext(
-       MongoTagPropertiesValueObjectCodec.INSTANCE, reader);
+    String id = null;
+    TagPropertiesValueObject properties = null;
+    // Fields are read by their name, as the stored documents start with the server's "_id" field.
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      switch (reader.readName()) {
+        case "id" -> id = reader.readString();
+        case "properties" -> properties = decoderContext.decodeWithChildContext(
+           MongoTagPropertiesValueObjectCodec.INSTANCE, reader);
+        default -> reader.skipValue();
+      }
+    }
     reader.readEndDocument();
+    if (id == null || properties == null) {
+      throw new BsonSerializationException("The tag's document doesn't have the 'id' or 'properties' fields.");
+    }
     return new TagAggregateRoot(id, new TagModelEntity(id, properties));
   }
 
@@ -43,6 +56,7 @@ public enum MongoTagAggregateRootCodec implements Codec<TagAggregateRoot> {
   public void encode(final BsonWriter writer, final TagAggregateRoot tagAggregateRoot, final EncoderContext encoderContext) {
     writer.writeStartDocument();
     writer.writeString("id", tagAggregateRoot.id());
+    writer.writeName("properties");
     encoderContext.encodeWithChildContext(MongoTagPropertiesValueObjectCodec.INSTANCE, writer, tagAggregateRoot.tagModel().tagComponentProperties());
     writer.writeEndDocument();
   }
@@ -34,10 +34,23 @@ public enum MongoTagPropertiesValueObjectCodec implements Codec<TagPropertiesVal
   @Override
   public @NotNull TagPropertiesValueObject decode(final BsonReader reader, final DecoderContext decoderContext) {
     reader.readStartDocument();
-    // Verify if values are available for reading and deserialization.
-    final String prefix = (reader.getCurrentBsonType() == BsonType.NULL) ? null : reader.readString("prefix");
-    final String suffix = (reader.getCurrentBsonType() == BsonType.NULL) ? null : reader.readString("suffix");
-    final int colorValue = reader.readInt32("color-value");
+    String prefix = null;
+    String suffix = null;
+    int colorValue = NamedTextColor.WHITE.value();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      final String name = reader.readName();
+      // Verify if values are available for reading and deserialization.
+      if (reader.getCurrentBsonType() == BsonType.NULL) {
+        reader.readNull();
+        continue;
+      }
+      switch (name) {
+        case "prefix" -> prefix = reader.readString();
+        case "suffix" -> suffix = reader.readString();
+        case "color-value" -> colorValue = reader.readInt32();
+        default -> reader.skipValue();
+      }
+    }
     reader.readEndDocument();
     return new TagPropertiesValueObject(
       (prefix == null) ? null : PlainComponentParser.modern(prefix),
@@ -0,0 +1,18 @@
+dependencies {
+  api(project(":${rootProject.name}-infrastructure"))
+
+  compileOnlyApi(libs.annotations)
+  compileOnlyApi(libs.r2dbc.pool)
+
+  testImplementation(libs.annotations)
+  testImplementation(libs.paper)
+  testImplementation(libs.r2dbc.pool)
+  testImplementation(libs.r2dbc.h2)
+  testImplementation(platform(libs.junit.bom))
+  testImplementation(libs.junit.jupiter)
+  testRuntimeOnly(libs.junit.launcher)
+}
+
+tasks.test {
+  useJUnitPlatform()
+}
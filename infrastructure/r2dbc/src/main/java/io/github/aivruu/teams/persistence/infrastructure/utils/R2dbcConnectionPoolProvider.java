@@ -0,0 +1,105 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.persistence.infrastructure.utils;
+
+import io.github.aivruu.teams.util.application.Debugger;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * This utility-class is used as R2DBC {@link ConnectionPool} instance builder and provider.
+ *
+ * @since 4.1.0
+ */
+public final class R2dbcConnectionPoolProvider {
+  private static final String POOL_NAME = "Teams-R2DBC-Pool";
+  private static @Nullable ConnectionPool connectionPool;
+
+  private R2dbcConnectionPoolProvider() {
+    throw new UnsupportedOperationException("This class is for utility and cannot be instantiated.");
+  }
+
+  /**
+   * Returns the {@link ConnectionPool} instance if is available.
+   *
+   * @return The {@link ConnectionPool} or {@code null} if it couldn't be initialized or is closed.
+   * @since 4.1.0
+   */
+  public static @Nullable ConnectionPool get() {
+    return (connectionPool == null || connectionPool.isDisposed()) ? null : connectionPool;
+  }
+
+  /**
+   * Creates a new {@link ConnectionPool} with the given parameters, the R2DBC driver is selected by the
+   * url's driver-name, such as {@code r2dbc:mariadb://host:3306/database}. If the pool it's already built,
+   * the method will skip the logic.
+   *
+   * @param url      the database's R2DBC url.
+   * @param user     the database's username.
+   * @param password the database's password.
+   * @param poolSize the maximum amount of connections that the pool can keep.
+   * @since 4.1.0
+   */
+  public static void buildPool(
+     final @NotNull String url,
+     final @NotNull String user,
+     final @NotNull String password,
+     final int poolSize) {
+    if (connectionPool != null) {
+      return;
+    }
+    try {
+      final ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url)
+         .mutate()
+         .option(ConnectionFactoryOptions.USER, user)
+         .option(ConnectionFactoryOptions.PASSWORD, password)
+         .build();
+      final ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration
+         .builder(ConnectionFactories.get(options))
+         .name(POOL_NAME)
+         .initialSize(1)
+         .maxSize(Math.max(poolSize, 1))
+         .maxIdleTime(Duration.ofMinutes(10L))
+         // Operations waiting for a free connection fail instead of waiting forever.
+         .maxAcquireTime(Duration.ofSeconds(30L))
+         .build();
+      connectionPool = new ConnectionPool(configuration);
+    } catch (final RuntimeException exception) {
+      Debugger.write("Unexpected exception when trying to build a new R2DBC connection-pool.", exception);
+    }
+  }
+
+  /**
+   * Closes the {@link ConnectionPool} instance, if it was built, once every repository using it has been
+   * closed.
+   *
+   * @since 4.1.0
+   */
+  public static void close() {
+    if (connectionPool == null) {
+      return;
+    }
+    connectionPool.dispose();
+    connectionPool = null;
+  }
+}
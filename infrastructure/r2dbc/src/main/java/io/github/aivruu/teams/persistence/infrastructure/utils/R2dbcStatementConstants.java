@@ -0,0 +1,67 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.persistence.infrastructure.utils;
+
+/**
+ * The R2DBC repositories' statements, written for MariaDB but limited to the syntax also accepted by other
+ * databases in MariaDB-compatibility mode, such as H2.
+ *
+ * @since 4.1.0
+ */
+public final class R2dbcStatementConstants {
+  public static final String FIND_SCHEMA_VERSION_STATEMENT = "SELECT MAX(version) FROM %s";
+  public static final String COUNT_PENDING_SCHEMA_BACKFILLS_STATEMENT =
+     "SELECT COUNT(*) FROM %s WHERE completed = FALSE";
+  public static final String CREATE_PLAYERS_DATA_TABLE_STATEMENT = """
+    CREATE TABLE IF NOT EXISTS %s(
+      uuid BINARY(16) NOT NULL,
+      tag VARCHAR(20) NULL,
+      PRIMARY KEY(uuid)
+    )""";
+  public static final String CREATE_PLAYERS_TAG_INDEX_STATEMENT = "CREATE INDEX IF NOT EXISTS tag ON %s(tag)";
+  public static final String CREATE_TAGS_DATA_TABLE_STATEMENT = """
+    CREATE TABLE IF NOT EXISTS %s(
+      id VARCHAR(20) NOT NULL,
+      prefix VARCHAR(1024) NULL,
+      suffix VARCHAR(1024) NULL,
+      color INT NOT NULL,
+      PRIMARY KEY(id)
+    )""";
+  public static final String FIND_PLAYER_INFORMATION_STATEMENT = "SELECT tag FROM %s WHERE uuid = ?";
+  /** Requires the table's name and the placeholders for the uuids to search. */
+  public static final String FIND_PLAYERS_INFORMATION_STATEMENT = "SELECT uuid, tag FROM %s WHERE uuid IN (%s)";
+  public static final String FIND_ALL_PLAYERS_INFORMATION_STATEMENT = "SELECT uuid, tag FROM %s";
+  public static final String EXISTS_PLAYER_INFORMATION_STATEMENT = "SELECT 1 FROM %s WHERE uuid = ?";
+  public static final String SAVE_PLAYER_INFORMATION_STATEMENT = """
+    INSERT INTO %s(uuid, tag) VALUES(?, ?)
+    ON DUPLICATE KEY UPDATE tag = VALUES(tag)""";
+  public static final String DELETE_PLAYER_INFORMATION_STATEMENT = "DELETE FROM %s WHERE uuid = ?";
+  public static final String FIND_TAG_INFORMATION_STATEMENT = "SELECT id, prefix, suffix, color FROM %s WHERE id = ?";
+  /** Requires the table's name and the placeholders for the ids to search. */
+  public static final String FIND_TAGS_INFORMATION_STATEMENT =
+     "SELECT id, prefix, suffix, color FROM %s WHERE id IN (%s)";
+  public static final String FIND_ALL_TAGS_INFORMATION_STATEMENT = "SELECT id, prefix, suffix, color FROM %s";
+  public static final String EXISTS_TAG_INFORMATION_STATEMENT = "SELECT 1 FROM %s WHERE id = ?";
+  public static final String SAVE_TAG_INFORMATION_STATEMENT = """
+    INSERT INTO %s(id, prefix, suffix, color) VALUES(?, ?, ?, ?)
+    ON DUPLICATE KEY UPDATE prefix = VALUES(prefix), suffix = VALUES(suffix), color = VALUES(color)""";
+  public static final String DELETE_TAG_INFORMATION_STATEMENT = "DELETE FROM %s WHERE id = ?";
+
+  private R2dbcStatementConstants() {
+    throw new UnsupportedOperationException("This class cannot be instantiated.");
+  }
+}
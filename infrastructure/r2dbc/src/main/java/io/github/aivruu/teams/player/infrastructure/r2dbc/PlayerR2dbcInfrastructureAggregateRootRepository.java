@@ -0,0 +1,188 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.player.infrastructure.r2dbc;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.BinaryUUIDConverter;
+import io.github.aivruu.teams.persistence.infrastructure.utils.R2dbcStatementConstants;
+import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
+import io.github.aivruu.teams.player.domain.PlayerModelEntity;
+import io.github.aivruu.teams.shared.infrastructure.r2dbc.R2dbcInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.util.application.Debugger;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public final class PlayerR2dbcInfrastructureAggregateRootRepository extends R2dbcInfrastructureAggregateRootRepository<PlayerAggregateRoot> {
+  public PlayerR2dbcInfrastructureAggregateRootRepository(
+     final @NotNull ConnectionPool connectionPool,
+     final @NotNull String tableName) {
+    super(connectionPool, tableName);
+  }
+
+  @Override
+  public boolean start() {
+    return this.createSchema(
+       R2dbcStatementConstants.CREATE_PLAYERS_DATA_TABLE_STATEMENT.formatted(this.tableName),
+       R2dbcStatementConstants.CREATE_PLAYERS_TAG_INDEX_STATEMENT.formatted(this.tableName));
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@Nullable PlayerAggregateRoot> findAsync(final @NotNull String id) {
+    return this.query(R2dbcStatementConstants.FIND_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName),
+          statement -> statement.bind(0, BinaryUUIDConverter.toBuffer(id)),
+          row -> new PlayerAggregateRoot(id, new PlayerModelEntity(id, row.get("tag", String.class))))
+       .handle((playerAggregateRoots, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to retrieve player's information from database.",
+              exception);
+           return null;
+         }
+         return playerAggregateRoots.isEmpty() ? null : playerAggregateRoots.get(0);
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, PlayerAggregateRoot>> findManyAsync(
+     final @NotNull Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return CompletableFuture.completedFuture(new HashMap<>());
+    }
+    final List<String> idsToSearch = new ArrayList<>(ids);
+    // Errors are propagated so callers don't take the players as new ones, and override their information.
+    return this.query(R2dbcStatementConstants.FIND_PLAYERS_INFORMATION_STATEMENT.formatted(this.tableName,
+          placeholders(idsToSearch.size())),
+          statement -> {
+            for (int i = 0; i < idsToSearch.size(); i++) {
+              statement.bind(i, BinaryUUIDConverter.toBuffer(idsToSearch.get(i)));
+            }
+          },
+          PlayerR2dbcInfrastructureAggregateRootRepository::readPlayer)
+       .thenApply(playerAggregateRoots -> {
+         final Map<String, PlayerAggregateRoot> playerAggregateRootsById = new HashMap<>(idsToSearch.size());
+         for (final PlayerAggregateRoot playerAggregateRoot : playerAggregateRoots) {
+           playerAggregateRootsById.put(playerAggregateRoot.id(), playerAggregateRoot);
+         }
+         return playerAggregateRootsById;
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<PlayerAggregateRoot>> findAllAsync() {
+    return this.query(R2dbcStatementConstants.FIND_ALL_PLAYERS_INFORMATION_STATEMENT.formatted(this.tableName),
+       statement -> {}, PlayerR2dbcInfrastructureAggregateRootRepository::readPlayer)
+       .thenApply(playerAggregateRoots -> playerAggregateRoots);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
+    return this.query(R2dbcStatementConstants.EXISTS_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName),
+          statement -> statement.bind(0, BinaryUUIDConverter.toBuffer(id)),
+          row -> Boolean.TRUE)
+       .handle((rows, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to verify if player's data exists in database.",
+              exception);
+           return false;
+         }
+         return !rows.isEmpty();
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull PlayerAggregateRoot aggregateRoot) {
+    return this.update(R2dbcStatementConstants.SAVE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName),
+          statement -> bindPlayer(statement, aggregateRoot))
+       .handle((rowsUpdated, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to save player's data to the database.", exception);
+           return false;
+         }
+         return true;
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<PlayerAggregateRoot> aggregateRoots) {
+    if (aggregateRoots.isEmpty()) {
+      return CompletableFuture.completedFuture(new HashMap<>());
+    }
+    return this.transaction(connection -> {
+         final Statement statement = connection.createStatement(
+            R2dbcStatementConstants.SAVE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName));
+         boolean first = true;
+         for (final PlayerAggregateRoot aggregateRoot : aggregateRoots) {
+           if (!first) {
+             // Stores the previous bindings, every binding-set is executed as part of the same statement.
+             statement.add();
+           }
+           bindPlayer(statement, aggregateRoot);
+           first = false;
+         }
+         return List.of(statement);
+       })
+       .handle((ignored, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to save {} players' data to the database.",
+              aggregateRoots.size(), exception);
+         }
+         final Map<String, Boolean> results = new HashMap<>(aggregateRoots.size());
+         for (final PlayerAggregateRoot aggregateRoot : aggregateRoots) {
+           results.put(aggregateRoot.id(), exception == null);
+         }
+         return results;
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
+    return this.update(R2dbcStatementConstants.DELETE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName),
+          statement -> statement.bind(0, BinaryUUIDConverter.toBuffer(id)))
+       .handle((rowsUpdated, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to delete player's data from the database.", exception);
+           return false;
+         }
+         return rowsUpdated > 0L;
+       });
+  }
+
+  private static @NotNull PlayerAggregateRoot readPlayer(final @NotNull Row row) {
+    final String id = BinaryUUIDConverter.fromBuffer(row.get("uuid", ByteBuffer.class));
+    return new PlayerAggregateRoot(id, new PlayerModelEntity(id, row.get("tag", String.class)));
+  }
+
+  private static void bindPlayer(final @NotNull Statement statement, final @NotNull PlayerAggregateRoot aggregateRoot) {
+    statement.bind(0, BinaryUUIDConverter.toBuffer(aggregateRoot.id()));
+    final String tag = aggregateRoot.playerModel().tag();
+    if (tag == null) {
+      statement.bindNull(1, String.class);
+    } else {
+      statement.bind(1, tag);
+    }
+  }
+}
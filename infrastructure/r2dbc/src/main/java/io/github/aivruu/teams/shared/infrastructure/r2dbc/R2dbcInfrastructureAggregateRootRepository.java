@@ -0,0 +1,218 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.r2dbc;
+
+import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
+import io.github.aivruu.teams.persistence.infrastructure.utils.R2dbcStatementConstants;
+import io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.shared.infrastructure.reactive.PublisherFutureAdapter;
+import io.github.aivruu.teams.util.application.Debugger;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import org.jetbrains.annotations.NotNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An SQL infrastructure-repository based on R2DBC, its operations don't hold any thread while they're
+ * waiting for a connection or for the database's response, so the amount of outstanding operations is
+ * limited by the connection-pool's queue instead of the executors' threads.
+ *
+ * @param <A> an aggregate-root type.
+ * @since 4.1.0
+ */
+public abstract class R2dbcInfrastructureAggregateRootRepository<A extends AggregateRoot>
+   extends InfrastructureAggregateRootRepository<A> {
+  /** The table where the MariaDB infrastructure-type records the applied schema-migrations. */
+  public static final String SCHEMA_VERSION_TABLE_NAME = "teams_schema_version";
+  /** The table where the MariaDB infrastructure-type records the progress of the schema-migrations' backfills. */
+  public static final String SCHEMA_BACKFILL_TABLE_NAME = "teams_schema_backfill";
+  /** The schema-version whose tables' layout is used by the R2DBC repositories. */
+  public static final int REQUIRED_SCHEMA_VERSION = 2;
+  /** The connection-pool from which every operation borrows its own connection. */
+  protected final ConnectionPool connectionPool;
+  protected final String tableName;
+
+  protected R2dbcInfrastructureAggregateRootRepository(
+     final @NotNull ConnectionPool connectionPool,
+     final @NotNull String tableName) {
+    super(Type.R2DBC);
+    this.connectionPool = connectionPool;
+    this.tableName = tableName;
+  }
+
+  /**
+   * Executes the given schema-statements in order, waiting until they're executed, as the start-up is
+   * synchronous for every infrastructure-type.
+   * <p>
+   * The R2DBC repositories don't migrate the previous schema's tables, so the statements are only executed
+   * once the MariaDB infrastructure-type has migrated the database to the {@link #REQUIRED_SCHEMA_VERSION},
+   * and has completed the migrations' backfills.
+   *
+   * @param statements the schema-statements.
+   * @return Whether the schema is migrated and every statement was executed.
+   * @since 4.1.0
+   */
+  protected boolean createSchema(final @NotNull String... statements) {
+    if (!this.verifySchemaVersion()) {
+      return false;
+    }
+    final Mono<Void> schema = Mono.usingWhen(this.connectionPool.create(), connection -> Flux.fromArray(statements)
+       .concatMap(sql -> Flux.from(connection.createStatement(sql).execute()).concatMap(Result::getRowsUpdated))
+       .then(), Connection::close);
+    try {
+      PublisherFutureAdapter.first(schema, this.writeExecutor).join();
+      return true;
+    } catch (final CompletionException exception) {
+      Debugger.write("Unexpected exception when trying to create the database's {} table.", this.tableName,
+         exception.getCause());
+      return false;
+    }
+  }
+
+  private boolean verifySchemaVersion() {
+    final int appliedVersion;
+    final int pendingBackfills;
+    try {
+      appliedVersion = this.queryNumber(
+         R2dbcStatementConstants.FIND_SCHEMA_VERSION_STATEMENT.formatted(SCHEMA_VERSION_TABLE_NAME));
+      pendingBackfills = this.queryNumber(
+         R2dbcStatementConstants.COUNT_PENDING_SCHEMA_BACKFILLS_STATEMENT.formatted(SCHEMA_BACKFILL_TABLE_NAME));
+    } catch (final CompletionException exception) {
+      if (exception.getCause() instanceof R2dbcBadGrammarException) {
+        Debugger.write("The database's {} or {} tables don't exist, start the plugin once with the MARIADB "
+           + "infrastructure-type to migrate the database's schema.", SCHEMA_VERSION_TABLE_NAME,
+           SCHEMA_BACKFILL_TABLE_NAME);
+      } else {
+        Debugger.write("Unexpected exception when trying to verify the database's schema-version.",
+           exception.getCause());
+      }
+      return false;
+    }
+    if (appliedVersion < REQUIRED_SCHEMA_VERSION) {
+      Debugger.write("The database's schema-version is {} but the R2DBC repositories require the version {}, start "
+         + "the plugin once with the MARIADB infrastructure-type to migrate it.", appliedVersion,
+         REQUIRED_SCHEMA_VERSION);
+      return false;
+    }
+    // The rows still at the previous schema's tables would be read as missing ones, and the rows written for
+    // them would prevent the backfills from copying them.
+    if (pendingBackfills > 0) {
+      Debugger.write("The database has {} incomplete schema-backfills, start the plugin with the MARIADB "
+         + "infrastructure-type until they're completed.", pendingBackfills);
+      return false;
+    }
+    return true;
+  }
+
+  private int queryNumber(final @NotNull String sql) {
+    final Mono<Integer> number = Mono.usingWhen(this.connectionPool.create(), connection ->
+       Flux.from(connection.createStatement(sql).execute())
+          .concatMap(result -> result.map((row, metadata) -> {
+            // Aggregates over no rows, such as the maximum version of an empty table, are null.
+            final Number value = (Number) row.get(0);
+            return (value == null) ? 0 : value.intValue();
+          }))
+          .next(), Connection::close);
+    final Integer result = PublisherFutureAdapter.first(number, this.readExecutor).join();
+    return (result == null) ? 0 : result;
+  }
+
+  /**
+   * Executes the given query, and maps every returned row with the given mapper.
+   *
+   * @param sql    the query's statement.
+   * @param binder the {@link Consumer} that binds the statement's parameters.
+   * @param mapper the {@link Function} that maps every {@link Row}, it can't return {@code null}.
+   * @param <T>    the rows' mapped type.
+   * @return A {@link CompletableFuture} with a {@link List} with the mapped rows.
+   * @since 4.1.0
+   */
+  protected <T> @NotNull CompletableFuture<@NotNull List<T>> query(
+     final @NotNull String sql,
+     final @NotNull Consumer<Statement> binder,
+     final @NotNull Function<Row, T> mapper) {
+    final Flux<T> rows = Flux.usingWhen(this.connectionPool.create(), connection -> {
+      final Statement statement = connection.createStatement(sql);
+      binder.accept(statement);
+      return Flux.from(statement.execute()).concatMap(result -> result.map((row, metadata) -> mapper.apply(row)));
+    }, Connection::close);
+    return PublisherFutureAdapter.all(rows, this.readExecutor);
+  }
+
+  /**
+   * Executes the given update-statement.
+   *
+   * @param sql    the update's statement.
+   * @param binder the {@link Consumer} that binds the statement's parameters.
+   * @return A {@link CompletableFuture} with the amount of affected rows.
+   * @since 4.1.0
+   */
+  protected @NotNull CompletableFuture<Long> update(
+     final @NotNull String sql,
+     final @NotNull Consumer<Statement> binder) {
+    final Mono<Long> rowsUpdated = Mono.usingWhen(this.connectionPool.create(), connection -> {
+      final Statement statement = connection.createStatement(sql);
+      binder.accept(statement);
+      return Flux.from(statement.execute()).concatMap(Result::getRowsUpdated).reduce(0L, Long::sum);
+    }, Connection::close);
+    return PublisherFutureAdapter.first(rowsUpdated, this.writeExecutor);
+  }
+
+  /**
+   * Executes the statements created by the given function in order, within a single transaction that is
+   * rolled back if any of them fails.
+   *
+   * @param statements the {@link Function} that creates the statements, with their parameters bound, using
+   *                   the transaction's {@link Connection}.
+   * @return A {@link CompletableFuture} completed once the transaction is committed.
+   * @since 4.1.0
+   */
+  protected @NotNull CompletableFuture<Void> transaction(
+     final @NotNull Function<Connection, List<Statement>> statements) {
+    final Mono<Void> transaction = Mono.usingWhen(this.connectionPool.create(), connection ->
+       Mono.from(connection.beginTransaction())
+          .thenMany(Flux.fromIterable(statements.apply(connection))
+             .concatMap(statement -> Flux.from(statement.execute()).concatMap(Result::getRowsUpdated)))
+          .then(Mono.from(connection.commitTransaction()))
+          .onErrorResume(exception -> Mono.from(connection.rollbackTransaction()).then(Mono.error(exception))),
+       Connection::close);
+    return PublisherFutureAdapter.first(transaction, this.writeExecutor).thenApply(ignored -> null);
+  }
+
+  /**
+   * Returns the placeholders for a statement's {@code IN} clause with the given amount of values.
+   *
+   * @param amount the amount of values.
+   * @return The placeholders separated by commas.
+   * @since 4.1.0
+   */
+  protected static @NotNull String placeholders(final int amount) {
+    return String.join(", ", Collections.nCopies(amount, "?"));
+  }
+}
@@ -0,0 +1,196 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.tag.infrastructure.r2dbc;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.R2dbcStatementConstants;
+import io.github.aivruu.teams.shared.infrastructure.r2dbc.R2dbcInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
+import io.github.aivruu.teams.tag.domain.TagModelEntity;
+import io.github.aivruu.teams.tag.domain.TagPropertiesValueObject;
+import io.github.aivruu.teams.util.application.Debugger;
+import io.github.aivruu.teams.util.application.component.PlainComponentParser;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.Statement;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public final class TagR2dbcInfrastructureAggregateRootRepository extends R2dbcInfrastructureAggregateRootRepository<TagAggregateRoot> {
+  public TagR2dbcInfrastructureAggregateRootRepository(
+     final @NotNull ConnectionPool connectionPool,
+     final @NotNull String tableName) {
+    super(connectionPool, tableName);
+  }
+
+  @Override
+  public boolean start() {
+    return this.createSchema(R2dbcStatementConstants.CREATE_TAGS_DATA_TABLE_STATEMENT.formatted(this.tableName));
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@Nullable TagAggregateRoot> findAsync(final @NotNull String id) {
+    return this.query(R2dbcStatementConstants.FIND_TAG_INFORMATION_STATEMENT.formatted(this.tableName),
+          statement -> statement.bind(0, id), TagR2dbcInfrastructureAggregateRootRepository::readTag)
+       .handle((tagAggregateRoots, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to retrieve tag's information from database.", exception);
+           return null;
+         }
+         return tagAggregateRoots.isEmpty() ? null : tagAggregateRoots.get(0);
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, TagAggregateRoot>> findManyAsync(
+     final @NotNull Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return CompletableFuture.completedFuture(new HashMap<>());
+    }
+    final List<String> idsToSearch = new ArrayList<>(ids);
+    // Errors are propagated so callers don't take the missing tags as deleted ones.
+    return this.query(R2dbcStatementConstants.FIND_TAGS_INFORMATION_STATEMENT.formatted(this.tableName,
+          placeholders(idsToSearch.size())),
+          statement -> {
+            for (int i = 0; i < idsToSearch.size(); i++) {
+              statement.bind(i, idsToSearch.get(i));
+            }
+          },
+          TagR2dbcInfrastructureAggregateRootRepository::readTag)
+       .thenApply(tagAggregateRoots -> {
+         final Map<String, TagAggregateRoot> tagAggregateRootsById = new HashMap<>(idsToSearch.size());
+         for (final TagAggregateRoot tagAggregateRoot : tagAggregateRoots) {
+           tagAggregateRootsById.put(tagAggregateRoot.id(), tagAggregateRoot);
+         }
+         return tagAggregateRootsById;
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<TagAggregateRoot>> findAllAsync() {
+    return this.query(R2dbcStatementConstants.FIND_ALL_TAGS_INFORMATION_STATEMENT.formatted(this.tableName),
+       statement -> {}, TagR2dbcInfrastructureAggregateRootRepository::readTag)
+       .thenApply(tagAggregateRoots -> tagAggregateRoots);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
+    return this.query(R2dbcStatementConstants.EXISTS_TAG_INFORMATION_STATEMENT.formatted(this.tableName),
+          statement -> statement.bind(0, id), row -> Boolean.TRUE)
+       .handle((rows, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to verify if tag's data exists in database.", exception);
+           return false;
+         }
+         return !rows.isEmpty();
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull TagAggregateRoot aggregateRoot) {
+    return this.update(R2dbcStatementConstants.SAVE_TAG_INFORMATION_STATEMENT.formatted(this.tableName),
+          statement -> bindTag(statement, aggregateRoot))
+       .handle((rowsUpdated, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to save tag's data to the database.", exception);
+           return false;
+         }
+         return true;
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<TagAggregateRoot> aggregateRoots) {
+    if (aggregateRoots.isEmpty()) {
+      return CompletableFuture.completedFuture(new HashMap<>());
+    }
+    return this.transaction(connection -> {
+         final Statement statement = connection.createStatement(
+            R2dbcStatementConstants.SAVE_TAG_INFORMATION_STATEMENT.formatted(this.tableName));
+         boolean first = true;
+         for (final TagAggregateRoot aggregateRoot : aggregateRoots) {
+           if (!first) {
+             // Stores the previous bindings, every binding-set is executed as part of the same statement.
+             statement.add();
+           }
+           bindTag(statement, aggregateRoot);
+           first = false;
+         }
+         return List.of(statement);
+       })
+       .handle((ignored, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to save {} tags' data to the database.",
+              aggregateRoots.size(), exception);
+         }
+         final Map<String, Boolean> results = new HashMap<>(aggregateRoots.size());
+         for (final TagAggregateRoot aggregateRoot : aggregateRoots) {
+           results.put(aggregateRoot.id(), exception == null);
+         }
+         return results;
+       });
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
+    return this.update(R2dbcStatementConstants.DELETE_TAG_INFORMATION_STATEMENT.formatted(this.tableName),
+          statement -> statement.bind(0, id))
+       .handle((rowsUpdated, exception) -> {
+         if (exception != null) {
+           Debugger.write("Unexpected exception when trying to delete tag's data from the database.", exception);
+           return false;
+         }
+         return rowsUpdated > 0L;
+       });
+  }
+
+  private static @NotNull TagAggregateRoot readTag(final @NotNull Row row) {
+    final String id = row.get("id", String.class);
+    final String prefix = row.get("prefix", String.class);
+    final String suffix = row.get("suffix", String.class);
+    // The drivers can return any integer-type for the column, depending on the database.
+    final NamedTextColor color = NamedTextColor.namedColor(((Number) row.get("color")).intValue());
+    return new TagAggregateRoot(id, new TagModelEntity(id, new TagPropertiesValueObject(
+       (prefix == null) ? null : PlainComponentParser.modern(prefix),
+       (suffix == null) ? null : PlainComponentParser.modern(suffix),
+       (color == null) ? NamedTextColor.WHITE : color)));
+  }
+
+  private static void bindTag(final @NotNull Statement statement, final @NotNull TagAggregateRoot aggregateRoot) {
+    final TagPropertiesValueObject properties = aggregateRoot.tagModel().tagComponentProperties();
+    statement.bind(0, aggregateRoot.id());
+    bindNullable(statement, 1, PlainComponentParser.plainOrNull(properties.prefix()));
+    bindNullable(statement, 2, PlainComponentParser.plainOrNull(properties.suffix()));
+    statement.bind(3, properties.color().value());
+  }
+
+  private static void bindNullable(final @NotNull Statement statement, final int index, final @Nullable String value) {
+    if (value == null) {
+      statement.bindNull(index, String.class);
+    } else {
+      statement.bind(index, value);
+    }
+  }
+}
@@ -0,0 +1,160 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.player.infrastructure.r2dbc;
+
+import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
+import io.github.aivruu.teams.player.domain.PlayerModelEntity;
+import io.github.aivruu.teams.shared.infrastructure.r2dbc.R2dbcInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.util.application.PluginExecutor;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.Result;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PlayerR2dbcInfrastructureAggregateRootRepositoryTest {
+  private static final String TABLE_NAME = "players";
+  private static final String CREATE_SCHEMA_VERSION_TABLE_STATEMENT = """
+    CREATE TABLE %s(
+      version INT NOT NULL,
+      description VARCHAR(200) NOT NULL,
+      PRIMARY KEY(version)
+    )""".formatted(R2dbcInfrastructureAggregateRootRepository.SCHEMA_VERSION_TABLE_NAME);
+  private static final String INSERT_SCHEMA_VERSION_STATEMENT =
+     "INSERT INTO %s(version, description) VALUES(%%d, 'test')".formatted(
+        R2dbcInfrastructureAggregateRootRepository.SCHEMA_VERSION_TABLE_NAME);
+  private static final String CREATE_SCHEMA_BACKFILL_TABLE_STATEMENT = """
+    CREATE TABLE %s(
+      target_table VARCHAR(64) NOT NULL,
+      cursor_key VARCHAR(64) NULL,
+      completed BOOLEAN NOT NULL DEFAULT FALSE,
+      PRIMARY KEY(target_table)
+    )""".formatted(R2dbcInfrastructureAggregateRootRepository.SCHEMA_BACKFILL_TABLE_NAME);
+  private static final String INSERT_SCHEMA_BACKFILL_STATEMENT =
+     "INSERT INTO %s(target_table, completed) VALUES('%s', %%b)".formatted(
+        R2dbcInfrastructureAggregateRootRepository.SCHEMA_BACKFILL_TABLE_NAME, TABLE_NAME);
+
+  @BeforeAll
+  static void buildExecutors() {
+    PluginExecutor.build(2);
+  }
+
+  @AfterAll
+  static void shutdownExecutors() {
+    PluginExecutor.shutdown(1000L);
+  }
+
+  @Test
+  void savesFindsAndDeletesPlayers() {
+    final ConnectionPool connectionPool = migratedPool("teams-migrated", 2, true);
+    try {
+      final PlayerR2dbcInfrastructureAggregateRootRepository repository =
+         new PlayerR2dbcInfrastructureAggregateRootRepository(connectionPool, TABLE_NAME);
+      assertTrue(repository.start());
+
+      final String firstId = UUID.randomUUID().toString();
+      final String secondId = UUID.randomUUID().toString();
+      assertTrue(repository.saveAsync(player(firstId, "red")).join());
+      final PlayerAggregateRoot saved = repository.findAsync(firstId).join();
+      assertNotNull(saved);
+      assertEquals("red", saved.playerModel().tag());
+
+      // The save-statement replaces the existing row, a cleared tag is stored as null.
+      assertTrue(repository.saveAsync(player(firstId, null)).join());
+      final PlayerAggregateRoot cleared = repository.findAsync(firstId).join();
+      assertNotNull(cleared);
+      assertNull(cleared.playerModel().tag());
+
+      final Map<String, Boolean> results = repository.saveManyAsync(List.of(player(firstId, "blue"),
+         player(secondId, "green"))).join();
+      assertEquals(Map.of(firstId, true, secondId, true), results);
+      final Map<String, PlayerAggregateRoot> found = repository.findManyAsync(List.of(firstId, secondId)).join();
+      assertEquals(2, found.size());
+      assertEquals("blue", found.get(firstId).playerModel().tag());
+      assertEquals("green", found.get(secondId).playerModel().tag());
+
+      assertTrue(repository.deleteAsync(firstId).join());
+      assertNull(repository.findAsync(firstId).join());
+      assertFalse(repository.deleteAsync(firstId).join());
+      assertTrue(repository.existsAsync(secondId).join());
+    } finally {
+      connectionPool.dispose();
+    }
+  }
+
+  @Test
+  void refusesToStartWithOutdatedSchema() {
+    final ConnectionPool connectionPool = migratedPool("teams-outdated", 1, true);
+    try {
+      assertFalse(new PlayerR2dbcInfrastructureAggregateRootRepository(connectionPool, TABLE_NAME).start());
+    } finally {
+      connectionPool.dispose();
+    }
+  }
+
+  @Test
+  void refusesToStartWithIncompleteBackfills() {
+    final ConnectionPool connectionPool = migratedPool("teams-backfilling", 2, false);
+    try {
+      assertFalse(new PlayerR2dbcInfrastructureAggregateRootRepository(connectionPool, TABLE_NAME).start());
+    } finally {
+      connectionPool.dispose();
+    }
+  }
+
+  private static @NotNull ConnectionPool migratedPool(
+     final @NotNull String database,
+     final int schemaVersion,
+     final boolean backfillCompleted) {
+    final ConnectionPool connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(
+       ConnectionFactories.get("r2dbc:h2:mem:///" + database + "?options=MODE=MariaDB;DB_CLOSE_DELAY=-1")).build());
+    Mono.usingWhen(connectionPool.create(), connection -> execute(connection, CREATE_SCHEMA_VERSION_TABLE_STATEMENT,
+          INSERT_SCHEMA_VERSION_STATEMENT.formatted(schemaVersion), CREATE_SCHEMA_BACKFILL_TABLE_STATEMENT,
+          INSERT_SCHEMA_BACKFILL_STATEMENT.formatted(backfillCompleted)), Connection::close)
+       .block();
+    return connectionPool;
+  }
+
+  private static @NotNull Mono<Void> execute(
+     final @NotNull Connection connection,
+     final @NotNull String... statements) {
+    return Flux.fromArray(statements)
+       .concatMap(sql -> Flux.from(connection.createStatement(sql).execute()).concatMap(Result::getRowsUpdated))
+       .then();
+  }
+
+  private static @NotNull PlayerAggregateRoot player(final @NotNull String id, final @Nullable String tag) {
+    return new PlayerAggregateRoot(id, new PlayerModelEntity(id, tag));
+  }
+}
@@ -0,0 +1,6 @@
+dependencies {
+  api(project(":${rootProject.name}-infrastructure"))
+
+  compileOnlyApi(libs.annotations)
+  compileOnlyApi(libs.sqlite.driver)
+}
@@ -0,0 +1,81 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.persistence.infrastructure.utils;
+
+import io.github.aivruu.teams.shared.infrastructure.sqlite.SQLiteDatabase;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * This utility-class is used as {@link SQLiteDatabase} instance builder and provider.
+ *
+ * @since 4.1.0
+ */
+public final class SQLiteDatabaseProvider {
+  private static @Nullable SQLiteDatabase database;
+
+  private SQLiteDatabaseProvider() {
+    throw new UnsupportedOperationException("This class is for utility and cannot be instantiated.");
+  }
+
+  /**
+   * Returns the {@link SQLiteDatabase} instance if is available.
+   *
+   * @return The {@link SQLiteDatabase} or {@code null} if it couldn't be opened or is closed.
+   * @since 4.1.0
+   */
+  public static @Nullable SQLiteDatabase get() {
+    return database;
+  }
+
+  /**
+   * Opens the {@link SQLiteDatabase} at the given file, if it's already opened, the method will skip the
+   * logic.
+   *
+   * @param file            the database's file.
+   * @param readConnections the amount of read-only connections.
+   * @since 4.1.0
+   */
+  public static void open(final @NotNull Path file, final int readConnections) {
+    if (database != null) {
+      return;
+    }
+    try {
+      database = SQLiteDatabase.open(file, readConnections);
+    } catch (final SQLException exception) {
+      Debugger.write("Unexpected exception when trying to open the SQLite database at {}.", file, exception);
+    }
+  }
+
+  /**
+   * Closes the {@link SQLiteDatabase} instance, if it was opened, once every repository using it has been
+   * closed.
+   *
+   * @since 4.1.0
+   */
+  public static void close() {
+    if (database == null) {
+      return;
+    }
+    database.close();
+    database = null;
+  }
+}
@@ -0,0 +1,71 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.persistence.infrastructure.utils;
+
+/**
+ * The SQLite repositories' statements, the players' uuids are stored in their 16-bytes form.
+ *
+ * @since 4.1.0
+ */
+public final class SQLiteStatementConstants {
+  /** Every connection's settings, the WAL journal-mode allows the reads to run while a write is in progress. */
+  public static final String[] CONNECTION_PRAGMA_STATEMENTS = {
+     "PRAGMA journal_mode = WAL",
+     // With the WAL journal-mode, commits are durable once the WAL is synced at the next checkpoint.
+     "PRAGMA synchronous = NORMAL",
+     "PRAGMA busy_timeout = 5000"
+  };
+  public static final String READ_ONLY_PRAGMA_STATEMENT = "PRAGMA query_only = ON";
+  public static final String CHECKPOINT_STATEMENT = "PRAGMA wal_checkpoint(TRUNCATE)";
+  public static final String CREATE_PLAYERS_DATA_TABLE_STATEMENT = """
+    CREATE TABLE IF NOT EXISTS %s(
+      uuid BLOB NOT NULL PRIMARY KEY,
+      tag TEXT NULL
+    ) WITHOUT ROWID""";
+  /** Requires the table's name twice. */
+  public static final String CREATE_PLAYERS_TAG_INDEX_STATEMENT = "CREATE INDEX IF NOT EXISTS %s_tag ON %s(tag)";
+  public static final String CREATE_TAGS_DATA_TABLE_STATEMENT = """
+    CREATE TABLE IF NOT EXISTS %s(
+      id TEXT NOT NULL PRIMARY KEY,
+      prefix TEXT NULL,
+      suffix TEXT NULL,
+      color INTEGER NOT NULL
+    ) WITHOUT ROWID""";
+  public static final String FIND_PLAYER_INFORMATION_STATEMENT = "SELECT tag FROM %s WHERE uuid = ?";
+  /** Requires the table's name and the placeholders for the uuids to search. */
+  public static final String FIND_PLAYERS_INFORMATION_STATEMENT = "SELECT uuid, tag FROM %s WHERE uuid IN (%s)";
+  public static final String FIND_ALL_PLAYERS_INFORMATION_STATEMENT = "SELECT uuid, tag FROM %s";
+  public static final String SAVE_PLAYER_INFORMATION_STATEMENT = """
+    INSERT INTO %s(uuid, tag) VALUES(?, ?)
+    ON CONFLICT(uuid) DO UPDATE SET tag = excluded.tag""";
+  public static final String DELETE_PLAYER_INFORMATION_STATEMENT = "DELETE FROM %s WHERE uuid = ?";
+  public static final String FIND_TAG_INFORMATION_STATEMENT = "SELECT prefix, suffix, color FROM %s WHERE id = ?";
+  /** Requires the table's name and the placeholders for the ids to search. */
+  public static final String FIND_TAGS_INFORMATION_STATEMENT =
+     "SELECT id, prefix, suffix, color FROM %s WHERE id IN (%s)";
+  public static final String FIND_ALL_TAGS_INFORMATION_STATEMENT = "SELECT id, prefix, suffix, color FROM %s";
+  public static final String SAVE_TAG_INFORMATION_STATEMENT = """
+    INSERT INTO %s(id, prefix, suffix, color) VALUES(?, ?, ?, ?)
+    ON CONFLICT(id) DO UPDATE SET prefix = excluded.prefix, suffix = excluded.suffix, color = excluded.color""";
+  public static final String DELETE_TAG_INFORMATION_STATEMENT = "DELETE FROM %s WHERE id = ?";
+  /** SQLite versions before 3.32.0 don't allow more parameters per statement. */
+  public static final int MAXIMUM_PARAMETERS = 999;
+
+  private SQLiteStatementConstants() {
+    throw new UnsupportedOperationException("This class cannot be instantiated.");
+  }
+}
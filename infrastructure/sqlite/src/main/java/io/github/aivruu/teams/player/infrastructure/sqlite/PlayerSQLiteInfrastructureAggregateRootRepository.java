@@ -0,0 +1,305 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.player.infrastructure.sqlite;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.BinaryUUIDConverter;
+import io.github.aivruu.teams.persistence.infrastructure.utils.SQLiteStatementConstants;
+import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
+import io.github.aivruu.teams.player.domain.PlayerModelEntity;
+import io.github.aivruu.teams.shared.infrastructure.batch.PendingWriteValueObject;
+import io.github.aivruu.teams.shared.infrastructure.batch.WriteBehindQueue;
+import io.github.aivruu.teams.shared.infrastructure.sqlite.SQLiteDatabase;
+import io.github.aivruu.teams.shared.infrastructure.sqlite.SQLiteInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public final class PlayerSQLiteInfrastructureAggregateRootRepository extends SQLiteInfrastructureAggregateRootRepository<PlayerAggregateRoot> {
+  private final @Nullable WriteBehindQueue<PlayerAggregateRoot> writeBehindQueue;
+
+  public PlayerSQLiteInfrastructureAggregateRootRepository(
+     final @NotNull SQLiteDatabase database,
+     final @NotNull String tableName,
+     final long writeBehindFlushIntervalMillis,
+     final int writeBehindCapacity) {
+    super(database, tableName);
+    // Every write-transaction is synced to the file at the next checkpoint, so the saves collected together
+    // are committed by a single transaction. A non-positive interval disables the write-behind stage.
+    this.writeBehindQueue = (writeBehindFlushIntervalMillis <= 0L) ? null : new WriteBehindQueue<>(
+       this.writeExecutor, writeBehindFlushIntervalMillis, writeBehindCapacity, this::writeBatch);
+  }
+
+  @Override
+  public boolean start() {
+    return this.createSchema(
+       SQLiteStatementConstants.CREATE_PLAYERS_DATA_TABLE_STATEMENT.formatted(this.tableName),
+       SQLiteStatementConstants.CREATE_PLAYERS_TAG_INDEX_STATEMENT.formatted(this.tableName, this.tableName));
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@Nullable PlayerAggregateRoot> findAsync(final @NotNull String id) {
+    final PendingWriteValueObject<PlayerAggregateRoot> pendingWrite = this.pendingWrite(id);
+    if (pendingWrite != null) {
+      // The information in database is outdated until the pending-write is flushed.
+      return CompletableFuture.completedFuture(pendingWrite.aggregateRoot());
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.read(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.FIND_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
+          ) {
+            statement.setBytes(1, BinaryUUIDConverter.toBytes(id));
+            try (final ResultSet resultSet = statement.executeQuery()) {
+              return !resultSet.next()
+                 ? null : new PlayerAggregateRoot(id, new PlayerModelEntity(id, resultSet.getString(1)));
+            }
+          }
+        });
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to retrieve player's information from database.", exception);
+        return null;
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, PlayerAggregateRoot>> findManyAsync(
+     final @NotNull Collection<String> ids) {
+    final Map<String, PlayerAggregateRoot> playerAggregateRoots = new HashMap<>(ids.size());
+    final List<String> idsToSearch = new ArrayList<>(ids.size());
+    for (final String id : ids) {
+      final PendingWriteValueObject<PlayerAggregateRoot> pendingWrite = this.pendingWrite(id);
+      if (pendingWrite == null) {
+        idsToSearch.add(id);
+      } else if (!pendingWrite.deletion()) {
+        playerAggregateRoots.put(id, pendingWrite.aggregateRoot());
+      }
+    }
+    if (idsToSearch.isEmpty()) {
+      return CompletableFuture.completedFuture(playerAggregateRoots);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.read(connection -> {
+          for (int from = 0; from < idsToSearch.size(); from += SQLiteStatementConstants.MAXIMUM_PARAMETERS) {
+            final List<String> chunk = idsToSearch.subList(from,
+               Math.min(from + SQLiteStatementConstants.MAXIMUM_PARAMETERS, idsToSearch.size()));
+            this.findChunk(connection, chunk, playerAggregateRoots);
+          }
+          return playerAggregateRoots;
+        });
+      } catch (final SQLException exception) {
+        // Propagated so callers don't take the players as new ones, and override their information.
+        throw new CompletionException("Unexpected exception when trying to retrieve players' information from database.",
+           exception);
+      }
+    }, this.readExecutor);
+  }
+
+  private void findChunk(
+     final @NotNull Connection connection,
+     final @NotNull List<String> ids,
+     final @NotNull Map<String, PlayerAggregateRoot> playerAggregateRoots) throws SQLException {
+    try (final PreparedStatement statement = connection.prepareStatement(
+       SQLiteStatementConstants.FIND_PLAYERS_INFORMATION_STATEMENT.formatted(this.tableName, placeholders(ids.size())))
+    ) {
+      for (int i = 0; i < ids.size(); i++) {
+        statement.setBytes(i + 1, BinaryUUIDConverter.toBytes(ids.get(i)));
+      }
+      try (final ResultSet resultSet = statement.executeQuery()) {
+        while (resultSet.next()) {
+          final String id = BinaryUUIDConverter.fromBytes(resultSet.getBytes(1));
+          playerAggregateRoots.put(id, new PlayerAggregateRoot(id, new PlayerModelEntity(id, resultSet.getString(2))));
+        }
+      }
+    }
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<PlayerAggregateRoot>> findAllAsync() {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.read(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.FIND_ALL_PLAYERS_INFORMATION_STATEMENT.formatted(this.tableName));
+               final ResultSet resultSet = statement.executeQuery()
+          ) {
+            final List<PlayerAggregateRoot> playerAggregateRoots = new ArrayList<>();
+            while (resultSet.next()) {
+              final String id = BinaryUUIDConverter.fromBytes(resultSet.getBytes(1));
+              playerAggregateRoots.add(new PlayerAggregateRoot(id, new PlayerModelEntity(id, resultSet.getString(2))));
+            }
+            return playerAggregateRoots;
+          }
+        });
+      } catch (final SQLException exception) {
+        throw new CompletionException("Unexpected exception when trying to retrieve all players' information from database.",
+           exception);
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
+    final PendingWriteValueObject<PlayerAggregateRoot> pendingWrite = this.pendingWrite(id);
+    if (pendingWrite != null) {
+      return CompletableFuture.completedFuture(!pendingWrite.deletion());
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.read(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.FIND_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
+          ) {
+            statement.setBytes(1, BinaryUUIDConverter.toBytes(id));
+            try (final ResultSet resultSet = statement.executeQuery()) {
+              return resultSet.next();
+            }
+          }
+        });
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to verify if player's data exists in database.", exception);
+        return false;
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull PlayerAggregateRoot aggregateRoot) {
+    if (this.writeBehindQueue != null) {
+      return this.writeBehindQueue.enqueueSave(aggregateRoot);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.write(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.SAVE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
+          ) {
+            statement.setBytes(1, BinaryUUIDConverter.toBytes(aggregateRoot.id()));
+            statement.setString(2, aggregateRoot.playerModel().tag());
+            return statement.executeUpdate() > 0;
+          }
+        });
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to save player's data to the database.", exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<PlayerAggregateRoot> aggregateRoots) {
+    if (this.writeBehindQueue != null) {
+      // Queued saves are already written together.
+      return super.saveManyAsync(aggregateRoots);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      final List<PendingWriteValueObject<PlayerAggregateRoot>> batch = new ArrayList<>(aggregateRoots.size());
+      for (final PlayerAggregateRoot aggregateRoot : aggregateRoots) {
+        batch.add(new PendingWriteValueObject<>(aggregateRoot.id(), aggregateRoot, new CompletableFuture<>()));
+      }
+      boolean saved;
+      try {
+        this.writeBatch(batch);
+        saved = true;
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to save {} players' data to the database.",
+           aggregateRoots.size(), exception);
+        saved = false;
+      }
+      final Map<String, Boolean> results = new HashMap<>(aggregateRoots.size());
+      for (final PlayerAggregateRoot aggregateRoot : aggregateRoots) {
+        results.put(aggregateRoot.id(), saved);
+      }
+      return results;
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
+    if (this.writeBehindQueue != null) {
+      // Deletions are queued too, otherwise a pending save-operation could be flushed after the deletion.
+      return this.writeBehindQueue.enqueueDelete(id);
+    }
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.write(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.DELETE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
+          ) {
+            statement.setBytes(1, BinaryUUIDConverter.toBytes(id));
+            return statement.executeUpdate() > 0;
+          }
+        });
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to delete player's data from the database.", exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public void close() {
+    if (this.writeBehindQueue != null) {
+      this.writeBehindQueue.flush();
+    }
+  }
+
+  private @Nullable PendingWriteValueObject<PlayerAggregateRoot> pendingWrite(final @NotNull String id) {
+    return (this.writeBehindQueue == null) ? null : this.writeBehindQueue.pending(id);
+  }
+
+  private void writeBatch(final @NotNull Collection<PendingWriteValueObject<PlayerAggregateRoot>> batch)
+     throws SQLException {
+    this.database.write(connection -> {
+      try (final PreparedStatement saveStatement = connection.prepareStatement(
+         SQLiteStatementConstants.SAVE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName));
+           final PreparedStatement deleteStatement = connection.prepareStatement(
+         SQLiteStatementConstants.DELETE_PLAYER_INFORMATION_STATEMENT.formatted(this.tableName))
+      ) {
+        for (final PendingWriteValueObject<PlayerAggregateRoot> write : batch) {
+          final PlayerAggregateRoot aggregateRoot = write.aggregateRoot();
+          if (aggregateRoot == null) {
+            deleteStatement.setBytes(1, BinaryUUIDConverter.toBytes(write.id()));
+            deleteStatement.addBatch();
+          } else {
+            saveStatement.setBytes(1, BinaryUUIDConverter.toBytes(aggregateRoot.id()));
+            saveStatement.setString(2, aggregateRoot.playerModel().tag());
+            saveStatement.addBatch();
+          }
+        }
+        saveStatement.executeBatch();
+        deleteStatement.executeBatch();
+      }
+      return null;
+    });
+  }
+}
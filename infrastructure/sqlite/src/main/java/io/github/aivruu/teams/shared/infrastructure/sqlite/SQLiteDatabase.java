@@ -0,0 +1,200 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.sqlite;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.SQLiteStatementConstants;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An embedded SQLite database stored at a single file, using the WAL journal-mode.
+ * <p>
+ * SQLite allows only one write-transaction at a time, so the writes share a single connection and are
+ * executed one at a time, instead of waiting for the file's lock, while the reads use their own read-only
+ * connections and run at the same time, even while a write is in progress.
+ *
+ * @since 4.1.0
+ */
+public final class SQLiteDatabase {
+  private static final String JDBC_URL = "jdbc:sqlite:%s";
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final Connection writeConnection;
+  private final BlockingQueue<Connection> readConnections;
+  private final List<Connection> connections;
+
+  private SQLiteDatabase(
+     final @NotNull Connection writeConnection,
+     final @NotNull BlockingQueue<Connection> readConnections,
+     final @NotNull List<Connection> connections) {
+    this.writeConnection = writeConnection;
+    this.readConnections = readConnections;
+    this.connections = connections;
+  }
+
+  /**
+   * Opens the database at the given file, creating it if it doesn't exist.
+   *
+   * @param file            the database's file.
+   * @param readConnections the amount of read-only connections, at least one.
+   * @return The {@link SQLiteDatabase}.
+   * @throws SQLException if the connections couldn't be opened.
+   * @since 4.1.0
+   */
+  public static @NotNull SQLiteDatabase open(final @NotNull Path file, final int readConnections)
+     throws SQLException {
+    final String url = JDBC_URL.formatted(file.toAbsolutePath());
+    final List<Connection> connections = new ArrayList<>(readConnections + 1);
+    try {
+      // The write-connection is opened first, as the journal-mode change requires to write the file.
+      final Connection writeConnection = openConnection(url, connections);
+      writeConnection.setAutoCommit(false);
+      final BlockingQueue<Connection> readQueue = new ArrayBlockingQueue<>(Math.max(readConnections, 1));
+      for (int i = 0; i < Math.max(readConnections, 1); i++) {
+        final Connection readConnection = openConnection(url, connections);
+        try (final Statement statement = readConnection.createStatement()) {
+          statement.execute(SQLiteStatementConstants.READ_ONLY_PRAGMA_STATEMENT);
+        }
+        readQueue.add(readConnection);
+      }
+      return new SQLiteDatabase(writeConnection, readQueue, connections);
+    } catch (final SQLException exception) {
+      closeAll(connections);
+      throw exception;
+    }
+  }
+
+  private static @NotNull Connection openConnection(
+     final @NotNull String url,
+     final @NotNull List<Connection> connections) throws SQLException {
+    final Connection connection = DriverManager.getConnection(url);
+    connections.add(connection);
+    try (final Statement statement = connection.createStatement()) {
+      for (final String pragma : SQLiteStatementConstants.CONNECTION_PRAGMA_STATEMENTS) {
+        statement.execute(pragma);
+      }
+    }
+    return connection;
+  }
+
+  /**
+   * Executes the given function with a read-only connection, waiting until one is free.
+   *
+   * @param function the {@link ConnectionFunction} to execute.
+   * @param <T>      the function's result type.
+   * @return The function's result.
+   * @throws SQLException if the function failed, or the thread was interrupted while waiting.
+   * @since 4.1.0
+   */
+  public <T> T read(final @NotNull ConnectionFunction<T> function) throws SQLException {
+    final Connection connection;
+    try {
+      connection = this.readConnections.take();
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while waiting for a read-connection.", exception);
+    }
+    try {
+      return function.apply(connection);
+    } finally {
+      this.readConnections.add(connection);
+    }
+  }
+
+  /**
+   * Executes the given function within a write-transaction, which is committed once the function returns,
+   * or rolled back if it fails. Only one write-transaction is executed at a time.
+   *
+   * @param function the {@link ConnectionFunction} to execute.
+   * @param <T>      the function's result type.
+   * @return The function's result.
+   * @throws SQLException if the function or the transaction's commit failed.
+   * @since 4.1.0
+   */
+  public <T> T write(final @NotNull ConnectionFunction<T> function) throws SQLException {
+    this.writeLock.lock();
+    try {
+      final T result = function.apply(this.writeConnection);
+      this.writeConnection.commit();
+      return result;
+    } catch (final SQLException | RuntimeException exception) {
+      this.writeConnection.rollback();
+      throw exception;
+    } finally {
+      this.writeLock.unlock();
+    }
+  }
+
+  /**
+   * Closes the database's connections, moving the WAL's content to the database's file first, so it can be
+   * copied as a single file while the server is stopped.
+   *
+   * @since 4.1.0
+   */
+  public void close() {
+    this.writeLock.lock();
+    try (final Statement statement = this.writeConnection.createStatement()) {
+      // The checkpoint can't run within a transaction.
+      this.writeConnection.setAutoCommit(true);
+      statement.execute(SQLiteStatementConstants.CHECKPOINT_STATEMENT);
+    } catch (final SQLException exception) {
+      Debugger.write("Unexpected exception when trying to checkpoint the SQLite database's WAL.", exception);
+    } finally {
+      closeAll(this.connections);
+      this.writeLock.unlock();
+    }
+  }
+
+  private static void closeAll(final @NotNull List<Connection> connections) {
+    for (final Connection connection : connections) {
+      try {
+        connection.close();
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to close a SQLite connection.", exception);
+      }
+    }
+  }
+
+  /**
+   * A function executed with one of the database's connections.
+   *
+   * @param <T> the function's result type.
+   * @since 4.1.0
+   */
+  @FunctionalInterface
+  public interface ConnectionFunction<T> {
+    /**
+     * Executes this function with the given connection.
+     *
+     * @param connection the {@link Connection}, it must not be closed by the function.
+     * @return The function's result.
+     * @throws SQLException if the function failed.
+     * @since 4.1.0
+     */
+    T apply(final @NotNull Connection connection) throws SQLException;
+  }
+}
@@ -0,0 +1,81 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.sqlite;
+
+import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
+import io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+public abstract class SQLiteInfrastructureAggregateRootRepository<A extends AggregateRoot>
+   extends InfrastructureAggregateRootRepository<A> {
+  /** The database whose single write-connection is shared by every repository. */
+  protected final SQLiteDatabase database;
+  protected final String tableName;
+
+  protected SQLiteInfrastructureAggregateRootRepository(
+     final @NotNull SQLiteDatabase database,
+     final @NotNull String tableName) {
+    super(Type.SQLITE);
+    this.database = database;
+    this.tableName = tableName;
+  }
+
+  /**
+   * Executes the given schema-statements within a single write-transaction, waiting until they're executed.
+   *
+   * @param statements the schema-statements.
+   * @return Whether every statement was executed.
+   * @since 4.1.0
+   */
+  protected boolean createSchema(final @NotNull String... statements) {
+    return CompletableFuture
+       .supplyAsync(() -> {
+         try {
+           return this.database.write(connection -> {
+             try (final Statement statement = connection.createStatement()) {
+               for (final String sql : statements) {
+                 statement.execute(sql);
+               }
+             }
+             return true;
+           });
+         } catch (final SQLException exception) {
+           Debugger.write("Unexpected exception when trying to create the database's {} table.", this.tableName,
+              exception);
+           return false;
+         }
+       }, this.writeExecutor)
+       .join();
+  }
+
+  /**
+   * Returns the placeholders for a statement's {@code IN} clause with the given amount of values.
+   *
+   * @param amount the amount of values.
+   * @return The placeholders separated by commas.
+   * @since 4.1.0
+   */
+  protected static @NotNull String placeholders(final int amount) {
+    return String.join(", ", Collections.nCopies(amount, "?"));
+  }
+}
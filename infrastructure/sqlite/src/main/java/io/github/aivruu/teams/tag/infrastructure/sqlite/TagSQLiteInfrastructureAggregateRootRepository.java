@@ -0,0 +1,251 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.tag.infrastructure.sqlite;
+
+import io.github.aivruu.teams.persistence.infrastructure.utils.SQLiteStatementConstants;
+import io.github.aivruu.teams.shared.infrastructure.sqlite.SQLiteDatabase;
+import io.github.aivruu.teams.shared.infrastructure.sqlite.SQLiteInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
+import io.github.aivruu.teams.tag.domain.TagModelEntity;
+import io.github.aivruu.teams.tag.domain.TagPropertiesValueObject;
+import io.github.aivruu.teams.util.application.Debugger;
+import io.github.aivruu.teams.util.application.component.PlainComponentParser;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public final class TagSQLiteInfrastructureAggregateRootRepository extends SQLiteInfrastructureAggregateRootRepository<TagAggregateRoot> {
+  public TagSQLiteInfrastructureAggregateRootRepository(
+     final @NotNull SQLiteDatabase database,
+     final @NotNull String tableName) {
+    super(database, tableName);
+  }
+
+  @Override
+  public boolean start() {
+    return this.createSchema(SQLiteStatementConstants.CREATE_TAGS_DATA_TABLE_STATEMENT.formatted(this.tableName));
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@Nullable TagAggregateRoot> findAsync(final @NotNull String id) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.read(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.FIND_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
+          ) {
+            statement.setString(1, id);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+              return !resultSet.next()
+                 ? null : new TagAggregateRoot(id, new TagModelEntity(id, readProperties(resultSet)));
+            }
+          }
+        });
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to retrieve tag's information from database.", exception);
+        return null;
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, TagAggregateRoot>> findManyAsync(
+     final @NotNull Collection<String> ids) {
+    if (ids.isEmpty()) {
+      return CompletableFuture.completedFuture(new HashMap<>());
+    }
+    final List<String> idsToSearch = new ArrayList<>(ids);
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.read(connection -> {
+          final Map<String, TagAggregateRoot> tagAggregateRoots = new HashMap<>(idsToSearch.size());
+          for (int from = 0; from < idsToSearch.size(); from += SQLiteStatementConstants.MAXIMUM_PARAMETERS) {
+            final List<String> chunk = idsToSearch.subList(from,
+               Math.min(from + SQLiteStatementConstants.MAXIMUM_PARAMETERS, idsToSearch.size()));
+            try (final PreparedStatement statement = connection.prepareStatement(
+               SQLiteStatementConstants.FIND_TAGS_INFORMATION_STATEMENT.formatted(this.tableName,
+                  placeholders(chunk.size())))
+            ) {
+              for (int i = 0; i < chunk.size(); i++) {
+                statement.setString(i + 1, chunk.get(i));
+              }
+              try (final ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                  final String id = resultSet.getString("id");
+                  tagAggregateRoots.put(id,
+                     new TagAggregateRoot(id, new TagModelEntity(id, readProperties(resultSet))));
+                }
+              }
+            }
+          }
+          return tagAggregateRoots;
+        });
+      } catch (final SQLException exception) {
+        // Propagated so callers don't take the missing tags as deleted ones.
+        throw new CompletionException("Unexpected exception when trying to retrieve tags' information from database.",
+           exception);
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Collection<TagAggregateRoot>> findAllAsync() {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.read(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.FIND_ALL_TAGS_INFORMATION_STATEMENT.formatted(this.tableName));
+               final ResultSet resultSet = statement.executeQuery()
+          ) {
+            final List<TagAggregateRoot> tagAggregateRoots = new ArrayList<>();
+            while (resultSet.next()) {
+              final String id = resultSet.getString("id");
+              tagAggregateRoots.add(new TagAggregateRoot(id, new TagModelEntity(id, readProperties(resultSet))));
+            }
+            return tagAggregateRoots;
+          }
+        });
+      } catch (final SQLException exception) {
+        throw new CompletionException("Unexpected exception when trying to retrieve all tags' information from database.",
+           exception);
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> existsAsync(final @NotNull String id) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.read(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.FIND_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
+          ) {
+            statement.setString(1, id);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+              return resultSet.next();
+            }
+          }
+        });
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to verify if tag's data exists in database.", exception);
+        return false;
+      }
+    }, this.readExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> saveAsync(final @NotNull TagAggregateRoot aggregateRoot) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.write(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.SAVE_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
+          ) {
+            statement.setString(1, aggregateRoot.id());
+            writeProperties(statement, aggregateRoot.tagModel().tagComponentProperties());
+            return statement.executeUpdate() > 0;
+          }
+        });
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to save tag's data to the database.", exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<@NotNull Map<String, Boolean>> saveManyAsync(
+     final @NotNull Collection<TagAggregateRoot> aggregateRoots) {
+    return CompletableFuture.supplyAsync(() -> {
+      boolean saved;
+      try {
+        // Every save is committed by the same transaction.
+        saved = this.database.write(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.SAVE_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
+          ) {
+            for (final TagAggregateRoot aggregateRoot : aggregateRoots) {
+              statement.setString(1, aggregateRoot.id());
+              writeProperties(statement, aggregateRoot.tagModel().tagComponentProperties());
+              statement.addBatch();
+            }
+            statement.executeBatch();
+            return true;
+          }
+        });
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to save {} tags' data to the database.",
+           aggregateRoots.size(), exception);
+        saved = false;
+      }
+      final Map<String, Boolean> results = new HashMap<>(aggregateRoots.size());
+      for (final TagAggregateRoot aggregateRoot : aggregateRoots) {
+        results.put(aggregateRoot.id(), saved);
+      }
+      return results;
+    }, this.writeExecutor);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<Boolean> deleteAsync(final @NotNull String id) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        return this.database.write(connection -> {
+          try (final PreparedStatement statement = connection.prepareStatement(
+             SQLiteStatementConstants.DELETE_TAG_INFORMATION_STATEMENT.formatted(this.tableName))
+          ) {
+            statement.setString(1, id);
+            return statement.executeUpdate() > 0;
+          }
+        });
+      } catch (final SQLException exception) {
+        Debugger.write("Unexpected exception when trying to delete tag's data from the database.", exception);
+        return false;
+      }
+    }, this.writeExecutor);
+  }
+
+  private static @NotNull TagPropertiesValueObject readProperties(final @NotNull ResultSet resultSet)
+     throws SQLException {
+    final String prefix = resultSet.getString("prefix");
+    final String suffix = resultSet.getString("suffix");
+    final NamedTextColor color = NamedTextColor.namedColor(resultSet.getInt("color"));
+    return new TagPropertiesValueObject(
+       (prefix == null) ? null : PlainComponentParser.modern(prefix),
+       (suffix == null) ? null : PlainComponentParser.modern(suffix),
+       (color == null) ? NamedTextColor.WHITE : color);
+  }
+
+  private static void writeProperties(
+     final @NotNull PreparedStatement statement,
+     final @NotNull TagPropertiesValueObject properties) throws SQLException {
+    statement.setString(2, PlainComponentParser.plainOrNull(properties.prefix()));
+    statement.setString(3, PlainComponentParser.plainOrNull(properties.suffix()));
+    statement.setInt(4, properties.color().value());
+  }
+}
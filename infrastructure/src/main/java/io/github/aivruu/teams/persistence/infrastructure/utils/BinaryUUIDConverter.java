@@ -0,0 +1,86 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.persistence.infrastructure.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * This utility-class converts the players' ids to the 16-bytes form in which they're stored by the SQL
+ * infrastructures, instead of their 36-characters text form.
+ *
+ * @since 4.1.0
+ */
+public final class BinaryUUIDConverter {
+  private BinaryUUIDConverter() {
+    throw new UnsupportedOperationException("This class is for utility and cannot be instantiated.");
+  }
+
+  /**
+   * Returns the bytes of the given {@link UUID}'s text form.
+   *
+   * @param id the {@link UUID}'s text form.
+   * @return The {@link UUID}'s bytes.
+   * @throws IllegalArgumentException if the id isn't a valid {@link UUID}.
+   * @since 4.1.0
+   */
+  public static byte @NotNull [] toBytes(final @NotNull String id) {
+    final UUID uuid = UUID.fromString(id);
+    return ByteBuffer.allocate(16)
+       .putLong(uuid.getMostSignificantBits())
+       .putLong(uuid.getLeastSignificantBits())
+       .array();
+  }
+
+  /**
+   * Returns the text form of the {@link UUID} with the given bytes.
+   *
+   * @param bytes the {@link UUID}'s bytes.
+   * @return The {@link UUID}'s text form.
+   * @since 4.1.0
+   */
+  public static @NotNull String fromBytes(final byte @NotNull [] bytes) {
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong()).toString();
+  }
+
+  /**
+   * Returns a {@link ByteBuffer} with the bytes of the given {@link UUID}'s text form.
+   *
+   * @param id the {@link UUID}'s text form.
+   * @return A {@link ByteBuffer} with the {@link UUID}'s bytes.
+   * @throws IllegalArgumentException if the id isn't a valid {@link UUID}.
+   * @since 4.1.0
+   */
+  public static @NotNull ByteBuffer toBuffer(final @NotNull String id) {
+    return ByteBuffer.wrap(toBytes(id));
+  }
+
+  /**
+   * Returns the text form of the {@link UUID} with the {@link ByteBuffer}'s remaining bytes.
+   *
+   * @param buffer the {@link ByteBuffer} with the {@link UUID}'s bytes.
+   * @return The {@link UUID}'s text form.
+   * @since 4.1.0
+   */
+  public static @NotNull String fromBuffer(final @NotNull ByteBuffer buffer) {
+    final ByteBuffer duplicate = buffer.duplicate();
+    return new UUID(duplicate.getLong(), duplicate.getLong()).toString();
+  }
+}
@@ -18,8 +18,14 @@ package io.github.aivruu.teams.shared.infrastructure;
 
 import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
 import io.github.aivruu.teams.aggregate.domain.repository.AsyncAggregateRootRepository;
+import io.github.aivruu.teams.shared.infrastructure.executor.BoundedConcurrencyExecutor;
 import io.github.aivruu.teams.util.application.PluginExecutor;
+import io.github.aivruu.teams.util.application.PluginExecutor.Workload;
+import org.jetbrains.annotations.NotNull;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -30,8 +36,73 @@ import java.util.concurrent.ExecutorService;
  */
 public abstract class InfrastructureAggregateRootRepository<A extends AggregateRoot>
    implements AsyncAggregateRootRepository<A> {
-  /** The plugin's thread-pool used for this async-operations. */
-  public static final ExecutorService THREAD_POOL = PluginExecutor.get();
+  /** The plugin's thread-pool used for this async-reading operations. */
+  public static final ExecutorService READ_THREAD_POOL = PluginExecutor.get(Workload.INFRASTRUCTURE_READ);
+  /** The plugin's thread-pool used for this async-writing operations. */
+  public static final ExecutorService WRITE_THREAD_POOL = PluginExecutor.get(Workload.INFRASTRUCTURE_WRITE);
+  private static final Map<Type, TypeExecutors> EXECUTORS = new EnumMap<>(Type.class);
+  private static final TypeExecutors UNLIMITED_EXECUTORS = new TypeExecutors(READ_THREAD_POOL, WRITE_THREAD_POOL);
+  /** The executor used for this repository's async-reads, limited by its infrastructure-type. */
+  protected final Executor readExecutor;
+  /** The executor used for this repository's async-writes and deletions, limited by its infrastructure-type. */
+  protected final Executor writeExecutor;
+
+  /**
+   * Creates a new {@link InfrastructureAggregateRootRepository} for the given infrastructure-type.
+   *
+   * @param type the repository's infrastructure-{@link Type}.
+   * @see #limitConcurrency(Type, int)
+   * @since 4.1.0
+   */
+  protected InfrastructureAggregateRootRepository(final @NotNull Type type) {
+    final TypeExecutors executors = executors(type);
+    this.readExecutor = executors.read;
+    this.writeExecutor = executors.write;
+  }
+
+  /**
+   * Limits the amount of async-operations that the repositories of the given infrastructure-type can run at
+   * the same time, reads and writes together, this must be called before the repositories are created.
+   *
+   * @param type             the infrastructure-{@link Type}.
+   * @param concurrencyLimit the maximum amount of operations running at the same time, or zero for no limit.
+   * @since 4.1.0
+   */
+  public static synchronized void limitConcurrency(final @NotNull Type type, final int concurrencyLimit) {
+    if (concurrencyLimit <= 0) {
+      EXECUTORS.put(type, UNLIMITED_EXECUTORS);
+      return;
+    }
+    final BoundedConcurrencyExecutor limitedExecutor = new BoundedConcurrencyExecutor(READ_THREAD_POOL,
+       concurrencyLimit);
+    EXECUTORS.put(type, new TypeExecutors(limitedExecutor, limitedExecutor.sharing(WRITE_THREAD_POOL)));
+  }
+
+  /**
+   * Returns the reads' executor shared by the repositories of the given infrastructure-type.
+   *
+   * @param type the infrastructure-{@link Type}.
+   * @return The {@link Executor}, or the {@link #READ_THREAD_POOL} if the type's concurrency isn't limited.
+   * @since 4.1.0
+   */
+  public static @NotNull Executor readExecutor(final @NotNull Type type) {
+    return executors(type).read;
+  }
+
+  /**
+   * Returns the writes' executor shared by the repositories of the given infrastructure-type.
+   *
+   * @param type the infrastructure-{@link Type}.
+   * @return The {@link Executor}, or the {@link #WRITE_THREAD_POOL} if the type's concurrency isn't limited.
+   * @since 4.1.0
+   */
+  public static @NotNull Executor writeExecutor(final @NotNull Type type) {
+    return executors(type).write;
+  }
+
+  private static synchronized @NotNull TypeExecutors executors(final @NotNull Type type) {
+    return EXECUTORS.getOrDefault(type, UNLIMITED_EXECUTORS);
+  }
 
   /**
    * Executes this repository its start-up logic.
@@ -42,13 +113,14 @@ public abstract class InfrastructureAggregateRootRepository<A extends AggregateR
   public abstract boolean start();
 
   /**
-   * Closes the global thread-pool.
+   * Closes this repository's resources, flushing any pending write-operation.
+   * <p>
+   * The global thread-pools are shared by every repository, so they're not closed here, but by the plugin
+   * once every repository has been closed.
    *
    * @since 4.0.0
    */
-  public void close() {
-    THREAD_POOL.close();
-  }
+  public void close() {}
 
   /**
    * An enum representing the type of infrastructure-repositories available.
@@ -56,6 +128,8 @@ public abstract class InfrastructureAggregateRootRepository<A extends AggregateR
    * @since 0.0.1
    */
   public enum Type {
-    JSON, MONGODB, MARIADB
+    JSON, MONGODB, MARIADB, MONGODB_REACTIVE, R2DBC, SQLITE, JOURNAL, MAPPED
   }
+
+  private record TypeExecutors(@NotNull Executor read, @NotNull Executor write) {}
 }
@@ -0,0 +1,47 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.batch;
+
+import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents a write-operation waiting into a {@link WriteBehindQueue} to be flushed.
+ *
+ * @param id the aggregate-root's id.
+ * @param aggregateRoot the aggregate-root to save, or {@code null} if the aggregate-root must be deleted.
+ * @param result the future completed with the write-operation's result once it has been flushed.
+ * @param <A> an aggregate-root type.
+ * @since 4.1.0
+ */
+public record PendingWriteValueObject<A extends AggregateRoot>(
+   @NotNull String id,
+   @Nullable A aggregateRoot,
+   @NotNull CompletableFuture<Boolean> result) {
+  /**
+   * Returns whether this write-operation represents a deletion.
+   *
+   * @return true if the aggregate-root must be deleted, otherwise false.
+   * @since 4.1.0
+   */
+  public boolean deletion() {
+    return this.aggregateRoot == null;
+  }
+}
@@ -0,0 +1,210 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.batch;
+
+import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A write-behind queue that collects the write-operations requested for aggregate-roots during a
+ * short window, and flushes them together through a {@link BatchWriter}.
+ * <p>
+ * Operations requested for the same aggregate-root before they're flushed are coalesced, only the latest one
+ * is written, and every requester receives the same result. Flushes are executed one at a time, so the
+ * operations for the same aggregate-root are always written in the order they were requested.
+ *
+ * @param <A> an aggregate-root type.
+ * @since 4.1.0
+ */
+public final class WriteBehindQueue<A extends AggregateRoot> {
+  private final Object lock = new Object();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final Executor executor;
+  private final Executor delayedExecutor;
+  private final int capacity;
+  private final BatchWriter<A> batchWriter;
+  private Map<String, PendingWriteValueObject<A>> pendingWrites = new LinkedHashMap<>();
+  private volatile Map<String, PendingWriteValueObject<A>> flushingWrites = Map.of();
+  private boolean flushScheduled;
+  private boolean immediateFlushScheduled;
+
+  /**
+   * Creates a new {@link WriteBehindQueue} with the given parameters.
+   *
+   * @param executor the executor used to flush the operations.
+   * @param flushIntervalMillis the window in milliseconds during which operations are collected before flushing.
+   * @param capacity the amount of waiting operations after which the queue is flushed without waiting for the
+   *                 window's end, the operations requested meanwhile are flushed by the next flush.
+   * @param batchWriter the writer used to flush the operations.
+   * @since 4.1.0
+   */
+  public WriteBehindQueue(
+     final @NotNull Executor executor,
+     final long flushIntervalMillis,
+     final int capacity,
+     final @NotNull BatchWriter<A> batchWriter) {
+    this.executor = executor;
+    this.delayedExecutor = CompletableFuture.delayedExecutor(flushIntervalMillis, TimeUnit.MILLISECONDS, executor);
+    this.capacity = capacity;
+    this.batchWriter = batchWriter;
+  }
+
+  /**
+   * Enqueues a save-operation for the given aggregate-root.
+   *
+   * @param aggregateRoot the aggregate-root to save.
+   * @return A {@link CompletableFuture} completed with the operation's result once it has been flushed.
+   * @since 4.1.0
+   */
+  public @NotNull CompletableFuture<Boolean> enqueueSave(final @NotNull A aggregateRoot) {
+    return this.enqueue(aggregateRoot.id(), aggregateRoot);
+  }
+
+  /**
+   * Enqueues a delete-operation for the aggregate-root with the given id.
+   *
+   * @param id the aggregate-root's id.
+   * @return A {@link CompletableFuture} completed with the operation's result once it has been flushed.
+   * @since 4.1.0
+   */
+  public @NotNull CompletableFuture<Boolean> enqueueDelete(final @NotNull String id) {
+    return this.enqueue(id, null);
+  }
+
+  private @NotNull CompletableFuture<Boolean> enqueue(final @NotNull String id, final @Nullable A aggregateRoot) {
+    final PendingWriteValueObject<A> write;
+    final boolean flushNow;
+    synchronized (this.lock) {
+      final PendingWriteValueObject<A> previous = this.pendingWrites.get(id);
+      write = new PendingWriteValueObject<>(id, aggregateRoot,
+         (previous == null) ? new CompletableFuture<>() : previous.result());
+      // The operation is always coalesced into the queue, so it's never written out of order, or hidden
+      // from the lookups, if a full queue is waiting for a flush in progress.
+      this.pendingWrites.put(id, write);
+      flushNow = (this.pendingWrites.size() >= this.capacity) && !this.immediateFlushScheduled;
+      if (flushNow) {
+        this.immediateFlushScheduled = true;
+      } else if (!this.flushScheduled) {
+        this.flushScheduled = true;
+        this.delayedExecutor.execute(this::flush);
+      }
+    }
+    // Executors are called outside the lock, they could run the task in the caller-thread.
+    if (flushNow) {
+      this.executor.execute(this::flush);
+    }
+    return write.result();
+  }
+
+  /**
+   * Returns the operation waiting to be flushed, or being flushed, for the aggregate-root with the given id.
+   *
+   * @param id the aggregate-root's id.
+   * @return The {@link PendingWriteValueObject} or {@code null} if there's no operation for that aggregate-root.
+   * @since 4.1.0
+   */
+  public @Nullable PendingWriteValueObject<A> pending(final @NotNull String id) {
+    synchronized (this.lock) {
+      final PendingWriteValueObject<A> write = this.pendingWrites.get(id);
+      if (write != null) {
+        return write;
+      }
+    }
+    return this.flushingWrites.get(id);
+  }
+
+  /**
+   * Returns the amount of operations waiting to be flushed.
+   *
+   * @return The queue's size.
+   * @since 4.1.0
+   */
+  public int size() {
+    synchronized (this.lock) {
+      return this.pendingWrites.size();
+    }
+  }
+
+  /**
+   * Flushes every operation waiting in the queue, blocking the current thread until they're written.
+   *
+   * @since 4.1.0
+   */
+  public void flush() {
+    this.flushLock.lock();
+    try {
+      final Map<String, PendingWriteValueObject<A>> batch;
+      synchronized (this.lock) {
+        this.flushScheduled = false;
+        this.immediateFlushScheduled = false;
+        if (this.pendingWrites.isEmpty()) {
+          return;
+        }
+        batch = this.pendingWrites;
+        this.pendingWrites = new LinkedHashMap<>();
+        this.flushingWrites = batch;
+      }
+      this.write(batch.values());
+    } finally {
+      this.flushingWrites = Map.of();
+      this.flushLock.unlock();
+    }
+  }
+
+  private void write(final @NotNull Collection<PendingWriteValueObject<A>> batch) {
+    try {
+      this.batchWriter.write(batch);
+      for (final PendingWriteValueObject<A> write : batch) {
+        write.result().complete(true);
+      }
+    } catch (final Exception exception) {
+      Debugger.write("Unexpected exception when trying to flush {} pending write-operations.", batch.size(), exception);
+      for (final PendingWriteValueObject<A> write : batch) {
+        write.result().complete(false);
+      }
+    }
+  }
+
+  /**
+   * Represents the function used to write a batch of operations into the infrastructure.
+   *
+   * @param <A> an aggregate-root type.
+   * @since 4.1.0
+   */
+  @FunctionalInterface
+  public interface BatchWriter<A extends AggregateRoot> {
+    /**
+     * Writes the given operations, this method should write them all, or throw an exception if they
+     * couldn't be written.
+     *
+     * @param batch the operations to write.
+     * @throws Exception if the operations couldn't be written.
+     * @since 4.1.0
+     */
+    void write(final @NotNull Collection<PendingWriteValueObject<A>> batch) throws Exception;
+  }
+}
@@ -0,0 +1,163 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.executor;
+
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * An {@link Executor} that limits how many of its tasks can run at the same time on the delegated
+ * {@link Executor}, the exceeding tasks are queued and submitted once a running task completes.
+ * <p>
+ * Queued tasks don't hold any of the delegated executor's threads, so this is safe to use over both
+ * fixed and virtual-threads executors. The permits can be shared with other delegated executors through
+ * {@link #sharing(Executor)}, so different workloads are limited together.
+ * <p>
+ * A task rejected by its delegated executor is handed back to its submitter while it's still waiting at
+ * {@link #execute(Runnable)}, otherwise the thread of the task that released the permit runs it, so the
+ * task's result is always completed.
+ *
+ * @since 4.1.0
+ */
+public final class BoundedConcurrencyExecutor implements Executor {
+  private final Executor delegate;
+  private final Semaphore permits;
+  private final Deque<QueuedTask> queuedTasks = new ConcurrentLinkedDeque<>();
+  // Set while the thread drains the queue, so the tasks that the delegated executors run on the same thread,
+  // such as under a caller-runs policy, don't start a nested drain.
+  private final ThreadLocal<Boolean> draining = ThreadLocal.withInitial(() -> false);
+
+  /**
+   * Creates a new {@link BoundedConcurrencyExecutor} with the given parameters.
+   *
+   * @param delegate         the {@link Executor} used to run the tasks.
+   * @param concurrencyLimit the maximum amount of tasks that can run at the same time.
+   * @since 4.1.0
+   */
+  public BoundedConcurrencyExecutor(final @NotNull Executor delegate, final int concurrencyLimit) {
+    if (concurrencyLimit <= 0) {
+      throw new IllegalArgumentException("The concurrency-limit must be greater than zero.");
+    }
+    this.delegate = delegate;
+    this.permits = new Semaphore(concurrencyLimit);
+  }
+
+  @Override
+  public void execute(final @NotNull Runnable task) {
+    this.execute(task, this.delegate);
+  }
+
+  /**
+   * Returns an {@link Executor} that runs its tasks on the given delegated {@link Executor}, sharing this
+   * executor's concurrency-limit.
+   *
+   * @param delegate the {@link Executor} used to run the tasks.
+   * @return The {@link Executor}.
+   * @since 4.1.0
+   */
+  public @NotNull Executor sharing(final @NotNull Executor delegate) {
+    return task -> this.execute(task, delegate);
+  }
+
+  /**
+   * Returns the amount of tasks waiting for a permit to be submitted.
+   *
+   * @return The amount of queued tasks.
+   * @since 4.1.0
+   */
+  public int queued() {
+    return this.queuedTasks.size();
+  }
+
+  private void execute(final @NotNull Runnable task, final @NotNull Executor delegate) {
+    final QueuedTask queuedTask = new QueuedTask(task, delegate);
+    this.queuedTasks.addLast(queuedTask);
+    this.drain(queuedTask);
+  }
+
+  /**
+   * Submits the queued tasks while there are permits available.
+   *
+   * @param submitted the task queued by the current thread, or {@code null} if it's the thread of a task
+   *                  that released its permit.
+   * @throws RejectedExecutionException if the submitted task was rejected by its delegated executor.
+   */
+  private void drain(final @Nullable QueuedTask submitted) {
+    if (this.draining.get()) {
+      return;
+    }
+    this.draining.set(true);
+    try {
+      // A task queued after the check is drained by the thread that takes or releases the next permit.
+      while (!this.queuedTasks.isEmpty() && this.permits.tryAcquire()) {
+        final QueuedTask task = this.queuedTasks.pollFirst();
+        if (task == null) {
+          this.permits.release();
+          continue;
+        }
+        try {
+          task.delegate.execute(() -> this.run(task));
+        } catch (final RejectedExecutionException exception) {
+          if (submitted == null) {
+            // The task's submitter already returned, it's run here instead, so its result is completed anyway.
+            this.runRejected(task, exception);
+            continue;
+          }
+          this.permits.release();
+          if (task != submitted) {
+            // Kept at the queue's head, so it's submitted first by the next drain.
+            this.queuedTasks.offerFirst(task);
+          }
+          // The rejection is only thrown to the submitter whose task won't be run.
+          if (task == submitted || this.queuedTasks.removeFirstOccurrence(submitted)) {
+            throw exception;
+          }
+          return;
+        }
+      }
+    } finally {
+      this.draining.set(false);
+    }
+  }
+
+  private void run(final @NotNull QueuedTask task) {
+    try {
+      task.task.run();
+    } finally {
+      this.permits.release();
+      this.drain(null);
+    }
+  }
+
+  private void runRejected(final @NotNull QueuedTask task, final @NotNull RejectedExecutionException rejection) {
+    try {
+      this.run(task);
+    } catch (final RuntimeException exception) {
+      exception.addSuppressed(rejection);
+      Debugger.write("Unexpected exception when running a task rejected by its executor.", exception);
+    }
+  }
+
+  private record QueuedTask(@NotNull Runnable task, @NotNull Executor delegate) {}
+}
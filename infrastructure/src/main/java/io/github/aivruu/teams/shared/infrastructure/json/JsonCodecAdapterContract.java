@@ -16,10 +16,22 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.teams.shared.infrastructure.json;
 
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
 import org.jetbrains.annotations.NotNull;
 
-public interface JsonCodecAdapterContract<T> extends JsonDeserializer<T>, JsonSerializer<T> {
-  @NotNull Class<T> forClass();
+/**
+ * A streaming {@link TypeAdapter} for a specific class, which reads and writes the json-tokens directly
+ * instead of building an intermediate json-tree.
+ *
+ * @param <T> the type of the objects to read and write.
+ * @since 4.1.0
+ */
+public abstract class JsonCodecAdapterContract<T> extends TypeAdapter<T> {
+  /**
+   * Returns the class of the objects that this adapter reads and writes.
+   *
+   * @return The adapter's class.
+   * @since 4.1.0
+   */
+  public abstract @NotNull Class<T> forClass();
 }
@@ -19,10 +19,10 @@ package io.github.aivruu.teams.shared.infrastructure.json;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonIOException;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 import io.github.aivruu.teams.aggregate.domain.AggregateRoot;
-import io.github.aivruu.teams.tag.domain.TagPropertiesValueObject;
+import io.github.aivruu.teams.util.application.Debugger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -42,8 +42,9 @@ public final class JsonCoder {
   public static void buildWithAdapters(final @NotNull JsonCodecAdapterContract<?>... adapters) {
     if (gson != null) return;
 
+    // The output is compact, the files are read and written by the plugin only.
     final GsonBuilder builder = new GsonBuilder();
-    builder.serializeNulls().setPrettyPrinting();
+    builder.serializeNulls();
     for (final JsonCodecAdapterContract<?> adapter : adapters) {
       builder.registerTypeAdapter(adapter.forClass(), adapter);
     }
@@ -53,29 +54,20 @@ public final class JsonCoder {
   public static <A extends AggregateRoot> @Nullable A read(final @NotNull Path file, final @NotNull Class<A> aggregateRootClass) {
     try (final Reader reader = Files.newBufferedReader(file)) {
       return gson.fromJson(reader, TypeToken.get(aggregateRootClass));
-    } catch (final IOException exception) {
+    } catch (final IOException | JsonParseException exception) {
+      // A malformed file, such as one left empty or truncated by a crash, is taken as a missing one.
+      Debugger.write("Unexpected exception when trying to read the '{}' json-file.", file, exception);
       return null;
     }
   }
 
-  public static @Nullable TagPropertiesValueObject readProperties(final @NotNull String json) {
+  // The writer isn't flushed nor closed, the caller decides how the content is made durable.
+  public static <A extends AggregateRoot> void write(final @NotNull Writer writer, final @NotNull A aggregateRoot)
+     throws IOException {
     try {
-      return gson.fromJson(json, TagPropertiesValueObject.class);
-    } catch (final JsonSyntaxException exception) {
-      return null;
-    }
-  }
-
-  public static @NotNull String writeProperties(final @NotNull TagPropertiesValueObject properties) {
-    return gson.toJson(properties);
-  }
-
-  public static <A extends AggregateRoot> boolean write(final @NotNull Path file, final @NotNull A aggregateRoot) {
-    try (final Writer writer = Files.newBufferedWriter(file)) {
       gson.toJson(aggregateRoot, writer);
-      return true;
-    } catch (final IOException | JsonIOException exception) {
-      return false;
+    } catch (final JsonIOException exception) {
+      throw new IOException(exception);
     }
   }
 }
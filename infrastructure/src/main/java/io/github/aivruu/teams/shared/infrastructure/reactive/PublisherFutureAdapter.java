@@ -0,0 +1,156 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.shared.infrastructure.reactive;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * This utility-class is used to adapt reactive-streams {@link Publisher}s to {@link CompletableFuture}s
+ * without blocking any thread while the publisher's elements are awaited.
+ * <p>
+ * The futures are completed through the given {@link Executor}, so their dependent-stages never run on the
+ * driver's I/O threads.
+ *
+ * @since 4.1.0
+ */
+public final class PublisherFutureAdapter {
+  private PublisherFutureAdapter() {
+    throw new UnsupportedOperationException("This class is for utility and cannot be instantiated.");
+  }
+
+  /**
+   * Returns a {@link CompletableFuture} completed with the publisher's first element.
+   *
+   * @param publisher the {@link Publisher} to subscribe to.
+   * @param executor  the {@link Executor} used to complete the future.
+   * @param <T>       the elements' type.
+   * @return A {@link CompletableFuture} with the first element, or {@code null} if the publisher is empty.
+   * @since 4.1.0
+   */
+  public static <T> @NotNull CompletableFuture<@Nullable T> first(
+     final @NotNull Publisher<T> publisher,
+     final @NotNull Executor executor) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    publisher.subscribe(new Subscriber<T>() {
+      private Subscription subscription;
+      private boolean done;
+
+      @Override
+      public void onSubscribe(final @NotNull Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1L);
+      }
+
+      @Override
+      public void onNext(final @NotNull T element) {
+        if (this.done) {
+          return;
+        }
+        this.done = true;
+        this.subscription.cancel();
+        complete(future, element, null, executor);
+      }
+
+      @Override
+      public void onError(final @NotNull Throwable throwable) {
+        if (!this.done) {
+          this.done = true;
+          complete(future, null, throwable, executor);
+        }
+      }
+
+      @Override
+      public void onComplete() {
+        if (!this.done) {
+          this.done = true;
+          complete(future, null, null, executor);
+        }
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Returns a {@link CompletableFuture} completed with every publisher's element.
+   *
+   * @param publisher the {@link Publisher} to subscribe to.
+   * @param executor  the {@link Executor} used to complete the future.
+   * @param <T>       the elements' type.
+   * @return A {@link CompletableFuture} with a {@link List} with the elements.
+   * @since 4.1.0
+   */
+  public static <T> @NotNull CompletableFuture<@NotNull List<T>> all(
+     final @NotNull Publisher<T> publisher,
+     final @NotNull Executor executor) {
+    final CompletableFuture<List<T>> future = new CompletableFuture<>();
+    publisher.subscribe(new Subscriber<T>() {
+      // Signals are serialized by the publisher, so the list doesn't need synchronization.
+      private final List<T> elements = new ArrayList<>();
+
+      @Override
+      public void onSubscribe(final @NotNull Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(final @NotNull T element) {
+        this.elements.add(element);
+      }
+
+      @Override
+      public void onError(final @NotNull Throwable throwable) {
+        complete(future, null, throwable, executor);
+      }
+
+      @Override
+      public void onComplete() {
+        complete(future, this.elements, null, executor);
+      }
+    });
+    return future;
+  }
+
+  private static <T> void complete(
+     final @NotNull CompletableFuture<T> future,
+     final @Nullable T value,
+     final @Nullable Throwable throwable,
+     final @NotNull Executor executor) {
+    final Runnable completion = () -> {
+      if (throwable == null) {
+        future.complete(value);
+      } else {
+        future.completeExceptionally(throwable);
+      }
+    };
+    try {
+      executor.execute(completion);
+    } catch (final RejectedExecutionException exception) {
+      // The executor is shutting down, the future is completed by the driver's thread instead.
+      completion.run();
+    }
+  }
+}
@@ -38,7 +38,7 @@ dependencies {
 }
 
 fun includeInfrastructureImplementations() {
-  val implementations = setOf("json", "mongodb", "mariadb")
+  val implementations = setOf("json", "mongodb", "mongodb-reactive", "mariadb", "r2dbc", "sqlite", "journal", "mapped")
   dependencies {
     for (implementation in implementations) {
       api(project(":${rootProject.name}-infrastructure-$implementation"))
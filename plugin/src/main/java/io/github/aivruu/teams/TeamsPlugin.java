@@ -25,6 +25,9 @@ import io.github.aivruu.teams.action.application.type.MessageActionModel;
 import io.github.aivruu.teams.action.application.type.SoundActionModel;
 import io.github.aivruu.teams.action.application.type.TitleActionModel;
 import io.github.aivruu.teams.action.infrastructure.ActionCacheRepository;
+import io.github.aivruu.teams.aggregate.application.OrderedWriteAggregateRootRepository;
+import io.github.aivruu.teams.aggregate.domain.FlushResultValueObject;
+import io.github.aivruu.teams.aggregate.domain.repository.AsyncAggregateRootRepository;
 import io.github.aivruu.teams.command.application.RegistrableCommandContract;
 import io.github.aivruu.teams.command.infrastructure.MainCommand;
 import io.github.aivruu.teams.command.infrastructure.TagFetchCommand;
@@ -50,6 +53,7 @@ import io.github.aivruu.teams.persistence.infrastructure.InfrastructureRepositor
 import io.github.aivruu.teams.placeholder.application.PlaceholderHookContract;
 import io.github.aivruu.teams.placeholder.application.impl.MiniPlaceholdersHookImpl;
 import io.github.aivruu.teams.placeholder.application.impl.PlaceholderAPIHookImpl;
+import io.github.aivruu.teams.player.application.PlayerAggregateRootBatchLoader;
 import io.github.aivruu.teams.player.application.PlayerManager;
 import io.github.aivruu.teams.player.application.PlayerTagSelectorManager;
 import io.github.aivruu.teams.player.application.listener.PlayerRegistryListener;
@@ -59,6 +63,7 @@ import io.github.aivruu.teams.player.domain.repository.PlayerAggregateRootReposi
 import io.github.aivruu.teams.player.infrastructure.PlayerCacheAggregateRootRepository;
 import io.github.aivruu.teams.util.application.PluginExecutor;
 import io.github.aivruu.teams.tag.application.TagManager;
+import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
 import io.github.aivruu.teams.tag.application.modification.repository.TagModificationRepository;
 import io.github.aivruu.teams.tag.application.listener.TagModificationChatInputListener;
 import io.github.aivruu.teams.tag.application.modification.TagModificationProcessor;
@@ -70,10 +75,16 @@ import io.github.aivruu.teams.tag.infrastructure.modification.TagModificationCac
 import io.papermc.paper.command.brigadier.Commands;
 import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 public final class TeamsPlugin extends JavaPlugin implements Teams {
   private final ComponentLogger logger = super.getComponentLogger();
   private final PacketAdaptationContract packetAdaptation = new PacketAdaptationModule();
@@ -193,7 +204,8 @@ public final class TeamsPlugin extends JavaPlugin implements Teams {
     }
     final ConfigurationConfigurationModel config = this.configurationManager.config();
     Debugger.enable(config.debugMode);
-    PluginExecutor.build(config.threadPoolSize);
+    PluginExecutor.build(config.threadPoolMode, config.threadPoolSize, config.writeThreadPoolSize,
+       config.maintenanceThreadPoolSize, config.executorQueueCapacity, config.executorRejectionPolicy);
 
     this.infrastructureRepositoryController = new InfrastructureRepositoryController(
        super.getDataPath(), this.configurationManager);
@@ -212,25 +224,40 @@ public final class TeamsPlugin extends JavaPlugin implements Teams {
       return;
     }
     this.logger.info("Initializing tags-management services and registries.");
+    final ConfigurationConfigurationModel config = this.configurationManager.config();
+    // Writes are ordered per aggregate-root, so an older snapshot can't override a newer one.
+    final AsyncAggregateRootRepository<TagAggregateRoot> tagInfrastructureAggregateRootRepository =
+       new OrderedWriteAggregateRootRepository<>(
+          this.infrastructureRepositoryController.tagInfrastructureAggregateRootRepository(), config.writeLanes);
     this.tagAggregateRootRepository = new TagCacheAggregateRootRepository();
     this.tagAggregateRootRegistry = new TagAggregateRootRegistryImpl(
-       this.tagAggregateRootRepository,
-       this.infrastructureRepositoryController.tagInfrastructureAggregateRootRepository());
+       this.tagAggregateRootRepository, tagInfrastructureAggregateRootRepository);
     this.tagModificationRepository = new TagModificationCacheRepository();
     ((TagModificationCacheRepository) this.tagModificationRepository).buildCache(this.configurationManager);
-    this.tagManager = new TagManager(this.tagAggregateRootRegistry, this.packetAdaptation);
-    ((TagCacheAggregateRootRepository) this.tagAggregateRootRepository).buildCache(this.tagManager);
+    this.tagManager = new TagManager(this.tagAggregateRootRegistry, this.packetAdaptation,
+       this.getServer().getScheduler().getMainThreadExecutor(this));
+    ((TagCacheAggregateRootRepository) this.tagAggregateRootRepository).buildCache(this.tagManager,
+       config, tagInfrastructureAggregateRootRepository);
+    final long warmUpStart = System.nanoTime();
+    final int loadedTags = this.tagManager.warmUp();
+    this.logger.info("Loaded {} tags and their teams in {} ms.", loadedTags,
+       TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - warmUpStart));
     this.tagModificationProcessor = new TagModificationProcessorImpl(
        this, this.tagAggregateRootRegistry, this.tagManager, this.configurationManager,
        this.packetAdaptation);
 
     this.logger.info("Initializing player-management services and registries.");
     this.playerAggregateRootRegistry = new PlayerAggregateRootRegistryImpl(
-       this.playerAggregateRootRepository,
-       this.infrastructureRepositoryController.playerInfrastructureAggregateRootRepository());
-    this.playerManager = new PlayerManager(this.playerAggregateRootRegistry);
+       this.playerAggregateRootRepository, new OrderedWriteAggregateRootRepository<>(
+          this.infrastructureRepositoryController.playerInfrastructureAggregateRootRepository(), config.writeLanes));
+    this.playerManager = new PlayerManager(this.playerAggregateRootRegistry, new PlayerAggregateRootBatchLoader(
+       this.playerAggregateRootRegistry, config.playerLoadBatchWindow, config.playerLoadBatchMaximumSize),
+       config.sparsePlayerPersistence);
     this.playerTagSelectorManager = new PlayerTagSelectorManager(
-       this.playerAggregateRootRegistry, this.tagAggregateRootRegistry, this.packetAdaptation);
+       this.playerAggregateRootRegistry, this.tagAggregateRootRegistry, this.packetAdaptation,
+       this.getServer().getScheduler().getMainThreadExecutor(this));
+    // Tags and players modified by other servers sharing the infrastructure are refreshed as soon as they're stored.
+    this.infrastructureRepositoryController.watchChanges(this.tagManager, this.playerTagSelectorManager);
     this.logger.info("Initializing action-manager and action-types registering.");
 
     this.actionManager = new ActionManager(new ActionCacheRepository());
@@ -337,6 +364,21 @@ public final class TeamsPlugin extends JavaPlugin implements Teams {
 
   @Override
   public void onDisable() {
+    // Stop accepting new loads, selections and modifications before flushing the information.
+    HandlerList.unregisterAll(this);
+    if (this.infrastructureRepositoryController != null) {
+      this.logger.info("Flushing modified players' and tags' information.");
+      final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(
+         this.configurationManager.config().shutdownFlushTimeout);
+      final CompletableFuture<FlushResultValueObject> playersFlush = (this.playerManager == null)
+         ? CompletableFuture.completedFuture(FlushResultValueObject.EMPTY)
+         : this.playerManager.flushAll();
+      final CompletableFuture<FlushResultValueObject> tagsFlush = (this.tagManager == null)
+         ? CompletableFuture.completedFuture(FlushResultValueObject.EMPTY)
+         : this.tagManager.flushAll();
+      this.awaitFlush("players", playersFlush, deadline);
+      this.awaitFlush("tags", tagsFlush, deadline);
+    }
     this.logger.info("Clearing cache-repositories and unregistering objects.");
     if (this.playerAggregateRootRepository != null) {
       this.playerAggregateRootRepository.clearSync();
@@ -356,6 +398,33 @@ public final class TeamsPlugin extends JavaPlugin implements Teams {
     this.logger.info("Closing infrastructure-repositories.");
     if (this.infrastructureRepositoryController != null) {
       this.infrastructureRepositoryController.close();
+      final int discardedTasks = PluginExecutor.shutdown(this.configurationManager.config().shutdownFlushTimeout);
+      if (discardedTasks != 0) {
+        this.logger.warn("The plugin's thread-pools were forced to shut down, {} pending operations were discarded.",
+           Math.max(discardedTasks, 0));
+      }
+    }
+  }
+
+  private void awaitFlush(
+     final @NotNull String name,
+     final @NotNull CompletableFuture<FlushResultValueObject> flush,
+     final long deadline) {
+    try {
+      final FlushResultValueObject result = flush.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+      if (result.lost() == 0) {
+        this.logger.info("Flushed {} modified {}.", result.flushed(), name);
+      } else {
+        this.logger.warn("Flushed {} modified {}, {} couldn't be saved and were lost.", result.flushed(), name,
+           result.lost());
+      }
+    } catch (final TimeoutException exception) {
+      this.logger.warn("The modified {} couldn't be flushed in time, their pending modifications might be lost.", name);
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      this.logger.warn("Interrupted while flushing the modified {}, their pending modifications might be lost.", name);
+    } catch (final ExecutionException exception) {
+      this.logger.error("Unexpected exception when flushing the modified {}.", name, exception.getCause());
     }
   }
 }
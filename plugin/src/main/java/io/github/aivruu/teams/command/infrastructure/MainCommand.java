@@ -22,12 +22,18 @@ import io.github.aivruu.teams.TeamsPlugin;
 import io.github.aivruu.teams.command.application.RegistrableCommandContract;
 import io.github.aivruu.teams.permission.application.Permissions;
 import io.github.aivruu.teams.config.infrastructure.ConfigurationManager;
+import io.github.aivruu.teams.config.infrastructure.object.MessagesConfigurationModel;
+import io.github.aivruu.teams.util.application.ExecutorMetricsValueObject;
+import io.github.aivruu.teams.util.application.PluginExecutor;
 import io.github.aivruu.teams.util.application.component.MiniMessageParser;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Locale;
+
 public final class MainCommand implements RegistrableCommandContract {
   private final TeamsPlugin plugin;
   private final ConfigurationManager configurationManager;
@@ -69,6 +75,25 @@ public final class MainCommand implements RegistrableCommandContract {
           return Command.SINGLE_SUCCESS;
         })
       )
+      .then(Commands.literal("executors")
+        .requires(src -> src.getSender().hasPermission(Permissions.EXECUTORS.node()))
+        .executes(ctx -> {
+          final CommandSender sender = ctx.getSource().getSender();
+          final MessagesConfigurationModel messages = this.configurationManager.messages();
+          sender.sendMessage(MiniMessageParser.text(messages.executorsStatistics));
+          for (final ExecutorMetricsValueObject metrics : PluginExecutor.metrics()) {
+            sender.sendMessage(MiniMessageParser.text(messages.executorStatistics,
+               Placeholder.parsed("name", metrics.name()),
+               Placeholder.parsed("queued", Integer.toString(metrics.queued())),
+               Placeholder.parsed("active", Integer.toString(metrics.active())),
+               Placeholder.parsed("completed", Long.toString(metrics.completed())),
+               Placeholder.parsed("rejected", Long.toString(metrics.rejected())),
+               Placeholder.parsed("average-wait", String.format(Locale.ROOT, "%.2f", metrics.averageWaitMillis())),
+               Placeholder.parsed("maximum-wait", String.format(Locale.ROOT, "%.2f", metrics.maximumWaitMillis()))));
+          }
+          return Command.SINGLE_SUCCESS;
+        })
+      )
       .build();
   }
 }
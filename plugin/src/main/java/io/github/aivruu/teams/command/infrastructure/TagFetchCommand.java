@@ -33,6 +33,7 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public final class TagFetchCommand implements RegistrableCommandContract {
   private final TagManager tagManager;
@@ -62,27 +63,31 @@ public final class TagFetchCommand implements RegistrableCommandContract {
           .suggests(this.availableTagSuggestionProvider)
           .executes(ctx -> {
             final CommandSender sender = ctx.getSource().getSender();
-            final TagAggregateRoot tagAggregateRoot = this.tagManager.tagAggregateRootOf(
-               ctx.getArgument("tag-id", String.class));
-            if (tagAggregateRoot == null) {
-              sender.sendMessage(MiniMessageParser.text(this.configurationManager.messages().unknownTag));
-            } else {
-              final TagPropertiesValueObject properties = tagAggregateRoot.tagModel().tagComponentProperties();
-              for (final Component line : MiniMessageParser.array(
-                 this.configurationManager.messages().fetchedTagInformation,
-                 Placeholder.parsed("id", tagAggregateRoot.id()),
-                 Placeholder.component("prefix", (properties.prefix() != null)
-                    ? properties.prefix() : Component.empty()),
-                 Placeholder.component("suffix", (properties.suffix() != null)
-                    ? properties.suffix() : Component.empty()),
-                 Placeholder.styling("color", properties.color())
-              )) {
-                sender.sendMessage(line);
-              }
-            }
+            // The tag's information is sent once it's found, on the server's thread.
+            this.tagManager.tagAggregateRootOfAsync(ctx.getArgument("tag-id", String.class))
+               .thenAccept(tagAggregateRoot -> this.sendInformation(sender, tagAggregateRoot));
             return Command.SINGLE_SUCCESS;
           })
        )
        .build();
   }
+
+  private void sendInformation(final @NotNull CommandSender sender, final @Nullable TagAggregateRoot tagAggregateRoot) {
+    if (tagAggregateRoot == null) {
+      sender.sendMessage(MiniMessageParser.text(this.configurationManager.messages().unknownTag));
+      return;
+    }
+    final TagPropertiesValueObject properties = tagAggregateRoot.tagModel().tagComponentProperties();
+    for (final Component line : MiniMessageParser.array(
+       this.configurationManager.messages().fetchedTagInformation,
+       Placeholder.parsed("id", tagAggregateRoot.id()),
+       Placeholder.component("prefix", (properties.prefix() != null)
+          ? properties.prefix() : Component.empty()),
+       Placeholder.component("suffix", (properties.suffix() != null)
+          ? properties.suffix() : Component.empty()),
+       Placeholder.styling("color", properties.color())
+    )) {
+      sender.sendMessage(line);
+    }
+  }
 }
@@ -180,12 +180,14 @@ public final class TagsCommand implements RegistrableCommandContract {
                final MessagesConfigurationModel messages = this.configurationManager.messages();
                final Player player = (Player) ctx.getSource().getSender();
                final String id = ctx.getArgument("id", String.class);
-               if (this.tagManager.deleteTag(id)) {
-                 player.sendMessage(MiniMessageParser.text(messages.deleted,
-                    Placeholder.parsed("tag-id", id)));
-               } else {
-                 player.sendMessage(MiniMessageParser.text(messages.unknownTag));
-               }
+               this.tagManager.deleteTagAsync(id).thenAccept(deleted -> {
+                 if (deleted) {
+                   player.sendMessage(MiniMessageParser.text(messages.deleted,
+                      Placeholder.parsed("tag-id", id)));
+                 } else {
+                   player.sendMessage(MiniMessageParser.text(messages.unknownTag));
+                 }
+               });
                return Command.SINGLE_SUCCESS;
              }))
        )
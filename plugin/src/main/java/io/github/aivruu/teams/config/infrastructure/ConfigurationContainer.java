@@ -20,6 +20,7 @@ import io.github.aivruu.teams.TeamsPlugin;
 import io.github.aivruu.teams.config.application.ConfigurationInterface;
 import io.github.aivruu.teams.util.application.Debugger;
 import io.github.aivruu.teams.util.application.PluginExecutor;
+import io.github.aivruu.teams.util.application.PluginExecutor.Workload;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -103,7 +104,7 @@ public record ConfigurationContainer<C>(
         Debugger.write("Unexpected exception during configuration reload: {}", exception);
         return null;
       }
-    }, PluginExecutor.get());
+    }, PluginExecutor.get(Workload.MAINTENANCE));
   }
 
   public static <C extends ConfigurationInterface> @Nullable ConfigurationContainer<C> of(
@@ -21,17 +21,107 @@ import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
 import static io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository.Type;
+import static io.github.aivruu.teams.shared.infrastructure.json.JsonFileWriter.SyncPolicy;
+import static io.github.aivruu.teams.shared.infrastructure.mongodb.MongoDBInfrastructureAggregateRootRepository.WriteConcernLevel;
+import static io.github.aivruu.teams.util.application.MonitoredExecutorService.RejectionPolicy;
+import static io.github.aivruu.teams.util.application.PluginExecutor.Mode;
+import static io.github.aivruu.teams.tag.infrastructure.TagCacheAggregateRootRepository.ExpirationPolicy;
 
 @ConfigSerializable
 public final class ConfigurationConfigurationModel implements ConfigurationInterface {
   @Comment("""
-    Represents the amount of threads that plugin's Executor will be able to use, this threads
-    are used for heavy-operations for the plugin's functions, such as in the infrastructure for
-    load and save information into persistent-storage, configuration-reloading, and more.
+    Represents the amount of threads that plugin's reads Executor will be able to use, this threads
+    are used to load information from the persistent-storage, such as the players' information when
+    they join.
 
     Be carefully with the amount of threads you assign to it.""")
   public int threadPoolSize = 4;
 
+  @Comment("""
+    The amount of threads that plugin's writes Executor will be able to use, this threads are used to save
+    and delete information into the persistent-storage, so a saves' backlog doesn't delay the joins.""")
+  public int writeThreadPoolSize = 2;
+
+  @Comment("""
+    The amount of threads that plugin's maintenance Executor will be able to use, this threads are used
+    for background-operations, such as configuration-reloading, update-checking and tags' cache refreshing.""")
+  public int maintenanceThreadPoolSize = 1;
+
+  @Comment("""
+    The maximum amount of pending operations (queued and running) that every plugin's Executor can hold,
+    once it's reached, the new operations are handled by the 'executor-rejection-policy'. Use 0 for no limit.""")
+  public int executorQueueCapacity = 10000;
+
+  @Comment("""
+    What to do with the operations submitted to a full Executor, there are two options:
+    - CALLER_RUNS: The operation is run by the thread that submitted it, slowing it down until the Executor
+      catches up. The server's thread is never slowed down, its operations are queued anyway.
+    - ABORT: The operation is rejected and fails.""")
+  public RejectionPolicy executorRejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+  @Comment("""
+    The kind of threads used by the plugin's Executor, there are two options:
+    - FIXED: Uses the '*-thread-pool-size' amount of threads, operations wait for a free thread.
+    - VIRTUAL: Uses a virtual-thread for every operation, so blocking database and file operations don't
+      wait for a free thread, the 'concurrency-limit' options limit how many of them run at the same time.""")
+  public Mode threadPoolMode = Mode.FIXED;
+
+  @Comment("""
+    The amount of lanes used to order the players' and tags' saves, every player or tag is always saved by
+    the same lane, so an older information can't override a newer one, and the saves waiting at a lane for
+    the same player or tag are merged into a single save. Different lanes save at the same time.""")
+  public int writeLanes = 64;
+
+  @Comment("""
+    The maximum amount of MongoDB operations that can run at the same time, this value shouldn't be greater
+    than the driver's connection-pool size (100 by default). Use 0 for no limit.""")
+  public int mongoDbConcurrencyLimit = 100;
+
+  @Comment("""
+    The acknowledgement requested to MongoDB for the players' information writes, there are four options:
+    - UNACKNOWLEDGED: The server doesn't acknowledge the writes, failed writes aren't detected.
+    - ACKNOWLEDGED: The primary acknowledges the writes once they're applied.
+    - JOURNALED: The primary acknowledges the writes once they're written to its journal.
+    - MAJORITY: The majority of the replica-set's members acknowledge the writes.""")
+  public WriteConcernLevel playerMongoDbWriteConcern = WriteConcernLevel.ACKNOWLEDGED;
+
+  @Comment("""
+    The acknowledgement requested to MongoDB for the tags' information writes, the options are the same that
+    for 'player-mongo-db-write-concern'.""")
+  public WriteConcernLevel tagMongoDbWriteConcern = WriteConcernLevel.MAJORITY;
+
+  @Comment("""
+    Whether the tags modified or deleted by other servers sharing the MongoDB tags' collection should be
+    refreshed as soon as they're stored, instead of when they expire from the cache. This requires the
+    MONGODB tags' infrastructure-type and a MongoDB replica-set, which is required for change-streams.""")
+  public boolean tagChangeStreamEnabled = false;
+
+  @Comment("""
+    The time-window in milliseconds during which the players' information saves are collected before being
+    written to MongoDB together as a single unordered bulk-write. Use 0 to write every save immediately.""")
+  public long mongoDbPlayerWriteBehindFlushInterval = 250L;
+
+  @Comment("""
+    The amount of players' information saves waiting to be written to MongoDB after which they're written
+    immediately, without waiting for the flush-interval's end.""")
+  public int mongoDbPlayerWriteBehindCapacity = 512;
+
+  @Comment("The maximum amount of json-files operations that can run at the same time. Use 0 for no limit.")
+  public int jsonConcurrencyLimit = 16;
+
+  @Comment("""
+    The policy used to sync the saved json-files to the disk, the files are always written to a temporary-file
+    that then replaces the previous one, so a crash never leaves a half-written file. There are three options:
+    - ALWAYS: Every save waits for its file to be synced, nothing is lost if the machine crashes.
+    - BATCHED: The saved files are synced together every 'json-sync-interval' milliseconds, the saves done
+      since the last sync could be lost if the machine crashes, and as the files replace the previous ones
+      before being synced, some file-systems could leave them empty after a crash.
+    - NEVER: The operating-system syncs the files whenever it decides to.""")
+  public SyncPolicy jsonSyncPolicy = SyncPolicy.ALWAYS;
+
+  @Comment("The interval in milliseconds at which the saved json-files are synced, only used by the BATCHED policy.")
+  public long jsonSyncInterval = 1000L;
+
   @Comment("""
     Means that during plugin's internal processes such as infrastructure-initialization and management as well
     in-cache information handling, the plugin will send debug-messages to the console informing about these
@@ -40,16 +130,34 @@ public final class ConfigurationConfigurationModel implements ConfigurationInter
   public boolean debugMode = false;
 
   @Comment("""
-    The infrastructure-type to use for the players' information storage, there are three options:
+    The maximum time in milliseconds that the plugin will wait on shutdown for the modified players' and
+    tags' information to be saved, and for the plugin's thread-pools to complete its pending operations.""")
+  public long shutdownFlushTimeout = 10000L;
+
+  @Comment("""
+    The infrastructure-type to use for the players' information storage, there are eight options:
+    - MAPPED: Stores the players' information as fixed-size records at a memory-mapped file at the plugin's
+      folder, which are read and modified in-place. This type is only available for the players.
+    - JOURNAL: Appends the players' information to a single log-file at the plugin's folder, which is
+      compacted in the background, and whose records are located through an in-memory index.
+    - SQLITE: Uses an embedded SQLite database-file at the plugin's folder, without any database-server.
     - MARIADB: Uses a MariaDB database for information-storing.
+    - R2DBC: Uses a MariaDB database through the R2DBC driver, its operations don't hold any plugin's thread
+      while they wait for a connection or for the database's response.
     - MONGODB: Uses the database to store the information.
+    - MONGODB_REACTIVE: Uses the database through the reactive-streams driver, its operations don't hold any
+      plugin's thread while they wait for the database's response.
     - JSON: Uses json-files for information storing at pre-defined directories.""")
   public Type playerInfrastructureRepositoryType = Type.JSON;
 
   @Comment("""
-    The infrastructure-type to use for the tags' information storage, there are two options:
+    The infrastructure-type to use for the tags' information storage, there are seven options:
+    - JOURNAL: Appends the tags' information to a single log-file at the plugin's folder.
+    - SQLITE: Uses an embedded SQLite database-file at the plugin's folder.
     - MARIADB: Uses a MariaDB database for information-storing.
+    - R2DBC: Uses a MariaDB database through the R2DBC driver.
     - MONGODB: Uses the database to store the information.
+    - MONGODB_REACTIVE: Uses the database through the reactive-streams driver.
     - JSON: Uses json-files for information storing at pre-defined directories.""")
   public Type tagInfrastructureRepositoryType = Type.JSON;
 
@@ -63,6 +171,40 @@ public final class ConfigurationConfigurationModel implements ConfigurationInter
     will be stored by the plugin.""")
   public String tagCollectionAndDirectoryName = "tags";
 
+  @Comment("""
+    Whether only the players with a selected tag should be stored in the infrastructure. The information of
+    players without a tag isn't stored, and it's deleted when they clear their selection or join with an
+    empty stored information.""")
+  public boolean sparsePlayerPersistence = true;
+
+  @Comment("""
+    The time-window in milliseconds during which the players' information loads (on join) are collected to
+    be searched together with a single query in the infrastructure. Use 0 to search every player by its own.""")
+  public long playerLoadBatchWindow = 5L;
+
+  @Comment("The maximum amount of players' information loads that can be searched together.")
+  public int playerLoadBatchMaximumSize = 100;
+
+  @Comment("""
+    The policy used to evict the tags from the cache, there are three options:
+    - AFTER_ACCESS: Evicts the tags that haven't been read or modified during the 'tag-cache-expiration-time'.
+    - AFTER_WRITE: Evicts the tags that haven't been modified during the 'tag-cache-expiration-time'.
+    - NONE: Tags are kept in cache until they're deleted.
+    Evicted tags are saved, and searched again in the infrastructure when they're requested.""")
+  public ExpirationPolicy tagCacheExpirationPolicy = ExpirationPolicy.AFTER_ACCESS;
+
+  @Comment("The time in seconds used by the tags' cache expiration-policy.")
+  public long tagCacheExpirationTime = 300L;
+
+  @Comment("The maximum amount of tags that can be kept in cache. Use 0 for no limit.")
+  public long tagCacheMaximumSize = 0L;
+
+  @Comment("""
+    The time in seconds after a tag was cached or modified for it to be refreshed from the infrastructure
+    in the background when it's read again, useful when multiple servers share the same tags' storage.
+    Use 0 to disable it.""")
+  public long tagCacheRefreshInterval = 0L;
+
   @Comment("The database's host/server to connect to.")
   public String host = "localhost";
 
@@ -77,4 +219,117 @@ public final class ConfigurationConfigurationModel implements ConfigurationInter
 
   @Comment("The database's password for authentication.")
   public String password = "password";
+
+  @Comment("""
+    The maximum amount of connections that the MariaDB connection-pool can keep opened, every infrastructure
+    operation borrows its own connection from the pool, so this value is also the maximum amount of MariaDB
+    operations that can run at the same time.""")
+  public int mariaDbPoolSize = 10;
+
+  @Comment("""
+    The amount of server-side prepared-statements that will be cached per MariaDB connection, this avoids to
+    parse the same statements again for every operation. Use 0 to disable server-side prepared-statements.""")
+  public int mariaDbPreparedStatementsCacheSize = 250;
+
+  @Comment("""
+    Whether batched-statements should be sent to the MariaDB server as a single bulk-operation instead of
+    one round-trip per statement.""")
+  public boolean mariaDbRewriteBatchedStatements = true;
+
+  @Comment("""
+    The time-window in milliseconds during which the players' information saves are collected before being
+    written to MariaDB together as a single batch. Use 0 to write every save immediately.""")
+  public long mariaDbPlayerWriteBehindFlushInterval = 250L;
+
+  @Comment("""
+    The amount of players' information saves waiting to be written to MariaDB after which they're written
+    immediately, without waiting for the flush-interval's end.""")
+  public int mariaDbPlayerWriteBehindCapacity = 512;
+
+  @Comment("""
+    The maximum amount of rows copied per chunk from the previous schema's MariaDB tables to the current ones,
+    the copy is done while the server runs, and resumed at the next start-up if the server stops before.""")
+  public int mariaDbBackfillChunkSize = 1000;
+
+  @Comment("The time in milliseconds between every chunk of rows copied to the current MariaDB schema's tables.")
+  public long mariaDbBackfillInterval = 500L;
+
+  @Comment("""
+    Whether the MariaDB repositories should record every write in a change-log table, which is polled by the
+    servers sharing the database to refresh the tags and players modified by other servers, instead of
+    waiting for them to expire from the cache.""")
+  public boolean mariaDbChangeLogEnabled = false;
+
+  @Comment("The name of the MariaDB table where the players' and tags' changes are recorded.")
+  public String mariaDbChangeLogTableName = "changes";
+
+  @Comment("The time in milliseconds between every poll for the changes done by other servers.")
+  public long mariaDbChangeLogPollInterval = 1000L;
+
+  @Comment("""
+    The time in seconds after which the recorded changes are deleted from the change-log table, this should
+    be much longer than the poll-interval. Use 0 to never delete them.""")
+  public long mariaDbChangeLogRetention = 3600L;
+
+  @Comment("""
+    The R2DBC url of the database used by the R2DBC infrastructure-type, leave it empty to connect to the
+    MariaDB database with the 'host', 'maria-db-port' and 'database' values. The R2DBC repositories use the
+    current MariaDB schema's tables, but they don't migrate the previous schema's tables, so they won't start
+    until the plugin is started with the MARIADB infrastructure-type to migrate the database, and to copy the
+    previous tables' rows.""")
+  public String r2dbcUrl = "";
+
+  @Comment("""
+    The maximum amount of connections that the R2DBC connection-pool can keep opened, the operations waiting
+    for a connection are queued by the pool without holding any plugin's thread.""")
+  public int r2dbcPoolSize = 10;
+
+  @Comment("The name of the SQLite database-file at the plugin's folder, shared by the players and tags tables.")
+  public String sqliteFileName = "teams.db";
+
+  @Comment("""
+    The amount of read-only connections opened to the SQLite database, the reads use them at the same time
+    while the writes are executed one at a time through a single connection.""")
+  public int sqliteReadConnections = 4;
+
+  @Comment("""
+    The time-window in milliseconds during which the players' information saves are collected before being
+    committed to SQLite together within a single transaction. Use 0 to write every save immediately.""")
+  public long sqlitePlayerWriteBehindFlushInterval = 250L;
+
+  @Comment("""
+    The amount of players' information saves waiting to be written to SQLite after which they're written
+    immediately, without waiting for the flush-interval's end.""")
+  public int sqlitePlayerWriteBehindCapacity = 512;
+
+  @Comment("""
+    The size in megabytes after which the journal's active file is sealed, and a new one is created. Only the
+    sealed files are compacted.""")
+  public int journalSegmentSize = 16;
+
+  @Comment("""
+    The interval in milliseconds at which the journal's appended records are synced to the disk, the records
+    appended since the last sync could be lost if the machine crashes. Use 0 to sync them on every write.""")
+  public long journalSyncInterval = 1000L;
+
+  @Comment("""
+    The interval in seconds at which the journal's sealed files are checked for compaction. Use 0 to disable
+    the compaction.""")
+  public long journalCompactionInterval = 300L;
+
+  @Comment("""
+    The fraction of the journal's sealed files that must be taken by overwritten or deleted records for them
+    to be compacted, between 0.0 and 1.0.""")
+  public double journalCompactionThreshold = 0.5D;
+
+  @Comment("""
+    The amount of players' records that the mapped-table can keep when it's created, it's doubled when the
+    table is 70% full.""")
+  public int mappedInitialCapacity = 65536;
+
+  @Comment("""
+    The interval in milliseconds at which the mapped-table's modified records are written to the disk, they're
+    written by the operating-system anyway, this only limits what could be lost if the machine crashes.
+    Use 0 to only write them on shutdown.""")
+  public long mappedSyncInterval = 5000L;
 }
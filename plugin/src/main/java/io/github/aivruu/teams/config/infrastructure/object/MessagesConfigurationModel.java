@@ -26,6 +26,7 @@ public final class MessagesConfigurationModel implements ConfigurationInterface
     "",
     "<gray> - <yellow>/aldrteams help</yellow> Shows this messages.",
     "<gray> - <yellow>/aldrteams reload</yellow> Reloads the plugin's configurations.",
+    "<gray> - <yellow>/aldrteams executors</yellow> Shows the plugin's executors' statistics.",
     "<gray> - <yellow>/tags selector</yellow> Opens the tags-selector menu.",
     "<gray> - <yellow>/tags unselect</yellow> Unselects the current tag.",
     "<gray> - <yellow>/tags create <id> <prefix> <suffix></yellow> Creates a new tag with the given properties.",
@@ -39,6 +40,10 @@ public final class MessagesConfigurationModel implements ConfigurationInterface
 
   public String reloadError = "<blue>[AldrTeams] <dark_gray><b>></b> <red>An error occurred during configurations reloading or selector-menu updating.";
 
+  public String executorsStatistics = "<blue>[AldrTeams] <dark_gray><b>></b> <gradient:blue:green>Executors' statistics:";
+
+  public String executorStatistics = "<gray> - <yellow><name></yellow> queued: <white><queued></white> active: <white><active></white> completed: <white><completed></white> rejected: <white><rejected></white> wait: <white><average-wait>ms</white> (max <white><maximum-wait>ms</white>)";
+
   public String playerUnknownInfo = "<blue>[AldrTeams] <dark_gray><b>></b> <red>Seems your information isn't available.";
 
   public String unknownTag = "<blue>[AldrTeams] <dark_gray><b>></b> <red>The specified tag doesn't exist.";
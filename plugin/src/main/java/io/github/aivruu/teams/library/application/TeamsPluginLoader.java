@@ -31,6 +31,12 @@ public final class TeamsPluginLoader implements PluginLoader {
     libraryResolver.addRepository(new RemoteRepository.Builder("central", "default", "https://repo1.maven.org/maven2/").build());
     libraryResolver.addDependency(new Dependency(new DefaultArtifact("org.spongepowered:configurate-hocon:4.1.2"), null));
     libraryResolver.addDependency(new Dependency(new DefaultArtifact("org.mongodb:mongodb-driver-sync:5.3.0"), null));
+    libraryResolver.addDependency(new Dependency(new DefaultArtifact("org.mongodb:mongodb-driver-reactivestreams:5.3.0"), null));
+    libraryResolver.addDependency(new Dependency(new DefaultArtifact("org.mariadb.jdbc:mariadb-java-client:3.5.2"), null));
+    libraryResolver.addDependency(new Dependency(new DefaultArtifact("com.zaxxer:HikariCP:6.2.1"), null));
+    libraryResolver.addDependency(new Dependency(new DefaultArtifact("org.mariadb:r2dbc-mariadb:1.3.0"), null));
+    libraryResolver.addDependency(new Dependency(new DefaultArtifact("io.r2dbc:r2dbc-pool:1.0.2.RELEASE"), null));
+    libraryResolver.addDependency(new Dependency(new DefaultArtifact("org.xerial:sqlite-jdbc:3.47.1.0"), null));
     libraryResolver.addDependency(new Dependency(new DefaultArtifact("com.google.code.gson:gson:2.13.1"), null));
     libraryResolver.addDependency(new Dependency(new DefaultArtifact("com.github.ben-manes.caffeine:caffeine:3.1.8"), null));
     classpathBuilder.addLibrary(libraryResolver);
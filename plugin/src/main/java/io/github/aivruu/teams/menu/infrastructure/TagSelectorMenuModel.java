@@ -112,13 +112,21 @@ public final class TagSelectorMenuModel extends AbstractMenuModel {
     this.processTagSelection(player, itemSection);
   }
 
-  @SuppressWarnings("ConstantConditions")
   private void processTagSelection(
      final @NotNull Player player,
      final @NotNull TagsMenuConfigurationModel.MenuItem itemSection) {
+    // Process status-code provided by the select-operation, delivered on the server's thread.
+    this.playerTagSelectorManager.selectAsync(player, itemSection.tag)
+       .thenAccept(status -> this.processSelectionStatus(player, itemSection, status));
+  }
+
+  @SuppressWarnings("ConstantConditions")
+  private void processSelectionStatus(
+     final @NotNull Player player,
+     final @NotNull TagsMenuConfigurationModel.MenuItem itemSection,
+     final byte status) {
     final MessagesConfigurationModel messages = this.configurationManager.messages();
-    // Process status-code provided by the select-operation.
-    switch (this.playerTagSelectorManager.select(player, itemSection.tag)) {
+    switch (status) {
       case PlayerTagSelectorManager.PLAYER_IS_NOT_ONLINE ->
          player.sendMessage(MiniMessageParser.text(messages.playerUnknownInfo));
       case PlayerAggregateRoot.TAG_IS_ALREADY_SELECTED ->
@@ -128,7 +136,7 @@ public final class TagSelectorMenuModel extends AbstractMenuModel {
       case PlayerAggregateRoot.TAG_HAS_BEEN_CHANGED -> {
         // Aggregate-root won't be null.
         this.playerManager.handlePlayerAggregateRootSave(this.playerManager.playerAggregateRootOf(
-           player.getUniqueId().toString()));
+           player.getUniqueId()));
         player.sendMessage(MiniMessageParser.text(messages.selected, Placeholder.parsed("tag-id",
            itemSection.tag)));
       }
@@ -27,6 +27,7 @@ public enum Permissions {
   MENU("teams.command.menu"),
   RELOAD("teams.command.reload"),
   HELP("teams.command.help"),
+  EXECUTORS("teams.command.executors"),
   NOTIFY("teams.updates");
 
   private final String node;
@@ -17,34 +17,69 @@
 package io.github.aivruu.teams.persistence.infrastructure;
 
 import com.mongodb.client.MongoClient;
+import com.zaxxer.hikari.HikariDataSource;
 import io.github.aivruu.teams.config.infrastructure.object.ConfigurationConfigurationModel;
 import io.github.aivruu.teams.config.infrastructure.ConfigurationManager;
 import io.github.aivruu.teams.util.application.Debugger;
 import io.github.aivruu.teams.persistence.infrastructure.utils.HikariInstanceProvider;
 import io.github.aivruu.teams.persistence.infrastructure.utils.MongoClientHelper;
+import io.github.aivruu.teams.persistence.infrastructure.utils.R2dbcConnectionPoolProvider;
+import io.github.aivruu.teams.persistence.infrastructure.utils.SQLiteDatabaseProvider;
+import io.github.aivruu.teams.persistence.infrastructure.utils.ReactiveMongoClientHelper;
+import io.github.aivruu.teams.player.application.PlayerTagSelectorManager;
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
 import io.github.aivruu.teams.player.infrastructure.json.PlayerJsonInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.player.infrastructure.journal.PlayerJournalInfrastructureAggregateRootRepository;
 import io.github.aivruu.teams.player.infrastructure.json.codec.JsonPlayerAggregateRootCodec;
+import io.github.aivruu.teams.player.infrastructure.mapped.MappedPlayerTable;
+import io.github.aivruu.teams.player.infrastructure.mapped.MappedTagDictionary;
+import io.github.aivruu.teams.player.infrastructure.mapped.PlayerMappedInfrastructureAggregateRootRepository;
 import io.github.aivruu.teams.player.infrastructure.mariadb.PlayerMariaDBInfrastructureAggregateRootRepository;
 import io.github.aivruu.teams.player.infrastructure.mongodb.PlayerMongoInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.player.infrastructure.mongodb.reactive.PlayerReactiveMongoInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.player.infrastructure.r2dbc.PlayerR2dbcInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.player.infrastructure.sqlite.PlayerSQLiteInfrastructureAggregateRootRepository;
 import io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.shared.infrastructure.journal.JournalStore;
 import io.github.aivruu.teams.shared.infrastructure.json.JsonCoder;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.MariaDBChangeLog;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.MariaDBChangeLogPoller;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.migration.MariaDBBaselineMigration;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.migration.MariaDBCompactSchemaMigration;
+import io.github.aivruu.teams.shared.infrastructure.mariadb.migration.MariaDBSchemaMigrator;
+import io.github.aivruu.teams.shared.infrastructure.sqlite.SQLiteDatabase;
 import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
+import io.github.aivruu.teams.tag.application.TagManager;
+import io.github.aivruu.teams.tag.infrastructure.journal.TagJournalInfrastructureAggregateRootRepository;
 import io.github.aivruu.teams.tag.infrastructure.json.TagJsonInfrastructureAggregateRootRepository;
 import io.github.aivruu.teams.tag.infrastructure.json.codec.JsonTagAggregateRootCodec;
 import io.github.aivruu.teams.tag.infrastructure.json.codec.JsonTagPropertiesValueObjectCodec;
 import io.github.aivruu.teams.tag.infrastructure.mariadb.TagMariaDBInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.tag.infrastructure.mongodb.TagMongoChangeStreamWatcher;
 import io.github.aivruu.teams.tag.infrastructure.mongodb.TagMongoInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.tag.infrastructure.mongodb.reactive.TagReactiveMongoInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.tag.infrastructure.r2dbc.TagR2dbcInfrastructureAggregateRootRepository;
+import io.github.aivruu.teams.tag.infrastructure.sqlite.TagSQLiteInfrastructureAggregateRootRepository;
+import io.r2dbc.pool.ConnectionPool;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.nio.file.Path;
-import java.sql.Connection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.github.aivruu.teams.shared.infrastructure.InfrastructureAggregateRootRepository.Type;
 
 public final class InfrastructureRepositoryController {
   private final Path dataFolder;
   private final ConfigurationManager configurationManager;
   private InfrastructureAggregateRootRepository<PlayerAggregateRoot> playerInfrastructureAggregateRootRepository;
   private InfrastructureAggregateRootRepository<TagAggregateRoot> tagInfrastructureAggregateRootRepository;
+  private @Nullable TagMongoChangeStreamWatcher tagChangeStreamWatcher;
+  private @Nullable MariaDBChangeLogPoller changeLogPoller;
+  private @Nullable MariaDBSchemaMigrator schemaMigrator;
 
   public InfrastructureRepositoryController(
      final @NotNull Path dataFolder,
@@ -55,26 +90,78 @@ public final class InfrastructureRepositoryController {
 
   public boolean selectAndInitialize() {
     final ConfigurationConfigurationModel config = this.configurationManager.config();
-    switch (config.tagInfrastructureRepositoryType) {
-      case JSON -> JsonCoder.buildWithAdapters(JsonTagAggregateRootCodec.INSTANCE,
-         JsonTagPropertiesValueObjectCodec.INSTANCE, JsonPlayerAggregateRootCodec.INSTANCE);
-      case MARIADB -> {
-        Debugger.write("Initializing mongo-client instance with configuration's parameters.");
-        HikariInstanceProvider.buildDataSource(config.host, config.mariaDbPort, config.username,
-           config.database, config.password);
-        // Check if parameters are valid.
-        if (HikariInstanceProvider.get() == null) {
-          Debugger.write("HikariDataSource couldn't be initialized correctly, stopping infrastructure repositories initialization.");
-          return false;
+    // The json-coder is cheap to build, so it is built regardless of the infrastructure-types in use.
+    JsonCoder.buildWithAdapters(JsonTagAggregateRootCodec.INSTANCE, JsonTagPropertiesValueObjectCodec.INSTANCE,
+       JsonPlayerAggregateRootCodec.INSTANCE);
+    if (config.tagInfrastructureRepositoryType == Type.MAPPED) {
+      Debugger.write("The mapped infrastructure-type can only be used for the players' information, stopping infrastructure repositories initialization.");
+      return false;
+    }
+    for (final Type type : EnumSet.of(config.playerInfrastructureRepositoryType, config.tagInfrastructureRepositoryType)) {
+      // Operations waiting for a free connection shouldn't hold any executor's thread.
+      InfrastructureAggregateRootRepository.limitConcurrency(type, switch (type) {
+        case MARIADB -> config.mariaDbPoolSize;
+        case MONGODB -> config.mongoDbConcurrencyLimit;
+        // Reactive operations don't hold any thread, the driver's connection-pool queues them by itself.
+        case MONGODB_REACTIVE, R2DBC -> 0;
+        // Only one write runs at a time, the remaining writes would hold a thread while they wait for it.
+        case SQLITE -> config.sqliteReadConnections + 1;
+        // Appends are written one at a time by the journal, and reads are positional-reads that don't block.
+        case JOURNAL -> 0;
+        // Reads and writes lock the table only while its records are accessed in memory.
+        case MAPPED -> 0;
+        case JSON -> config.jsonConcurrencyLimit;
+      });
+      switch (type) {
+        case MARIADB -> {
+          Debugger.write("Initializing hikari-data-source instance with configuration's parameters.");
+          HikariInstanceProvider.buildDataSource(config.host, config.mariaDbPort, config.database, config.username,
+             config.password, config.mariaDbPoolSize, config.mariaDbPreparedStatementsCacheSize,
+             config.mariaDbRewriteBatchedStatements);
+          // Check if parameters are valid.
+          if (HikariInstanceProvider.get() == null) {
+            Debugger.write("HikariDataSource couldn't be initialized correctly, stopping infrastructure repositories initialization.");
+            return false;
+          }
         }
-      }
-      case MONGODB -> {
-        Debugger.write("Initializing mongo-client instance with configuration's parameters.");
-        MongoClientHelper.buildClient(config.host, config.username, config.database, config.password);
-        // Check if parameters are valid and client was initialized correctly.
-        if (MongoClientHelper.client() == null) {
-          Debugger.write("Mongo-client couldn't be initialized correctly, stopping infrastructure repositories initialization.");
-          return false;
+        case MONGODB -> {
+          Debugger.write("Initializing mongo-client instance with configuration's parameters.");
+          MongoClientHelper.buildClient(config.host, config.username, config.database, config.password);
+          // Check if parameters are valid and client was initialized correctly.
+          if (MongoClientHelper.client() == null) {
+            Debugger.write("Mongo-client couldn't be initialized correctly, stopping infrastructure repositories initialization.");
+            return false;
+          }
+        }
+        case MONGODB_REACTIVE -> {
+          Debugger.write("Initializing reactive mongo-client instance with configuration's parameters.");
+          ReactiveMongoClientHelper.buildClient(config.host, config.username, config.database, config.password);
+          if (ReactiveMongoClientHelper.client() == null) {
+            Debugger.write("Reactive mongo-client couldn't be initialized correctly, stopping infrastructure repositories initialization.");
+            return false;
+          }
+        }
+        case R2DBC -> {
+          Debugger.write("Initializing r2dbc connection-pool instance with configuration's parameters.");
+          final String url = config.r2dbcUrl.isEmpty()
+             ? "r2dbc:mariadb://%s:%d/%s".formatted(config.host, config.mariaDbPort, config.database)
+             : config.r2dbcUrl;
+          R2dbcConnectionPoolProvider.buildPool(url, config.username, config.password, config.r2dbcPoolSize);
+          if (R2dbcConnectionPoolProvider.get() == null) {
+            Debugger.write("R2DBC connection-pool couldn't be initialized correctly, stopping infrastructure repositories initialization.");
+            return false;
+          }
+        }
+        case SQLITE -> {
+          Debugger.write("Opening sqlite database with configuration's parameters.");
+          SQLiteDatabaseProvider.open(this.dataFolder.resolve(config.sqliteFileName), config.sqliteReadConnections);
+          if (SQLiteDatabaseProvider.get() == null) {
+            Debugger.write("SQLite database couldn't be opened correctly, stopping infrastructure repositories initialization.");
+            return false;
+          }
+        }
+        case JSON, JOURNAL, MAPPED -> {
+          // File-based repositories don't require any client or data-source.
         }
       }
     }
@@ -83,39 +170,183 @@ public final class InfrastructureRepositoryController {
 
   private boolean determineAndInitializeInfrastructureTypes(
      final @NotNull ConfigurationConfigurationModel config) {
-    final Connection connection = HikariInstanceProvider.connection();
+    final HikariDataSource dataSource = HikariInstanceProvider.get();
     final MongoClient client = MongoClientHelper.client();
+    final com.mongodb.reactivestreams.client.MongoClient reactiveClient = ReactiveMongoClientHelper.client();
+    final ConnectionPool connectionPool = R2dbcConnectionPoolProvider.get();
+    final SQLiteDatabase sqliteDatabase = SQLiteDatabaseProvider.get();
+    if (dataSource != null) {
+      // The schema is migrated before the repositories use it, the rows are copied to the new tables later.
+      final String playersTableName = config.playerCollectionAndDirectoryName;
+      final String tagsTableName = config.tagCollectionAndDirectoryName;
+      this.schemaMigrator = new MariaDBSchemaMigrator(dataSource, List.of(
+         new MariaDBBaselineMigration(playersTableName, tagsTableName),
+         new MariaDBCompactSchemaMigration(playersTableName, tagsTableName)));
+      if (!this.schemaMigrator.migrate()) {
+        return false;
+      }
+    }
+    final MariaDBChangeLog changeLog = (config.mariaDbChangeLogEnabled && dataSource != null)
+       ? new MariaDBChangeLog(dataSource, config.mariaDbChangeLogTableName)
+       : null;
+    // The table must exist before any write is recorded.
+    if (changeLog != null && !changeLog.start()) {
+      return false;
+    }
     this.playerInfrastructureAggregateRootRepository = switch (config.playerInfrastructureRepositoryType) {
       case JSON -> new PlayerJsonInfrastructureAggregateRootRepository(
-        this.dataFolder.resolve(config.playerCollectionAndDirectoryName));
+        this.dataFolder.resolve(config.playerCollectionAndDirectoryName), config.jsonSyncPolicy,
+        config.jsonSyncInterval);
       // Note: The client-instance could be null, but it won't throw a NullPointerException as this method is called
       // only when MongoDB infrastructure is required, at that point, the client, or it was initialized already, or
       // parameters were invalid and repository won't be initialized.
       case MONGODB -> new PlayerMongoInfrastructureAggregateRootRepository(
-        client, config.database, config.playerCollectionAndDirectoryName);
+        client, config.database, config.playerCollectionAndDirectoryName, config.playerMongoDbWriteConcern,
+        config.mongoDbPlayerWriteBehindFlushInterval, config.mongoDbPlayerWriteBehindCapacity);
+      case MONGODB_REACTIVE -> new PlayerReactiveMongoInfrastructureAggregateRootRepository(
+        reactiveClient, config.database, config.playerCollectionAndDirectoryName, config.playerMongoDbWriteConcern);
       case MARIADB -> new PlayerMariaDBInfrastructureAggregateRootRepository(
         // HikariDataSource instance shouldn't be null if repository-type is for MariaDB.
-        connection, config.playerCollectionAndDirectoryName);
+        dataSource, config.playerCollectionAndDirectoryName, config.mariaDbPlayerWriteBehindFlushInterval,
+        config.mariaDbPlayerWriteBehindCapacity, this.schemaMigrator, changeLog);
+      case JOURNAL -> new PlayerJournalInfrastructureAggregateRootRepository(
+        this.journalStore(config, config.playerCollectionAndDirectoryName));
+      case MAPPED -> new PlayerMappedInfrastructureAggregateRootRepository(
+        new MappedPlayerTable(this.dataFolder.resolve(config.playerCollectionAndDirectoryName + ".dat"),
+          config.mappedInitialCapacity),
+        new MappedTagDictionary(this.dataFolder.resolve(config.playerCollectionAndDirectoryName + "-tags.txt")),
+        config.mappedSyncInterval);
+      case R2DBC -> new PlayerR2dbcInfrastructureAggregateRootRepository(
+        connectionPool, config.playerCollectionAndDirectoryName);
+      case SQLITE -> new PlayerSQLiteInfrastructureAggregateRootRepository(
+        sqliteDatabase, config.playerCollectionAndDirectoryName, config.sqlitePlayerWriteBehindFlushInterval,
+        config.sqlitePlayerWriteBehindCapacity);
     };
     this.tagInfrastructureAggregateRootRepository = switch (config.tagInfrastructureRepositoryType) {
       case JSON -> new TagJsonInfrastructureAggregateRootRepository(
-        this.dataFolder.resolve(config.tagCollectionAndDirectoryName));
+        this.dataFolder.resolve(config.tagCollectionAndDirectoryName), config.jsonSyncPolicy,
+        config.jsonSyncInterval);
+      // Tags are rarely modified, so their saves are written immediately.
       case MONGODB -> new TagMongoInfrastructureAggregateRootRepository(
-        client, config.database, config.tagCollectionAndDirectoryName);
+        client, config.database, config.tagCollectionAndDirectoryName, config.tagMongoDbWriteConcern, 0L, 0);
+      case MONGODB_REACTIVE -> new TagReactiveMongoInfrastructureAggregateRootRepository(
+        reactiveClient, config.database, config.tagCollectionAndDirectoryName, config.tagMongoDbWriteConcern);
       case MARIADB -> new TagMariaDBInfrastructureAggregateRootRepository(
-        connection, config.tagCollectionAndDirectoryName);
+        dataSource, config.tagCollectionAndDirectoryName, this.schemaMigrator, changeLog);
+      case JOURNAL -> new TagJournalInfrastructureAggregateRootRepository(
+        this.journalStore(config, config.tagCollectionAndDirectoryName));
+      // Already rejected by the selection, the tags' information doesn't fit in fixed-size records.
+      case MAPPED -> throw new IllegalStateException("The mapped infrastructure-type can't store tags' information.");
+      case R2DBC -> new TagR2dbcInfrastructureAggregateRootRepository(
+        connectionPool, config.tagCollectionAndDirectoryName);
+      case SQLITE -> new TagSQLiteInfrastructureAggregateRootRepository(
+        sqliteDatabase, config.tagCollectionAndDirectoryName);
     };
-    return this.playerInfrastructureAggregateRootRepository.start()
-       && this.tagInfrastructureAggregateRootRepository.start();
+    if (!this.playerInfrastructureAggregateRootRepository.start()
+       || !this.tagInfrastructureAggregateRootRepository.start()) {
+      return false;
+    }
+    if (this.schemaMigrator != null) {
+      this.schemaMigrator.startBackfills(config.mariaDbBackfillInterval, config.mariaDbBackfillChunkSize);
+    }
+    if (changeLog != null) {
+      // The position is marked before the tags are loaded, so the changes done meanwhile are polled too.
+      this.changeLogPoller = new MariaDBChangeLogPoller(changeLog, config.mariaDbChangeLogPollInterval,
+         config.mariaDbChangeLogRetention);
+      this.changeLogPoller.markPosition();
+    }
+    return true;
+  }
+
+  private @NotNull JournalStore journalStore(
+     final @NotNull ConfigurationConfigurationModel config,
+     final @NotNull String name) {
+    // The journal's directory doesn't collide with the json-type's directory of the same information.
+    return new JournalStore(this.dataFolder.resolve(name + "-journal"), config.journalSegmentSize * 1024L * 1024L,
+       config.journalSyncInterval, config.journalCompactionInterval * 1000L, config.journalCompactionThreshold);
+  }
+
+  public void watchChanges(
+     final @NotNull TagManager tagManager,
+     final @NotNull PlayerTagSelectorManager playerTagSelectorManager) {
+    if (this.changeLogPoller != null) {
+      this.changeLogPoller.start((entity, ids) -> {
+        switch (entity) {
+          case TAG -> this.refreshTags(tagManager, ids);
+          case PLAYER -> this.refreshPlayers(playerTagSelectorManager, ids);
+        }
+      });
+    }
+    if (!this.configurationManager.config().tagChangeStreamEnabled
+       || !(this.tagInfrastructureAggregateRootRepository instanceof TagMongoInfrastructureAggregateRootRepository repository)) {
+      return;
+    }
+    this.tagChangeStreamWatcher = repository.changeStreamWatcher(
+       this.dataFolder.resolve("tag-change-stream-token.json"), new TagMongoChangeStreamWatcher.Listener() {
+         @Override
+         public void updated(final @NotNull TagAggregateRoot tagAggregateRoot) {
+           tagManager.refreshFromRemote(tagAggregateRoot);
+         }
+
+         @Override
+         public void deleted(final @NotNull String id) {
+           tagManager.removeFromRemote(id);
+         }
+       });
+    this.tagChangeStreamWatcher.start();
+  }
+
+  private void refreshTags(final @NotNull TagManager tagManager, final @NotNull Set<String> ids) {
+    // Called from the poller's thread, so the next poll waits for these changes to be applied.
+    final Map<String, TagAggregateRoot> tagAggregateRoots = this.tagInfrastructureAggregateRootRepository
+       .findManyAsync(ids)
+       .join();
+    for (final String id : ids) {
+      final TagAggregateRoot tagAggregateRoot = tagAggregateRoots.get(id);
+      if (tagAggregateRoot == null) {
+        tagManager.removeFromRemote(id);
+      } else {
+        tagManager.refreshFromRemote(tagAggregateRoot);
+      }
+    }
+  }
+
+  private void refreshPlayers(
+     final @NotNull PlayerTagSelectorManager playerTagSelectorManager,
+     final @NotNull Set<String> ids) {
+    final Map<String, PlayerAggregateRoot> playerAggregateRoots = this.playerInfrastructureAggregateRootRepository
+       .findManyAsync(ids)
+       .join();
+    for (final String id : ids) {
+      final PlayerAggregateRoot playerAggregateRoot = playerAggregateRoots.get(id);
+      // A missing information is the same as no tag selected.
+      playerTagSelectorManager.refreshFromRemote(id,
+         (playerAggregateRoot == null) ? null : playerAggregateRoot.playerModel().tag());
+    }
   }
 
   public void close() {
+    if (this.changeLogPoller != null) {
+      this.changeLogPoller.close();
+    }
+    if (this.schemaMigrator != null) {
+      this.schemaMigrator.close();
+    }
+    if (this.tagChangeStreamWatcher != null) {
+      this.tagChangeStreamWatcher.close();
+    }
     if (this.playerInfrastructureAggregateRootRepository != null) {
       this.playerInfrastructureAggregateRootRepository.close();
     }
     if (this.tagInfrastructureAggregateRootRepository != null) {
       this.tagInfrastructureAggregateRootRepository.close();
     }
+    // The clients are shared by both repositories, so they're closed once both have flushed their operations.
+    HikariInstanceProvider.close();
+    MongoClientHelper.close();
+    ReactiveMongoClientHelper.close();
+    R2dbcConnectionPoolProvider.close();
+    SQLiteDatabaseProvider.close();
   }
 
   public @NotNull InfrastructureAggregateRootRepository<PlayerAggregateRoot> playerInfrastructureAggregateRootRepository() {
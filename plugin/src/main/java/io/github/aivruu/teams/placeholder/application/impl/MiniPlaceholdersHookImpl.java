@@ -54,28 +54,28 @@ public final class MiniPlaceholdersHookImpl implements PlaceholderHookContract {
        .filter(Player.class)
        .audiencePlaceholder("tag", (audience, queue, ctx) -> {
          // At this point the player's information should be loaded into the cache, so the model won't be null.
-         final String tagId = this.playerManager.playerAggregateRootOf(((Player) audience).getUniqueId().toString())
+         final String tagId = this.playerManager.playerAggregateRootOf(((Player) audience).getUniqueId())
             .playerModel()
             .tag();
          return (tagId == null) ? TagsUtils.EMPTY_TAG : Tag.selfClosingInserting(Component.text(tagId));
        })
        .audiencePlaceholder("prefix", (audience, queue, ctx) -> {
          // At this point the player's information should be loaded into the cache, so the model won't be null.
-         final String tagId = this.playerManager.playerAggregateRootOf(((Player) audience).getUniqueId().toString())
+         final String tagId = this.playerManager.playerAggregateRootOf(((Player) audience).getUniqueId())
             .playerModel()
             .tag();
          return (tagId == null) ? TagsUtils.EMPTY_TAG : this.validateTagPlaceholder(tagId, "prefix");
        })
        .audiencePlaceholder("suffix", (audience, queue, ctx) -> {
          // At this point the player's information should be loaded into the cache, so the model won't be null.
-         final String tagId = this.playerManager.playerAggregateRootOf(((Player) audience).getUniqueId().toString())
+         final String tagId = this.playerManager.playerAggregateRootOf(((Player) audience).getUniqueId())
             .playerModel()
             .tag();
          return (tagId == null) ? TagsUtils.EMPTY_TAG : this.validateTagPlaceholder(tagId, "suffix");
        })
        .audiencePlaceholder("color", (audience, queue, ctx) -> {
          // At this point the player's information should be loaded into the cache, so the model won't be null.
-         final String tagId = this.playerManager.playerAggregateRootOf(((Player) audience).getUniqueId().toString())
+         final String tagId = this.playerManager.playerAggregateRootOf(((Player) audience).getUniqueId())
             .playerModel()
             .tag();
          return (tagId == null) ? TagsUtils.EMPTY_TAG : this.validateTagPlaceholder(tagId, "color");
@@ -78,7 +78,7 @@ public final class PlaceholderAPIHookImpl extends PlaceholderExpansion implement
       return null;
     }
     // At this point the player's information should be loaded into the cache, so the model won't be null.
-    final String tagId = this.playerManager.playerAggregateRootOf(player.getUniqueId().toString())
+    final String tagId = this.playerManager.playerAggregateRootOf(player.getUniqueId())
       .playerModel()
       .tag();
     if (params.equals("tag")) {
@@ -18,25 +18,36 @@ package io.github.aivruu.teams.player.infrastructure;
 
 import io.github.aivruu.teams.player.domain.PlayerAggregateRoot;
 import io.github.aivruu.teams.player.domain.repository.PlayerAggregateRootRepository;
-import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import io.github.aivruu.teams.player.infrastructure.cache.StripedUuid2ObjectMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
 
 public final class PlayerCacheAggregateRootRepository implements PlayerAggregateRootRepository {
-  private final Object2ObjectMap<String, PlayerAggregateRoot> cache = new Object2ObjectOpenHashMap<>();
-  private final Collection<PlayerAggregateRoot> valuesView = new ArrayList<>();
+  private final StripedUuid2ObjectMap<PlayerAggregateRoot> cache = new StripedUuid2ObjectMap<>();
+  private final Collection<PlayerAggregateRoot> valuesView = Collections.unmodifiableCollection(
+     this.cache.values());
 
   @Override
   public @Nullable PlayerAggregateRoot findSync(final @NotNull String id) {
+    return this.cache.get(UUID.fromString(id));
+  }
+
+  @Override
+  public @Nullable PlayerAggregateRoot findSync(final @NotNull UUID id) {
     return this.cache.get(id);
   }
 
   @Override
   public boolean existsSync(final @NotNull String id) {
+    return this.cache.containsKey(UUID.fromString(id));
+  }
+
+  @Override
+  public boolean existsSync(final @NotNull UUID id) {
     return this.cache.containsKey(id);
   }
 
@@ -47,23 +58,21 @@ public final class PlayerCacheAggregateRootRepository implements PlayerAggregate
 
   @Override
   public void saveSync(final @NotNull String id, final @NotNull PlayerAggregateRoot aggregateRoot) {
-    this.cache.put(aggregateRoot.id(), aggregateRoot);
-    this.valuesView.add(aggregateRoot);
+    this.cache.put(UUID.fromString(aggregateRoot.id()), aggregateRoot);
   }
 
   @Override
   public @Nullable PlayerAggregateRoot deleteSync(final @NotNull String id) {
-    final PlayerAggregateRoot playerAggregateRoot = this.cache.remove(id);
-    if (playerAggregateRoot == null) {
-      return null;
-    }
-    this.valuesView.remove(playerAggregateRoot);
-    return playerAggregateRoot;
+    return this.cache.remove(UUID.fromString(id));
+  }
+
+  @Override
+  public @Nullable PlayerAggregateRoot deleteSync(final @NotNull UUID id) {
+    return this.cache.remove(id);
   }
 
   @Override
   public void clearSync() {
     this.cache.clear();
-    this.valuesView.clear();
   }
 }
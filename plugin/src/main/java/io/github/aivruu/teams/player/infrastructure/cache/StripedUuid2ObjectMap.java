@@ -0,0 +1,344 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.player.infrastructure.cache;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A concurrent open-addressing hash-map keyed by the {@link UUID}'s two {@code long}s, so no
+ * {@link UUID} or {@link String} keys are kept or created per entry.
+ * <p>
+ * The map is split into lock-striped segments, writes take their segment's write-lock, and reads
+ * are done optimistically, only falling back to the segment's read-lock when a write happened
+ * during the read.
+ *
+ * @param <V> the values' type.
+ * @since 4.1.0
+ */
+public final class StripedUuid2ObjectMap<V> {
+  private static final int STRIPES_BITS = 4;
+  private static final int STRIPES = 1 << STRIPES_BITS;
+  private static final int STRIPE_INITIAL_CAPACITY = 16;
+  private final Stripe[] stripes = new Stripe[STRIPES];
+  private final Collection<V> valuesView = new ValuesView();
+
+  /**
+   * Creates a new empty {@link StripedUuid2ObjectMap}.
+   *
+   * @since 4.1.0
+   */
+  public StripedUuid2ObjectMap() {
+    for (int i = 0; i < STRIPES; i++) {
+      this.stripes[i] = new Stripe();
+    }
+  }
+
+  private static int hash(final long mostSigBits, final long leastSigBits) {
+    final long hash = HashCommon.mix(mostSigBits ^ leastSigBits);
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  private @NotNull Stripe stripe(final int hash) {
+    // High-bits select the stripe, low-bits are used for the slot inside the stripe's table.
+    return this.stripes[hash >>> (Integer.SIZE - STRIPES_BITS)];
+  }
+
+  /**
+   * Returns the value mapped to the given {@link UUID}.
+   *
+   * @param uuid the key.
+   * @return The value or {@code null} if there's no mapping for the key.
+   * @since 4.1.0
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(final @NotNull UUID uuid) {
+    final long mostSigBits = uuid.getMostSignificantBits();
+    final long leastSigBits = uuid.getLeastSignificantBits();
+    final int hash = hash(mostSigBits, leastSigBits);
+    final Stripe stripe = this.stripe(hash);
+    long stamp = stripe.lock.tryOptimisticRead();
+    Object value = stripe.get(hash, mostSigBits, leastSigBits);
+    if (!stripe.lock.validate(stamp)) {
+      stamp = stripe.lock.readLock();
+      try {
+        value = stripe.get(hash, mostSigBits, leastSigBits);
+      } finally {
+        stripe.lock.unlockRead(stamp);
+      }
+    }
+    return (V) value;
+  }
+
+  /**
+   * Checks if there's a value mapped to the given {@link UUID}.
+   *
+   * @param uuid the key.
+   * @return Whether the key is mapped.
+   * @since 4.1.0
+   */
+  public boolean containsKey(final @NotNull UUID uuid) {
+    return this.get(uuid) != null;
+  }
+
+  /**
+   * Maps the given value to the {@link UUID}.
+   *
+   * @param uuid  the key.
+   * @param value the value.
+   * @return The previous value or {@code null} if there was no mapping for the key.
+   * @since 4.1.0
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable V put(final @NotNull UUID uuid, final @NotNull V value) {
+    final long mostSigBits = uuid.getMostSignificantBits();
+    final long leastSigBits = uuid.getLeastSignificantBits();
+    final int hash = hash(mostSigBits, leastSigBits);
+    final Stripe stripe = this.stripe(hash);
+    final long stamp = stripe.lock.writeLock();
+    try {
+      return (V) stripe.put(hash, mostSigBits, leastSigBits, value);
+    } finally {
+      stripe.lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Removes the mapping for the given {@link UUID}.
+   *
+   * @param uuid the key.
+   * @return The removed value or {@code null} if there was no mapping for the key.
+   * @since 4.1.0
+   */
+  @SuppressWarnings("unchecked")
+  public @Nullable V remove(final @NotNull UUID uuid) {
+    final long mostSigBits = uuid.getMostSignificantBits();
+    final long leastSigBits = uuid.getLeastSignificantBits();
+    final int hash = hash(mostSigBits, leastSigBits);
+    final Stripe stripe = this.stripe(hash);
+    final long stamp = stripe.lock.writeLock();
+    try {
+      return (V) stripe.remove(hash, mostSigBits, leastSigBits);
+    } finally {
+      stripe.lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Returns the amount of mappings in the map.
+   *
+   * @return The map's size.
+   * @since 4.1.0
+   */
+  public int size() {
+    int size = 0;
+    for (final Stripe stripe : this.stripes) {
+      size += stripe.size;
+    }
+    return size;
+  }
+
+  /**
+   * Removes all the mappings from the map.
+   *
+   * @since 4.1.0
+   */
+  public void clear() {
+    for (final Stripe stripe : this.stripes) {
+      final long stamp = stripe.lock.writeLock();
+      try {
+        stripe.clear();
+      } finally {
+        stripe.lock.unlockWrite(stamp);
+      }
+    }
+  }
+
+  /**
+   * Returns a weakly-consistent, unmodifiable view of the map's values, every iteration reflects the
+   * mappings at the moment each stripe is visited.
+   *
+   * @return A {@link Collection} view of the values.
+   * @since 4.1.0
+   */
+  public @NotNull Collection<V> values() {
+    return this.valuesView;
+  }
+
+  private final class ValuesView extends AbstractCollection<V> {
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Iterator<V> iterator() {
+      final List<V> snapshot = new ArrayList<>(StripedUuid2ObjectMap.this.size());
+      for (final Stripe stripe : StripedUuid2ObjectMap.this.stripes) {
+        final long stamp = stripe.lock.readLock();
+        try {
+          for (final Object value : stripe.table.values) {
+            if (value != null) {
+              snapshot.add((V) value);
+            }
+          }
+        } finally {
+          stripe.lock.unlockRead(stamp);
+        }
+      }
+      return Collections.unmodifiableList(snapshot).iterator();
+    }
+
+    @Override
+    public int size() {
+      return StripedUuid2ObjectMap.this.size();
+    }
+  }
+
+  private static final class Table {
+    private final long[] mostSigBits;
+    private final long[] leastSigBits;
+    private final Object[] values; // A null-value marks an empty slot.
+
+    private Table(final int capacity) {
+      this.mostSigBits = new long[capacity];
+      this.leastSigBits = new long[capacity];
+      this.values = new Object[capacity];
+    }
+  }
+
+  private static final class Stripe {
+    private final StampedLock lock = new StampedLock();
+    private Table table = new Table(STRIPE_INITIAL_CAPACITY);
+    private volatile int size;
+
+    private @Nullable Object get(final int hash, final long mostSigBits, final long leastSigBits) {
+      // This can be called without lock, so the table is read once and the probing is bounded by its
+      // capacity, the result is discarded by the caller if a write happened meanwhile.
+      final Table table = this.table;
+      final int mask = table.values.length - 1;
+      int slot = hash & mask;
+      for (int probes = 0; probes <= mask; probes++) {
+        final Object value = table.values[slot];
+        if (value == null) {
+          return null;
+        }
+        if (table.mostSigBits[slot] == mostSigBits && table.leastSigBits[slot] == leastSigBits) {
+          return value;
+        }
+        slot = (slot + 1) & mask;
+      }
+      return null;
+    }
+
+    private @Nullable Object put(
+       final int hash,
+       final long mostSigBits,
+       final long leastSigBits,
+       final @NotNull Object value) {
+      final Table table = this.table;
+      final int mask = table.values.length - 1;
+      int slot = hash & mask;
+      Object current;
+      while ((current = table.values[slot]) != null) {
+        if (table.mostSigBits[slot] == mostSigBits && table.leastSigBits[slot] == leastSigBits) {
+          table.values[slot] = value;
+          return current;
+        }
+        slot = (slot + 1) & mask;
+      }
+      table.mostSigBits[slot] = mostSigBits;
+      table.leastSigBits[slot] = leastSigBits;
+      table.values[slot] = value;
+      // Keeps the load-factor at 0.5 at most.
+      if (++this.size > (table.values.length >> 1)) {
+        this.rehash(table.values.length << 1);
+      }
+      return null;
+    }
+
+    private @Nullable Object remove(final int hash, final long mostSigBits, final long leastSigBits) {
+      final Table table = this.table;
+      final int mask = table.values.length - 1;
+      int slot = hash & mask;
+      Object current;
+      while ((current = table.values[slot]) != null) {
+        if (table.mostSigBits[slot] == mostSigBits && table.leastSigBits[slot] == leastSigBits) {
+          this.shiftKeys(table, slot);
+          this.size--;
+          return current;
+        }
+        slot = (slot + 1) & mask;
+      }
+      return null;
+    }
+
+    // Backward-shift deletion, so no tombstones are left at the table.
+    private void shiftKeys(final @NotNull Table table, int slot) {
+      final int mask = table.values.length - 1;
+      int last;
+      while (true) {
+        slot = ((last = slot) + 1) & mask;
+        while (true) {
+          if (table.values[slot] == null) {
+            table.values[last] = null;
+            return;
+          }
+          final int desired = hash(table.mostSigBits[slot], table.leastSigBits[slot]) & mask;
+          if (last <= slot ? (last >= desired || desired > slot) : (last >= desired && desired > slot)) {
+            break;
+          }
+          slot = (slot + 1) & mask;
+        }
+        table.mostSigBits[last] = table.mostSigBits[slot];
+        table.leastSigBits[last] = table.leastSigBits[slot];
+        table.values[last] = table.values[slot];
+      }
+    }
+
+    private void rehash(final int capacity) {
+      final Table oldTable = this.table;
+      final Table newTable = new Table(capacity);
+      final int mask = capacity - 1;
+      for (int i = 0; i < oldTable.values.length; i++) {
+        final Object value = oldTable.values[i];
+        if (value == null) {
+          continue;
+        }
+        int slot = hash(oldTable.mostSigBits[i], oldTable.leastSigBits[i]) & mask;
+        while (newTable.values[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        newTable.mostSigBits[slot] = oldTable.mostSigBits[i];
+        newTable.leastSigBits[slot] = oldTable.leastSigBits[i];
+        newTable.values[slot] = value;
+      }
+      this.table = newTable;
+    }
+
+    private void clear() {
+      this.table = new Table(STRIPE_INITIAL_CAPACITY);
+      this.size = 0;
+    }
+  }
+}
@@ -53,7 +53,7 @@ public final class TagModificationChatInputListener implements Listener {
      * And we ignore the result as the notifications about the process are handled by an
      * implementation of the processor.
      */
-    this.tagModificationProcessor.process(player, modification,
+    this.tagModificationProcessor.processAsync(player, modification,
        PlainComponentParser.plain(event.message()).replace("\"", ""));
   }
 }
@@ -19,30 +19,74 @@ package io.github.aivruu.teams.tag.infrastructure;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Scheduler;
+import io.github.aivruu.teams.aggregate.domain.repository.AsyncAggregateRootRepository;
+import io.github.aivruu.teams.config.infrastructure.object.ConfigurationConfigurationModel;
 import io.github.aivruu.teams.tag.application.TagManager;
 import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
 import io.github.aivruu.teams.tag.domain.repository.TagAggregateRootRepository;
 import io.github.aivruu.teams.tag.infrastructure.cache.TagAggregateRootCacheInvalidationListener;
+import io.github.aivruu.teams.tag.infrastructure.cache.TagAggregateRootCacheLoader;
+import io.github.aivruu.teams.util.application.PluginExecutor;
+import io.github.aivruu.teams.util.application.PluginExecutor.Workload;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * {@link TagAggregateRootRepository} implementation for in-cache tags management.
+ * <p>
+ * The values-view is backed by the cache's map, so evicted tags are never returned by it, and it can be
+ * read concurrently while the cache is modified.
+ *
+ * @since 0.0.1
+ */
 public final class TagCacheAggregateRootRepository implements TagAggregateRootRepository {
-  private final Collection<TagAggregateRoot> valuesView = new ArrayList<>();
   private Cache<String, TagAggregateRoot> cache;
+  private Collection<TagAggregateRoot> valuesView = Collections.emptyList();
 
-  public void buildCache(final @NotNull TagManager tagManager) {
+  /**
+   * Builds the cache using the eviction-policy defined at the configuration.
+   *
+   * @param tagManager                      the {@link TagManager} used to save evicted tags, and to apply
+   *                                        the refreshed tags.
+   * @param config                          the {@link ConfigurationConfigurationModel}.
+   * @param tagAsyncAggregateRootRepository the infrastructure-repository used to refresh the tags.
+   * @since 4.1.0
+   */
+  public void buildCache(
+     final @NotNull TagManager tagManager,
+     final @NotNull ConfigurationConfigurationModel config,
+     final @NotNull AsyncAggregateRootRepository<TagAggregateRoot> tagAsyncAggregateRootRepository) {
     if (this.cache != null) {
       return;
     }
-    this.cache = Caffeine.newBuilder()
-      .expireAfterWrite(5, TimeUnit.MINUTES)
-      .scheduler(Scheduler.systemScheduler())
-      .removalListener(new TagAggregateRootCacheInvalidationListener(tagManager))
-      .build();
+    // Evicted tags' saves and refreshes run as maintenance-tasks, away from the joins' reads.
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder()
+       .executor(PluginExecutor.get(Workload.MAINTENANCE))
+       .scheduler(Scheduler.systemScheduler());
+    switch (config.tagCacheExpirationPolicy) {
+      case AFTER_ACCESS -> builder.expireAfterAccess(config.tagCacheExpirationTime, TimeUnit.SECONDS);
+      case AFTER_WRITE -> builder.expireAfterWrite(config.tagCacheExpirationTime, TimeUnit.SECONDS);
+      case NONE -> {} // Tags are kept until they're deleted.
+    }
+    if (config.tagCacheMaximumSize > 0) {
+      builder.maximumSize(config.tagCacheMaximumSize);
+    }
+    final Caffeine<String, TagAggregateRoot> typedBuilder = builder.removalListener(
+       new TagAggregateRootCacheInvalidationListener(tagManager));
+    if (config.tagCacheRefreshInterval > 0) {
+      // Refreshed tags are searched in the infrastructure without blocking the readers, which keep
+      // receiving the cached instance, whose properties and team are updated once the search completes.
+      this.cache = typedBuilder.refreshAfterWrite(config.tagCacheRefreshInterval, TimeUnit.SECONDS)
+         .buildAsync(new TagAggregateRootCacheLoader(tagManager, tagAsyncAggregateRootRepository))
+         .synchronous();
+    } else {
+      this.cache = typedBuilder.build();
+    }
+    this.valuesView = Collections.unmodifiableCollection(this.cache.asMap().values());
   }
 
   @Override
@@ -63,24 +107,29 @@ public final class TagCacheAggregateRootRepository implements TagAggregateRootRe
   @Override
   public void saveSync(final @NotNull String id, final @NotNull TagAggregateRoot aggregateRoot) {
     this.cache.put(aggregateRoot.id(), aggregateRoot);
-    // Add object to values-viewer list.
-    this.valuesView.add(aggregateRoot);
   }
 
   @Override
   public @Nullable TagAggregateRoot deleteSync(final @NotNull String id) {
-    final TagAggregateRoot tagAggregateRoot = this.cache.getIfPresent(id);
-    if (tagAggregateRoot != null) {
-      this.cache.invalidate(id);
-      this.valuesView.remove(tagAggregateRoot);
-    }
-    return tagAggregateRoot;
+    return this.cache.asMap().remove(id);
   }
 
   @Override
   public void clearSync() {
     this.cache.invalidateAll();
-    this.valuesView.clear();
   }
-}
 
+  /**
+   * The eviction-policies that can be used for the tags' cache.
+   *
+   * @since 4.1.0
+   */
+  public enum ExpirationPolicy {
+    /** Tags are evicted after some time since their last read or write. */
+    AFTER_ACCESS,
+    /** Tags are evicted after some time since they were cached or replaced. */
+    AFTER_WRITE,
+    /** Tags are never evicted by time. */
+    NONE
+  }
+}
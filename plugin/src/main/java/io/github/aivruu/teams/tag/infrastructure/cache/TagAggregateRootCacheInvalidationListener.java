@@ -37,11 +37,15 @@ public final class TagAggregateRootCacheInvalidationListener
      final @Nullable String key,
      final @Nullable TagAggregateRoot tagAggregateRoot,
      final @NotNull RemovalCause cause) {
-    if (key == null || tagAggregateRoot == null || cause != RemovalCause.EXPIRED) {
+    // Only evictions are handled, explicit removals and replacements don't require a save.
+    if (key == null || tagAggregateRoot == null || !cause.wasEvicted()) {
+      return;
+    }
+    Debugger.write("Evicted tag-aggregate-root with id '{}' from cache due to {} policy.", key, cause);
+    // Unmodified tags are already persisted as they are.
+    if (!tagAggregateRoot.dirty()) {
       return;
     }
-    Debugger.write(
-       "Invalidating expired tag-aggregate-root with id '{}' from cache after 5 minutes.", key);
     this.tagManager.handleTagAggregateRootSave(tagAggregateRoot);
   }
 }
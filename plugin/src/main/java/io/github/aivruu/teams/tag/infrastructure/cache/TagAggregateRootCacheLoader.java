@@ -0,0 +1,80 @@
+// This file is part of teams, licensed under the GNU License.
+//
+// Copyright (c) 2024-2025 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.teams.tag.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import io.github.aivruu.teams.aggregate.domain.repository.AsyncAggregateRootRepository;
+import io.github.aivruu.teams.tag.application.TagManager;
+import io.github.aivruu.teams.tag.domain.TagAggregateRoot;
+import io.github.aivruu.teams.util.application.Debugger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link AsyncCacheLoader} used to refresh the cached tags from the infrastructure.
+ * <p>
+ * A refresh keeps the cached {@link TagAggregateRoot} instance, the persisted properties are applied to it
+ * and to its scoreboard-team by the {@link TagManager} on the server's thread, so the objects referencing it
+ * aren't left with a detached aggregate-root, and its unsaved modifications are never overwritten. If the
+ * search fails or the tag isn't found, the cached tag is kept as it is.
+ *
+ * @since 4.1.0
+ */
+public final class TagAggregateRootCacheLoader implements AsyncCacheLoader<String, TagAggregateRoot> {
+  private final TagManager tagManager;
+  private final AsyncAggregateRootRepository<TagAggregateRoot> tagAsyncAggregateRootRepository;
+
+  public TagAggregateRootCacheLoader(
+     final @NotNull TagManager tagManager,
+     final @NotNull AsyncAggregateRootRepository<TagAggregateRoot> tagAsyncAggregateRootRepository) {
+    this.tagManager = tagManager;
+    this.tagAsyncAggregateRootRepository = tagAsyncAggregateRootRepository;
+  }
+
+  @Override
+  public @NotNull CompletableFuture<? extends @Nullable TagAggregateRoot> asyncLoad(
+     final @NotNull String id,
+     final @NotNull Executor executor) {
+    return this.tagAsyncAggregateRootRepository.findAsync(id);
+  }
+
+  @Override
+  public @NotNull CompletableFuture<? extends TagAggregateRoot> asyncReload(
+     final @NotNull String id,
+     final @NotNull TagAggregateRoot oldTagAggregateRoot,
+     final @NotNull Executor executor) {
+    // The modified tags are saved by the tag-manager, the refresh is skipped until then.
+    if (oldTagAggregateRoot.dirty()) {
+      return CompletableFuture.completedFuture(oldTagAggregateRoot);
+    }
+    return this.tagAsyncAggregateRootRepository.findAsync(id).handle((tagAggregateRoot, exception) -> {
+      if (exception != null) {
+        Debugger.write("Unexpected exception when trying to refresh the tag '{}', keeping the cached one.", id,
+           exception);
+        return oldTagAggregateRoot;
+      }
+      if (tagAggregateRoot != null) {
+        // Skipped by the manager if the tag was modified during the refresh, or its properties didn't change.
+        this.tagManager.refreshFromRemote(tagAggregateRoot);
+      }
+      return oldTagAggregateRoot;
+    });
+  }
+}
@@ -60,13 +60,12 @@ public final class TagModificationProcessorImpl extends TagModificationProcessor
 
   @Override
   @SuppressWarnings("ConstantConditions")
-  public @NotNull ProcessedContextResultValueObject process(
+  protected @NotNull ProcessedContextResultValueObject handleResult(
      final @NotNull Player player,
      final @NotNull ModificationInProgressValueObject modification,
-     final @NotNull String input) {
+     final @NotNull String input,
+     final @NotNull ProcessedContextResultValueObject processedContextResult) {
     final MessagesConfigurationModel messages = this.configurationManager.messages();
-    final ProcessedContextResultValueObject processedContextResult = super.process(player,
-       modification, input);
     if (processedContextResult.cancelled()) {
       player.sendMessage(MiniMessageParser.text(messages.cancelledEditMode));
       return processedContextResult;
@@ -60,7 +60,7 @@ public final class UpdateChecker {
 
   private static @NotNull String requestBodyResponse(final @NotNull String url) {
     final HttpClient client = HttpClient.newBuilder()
-       .executor(PluginExecutor.get())
+       .executor(PluginExecutor.get(PluginExecutor.Workload.MAINTENANCE))
        .connectTimeout(Duration.ofSeconds(30))
        .build();
     final HttpResponse<String> response = client.sendAsync(HttpRequest.newBuilder()
@@ -4,7 +4,8 @@ rootProject.name = "teams"
 
 sequenceOf(
   "api", "adapt", "plugin",
-  "infrastructure", "infrastructure-mariadb", "infrastructure-mongodb", "infrastructure-json"
+  "infrastructure", "infrastructure-mariadb", "infrastructure-mongodb", "infrastructure-mongodb-reactive",
+  "infrastructure-r2dbc", "infrastructure-sqlite", "infrastructure-journal", "infrastructure-mapped", "infrastructure-json"
 ).forEach {
   val kerbalProject = ":${rootProject.name}-$it"
   include(kerbalProject)